@@ -0,0 +1,239 @@
+package edu.ncsu.csc216.pack_scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BenchmarkHarness measures a set of named operations, each parameterized by a data size, and prints the average
+ * time per operation. For every benchmark and size it builds a fresh fixture, runs untimed warm up iterations so
+ * the JIT compiles the measured code, then runs timed iterations of a fixed duration and reports the mean and
+ * standard deviation across them. Results returned by the operations are folded into a volatile sink so the JIT
+ * cannot remove the measured work.
+ * <p>
+ * Benchmarks run on a thread with a large stack, so recursive collections can be measured at large sizes.
+ * Command line arguments that are numbers select the sizes to run; any other argument keeps only the benchmarks
+ * whose name contains it. For example <code>RegistrationBenchmark 100 10000 enroll</code>.
+ *
+ * @author Maxim Shelepov
+ */
+public class BenchmarkHarness {
+	/** Sizes run when none are given */
+	public static final int[] DEFAULT_SIZES = {100, 1000, 10000};
+	/** Untimed iterations before measuring */
+	private static final int WARMUP_ITERATIONS = 3;
+	/** Timed iterations */
+	private static final int MEASURED_ITERATIONS = 5;
+	/** Length of one iteration in nanoseconds */
+	private static final long ITERATION_NANOS = 200000000L;
+	/** Shortest batch of calls between clock reads, in nanoseconds */
+	private static final long MIN_BATCH_NANOS = 10000L;
+	/** Stack size of the benchmark thread */
+	private static final long STACK_SIZE = 512L * 1024 * 1024;
+
+	/** Sink for the operation results */
+	private static volatile long sink;
+
+	/** Names of the benchmarks */
+	private List<String> names = new ArrayList<String>();
+	/** Fixtures of the benchmarks */
+	private List<Fixture> fixtures = new ArrayList<Fixture>();
+
+	/**
+	 * A measured operation.
+	 */
+	public interface Operation {
+		/**
+		 * Runs the operation once.
+		 * @return any value depending on the work done, so it cannot be optimized away
+		 * @throws Exception if the operation fails
+		 */
+		long run() throws Exception;
+	}
+
+	/**
+	 * Builds the data an operation runs against.
+	 */
+	public interface Fixture {
+		/**
+		 * Builds the data for a size and returns the operation to measure against it.
+		 * @param size the data size
+		 * @return the operation
+		 * @throws Exception if the data cannot be built
+		 */
+		Operation setUp(int size) throws Exception;
+	}
+
+	/**
+	 * Adds a benchmark.
+	 * @param name the name of the benchmark
+	 * @param fixture the fixture building its operation
+	 */
+	public void add(String name, Fixture fixture) {
+		names.add(name);
+		fixtures.add(fixture);
+	}
+
+	/**
+	 * Runs the benchmarks selected by the command line arguments and prints one row per benchmark and size.
+	 * @param args the command line arguments
+	 */
+	public void run(String[] args) {
+		Thread t = new Thread(null, () -> runAll(args), "benchmark", STACK_SIZE);
+		t.start();
+		try {
+			t.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Helper method that runs the selected benchmarks on the current thread.
+	 * @param args the command line arguments
+	 */
+	private void runAll(String[] args) {
+		List<Integer> sizeList = new ArrayList<Integer>();
+		List<String> filters = new ArrayList<String>();
+		for (String arg : args) {
+			try {
+				sizeList.add(Integer.parseInt(arg));
+			} catch (NumberFormatException e) {
+				filters.add(arg);
+			}
+		}
+		int[] sizes = DEFAULT_SIZES;
+		if (!sizeList.isEmpty()) {
+			sizes = new int[sizeList.size()];
+			for (int i = 0; i < sizes.length; i++) {
+				sizes[i] = sizeList.get(i);
+			}
+		}
+
+		System.out.printf("%-45s %8s %15s %12s%n", "benchmark", "size", "ns/op", "error");
+		for (int b = 0; b < names.size(); b++) {
+			if (!selected(names.get(b), filters)) {
+				continue;
+			}
+			for (int size : sizes) {
+				try {
+					measure(names.get(b), size, fixtures.get(b));
+				} catch (Exception e) {
+					System.out.printf("%-45s %8d failed: %s%n", names.get(b), size, e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Helper method that returns whether a benchmark is selected by the filters.
+	 * @param name the name of the benchmark
+	 * @param filters the name filters, all benchmarks are selected if there are none
+	 * @return true if the benchmark should run
+	 */
+	private static boolean selected(String name, List<String> filters) {
+		if (filters.isEmpty()) {
+			return true;
+		}
+		for (String filter : filters) {
+			if (name.contains(filter)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Helper method that measures one benchmark at one size and prints its row.
+	 * @param name the name of the benchmark
+	 * @param size the data size
+	 * @param fixture the fixture building the operation
+	 * @throws Exception if the fixture or operation fails
+	 */
+	private static void measure(String name, int size, Fixture fixture) throws Exception {
+		Operation op = fixture.setUp(size);
+
+		int batch = 1;
+		while (true) {
+			long start = System.nanoTime();
+			runBatch(op, batch);
+			if (System.nanoTime() - start >= MIN_BATCH_NANOS || batch >= 1 << 20) {
+				break;
+			}
+			batch *= 2;
+		}
+
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			iteration(op, batch);
+		}
+		double[] nanosPerOp = new double[MEASURED_ITERATIONS];
+		double mean = 0;
+		for (int i = 0; i < nanosPerOp.length; i++) {
+			nanosPerOp[i] = iteration(op, batch);
+			mean += nanosPerOp[i] / nanosPerOp.length;
+		}
+		double variance = 0;
+		for (double x : nanosPerOp) {
+			variance += (x - mean) * (x - mean) / (nanosPerOp.length - 1);
+		}
+		System.out.printf("%-45s %8d %,15.1f %,12.1f%n", name, size, mean, Math.sqrt(variance));
+	}
+
+	/**
+	 * Helper method that runs batches of the operation for one iteration.
+	 * @param op the operation
+	 * @param batch the number of calls between clock reads
+	 * @return the average nanoseconds per call
+	 * @throws Exception if the operation fails
+	 */
+	private static double iteration(Operation op, int batch) throws Exception {
+		long calls = 0;
+		long start = System.nanoTime();
+		long elapsed;
+		do {
+			runBatch(op, batch);
+			calls += batch;
+			elapsed = System.nanoTime() - start;
+		} while (elapsed < ITERATION_NANOS);
+		return (double) elapsed / calls;
+	}
+
+	/**
+	 * Helper method that calls the operation a number of times.
+	 * @param op the operation
+	 * @param batch the number of calls
+	 * @throws Exception if the operation fails
+	 */
+	private static void runBatch(Operation op, int batch) throws Exception {
+		long result = 0;
+		for (int i = 0; i < batch; i++) {
+			result += op.run();
+		}
+		sink += result;
+	}
+
+	/**
+	 * Spreads consecutive call numbers over the indexes of the generated data, so lookups don't always hit the
+	 * same end of a list.
+	 * @param call the call number
+	 * @param size the size of the data
+	 * @return an index in the data
+	 */
+	public static int scatter(int call, int size) {
+		return (int) ((call & Integer.MAX_VALUE) * 7919L % size);
+	}
+
+	/**
+	 * Returns a valid, unique course name for an index, such as BAAA042.
+	 * @param i the index
+	 * @return the course name
+	 */
+	public static String courseName(int i) {
+		int prefix = i / 1000;
+		StringBuilder name = new StringBuilder();
+		for (int j = 0; j < 4; j++) {
+			name.append((char) ('A' + prefix % 26));
+			prefix /= 26;
+		}
+		return name.reverse().toString() + String.format("%03d", i % 1000);
+	}
+}
@@ -0,0 +1,26 @@
+package edu.ncsu.csc216.pack_scheduler;
+
+import edu.ncsu.csc216.pack_scheduler.io.RecordIOBenchmark;
+import edu.ncsu.csc216.pack_scheduler.manager.RegistrationBenchmark;
+import edu.ncsu.csc216.pack_scheduler.util.CollectionsBenchmark;
+
+/**
+ * Runs every benchmark suite: registration hot paths, record IO, and util collections. Arguments select sizes and
+ * filter benchmarks by name as described in BenchmarkHarness, for example
+ * <code>PackSchedulerBenchmarks 1000 HeapQueue</code>. Run from the PackScheduler directory with the classes
+ * compiled from src and benchmark and lib/CSC217Collections.jar on the classpath.
+ *
+ * @author Maxim Shelepov
+ */
+public class PackSchedulerBenchmarks {
+
+	/**
+	 * Runs every benchmark suite.
+	 * @param args optional sizes and name filters
+	 */
+	public static void main(String[] args) {
+		RegistrationBenchmark.harness().run(args);
+		RecordIOBenchmark.harness().run(args);
+		CollectionsBenchmark.harness().run(args);
+	}
+}
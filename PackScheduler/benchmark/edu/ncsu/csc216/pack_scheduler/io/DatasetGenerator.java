@@ -0,0 +1,424 @@
+package edu.ncsu.csc216.pack_scheduler.io;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.user.Faculty;
+import edu.ncsu.csc216.pack_scheduler.user.Student;
+import edu.ncsu.csc216.pack_scheduler.util.IntHashSet;
+
+/**
+ * DatasetGenerator writes course, student, and faculty record files and an enrollment trace at any scale. The
+ * output depends only on the seed and the sizes, so a benchmark or load test can be rerun against the same data.
+ * <p>
+ * Every record is built as a Course, Student, or Faculty before it is written, so the files pass the same
+ * validation as the hand-written fixtures in test-files. The data is shaped like a real term:
+ * <ul>
+ * <li>courses belong to departments, mostly at the 100 and 200 levels, with several sections of popular courses.
+ * <li>meetings use the standard MWF 50 minute and TH 75 minute slots, weighted toward late morning, plus evening
+ * and arranged sections.
+ * <li>first and last names are drawn from short lists with skewed weights, so many students share a last name
+ * and first name and are ordered by id, and ids are unity style: first initial, last name, and a number on
+ * collisions.
+ * <li>faculty are assigned to sections without conflicts or exceeding their max courses, some sections stay
+ * unassigned.
+ * </ul>
+ * The trace has one line per request, <code>time,action,studentId,courseName,section</code>, with the time in
+ * milliseconds after registration opens and the action <code>enroll</code> or <code>drop</code>. Students arrive
+ * mostly in the first hours, and each student's requests follow in one session a few seconds apart; session
+ * start times increase down the file. All students have the password <code>pw</code>.
+ * <p>
+ * Run with an output directory, a scale, and an optional seed, for example
+ * <code>DatasetGenerator build/data 100 42</code>. Scale 1 is {@value #BASE_COURSES} sections,
+ * {@value #BASE_STUDENTS} students, and {@value #BASE_FACULTY} faculty.
+ *
+ * @author Maxim Shelepov
+ */
+public class DatasetGenerator {
+	/** Sections at scale 1 */
+	public static final int BASE_COURSES = 1000;
+	/** Students at scale 1 */
+	public static final int BASE_STUDENTS = 10000;
+	/** Faculty at scale 1 */
+	public static final int BASE_FACULTY = 400;
+	/** Seed used when none is given */
+	public static final long DEFAULT_SEED = 216L;
+	/** Password of every generated user */
+	public static final String PASSWORD = "pw";
+
+	/** Department prefixes used before generated ones */
+	private static final String[] DEPARTMENTS = {"CSC", "MA", "PY", "CH", "E", "ECE", "ST", "BIO", "HI", "ENG",
+		"PSY", "EC", "MAE", "CE", "IE", "BME", "COM", "SOC", "PS", "FL", "MUS", "ARS", "MEA", "NR"};
+	/** Course numbers per department */
+	private static final int NUMBERS_PER_DEPARTMENT = 60;
+	/** Relative weights of the 100 through 500 course levels */
+	private static final int[] LEVEL_WEIGHTS = {35, 30, 20, 10, 5};
+	/** Start times of the MWF 50 minute slots */
+	private static final int[] MWF_STARTS = {805, 910, 1015, 1120, 1225, 1330, 1435, 1540, 1645};
+	/** Relative weights of the MWF slots */
+	private static final int[] MWF_WEIGHTS = {6, 10, 14, 14, 11, 10, 8, 5, 2};
+	/** Start times of the TH 75 minute slots */
+	private static final int[] TH_STARTS = {830, 1015, 1150, 1325, 1500, 1630};
+	/** Relative weights of the TH slots */
+	private static final int[] TH_WEIGHTS = {7, 13, 13, 11, 8, 4};
+	/** Common first names, most common first */
+	private static final String[] FIRST_NAMES = {"James", "Mary", "John", "Patricia", "Robert", "Jennifer",
+		"Michael", "Linda", "William", "Elizabeth", "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica",
+		"Thomas", "Sarah", "Charles", "Karen", "Daniel", "Nancy", "Matthew", "Lisa", "Anthony", "Betty", "Mark",
+		"Sandra", "Steven", "Ashley", "Andrew", "Emily", "Joshua", "Kimberly", "Kevin", "Donna", "Brian", "Michelle",
+		"Aisha", "Wei", "Priya", "Carlos", "Fatima", "Hiroshi", "Olga", "Kwame", "Mei", "Diego", "Amara", "Ivan"};
+	/** Common last names, most common first */
+	private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia",
+		"Miller", "Davis", "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas",
+		"Taylor", "Moore", "Jackson", "Martin", "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark",
+		"Ramirez", "Lewis", "Robinson", "Walker", "Young", "Allen", "King", "Wright", "Scott", "Torres", "Nguyen",
+		"Hill", "Flores", "Green", "Adams", "Nelson", "Baker", "Hall", "Rivera", "Campbell", "Mitchell", "Carter",
+		"Roberts", "Patel", "Kim", "Chen", "Singh", "Wang", "Okafor", "Ivanova", "Tanaka", "Haddad", "Kowalski"};
+
+	/** Source of every random choice */
+	private Random random;
+	/** Number of sections */
+	private int numCourses;
+	/** Number of students */
+	private int numStudents;
+	/** Number of faculty */
+	private int numFaculty;
+	/** Hashed password of every generated user */
+	private String hashedPassword;
+	/** Number of users given each unity id prefix so far */
+	private Map<String, Integer> idCounts = new HashMap<String, Integer>();
+	/** Names of the generated sections, in generation order */
+	private String[] courseNames;
+	/** Sections of the generated sections */
+	private String[] courseSections;
+	/** Running total of the popularity weights of the generated sections */
+	private double[] cumulativePopularity;
+
+	/**
+	 * Constructs a DatasetGenerator.
+	 * @param seed the seed of the generator
+	 * @param numCourses the number of sections
+	 * @param numStudents the number of students
+	 * @param numFaculty the number of faculty
+	 * @throws IllegalArgumentException if a size is not positive
+	 */
+	public DatasetGenerator(long seed, int numCourses, int numStudents, int numFaculty) {
+		if (numCourses <= 0 || numStudents <= 0 || numFaculty <= 0) {
+			throw new IllegalArgumentException("Invalid dataset size.");
+		}
+		this.random = new Random(seed);
+		this.numCourses = numCourses;
+		this.numStudents = numStudents;
+		this.numFaculty = numFaculty;
+		this.hashedPassword = hash(PASSWORD);
+	}
+
+	/**
+	 * Generates a dataset from the command line.
+	 * @param args output directory, scale, and optional seed
+	 * @throws IOException if a file cannot be written
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.out.println("Usage: DatasetGenerator <outputDirectory> <scale> [seed]");
+			return;
+		}
+		int scale = Integer.parseInt(args[1]);
+		long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+		DatasetGenerator generator = new DatasetGenerator(seed, BASE_COURSES * scale, BASE_STUDENTS * scale,
+				BASE_FACULTY * scale);
+		generator.generate(new File(args[0]));
+	}
+
+	/**
+	 * Writes course_records.txt, faculty_records.txt, student_records.txt, and enrollment_trace.txt to a
+	 * directory, creating it if needed.
+	 * @param directory the output directory
+	 * @throws IOException if a file cannot be written
+	 */
+	public void generate(File directory) throws IOException {
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			throw new IOException("Unable to create " + directory);
+		}
+		Faculty[] faculty = generateFaculty(new File(directory, "faculty_records.txt"));
+		generateCourses(new File(directory, "course_records.txt"), faculty);
+		generateStudentsAndTrace(new File(directory, "student_records.txt"),
+				new File(directory, "enrollment_trace.txt"));
+	}
+
+	/**
+	 * Helper method that generates and writes the faculty.
+	 * @param file the faculty record file
+	 * @return the faculty, for assigning sections
+	 * @throws IOException if the file cannot be written
+	 */
+	private Faculty[] generateFaculty(File file) throws IOException {
+		Faculty[] faculty = new Faculty[numFaculty];
+		try (PrintWriter out = writer(file)) {
+			for (int i = 0; i < numFaculty; i++) {
+				String first = pickSkewed(FIRST_NAMES);
+				String last = pickSkewed(LAST_NAMES);
+				String id = nextId(first, last);
+				faculty[i] = new Faculty(first, last, id, id + "@ncsu.edu", hashedPassword,
+						Faculty.MIN_COURSES + random.nextInt(Faculty.MAX_COURSES - Faculty.MIN_COURSES + 1));
+				out.println(faculty[i]);
+			}
+		}
+		return faculty;
+	}
+
+	/**
+	 * Helper method that generates and writes the sections, assigning faculty where one fits.
+	 * @param file the course record file
+	 * @param faculty the faculty to assign
+	 * @throws IOException if the file cannot be written
+	 */
+	private void generateCourses(File file, Faculty[] faculty) throws IOException {
+		courseNames = new String[numCourses];
+		courseSections = new String[numCourses];
+		cumulativePopularity = new double[numCourses];
+		double totalPopularity = 0;
+
+		// names as department index * 1000 + course number
+		IntHashSet usedNames = new IntHashSet();
+		try (PrintWriter out = writer(file)) {
+			int generated = 0;
+			int nameIndex = 0;
+			while (generated < numCourses) {
+				int departmentIndex = nameIndex++ / NUMBERS_PER_DEPARTMENT;
+				String department = department(departmentIndex);
+				int level = pickWeighted(LEVEL_WEIGHTS);
+				int number = (level + 1) * 100 + random.nextInt(100);
+				if (!usedNames.add(departmentIndex * 1000 + number)) {
+					continue;
+				}
+				String name = department + number;
+
+				// intro courses are popular and have more sections
+				double popularity = (5 - level) * (0.5 + random.nextDouble());
+				int sections = Math.min(numCourses - generated, 1 + random.nextInt(level == 0 ? 6 : 3));
+				int credits = random.nextInt(10) < 8 ? 3 : 4;
+				String title = department + " Topics " + number;
+				for (int s = 1; s <= sections; s++) {
+					Course c = section(name, title, String.format("%03d", s), credits);
+					assignFaculty(c, faculty);
+					out.println(c);
+
+					courseNames[generated] = name;
+					courseSections[generated] = c.getSection();
+					totalPopularity += popularity;
+					cumulativePopularity[generated] = totalPopularity;
+					generated++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Helper method that builds one section with a realistic meeting pattern and enrollment cap.
+	 * @param name the course name
+	 * @param title the course title
+	 * @param section the section number
+	 * @param credits the credit hours
+	 * @return the section
+	 */
+	private Course section(String name, String title, String section, int credits) {
+		int roll = random.nextInt(100);
+		int cap = roll < 70 ? 30 + random.nextInt(31) : roll < 95 ? 10 + random.nextInt(20) : 150 + random.nextInt(101);
+		int pattern = random.nextInt(100);
+		if (pattern < 45) {
+			int start = MWF_STARTS[pickWeighted(MWF_WEIGHTS)];
+			String days = random.nextInt(4) == 0 ? "MW" : "MWF";
+			return new Course(name, title, section, credits, null, cap, days, start, addMinutes(start, 50));
+		} else if (pattern < 90) {
+			int start = TH_STARTS[pickWeighted(TH_WEIGHTS)];
+			return new Course(name, title, section, credits, null, cap, "TH", start, addMinutes(start, 75));
+		} else if (pattern < 96) {
+			String days = String.valueOf("MTWH".charAt(random.nextInt(4)));
+			return new Course(name, title, section, credits, null, cap, days, 1800, 2045);
+		}
+		return new Course(name, title, section, credits, null, cap, "A");
+	}
+
+	/**
+	 * Helper method that assigns a section to one of a few random faculty who can teach it.
+	 * @param c the section
+	 * @param faculty the faculty
+	 */
+	private void assignFaculty(Course c, Faculty[] faculty) {
+		for (int attempt = 0; attempt < 4; attempt++) {
+			Faculty f = faculty[random.nextInt(faculty.length)];
+			if (f.getSchedule().getNumScheduledCourses() < f.getMaxCourses() && f.getSchedule().canAssign(c)) {
+				f.getSchedule().addCourseToSchedule(c);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Helper method that generates and writes the students and their registration sessions.
+	 * @param studentFile the student record file
+	 * @param traceFile the enrollment trace file
+	 * @throws IOException if a file cannot be written
+	 */
+	private void generateStudentsAndTrace(File studentFile, File traceFile) throws IOException {
+		try (PrintWriter students = writer(studentFile); PrintWriter trace = writer(traceFile)) {
+			double arrival = 0;
+			// most students arrive in the first hours: the mean gap grows as the term fills
+			double meanGap = 3600000.0 * 4 / numStudents;
+			for (int i = 0; i < numStudents; i++) {
+				String first = pickSkewed(FIRST_NAMES);
+				String last = pickSkewed(LAST_NAMES);
+				String id = nextId(first, last);
+				int maxCredits = random.nextInt(10) < 7 ? 15 + random.nextInt(4) : 3 + random.nextInt(12);
+				Student s = new Student(first, last, id, id + "@ncsu.edu", hashedPassword, maxCredits);
+				students.println(s);
+
+				arrival += -Math.log(1 - random.nextDouble()) * meanGap * (1 + 4.0 * i / numStudents);
+				long time = (long) arrival;
+				int requests = Math.max(1, maxCredits / 3 + random.nextInt(3) - 1);
+				int[] enrolled = new int[requests];
+				for (int r = 0; r < requests; r++) {
+					enrolled[r] = pickCourse();
+					time += 1000 + random.nextInt(9000);
+					trace.println(time + ",enroll," + id + "," + courseNames[enrolled[r]] + ","
+							+ courseSections[enrolled[r]]);
+				}
+				for (int r = 0; r < requests; r++) {
+					if (random.nextInt(10) == 0) {
+						time += 1000 + random.nextInt(9000);
+						trace.println(time + ",drop," + id + "," + courseNames[enrolled[r]] + ","
+								+ courseSections[enrolled[r]]);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Helper method that picks a section weighted by popularity.
+	 * @return the index of the section
+	 */
+	private int pickCourse() {
+		double target = random.nextDouble() * cumulativePopularity[numCourses - 1];
+		int low = 0;
+		int high = numCourses - 1;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (cumulativePopularity[mid] < target) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Helper method that returns a unique unity style id: first initial, up to seven letters of the last name,
+	 * and a number if the prefix was used before.
+	 * @param first the first name
+	 * @param last the last name
+	 * @return the id
+	 */
+	private String nextId(String first, String last) {
+		String lastPart = last.toLowerCase();
+		String prefix = Character.toLowerCase(first.charAt(0)) + lastPart.substring(0, Math.min(7, lastPart.length()));
+		int count = idCounts.merge(prefix, 1, Integer::sum);
+		return count == 1 ? prefix : prefix + count;
+	}
+
+	/**
+	 * Helper method that returns the prefix of a department, real ones first and generated ones after.
+	 * @param i the index of the department
+	 * @return the prefix
+	 */
+	private static String department(int i) {
+		if (i < DEPARTMENTS.length) {
+			return DEPARTMENTS[i];
+		}
+		int n = i - DEPARTMENTS.length;
+		StringBuilder prefix = new StringBuilder();
+		for (int j = 0; j < 4; j++) {
+			prefix.append((char) ('A' + n % 26));
+			n /= 26;
+		}
+		return prefix.toString();
+	}
+
+	/**
+	 * Helper method that picks an entry with a skew toward the front of the array, as real name frequencies do.
+	 * @param names the names, most common first
+	 * @return the picked name
+	 */
+	private String pickSkewed(String[] names) {
+		double u = random.nextDouble();
+		return names[(int) (names.length * u * u * u)];
+	}
+
+	/**
+	 * Helper method that picks an index with probability proportional to its weight.
+	 * @param weights the weights
+	 * @return the picked index
+	 */
+	private int pickWeighted(int[] weights) {
+		int total = 0;
+		for (int w : weights) {
+			total += w;
+		}
+		int target = random.nextInt(total);
+		for (int i = 0; i < weights.length; i++) {
+			target -= weights[i];
+			if (target < 0) {
+				return i;
+			}
+		}
+		return weights.length - 1;
+	}
+
+	/**
+	 * Helper method that adds minutes to a military time.
+	 * @param time the time
+	 * @param minutes the minutes to add
+	 * @return the later time
+	 */
+	private static int addMinutes(int time, int minutes) {
+		int total = time / 100 * 60 + time % 100 + minutes;
+		return total / 60 * 100 + total % 60;
+	}
+
+	/**
+	 * Helper method that opens a buffered writer.
+	 * @param file the file
+	 * @return the writer
+	 * @throws IOException if the file cannot be opened
+	 */
+	private static PrintWriter writer(File file) throws IOException {
+		return new PrintWriter(new BufferedWriter(new FileWriter(file, StandardCharsets.UTF_8), 1 << 16));
+	}
+
+	/**
+	 * Helper method that hashes a password the way the directories do.
+	 * @param password the password
+	 * @return the base64 SHA-256 digest
+	 */
+	private static String hash(String password) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return Base64.getEncoder().encodeToString(digest.digest(password.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalArgumentException("Cannot hash password");
+		}
+	}
+}
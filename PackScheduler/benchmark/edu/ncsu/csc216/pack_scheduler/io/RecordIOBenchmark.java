@@ -0,0 +1,143 @@
+package edu.ncsu.csc216.pack_scheduler.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import edu.ncsu.csc216.pack_scheduler.BenchmarkHarness;
+import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.manager.RegistrationManager;
+import edu.ncsu.csc216.pack_scheduler.user.Faculty;
+import edu.ncsu.csc216.pack_scheduler.user.Student;
+import edu.ncsu.csc216.pack_scheduler.util.BTreeSortedList;
+import edu.ncsu.csc216.pack_scheduler.util.LinkedList;
+
+/**
+ * Benchmarks reading and writing course, student, and faculty record files. The size is the number of records
+ * in the file. Files are written to a temporary directory removed when the JVM exits. Run from the PackScheduler
+ * directory so registrar.properties is found.
+ *
+ * @author Maxim Shelepov
+ */
+public class RecordIOBenchmark {
+
+	/**
+	 * Runs the record IO benchmarks.
+	 * @param args optional sizes and name filters, see BenchmarkHarness
+	 */
+	public static void main(String[] args) {
+		harness().run(args);
+	}
+
+	/**
+	 * Returns a harness holding the record IO benchmarks.
+	 * @return the harness
+	 */
+	public static BenchmarkHarness harness() {
+		BenchmarkHarness harness = new BenchmarkHarness();
+
+		harness.add("CourseRecordIO.writeCourseRecords", size -> {
+			BTreeSortedList<Course> courses = courses(size);
+			String file = tempFile("courses");
+			return () -> {
+				CourseRecordIO.writeCourseRecords(file, courses);
+				return courses.size();
+			};
+		});
+
+		harness.add("CourseRecordIO.readCourseRecords", size -> {
+			// instructors are looked up in the faculty directory while reading, keep it empty
+			RegistrationManager.getInstance().clearData();
+			String file = tempFile("courses");
+			CourseRecordIO.writeCourseRecords(file, courses(size));
+			return () -> CourseRecordIO.readCourseRecords(file).size();
+		});
+
+		harness.add("StudentRecordIO.writeStudentRecords", size -> {
+			BTreeSortedList<Student> students = students(size);
+			String file = tempFile("students");
+			return () -> {
+				StudentRecordIO.writeStudentRecords(file, students);
+				return students.size();
+			};
+		});
+
+		harness.add("StudentRecordIO.readStudentRecords", size -> {
+			String file = tempFile("students");
+			StudentRecordIO.writeStudentRecords(file, students(size));
+			return () -> StudentRecordIO.readStudentRecords(file).size();
+		});
+
+		harness.add("FacultyRecordIO.writeFacultyRecords", size -> {
+			LinkedList<Faculty> faculty = faculty(size);
+			String file = tempFile("faculty");
+			return () -> {
+				FacultyRecordIO.writeFacultyRecords(file, faculty);
+				return faculty.size();
+			};
+		});
+
+		harness.add("FacultyRecordIO.readFacultyRecords", size -> {
+			String file = tempFile("faculty");
+			FacultyRecordIO.writeFacultyRecords(file, faculty(size));
+			return () -> FacultyRecordIO.readFacultyRecords(file).size();
+		});
+
+		return harness;
+	}
+
+	/**
+	 * Helper method that creates a temporary file removed when the JVM exits.
+	 * @param prefix the prefix of the file name
+	 * @return the path of the file
+	 * @throws IOException if the file cannot be created
+	 */
+	private static String tempFile(String prefix) throws IOException {
+		File file = Files.createTempFile(prefix, ".txt").toFile();
+		file.deleteOnExit();
+		return file.getPath();
+	}
+
+	/**
+	 * Helper method that generates courses with valid, unique names.
+	 * @param size the number of courses
+	 * @return the courses
+	 */
+	private static BTreeSortedList<Course> courses(int size) {
+		BTreeSortedList<Course> courses = new BTreeSortedList<Course>();
+		for (int i = 0; i < size; i++) {
+			int start = 800 + (i % 10) * 100;
+			courses.add(new Course(BenchmarkHarness.courseName(i), "Benchmark Course", "001", 3, "fac" + i % 100, 10,
+					"MW", start, start + 50));
+		}
+		return courses;
+	}
+
+	/**
+	 * Helper method that generates students with unique ids.
+	 * @param size the number of students
+	 * @return the students
+	 */
+	private static BTreeSortedList<Student> students(int size) {
+		BTreeSortedList<Student> students = new BTreeSortedList<Student>();
+		for (int i = 0; i < size; i++) {
+			students.add(new Student("First" + i % 500, "Last" + i % 2000, "student" + i, "student" + i + "@ncsu.edu",
+					"hashedpassword" + i, 3 + i % 16));
+		}
+		return students;
+	}
+
+	/**
+	 * Helper method that generates faculty with unique ids.
+	 * @param size the number of faculty
+	 * @return the faculty
+	 */
+	private static LinkedList<Faculty> faculty(int size) {
+		LinkedList<Faculty> faculty = new LinkedList<Faculty>();
+		for (int i = 0; i < size; i++) {
+			faculty.add(new Faculty("First" + i % 500, "Last" + i % 2000, "fac" + i, "fac" + i + "@ncsu.edu",
+					"hashedpassword" + i, 1 + i % 3));
+		}
+		return faculty;
+	}
+}
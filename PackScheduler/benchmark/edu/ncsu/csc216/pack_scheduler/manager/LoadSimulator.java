@@ -0,0 +1,399 @@
+package edu.ncsu.csc216.pack_scheduler.manager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+
+import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.io.DatasetGenerator;
+import edu.ncsu.csc216.pack_scheduler.metrics.Histogram;
+import edu.ncsu.csc216.pack_scheduler.user.Student;
+
+/**
+ * LoadSimulator drives RegistrationManager the way opening day of registration does: many students logging in,
+ * browsing the catalog, enrolling, dropping, and starting over, with most of them after the same few sections.
+ * It reports the count, throughput, and latency percentiles of each kind of request, so the capacity of the
+ * registration path can be checked against the expected load before a term opens.
+ * <p>
+ * RegistrationManager serves one logged in user at a time, so the simulated students take turns on one thread:
+ * each request picks a random student, logs them in, runs the operation, and logs them out. Only the operation
+ * is timed, except for login requests, which time the login itself. The kinds of request are:
+ * <ul>
+ * <li>login: logs in and out with the student's password, including the password hash.
+ * <li>catalog: looks up every section of a course.
+ * <li>enroll: enrolls in a section, one of the hot sections with probability <code>hot</code>.
+ * <li>drop: drops a section on the student's schedule.
+ * <li>reset: resets the student's schedule.
+ * </ul>
+ * Arguments are <code>key=value</code> pairs, all optional:
+ * <ul>
+ * <li><code>students</code> simulated students, default {@value #DEFAULT_STUDENTS}.
+ * <li><code>requests</code> measured requests, default {@value #DEFAULT_REQUESTS}, after an unmeasured warm up
+ * of a fifth as many.
+ * <li><code>mix</code> relative weights of the requests, default <code>{@value #DEFAULT_MIX}</code>.
+ * <li><code>hotSections</code> sections everyone wants, default {@value #DEFAULT_HOT_SECTIONS}.
+ * <li><code>hot</code> share of enrolls and catalog reads aimed at the hot sections, default
+ * {@value #DEFAULT_HOT_SHARE}.
+ * <li><code>seed</code> seed of the data and the request sequence, default {@value DatasetGenerator#DEFAULT_SEED}.
+ * <li><code>data</code> a directory written by DatasetGenerator to load instead of generating data. Otherwise a
+ * dataset with one section for every ten students is generated in a temporary directory.
+ * </ul>
+ * For example <code>LoadSimulator students=100000 requests=2000000 mix=login:1,enroll:3 hot=0.9</code>. Run from
+ * the PackScheduler directory so registrar.properties is found.
+ *
+ * @author Maxim Shelepov
+ */
+public class LoadSimulator {
+	/** Default number of students */
+	public static final int DEFAULT_STUDENTS = 10000;
+	/** Default number of measured requests */
+	public static final int DEFAULT_REQUESTS = 500000;
+	/** Default request mix */
+	public static final String DEFAULT_MIX = "login:10,catalog:40,enroll:30,drop:15,reset:5";
+	/** Default number of hot sections */
+	public static final int DEFAULT_HOT_SECTIONS = 20;
+	/** Default share of requests aimed at the hot sections */
+	public static final double DEFAULT_HOT_SHARE = 0.8;
+	/** Names of the kinds of request, in the order of their indexes */
+	private static final String[] OPERATIONS = {"login", "catalog", "enroll", "drop", "reset"};
+	/** Index of login requests */
+	private static final int LOGIN = 0;
+	/** Index of catalog requests */
+	private static final int CATALOG = 1;
+	/** Index of enroll requests */
+	private static final int ENROLL = 2;
+	/** Index of drop requests */
+	private static final int DROP = 3;
+	/** Index of reset requests */
+	private static final int RESET = 4;
+
+	/** The manager under load */
+	private RegistrationManager manager;
+	/** Source of every random choice */
+	private Random random;
+	/** Ids of the students */
+	private String[] studentIds;
+	/** Every section in the catalog */
+	private Course[] courses;
+	/** The sections everyone wants */
+	private Course[] hotCourses;
+	/** Share of requests aimed at the hot sections */
+	private double hotShare;
+	/** Running total of the mix weights, by kind of request */
+	private int[] cumulativeMix;
+	/** Latencies of each kind of request */
+	private Histogram[] latencies = new Histogram[OPERATIONS.length];
+	/** Successful requests of each kind */
+	private long[] successes = new long[OPERATIONS.length];
+
+	/**
+	 * Constructs a LoadSimulator against the data loaded in the manager.
+	 * @param manager the manager, with students and courses loaded
+	 * @param seed the seed of the request sequence
+	 * @param mix the request mix, as comma separated <code>kind:weight</code> pairs
+	 * @param hotSections the number of sections everyone wants
+	 * @param hotShare the share of enrolls and catalog reads aimed at the hot sections
+	 * @throws IllegalArgumentException if the manager has no students or courses, or the mix is invalid
+	 */
+	public LoadSimulator(RegistrationManager manager, long seed, String mix, int hotSections, double hotShare) {
+		String[][] directory = manager.getStudentDirectory().getStudentDirectory();
+		Course[] catalog = manager.getCourseCatalog().getCoursesWithPrefix("");
+		if (directory.length == 0 || catalog.length == 0) {
+			throw new IllegalArgumentException("Nothing to simulate.");
+		}
+		if (hotShare < 0 || hotShare > 1 || hotSections < 1) {
+			throw new IllegalArgumentException("Invalid hot sections.");
+		}
+		this.manager = manager;
+		this.random = new Random(seed);
+		this.studentIds = new String[directory.length];
+		for (int i = 0; i < directory.length; i++) {
+			studentIds[i] = directory[i][2];
+		}
+		this.courses = catalog;
+		this.hotCourses = new Course[Math.min(hotSections, catalog.length)];
+		for (int i = 0; i < hotCourses.length; i++) {
+			hotCourses[i] = catalog[random.nextInt(catalog.length)];
+		}
+		this.hotShare = hotShare;
+		this.cumulativeMix = parseMix(mix);
+		for (int i = 0; i < latencies.length; i++) {
+			latencies[i] = new Histogram();
+		}
+	}
+
+	/**
+	 * Loads or generates the data, runs the simulation, and prints the report.
+	 * @param args <code>key=value</code> options, see the class comment
+	 * @throws IOException if the data cannot be generated
+	 */
+	public static void main(String[] args) throws IOException {
+		int students = DEFAULT_STUDENTS;
+		int requests = DEFAULT_REQUESTS;
+		String mix = DEFAULT_MIX;
+		int hotSections = DEFAULT_HOT_SECTIONS;
+		double hotShare = DEFAULT_HOT_SHARE;
+		long seed = DatasetGenerator.DEFAULT_SEED;
+		File data = null;
+		for (String arg : args) {
+			int split = arg.indexOf('=');
+			if (split < 0) {
+				throw new IllegalArgumentException("Invalid argument " + arg);
+			}
+			String key = arg.substring(0, split);
+			String value = arg.substring(split + 1);
+			switch (key) {
+			case "students":
+				students = Integer.parseInt(value);
+				break;
+			case "requests":
+				requests = Integer.parseInt(value);
+				break;
+			case "mix":
+				mix = value;
+				break;
+			case "hotSections":
+				hotSections = Integer.parseInt(value);
+				break;
+			case "hot":
+				hotShare = Double.parseDouble(value);
+				break;
+			case "seed":
+				seed = Long.parseLong(value);
+				break;
+			case "data":
+				data = new File(value);
+				break;
+			default:
+				throw new IllegalArgumentException("Invalid argument " + arg);
+			}
+		}
+
+		if (data == null) {
+			data = Files.createTempDirectory("pack_scheduler").toFile();
+			new DatasetGenerator(seed, Math.max(1, students / 10), students, Math.max(1, students / 25)).generate(data);
+		}
+		RegistrationManager manager = RegistrationManager.getInstance();
+		manager.logout();
+		manager.clearData();
+		manager.getFacultyDirectory().loadFacultyFromFile(new File(data, "faculty_records.txt").getPath());
+		manager.getCourseCatalog().loadCoursesFromFile(new File(data, "course_records.txt").getPath());
+		manager.getStudentDirectory().loadStudentsFromFile(new File(data, "student_records.txt").getPath());
+
+		LoadSimulator simulator = new LoadSimulator(manager, seed, mix, hotSections, hotShare);
+		simulator.run(requests / 5);
+		simulator.reset();
+		long start = System.nanoTime();
+		simulator.run(requests);
+		simulator.print(System.nanoTime() - start);
+	}
+
+	/**
+	 * Runs requests, recording their latencies.
+	 * @param requests the number of requests
+	 */
+	public void run(int requests) {
+		for (int r = 0; r < requests; r++) {
+			int operation = pickOperation();
+			String id = studentIds[random.nextInt(studentIds.length)];
+			if (operation == LOGIN) {
+				long start = System.nanoTime();
+				boolean loggedIn = manager.login(id, DatasetGenerator.PASSWORD);
+				long elapsed = System.nanoTime() - start;
+				manager.logout();
+				record(operation, elapsed, loggedIn);
+				continue;
+			}
+
+			manager.login(id, DatasetGenerator.PASSWORD);
+			Student s = (Student) manager.getCurrentUser();
+			// choose the target before starting the clock
+			Course target = null;
+			if (operation == CATALOG || operation == ENROLL) {
+				target = pickCourse();
+			} else if (operation == DROP) {
+				target = pickScheduled(s);
+			}
+
+			long start = System.nanoTime();
+			boolean success = true;
+			switch (operation) {
+			case CATALOG:
+				success = manager.getCourseCatalog().getCourseSections(target.getName()).length > 0;
+				break;
+			case ENROLL:
+				success = manager.enrollStudentInCourse(target);
+				break;
+			case DROP:
+				success = target != null && manager.dropStudentFromCourse(target);
+				break;
+			case RESET:
+				manager.resetSchedule();
+				break;
+			}
+			long elapsed = System.nanoTime() - start;
+			manager.logout();
+			record(operation, elapsed, success);
+		}
+	}
+
+	/**
+	 * Clears the recorded latencies, keeping the registrations made so far.
+	 */
+	public void reset() {
+		for (int i = 0; i < latencies.length; i++) {
+			latencies[i] = new Histogram();
+			successes[i] = 0;
+		}
+	}
+
+	/**
+	 * Returns the latencies recorded for a kind of request.
+	 * @param operation the name of the kind of request
+	 * @return the latencies
+	 * @throws IllegalArgumentException if the kind of request is unknown
+	 */
+	public Histogram getLatencies(String operation) {
+		return latencies[operationIndex(operation)];
+	}
+
+	/**
+	 * Prints one row per kind of request and a total row, with latencies in microseconds.
+	 * @param elapsedNanos the wall clock time of the measured run, for the throughput
+	 */
+	public void print(long elapsedNanos) {
+		System.out.printf("%-8s %10s %8s %10s %9s %9s %9s %9s %9s %10s%n", "request", "count", "ok%", "req/s",
+				"mean", "p50", "p90", "p99", "p99.9", "max");
+		Histogram total = new Histogram();
+		long totalSuccesses = 0;
+		for (int i = 0; i < OPERATIONS.length; i++) {
+			printRow(OPERATIONS[i], latencies[i], successes[i], elapsedNanos);
+			total.add(latencies[i]);
+			totalSuccesses += successes[i];
+		}
+		printRow("total", total, totalSuccesses, elapsedNanos);
+	}
+
+	/**
+	 * Helper method that prints the row of one kind of request.
+	 * @param name the name of the row
+	 * @param histogram the latencies
+	 * @param ok the number of successful requests
+	 * @param elapsedNanos the wall clock time of the run
+	 */
+	private static void printRow(String name, Histogram histogram, long ok, long elapsedNanos) {
+		long count = histogram.getCount();
+		System.out.printf("%-8s %,10d %8.1f %,10.0f %9.1f %9.1f %9.1f %9.1f %9.1f %,10.1f%n", name, count,
+				count == 0 ? 0 : 100.0 * ok / count, count * 1e9 / elapsedNanos, histogram.getMean() / 1000,
+				histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(90) / 1000.0,
+				histogram.getValueAtPercentile(99) / 1000.0, histogram.getValueAtPercentile(99.9) / 1000.0,
+				histogram.getMax() / 1000.0);
+	}
+
+	/**
+	 * Helper method that records one request.
+	 * @param operation the kind of request
+	 * @param nanos the latency
+	 * @param success whether the request succeeded
+	 */
+	private void record(int operation, long nanos, boolean success) {
+		latencies[operation].record(nanos);
+		if (success) {
+			successes[operation]++;
+		}
+	}
+
+	/**
+	 * Helper method that picks a kind of request by the mix.
+	 * @return the index of the kind of request
+	 */
+	private int pickOperation() {
+		int target = random.nextInt(cumulativeMix[cumulativeMix.length - 1]);
+		int i = 0;
+		while (cumulativeMix[i] <= target) {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * Helper method that picks a section, one of the hot ones with probability hotShare.
+	 * @return the section
+	 */
+	private Course pickCourse() {
+		if (random.nextDouble() < hotShare) {
+			return hotCourses[random.nextInt(hotCourses.length)];
+		}
+		return courses[random.nextInt(courses.length)];
+	}
+
+	/**
+	 * Helper method that picks a section on a student's schedule.
+	 * @param s the student
+	 * @return the section, or null if the schedule is empty
+	 */
+	private Course pickScheduled(Student s) {
+		int n = s.getSchedule().getNumScheduledCourses();
+		if (n == 0) {
+			return null;
+		}
+		int skip = random.nextInt(n);
+		for (Course c : s.getSchedule()) {
+			if (skip-- == 0) {
+				return c;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Helper method that parses a request mix into running totals of the weights.
+	 * @param mix comma separated <code>kind:weight</code> pairs, kinds left out have weight 0
+	 * @return the running totals, by kind of request
+	 * @throws IllegalArgumentException if the mix is invalid
+	 */
+	private static int[] parseMix(String mix) {
+		int[] weights = new int[OPERATIONS.length];
+		try {
+			for (String entry : mix.split(",")) {
+				String[] pair = entry.split(":");
+				if (pair.length != 2) {
+					throw new IllegalArgumentException("Invalid mix.");
+				}
+				int weight = Integer.parseInt(pair[1].trim());
+				if (weight < 0) {
+					throw new IllegalArgumentException("Invalid mix.");
+				}
+				weights[operationIndex(pair[0].trim())] = weight;
+			}
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid mix.");
+		}
+		int[] cumulative = new int[weights.length];
+		int total = 0;
+		for (int i = 0; i < weights.length; i++) {
+			total += weights[i];
+			cumulative[i] = total;
+		}
+		if (total == 0) {
+			throw new IllegalArgumentException("Invalid mix.");
+		}
+		return cumulative;
+	}
+
+	/**
+	 * Helper method that returns the index of a kind of request.
+	 * @param operation the name of the kind of request
+	 * @return the index
+	 * @throws IllegalArgumentException if the kind of request is unknown
+	 */
+	private static int operationIndex(String operation) {
+		for (int i = 0; i < OPERATIONS.length; i++) {
+			if (OPERATIONS[i].equals(operation)) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("Invalid request " + operation);
+	}
+}
@@ -0,0 +1,167 @@
+package edu.ncsu.csc216.pack_scheduler.manager;
+
+import edu.ncsu.csc216.pack_scheduler.BenchmarkHarness;
+import edu.ncsu.csc216.pack_scheduler.catalog.CourseCatalog;
+import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.course.roll.CourseRoll;
+import edu.ncsu.csc216.pack_scheduler.directory.StudentDirectory;
+import edu.ncsu.csc216.pack_scheduler.user.Student;
+import edu.ncsu.csc216.pack_scheduler.user.schedule.Schedule;
+
+/**
+ * Benchmarks the registration hot paths: catalog and directory lookups, login, enrolling and dropping through
+ * RegistrationManager, Schedule.canAdd(), and CourseRoll enroll and drop. The size is the number of courses in
+ * the catalog, students in the directory, courses on the schedule, or students on the roll (at most one less
+ * than the largest enrollment cap). Run from the PackScheduler directory so registrar.properties is found.
+ *
+ * @author Maxim Shelepov
+ */
+public class RegistrationBenchmark {
+	/** Password of the generated students */
+	private static final String PASSWORD = "pw";
+
+	/**
+	 * Runs the registration benchmarks.
+	 * @param args optional sizes and name filters, see BenchmarkHarness
+	 */
+	public static void main(String[] args) {
+		harness().run(args);
+	}
+
+	/**
+	 * Returns a harness holding the registration benchmarks.
+	 * @return the harness
+	 */
+	public static BenchmarkHarness harness() {
+		BenchmarkHarness harness = new BenchmarkHarness();
+
+		harness.add("CourseCatalog.getCourseFromCatalog", size -> {
+			CourseCatalog catalog = buildCatalog(size);
+			String[] names = new String[size];
+			for (int i = 0; i < size; i++) {
+				names[i] = BenchmarkHarness.courseName(i);
+			}
+			int[] next = new int[1];
+			return () -> catalog.getCourseFromCatalog(names[BenchmarkHarness.scatter(next[0]++, size)], "001").getCredits();
+		});
+
+		harness.add("StudentDirectory.getStudentById", size -> {
+			StudentDirectory directory = buildDirectory(new StudentDirectory(), size);
+			String[] ids = studentIds(size);
+			int[] next = new int[1];
+			return () -> directory.getStudentById(ids[BenchmarkHarness.scatter(next[0]++, size)]).getMaxCredits();
+		});
+
+		harness.add("RegistrationManager.login+logout", size -> {
+			RegistrationManager manager = RegistrationManager.getInstance();
+			manager.logout();
+			manager.clearData();
+			buildDirectory(manager.getStudentDirectory(), size);
+			String[] ids = studentIds(size);
+			int[] next = new int[1];
+			return () -> {
+				boolean loggedIn = manager.login(ids[BenchmarkHarness.scatter(next[0]++, size)], PASSWORD);
+				manager.logout();
+				return loggedIn ? 1 : 0;
+			};
+		});
+
+		harness.add("RegistrationManager.enroll+drop", size -> {
+			RegistrationManager manager = RegistrationManager.getInstance();
+			manager.logout();
+			manager.clearData();
+			CourseCatalog catalog = manager.getCourseCatalog();
+			for (int i = 0; i < size; i++) {
+				catalog.addCourseToCatalog(BenchmarkHarness.courseName(i), "Benchmark Course", "001", 3, null, 10, "A",
+						0, 0);
+			}
+			buildDirectory(manager.getStudentDirectory(), 1);
+			manager.login(studentIds(1)[0], PASSWORD);
+			Course[] courses = catalog.getCoursesWithPrefix("");
+			int[] next = new int[1];
+			return () -> {
+				Course c = courses[BenchmarkHarness.scatter(next[0]++, size)];
+				boolean enrolled = manager.enrollStudentInCourse(c);
+				boolean dropped = manager.dropStudentFromCourse(c);
+				return (enrolled ? 1 : 0) + (dropped ? 1 : 0);
+			};
+		});
+
+		harness.add("Schedule.canAdd", size -> {
+			Schedule schedule = new Schedule();
+			for (int i = 0; i < size; i++) {
+				schedule.addCourseToSchedule(new Course(BenchmarkHarness.courseName(i), "Benchmark Course", "001", 1,
+						null, 10, "A"));
+			}
+			Course probe = new Course("ZZZZ999", "Benchmark Course", "001", 3, null, 10, "MW", 1000, 1100);
+			return () -> schedule.canAdd(probe) ? 1 : 0;
+		});
+
+		harness.add("CourseRoll.enroll+drop", size -> {
+			int enrolled = Math.min(size, CourseRoll.MAX_ENROLLMENT - 1);
+			Course c = new Course("CSC216", "Benchmark Course", "001", 3, null, CourseRoll.MAX_ENROLLMENT, "A");
+			CourseRoll roll = c.getCourseRoll();
+			for (int i = 0; i < enrolled; i++) {
+				roll.enroll(student(i));
+			}
+			Student extra = student(enrolled);
+			return () -> {
+				roll.enroll(extra);
+				roll.drop(extra);
+				return roll.getOpenSeats();
+			};
+		});
+
+		return harness;
+	}
+
+	/**
+	 * Builds a catalog of single section, arranged courses.
+	 * @param size the number of courses
+	 * @return the catalog
+	 */
+	private static CourseCatalog buildCatalog(int size) {
+		CourseCatalog catalog = new CourseCatalog();
+		for (int i = 0; i < size; i++) {
+			catalog.addCourseToCatalog(BenchmarkHarness.courseName(i), "Benchmark Course", "001", 3, null, 10, "A", 0,
+					0);
+		}
+		return catalog;
+	}
+
+	/**
+	 * Adds generated students to a directory.
+	 * @param directory the directory to fill
+	 * @param size the number of students
+	 * @return the directory
+	 */
+	private static StudentDirectory buildDirectory(StudentDirectory directory, int size) {
+		String[] ids = studentIds(size);
+		for (int i = 0; i < size; i++) {
+			directory.addStudent("First", "Last", ids[i], ids[i] + "@ncsu.edu", PASSWORD, PASSWORD, 18);
+		}
+		return directory;
+	}
+
+	/**
+	 * Returns the ids of the generated students.
+	 * @param size the number of students
+	 * @return the ids
+	 */
+	private static String[] studentIds(int size) {
+		String[] ids = new String[size];
+		for (int i = 0; i < size; i++) {
+			ids[i] = "student" + i;
+		}
+		return ids;
+	}
+
+	/**
+	 * Creates a student with a unique id.
+	 * @param i the number of the student
+	 * @return the student
+	 */
+	private static Student student(int i) {
+		return new Student("First", "Last", "student" + i, "student" + i + "@ncsu.edu", PASSWORD, 18);
+	}
+}
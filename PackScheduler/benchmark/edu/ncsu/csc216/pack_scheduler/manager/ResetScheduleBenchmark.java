@@ -0,0 +1,109 @@
+package edu.ncsu.csc216.pack_scheduler.manager;
+
+import edu.ncsu.csc216.pack_scheduler.BenchmarkHarness;
+import edu.ncsu.csc216.pack_scheduler.catalog.CourseCatalog;
+import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.user.Student;
+import edu.ncsu.csc216.pack_scheduler.user.schedule.Schedule;
+
+/**
+ * Measures the cost of resetting a student schedule as the catalog grows, two ways:
+ * <ul>
+ * <li>lookup: the old RegistrationManager.resetSchedule() path, turning the schedule into display rows and
+ * looking each row up in the catalog by name and section before dropping it.
+ * <li>direct: the current path, dropping the scheduled Course objects while iterating the Schedule.
+ * </ul>
+ * Each round enrolls the student in the same few courses, spread across the catalog, then times only the reset.
+ * Run with optional catalog sizes, for example <code>ResetScheduleBenchmark 1000 4000 16000</code>.
+ *
+ * @author Maxim Shelepov
+ */
+public class ResetScheduleBenchmark {
+	/** Default catalog sizes */
+	private static final int[] DEFAULT_SIZES = {1000, 4000, 16000};
+	/** Number of courses on the student's schedule */
+	private static final int SCHEDULED_COURSES = 6;
+	/** Timed reset rounds per catalog size */
+	private static final int ROUNDS = 20000;
+	/** Untimed warm up rounds before measuring */
+	private static final int WARMUP_ROUNDS = 5000;
+
+	/**
+	 * Runs the benchmark and prints the average reset time for each catalog size.
+	 * @param args optional catalog sizes
+	 */
+	public static void main(String[] args) {
+		int[] sizes = DEFAULT_SIZES;
+		if (args.length > 0) {
+			sizes = new int[args.length];
+			for (int i = 0; i < args.length; i++) {
+				sizes[i] = Integer.parseInt(args[i]);
+			}
+		}
+
+		for (int size : sizes) {
+			CourseCatalog catalog = buildCatalog(size);
+			Course[] courses = new Course[SCHEDULED_COURSES];
+			for (int i = 0; i < courses.length; i++) {
+				int idx = (int) ((long) size * (2 * i + 1) / (2 * courses.length));
+				courses[i] = catalog.getCourseFromCatalog(BenchmarkHarness.courseName(idx), "001");
+			}
+			Student s = new Student("First", "Last", "id", "id@ncsu.edu", "pw", 18);
+
+			run(catalog, courses, s, WARMUP_ROUNDS, true);
+			run(catalog, courses, s, WARMUP_ROUNDS, false);
+			long lookup = run(catalog, courses, s, ROUNDS, true);
+			long direct = run(catalog, courses, s, ROUNDS, false);
+			System.out.printf("catalog=%-7d lookup %,9.0f ns/reset   direct %,9.0f ns/reset%n", size,
+					(double) lookup / ROUNDS, (double) direct / ROUNDS);
+		}
+	}
+
+	/**
+	 * Enrolls the student and resets their schedule the given number of times.
+	 * @param catalog the catalog holding the courses
+	 * @param courses the courses to enroll in
+	 * @param s the student
+	 * @param rounds the number of rounds
+	 * @param lookup true to reset through catalog lookups, false to reset directly
+	 * @return the total nanoseconds spent resetting
+	 */
+	private static long run(CourseCatalog catalog, Course[] courses, Student s, int rounds, boolean lookup) {
+		Schedule schedule = s.getSchedule();
+		long elapsed = 0;
+		for (int r = 0; r < rounds; r++) {
+			for (Course c : courses) {
+				schedule.addCourseToSchedule(c);
+				c.getCourseRoll().enroll(s);
+			}
+
+			long start = System.nanoTime();
+			if (lookup) {
+				String[][] rows = schedule.getScheduledCourses();
+				for (int i = 0; i < rows.length; i++) {
+					catalog.getCourseFromCatalog(rows[i][0], rows[i][1]).getCourseRoll().drop(s);
+				}
+			} else {
+				for (Course c : schedule) {
+					c.getCourseRoll().drop(s);
+				}
+			}
+			schedule.resetSchedule();
+			elapsed += System.nanoTime() - start;
+		}
+		return elapsed;
+	}
+
+	/**
+	 * Builds a catalog of single section, arranged courses.
+	 * @param size the number of courses
+	 * @return the catalog
+	 */
+	private static CourseCatalog buildCatalog(int size) {
+		CourseCatalog catalog = new CourseCatalog();
+		for (int i = 0; i < size; i++) {
+			catalog.addCourseToCatalog(BenchmarkHarness.courseName(i), "Benchmark Course", "001", 3, null, 10, "A", 0, 0);
+		}
+		return catalog;
+	}
+}
@@ -0,0 +1,177 @@
+package edu.ncsu.csc216.pack_scheduler.user;
+
+import java.util.HashMap;
+import java.util.Objects;
+
+/**
+ * Measures HashMap&lt;Student, Integer&gt; lookup throughput with three kinds of key:
+ * <ul>
+ * <li>legacy: a wrapper recomputing the old uncached hash (Objects.hash over five Strings plus max credits)
+ * and comparing all fields on every call.
+ * <li>cached: the Student itself, using the cached hashCode() and hash-first equals().
+ * <li>id-only: a wrapper using equalsById() and hashCodeById().
+ * </ul>
+ * The map is probed with separately built Students equal to the inserted ones, so every hit runs equals() rather
+ * than stopping at the HashMap's reference check.
+ * Run with an optional student count and round count, for example <code>StudentHashBenchmark 100000 20</code>.
+ *
+ * @author Maxim Shelepov
+ */
+public class StudentHashBenchmark {
+	/** Default number of students in the map */
+	private static final int DEFAULT_STUDENTS = 100000;
+	/** Default number of timed lookup rounds over every student */
+	private static final int DEFAULT_ROUNDS = 20;
+	/** Untimed warm up rounds before measuring */
+	private static final int WARMUP_ROUNDS = 5;
+
+	/**
+	 * Runs the benchmark and prints lookups per second for each key kind.
+	 * @param args optional student count and round count
+	 */
+	public static void main(String[] args) {
+		int numStudents = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_STUDENTS;
+		int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+
+		Student[] students = buildStudents(numStudents);
+		Student[] probes = buildStudents(numStudents);
+
+		Object[] legacyKeys = new Object[numStudents];
+		Object[] cachedKeys = new Object[numStudents];
+		Object[] idKeys = new Object[numStudents];
+		Object[] legacyProbes = new Object[numStudents];
+		Object[] cachedProbes = new Object[numStudents];
+		Object[] idProbes = new Object[numStudents];
+		for (int i = 0; i < numStudents; i++) {
+			legacyKeys[i] = new LegacyKey(students[i]);
+			cachedKeys[i] = students[i];
+			idKeys[i] = new IdKey(students[i]);
+			legacyProbes[i] = new LegacyKey(probes[i]);
+			cachedProbes[i] = probes[i];
+			idProbes[i] = new IdKey(probes[i]);
+		}
+
+		System.out.println("students=" + numStudents + " rounds=" + rounds);
+		report("legacy", legacyKeys, legacyProbes, rounds);
+		report("cached", cachedKeys, cachedProbes, rounds);
+		report("id-only", idKeys, idProbes, rounds);
+	}
+
+	/**
+	 * Builds the benchmark Students. Each call builds new Student and String objects, so two calls give equal but
+	 * distinct Students.
+	 * @param numStudents the number of students
+	 * @return the Students
+	 */
+	private static Student[] buildStudents(int numStudents) {
+		Student[] students = new Student[numStudents];
+		for (int i = 0; i < numStudents; i++) {
+			// long shared prefixes, as in real directories, make String hashing and comparison costlier
+			students[i] = new Student("FirstName" + (i % 500), "LastName" + (i % 2000), "unityid" + i,
+					"unityid" + i + "@ncsu.edu", "hashedpasswordhashedpassword" + i, 3 + i % 16);
+		}
+		return students;
+	}
+
+	/**
+	 * Fills a map with the keys, then times lookups of every probe and prints the throughput.
+	 * @param label the name of the key kind
+	 * @param keys the keys to insert
+	 * @param probes keys equal to the inserted keys but distinct objects, to look up
+	 * @param rounds the number of timed rounds
+	 */
+	private static void report(String label, Object[] keys, Object[] probes, int rounds) {
+		HashMap<Object, Integer> map = new HashMap<Object, Integer>();
+		for (int i = 0; i < keys.length; i++) {
+			map.put(keys[i], i);
+		}
+
+		long checksum = 0;
+		for (int r = 0; r < WARMUP_ROUNDS; r++) {
+			checksum += lookupAll(map, probes);
+		}
+
+		long start = System.nanoTime();
+		for (int r = 0; r < rounds; r++) {
+			checksum += lookupAll(map, probes);
+		}
+		long elapsed = System.nanoTime() - start;
+
+		double opsPerSecond = (double) probes.length * rounds / (elapsed / 1e9);
+		System.out.printf("%-8s %,15.0f lookups/s   (checksum %d)%n", label, opsPerSecond, checksum);
+	}
+
+	/**
+	 * Looks up every key once.
+	 * @param map the map to query
+	 * @param keys the keys to look up
+	 * @return the sum of the values found, so the lookups cannot be optimized away
+	 */
+	private static long lookupAll(HashMap<Object, Integer> map, Object[] keys) {
+		long sum = 0;
+		for (int i = 0; i < keys.length; i++) {
+			sum += map.get(keys[i]);
+		}
+		return sum;
+	}
+
+	/**
+	 * Key reproducing the Student hashCode() and equals() behavior before hash caching.
+	 */
+	private static class LegacyKey {
+		/** The wrapped Student */
+		private final Student s;
+
+		/**
+		 * Wraps a Student.
+		 * @param s the Student
+		 */
+		LegacyKey(Student s) {
+			this.s = s;
+		}
+
+		@Override
+		public int hashCode() {
+			final int prime = 31;
+			int result = Objects.hash(s.getEmail(), s.getFirstName(), s.getId(), s.getLastName(), s.getPassword());
+			return prime * result + Objects.hash(s.getMaxCredits());
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof LegacyKey)) {
+				return false;
+			}
+			Student o = ((LegacyKey) obj).s;
+			return Objects.equals(s.getEmail(), o.getEmail()) && Objects.equals(s.getFirstName(), o.getFirstName())
+					&& Objects.equals(s.getId(), o.getId()) && Objects.equals(s.getLastName(), o.getLastName())
+					&& Objects.equals(s.getPassword(), o.getPassword()) && s.getMaxCredits() == o.getMaxCredits();
+		}
+	}
+
+	/**
+	 * Key using the id-only equality of User.
+	 */
+	private static class IdKey {
+		/** The wrapped Student */
+		private final Student s;
+
+		/**
+		 * Wraps a Student.
+		 * @param s the Student
+		 */
+		IdKey(Student s) {
+			this.s = s;
+		}
+
+		@Override
+		public int hashCode() {
+			return s.hashCodeById();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof IdKey && s.equalsById(((IdKey) obj).s);
+		}
+	}
+}
@@ -0,0 +1,283 @@
+package edu.ncsu.csc216.pack_scheduler.util;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import edu.ncsu.csc216.pack_scheduler.BenchmarkHarness;
+import edu.ncsu.csc217.collections.list.SortedList;
+
+/**
+ * Benchmarks each collection in the util package. The size is the number of elements. For the lists, add
+ * measures building a list of the size by appending, and get measures one lookup at a scattered index of a
+ * full list. For the queues and stacks, one operation fills the collection to the size and empties it again.
+ * The int collections are measured next to the boxed java.util collections they replace; their heap footprint is
+ * measured by IntCollectionsFootprint.
+ * <p>
+ * BTreeSortedList is measured next to the SortedList it replaces for catalogs and directories, on a full list of
+ * the size: add+remove takes out an element at a scattered position and adds it back, and get and indexOf look
+ * one up. The intended sizes are 100000 and 1000000, for example <code>CollectionsBenchmark 100000 1000000
+ * SortedList</code>; SortedList adds by scanning and shifting its array, so building its 1000000 element
+ * fixtures alone takes several minutes each.
+ *
+ * @author Maxim Shelepov
+ */
+public class CollectionsBenchmark {
+
+	/**
+	 * Runs the collection benchmarks.
+	 * @param args optional sizes and name filters, see BenchmarkHarness
+	 */
+	public static void main(String[] args) {
+		harness().run(args);
+	}
+
+	/**
+	 * Returns a harness holding the collection benchmarks.
+	 * @return the harness
+	 */
+	public static BenchmarkHarness harness() {
+		BenchmarkHarness harness = new BenchmarkHarness();
+
+		addList(harness, "ArrayList", size -> new ArrayList<Integer>());
+		addList(harness, "LinkedList", size -> new LinkedList<Integer>());
+		addList(harness, "LinkedAbstractList", size -> new LinkedAbstractList<Integer>(size));
+
+		harness.add("LinkedListRecursive.add", size -> {
+			Integer[] values = values(size);
+			return () -> {
+				LinkedListRecursive<Integer> list = new LinkedListRecursive<Integer>();
+				for (Integer v : values) {
+					list.add(v);
+				}
+				return list.size();
+			};
+		});
+		harness.add("LinkedListRecursive.get", size -> {
+			LinkedListRecursive<Integer> list = new LinkedListRecursive<Integer>();
+			for (Integer v : values(size)) {
+				list.add(v);
+			}
+			int[] next = new int[1];
+			return () -> list.get(BenchmarkHarness.scatter(next[0]++, size));
+		});
+
+		addQueue(harness, "ArrayQueue", size -> new ArrayQueue<Integer>(size));
+		addQueue(harness, "LinkedQueue", size -> new LinkedQueue<Integer>(size));
+		addQueue(harness, "HeapQueue", size -> new HeapQueue<Integer>(size));
+		addStack(harness, "ArrayStack", size -> new ArrayStack<Integer>(size));
+		addStack(harness, "LinkedStack", size -> new LinkedStack<Integer>(size));
+
+		harness.add("SymbolTable.getId", size -> {
+			SymbolTable table = new SymbolTable();
+			String[] symbols = new String[size];
+			for (int i = 0; i < size; i++) {
+				symbols[i] = "symbol" + i;
+				table.intern(symbols[i]);
+			}
+			int[] next = new int[1];
+			return () -> table.getId(symbols[BenchmarkHarness.scatter(next[0]++, size)]);
+		});
+
+		harness.add("IntArrayList.add", size -> () -> {
+			IntArrayList list = new IntArrayList();
+			for (int i = 0; i < size; i++) {
+				list.add(i * 31);
+			}
+			return list.size();
+		});
+		harness.add("IntHashSet.contains", size -> {
+			IntHashSet set = new IntHashSet();
+			for (int i = 0; i < size; i++) {
+				set.add(i * 31);
+			}
+			int[] next = new int[1];
+			return () -> set.contains(BenchmarkHarness.scatter(next[0]++, size) * 31) ? 1 : 0;
+		});
+		harness.add("java.util.HashSet<Integer>.contains", size -> {
+			Set<Integer> set = new HashSet<Integer>();
+			for (int i = 0; i < size; i++) {
+				set.add(i * 31);
+			}
+			int[] next = new int[1];
+			return () -> set.contains(BenchmarkHarness.scatter(next[0]++, size) * 31) ? 1 : 0;
+		});
+		harness.add("IntIntHashMap.increment", size -> {
+			IntIntHashMap map = new IntIntHashMap();
+			int[] next = new int[1];
+			return () -> map.increment(BenchmarkHarness.scatter(next[0]++, size) * 31, 1);
+		});
+		harness.add("java.util.HashMap<Integer,Integer>.merge", size -> {
+			Map<Integer, Integer> map = new HashMap<Integer, Integer>();
+			int[] next = new int[1];
+			return () -> map.merge(BenchmarkHarness.scatter(next[0]++, size) * 31, 1, Integer::sum);
+		});
+
+		harness.add("BTreeSortedList.add", size -> {
+			Integer[] values = values(size);
+			return () -> {
+				BTreeSortedList<Integer> list = new BTreeSortedList<Integer>();
+				for (int i = 0; i < size; i++) {
+					list.add(values[BenchmarkHarness.scatter(i, size)]);
+				}
+				return list.size();
+			};
+		});
+		harness.add("BTreeSortedList.add+remove", size -> {
+			BTreeSortedList<Integer> list = new BTreeSortedList<Integer>();
+			Integer[] values = values(size);
+			for (Integer v : values) {
+				list.add(v);
+			}
+			int[] next = new int[1];
+			return () -> {
+				Integer v = values[BenchmarkHarness.scatter(next[0]++, size)];
+				list.remove(v);
+				return list.add(v) ? 1 : 0;
+			};
+		});
+		harness.add("BTreeSortedList.get", size -> {
+			BTreeSortedList<Integer> list = new BTreeSortedList<Integer>();
+			for (Integer v : values(size)) {
+				list.add(v);
+			}
+			int[] next = new int[1];
+			return () -> list.get(BenchmarkHarness.scatter(next[0]++, size));
+		});
+		harness.add("BTreeSortedList.indexOf", size -> {
+			BTreeSortedList<Integer> list = new BTreeSortedList<Integer>();
+			Integer[] values = values(size);
+			for (Integer v : values) {
+				list.add(v);
+			}
+			int[] next = new int[1];
+			return () -> list.indexOf(values[BenchmarkHarness.scatter(next[0]++, size)]);
+		});
+		harness.add("SortedList.add+remove", size -> {
+			SortedList<Integer> list = sortedList(size);
+			Integer[] values = values(size);
+			int[] next = new int[1];
+			return () -> {
+				Integer v = values[BenchmarkHarness.scatter(next[0]++, size)];
+				list.remove(list.indexOf(v));
+				return list.add(v) ? 1 : 0;
+			};
+		});
+		harness.add("SortedList.get", size -> {
+			SortedList<Integer> list = sortedList(size);
+			int[] next = new int[1];
+			return () -> list.get(BenchmarkHarness.scatter(next[0]++, size));
+		});
+		harness.add("SortedList.indexOf", size -> {
+			SortedList<Integer> list = sortedList(size);
+			Integer[] values = values(size);
+			int[] next = new int[1];
+			return () -> list.indexOf(values[BenchmarkHarness.scatter(next[0]++, size)]);
+		});
+
+		return harness;
+	}
+
+	/**
+	 * Helper method that returns a SortedList of the distinct values. They are added in ascending order, the
+	 * cheapest order for SortedList, which still scans the whole list on every add.
+	 * @param size the number of values
+	 * @return the list
+	 */
+	private static SortedList<Integer> sortedList(int size) {
+		SortedList<Integer> list = new SortedList<Integer>();
+		for (Integer v : values(size)) {
+			list.add(v);
+		}
+		return list;
+	}
+
+	/**
+	 * Helper method that adds the add and get benchmarks of a list.
+	 * @param harness the harness
+	 * @param name the name of the list class
+	 * @param factory creates an empty list able to hold the size
+	 */
+	private static void addList(BenchmarkHarness harness, String name, IntFunction<List<Integer>> factory) {
+		harness.add(name + ".add", size -> {
+			Integer[] values = values(size);
+			return () -> {
+				List<Integer> list = factory.apply(size);
+				for (Integer v : values) {
+					list.add(v);
+				}
+				return list.size();
+			};
+		});
+		harness.add(name + ".get", size -> {
+			List<Integer> list = factory.apply(size);
+			for (Integer v : values(size)) {
+				list.add(v);
+			}
+			int[] next = new int[1];
+			return () -> list.get(BenchmarkHarness.scatter(next[0]++, size));
+		});
+	}
+
+	/**
+	 * Helper method that adds the enqueue and dequeue benchmark of a queue.
+	 * @param harness the harness
+	 * @param name the name of the queue class
+	 * @param factory creates an empty queue with a capacity of the size
+	 */
+	private static void addQueue(BenchmarkHarness harness, String name, IntFunction<Queue<Integer>> factory) {
+		harness.add(name + ".enqueue+dequeue", size -> {
+			Integer[] values = values(size);
+			Queue<Integer> queue = factory.apply(size);
+			return () -> {
+				for (Integer v : values) {
+					queue.enqueue(v);
+				}
+				long sum = 0;
+				while (!queue.isEmpty()) {
+					sum += queue.dequeue();
+				}
+				return sum;
+			};
+		});
+	}
+
+	/**
+	 * Helper method that adds the push and pop benchmark of a stack.
+	 * @param harness the harness
+	 * @param name the name of the stack class
+	 * @param factory creates an empty stack with a capacity of the size
+	 */
+	private static void addStack(BenchmarkHarness harness, String name, IntFunction<Stack<Integer>> factory) {
+		harness.add(name + ".push+pop", size -> {
+			Integer[] values = values(size);
+			Stack<Integer> stack = factory.apply(size);
+			return () -> {
+				for (Integer v : values) {
+					stack.push(v);
+				}
+				long sum = 0;
+				while (!stack.isEmpty()) {
+					sum += stack.pop();
+				}
+				return sum;
+			};
+		});
+	}
+
+	/**
+	 * Helper method that returns distinct boxed values, so lists rejecting duplicates accept them all.
+	 * @param size the number of values
+	 * @return the values
+	 */
+	private static Integer[] values(int size) {
+		Integer[] values = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = Integer.valueOf(i * 31);
+		}
+		return values;
+	}
+}
@@ -0,0 +1,129 @@
+package edu.ncsu.csc216.pack_scheduler.util;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * Measures the heap footprint of IntArrayList, IntHashSet, and IntIntHashMap against the boxed java.util
+ * collections holding the same values. For each size it builds a number of copies of each collection, measures
+ * the used heap before and after with the garbage collector run in between, and prints the bytes retained per
+ * value. Values are spread out so few of them come from the Integer cache, as ids and times mostly do not.
+ * <p>
+ * Arguments that are numbers select the sizes, for example <code>IntCollectionsFootprint 1000 100000</code>.
+ * Run with a fixed heap, for example <code>-Xms1g -Xmx1g</code>, for stable numbers.
+ *
+ * @author Maxim Shelepov
+ */
+public class IntCollectionsFootprint {
+	/** Sizes measured when none are given */
+	private static final int[] DEFAULT_SIZES = {1000, 100000};
+	/** Values held by all copies of one collection, so small sizes are measured over enough bytes */
+	private static final int VALUES_PER_MEASUREMENT = 2000000;
+
+	/**
+	 * Measures and prints the footprints.
+	 * @param args optional sizes
+	 */
+	public static void main(String[] args) {
+		int[] sizes = DEFAULT_SIZES;
+		if (args.length > 0) {
+			sizes = new int[args.length];
+			for (int i = 0; i < args.length; i++) {
+				sizes[i] = Integer.parseInt(args[i]);
+			}
+		}
+
+		System.out.printf("%-36s %10s %14s%n", "collection", "size", "bytes/value");
+		for (int size : sizes) {
+			measure("IntArrayList", size, n -> {
+				IntArrayList list = new IntArrayList();
+				for (int i = 0; i < n; i++) {
+					list.add(value(i));
+				}
+				return list;
+			});
+			measure("java.util.ArrayList<Integer>", size, n -> {
+				java.util.ArrayList<Integer> list = new java.util.ArrayList<Integer>();
+				for (int i = 0; i < n; i++) {
+					list.add(value(i));
+				}
+				return list;
+			});
+			measure("IntHashSet", size, n -> {
+				IntHashSet set = new IntHashSet();
+				for (int i = 0; i < n; i++) {
+					set.add(value(i));
+				}
+				return set;
+			});
+			measure("java.util.HashSet<Integer>", size, n -> {
+				Set<Integer> set = new HashSet<Integer>();
+				for (int i = 0; i < n; i++) {
+					set.add(value(i));
+				}
+				return set;
+			});
+			measure("IntIntHashMap", size, n -> {
+				IntIntHashMap map = new IntIntHashMap();
+				for (int i = 0; i < n; i++) {
+					map.put(value(i), value(i + 1));
+				}
+				return map;
+			});
+			measure("java.util.HashMap<Integer,Integer>", size, n -> {
+				Map<Integer, Integer> map = new HashMap<Integer, Integer>();
+				for (int i = 0; i < n; i++) {
+					map.put(value(i), value(i + 1));
+				}
+				return map;
+			});
+		}
+	}
+
+	/**
+	 * Helper method that measures and prints the bytes per value retained by copies of a collection.
+	 * @param name the name of the collection
+	 * @param size the number of values in each copy
+	 * @param factory builds a copy holding the given number of values
+	 */
+	private static void measure(String name, int size, IntFunction<Object> factory) {
+		int copies = Math.max(1, VALUES_PER_MEASUREMENT / size);
+		Object[] retained = new Object[copies];
+		long before = usedHeap();
+		for (int c = 0; c < copies; c++) {
+			retained[c] = factory.apply(size);
+		}
+		long after = usedHeap();
+		System.out.printf("%-36s %10d %14.1f%n", name, size, (double) (after - before) / ((long) copies * size));
+		// keep the copies reachable until measured
+		if (retained[copies - 1] == null) {
+			throw new IllegalStateException();
+		}
+	}
+
+	/**
+	 * Helper method that returns the used heap after running the garbage collector.
+	 * @return the used heap in bytes
+	 */
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		long used = Long.MAX_VALUE;
+		for (int i = 0; i < 4; i++) {
+			System.gc();
+			used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+		}
+		return used;
+	}
+
+	/**
+	 * Helper method that returns a distinct value outside the Integer cache.
+	 * @param i the index of the value
+	 * @return the value
+	 */
+	private static int value(int i) {
+		return 1000 + i * 7;
+	}
+}
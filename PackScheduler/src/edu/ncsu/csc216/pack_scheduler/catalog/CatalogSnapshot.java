@@ -0,0 +1,306 @@
+package edu.ncsu.csc216.pack_scheduler.catalog;
+
+import java.util.Arrays;
+
+import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.util.IntIntHashMap;
+import edu.ncsu.csc216.pack_scheduler.util.SymbolTable;
+
+/**
+ * CatalogSnapshot is an immutable view of the Courses of a CourseCatalog at one point in time, sorted by name
+ * then section. CourseCatalog builds a new snapshot for every change to its Courses and publishes it through a
+ * volatile reference, so any number of readers can query a snapshot without locking while the registrar edits
+ * the catalog, and every query against one snapshot sees the same set of Courses. A reader that needs several
+ * queries to agree, such as a panel filling a table, takes one snapshot and queries it.
+ * <p>
+ * The snapshot fixes which Courses are in the catalog and their order, not the Courses themselves: enrollment
+ * still changes a Course's roll and open seats. Name and section lookups find the first section of a name in an
+ * IntIntHashMap from interned name symbol to array index, built on the first lookup, then compare interned
+ * section symbols. The meeting time index is built on the first time query and belongs to the
+ * snapshot; CourseCatalog publishes a new snapshot when a catalog Course's meeting days or times change, so
+ * the index of the current snapshot never goes stale.
+ *
+ * @author Maxim Shelepov
+ */
+public class CatalogSnapshot {
+	/** Snapshot of an empty catalog */
+	static final CatalogSnapshot EMPTY = new CatalogSnapshot(new Course[0]);
+
+	/** Courses of the snapshot, sorted by name then section */
+	private final Course[] courses;
+	/** Index of the Courses by meeting day and time, or null until the first time query */
+	private volatile MeetingTimeIndex timeIndex;
+	/** Index of the first section of each course name by name symbol, or null until the first name lookup */
+	private volatile IntIntHashMap firstSections;
+
+	/**
+	 * Constructs a CatalogSnapshot over a sorted array the snapshot takes ownership of.
+	 * @param courses the Courses sorted by name then section, never modified afterwards
+	 */
+	CatalogSnapshot(Course[] courses) {
+		this.courses = courses;
+	}
+
+	/**
+	 * Returns a snapshot with a Course added in sort order.
+	 * @param course the Course to add
+	 * @return the new snapshot, or null if the snapshot already has a Course with the same name and section
+	 */
+	CatalogSnapshot with(Course course) {
+		int idx = Arrays.binarySearch(courses, course);
+		if (idx >= 0) {
+			return null;
+		}
+		idx = -idx - 1;
+		Course[] added = new Course[courses.length + 1];
+		System.arraycopy(courses, 0, added, 0, idx);
+		added[idx] = course;
+		System.arraycopy(courses, idx, added, idx + 1, courses.length - idx);
+		return new CatalogSnapshot(added);
+	}
+
+	/**
+	 * Returns a snapshot without the Course at an index.
+	 * @param idx the index of the Course to remove
+	 * @return the new snapshot
+	 */
+	CatalogSnapshot without(int idx) {
+		Course[] removed = new Course[courses.length - 1];
+		System.arraycopy(courses, 0, removed, 0, idx);
+		System.arraycopy(courses, idx + 1, removed, idx, courses.length - idx - 1);
+		return new CatalogSnapshot(removed);
+	}
+
+	/**
+	 * Returns the number of Courses in the snapshot.
+	 * @return the number of Courses
+	 */
+	public int size() {
+		return courses.length;
+	}
+
+	/**
+	 * Returns the Course at an index in catalog order.
+	 * @param idx the index of the Course
+	 * @return the Course
+	 * @throws IndexOutOfBoundsException if the index is out of bounds
+	 */
+	public Course get(int idx) {
+		if (idx < 0 || idx >= courses.length) {
+			throw new IndexOutOfBoundsException("Index out of bounds.");
+		}
+		return courses[idx];
+	}
+
+	/**
+	 * Returns every Course of the snapshot.
+	 * @return a new array of the Courses in catalog order
+	 */
+	public Course[] getCourses() {
+		return courses.clone();
+	}
+
+	/**
+	 * Returns the Course with the specified name and section.
+	 * @param name the name of the course
+	 * @param section the section of the course
+	 * @return the Course, or null if the snapshot has no such course
+	 */
+	public Course getCourse(String name, String section) {
+		int idx = indexOfCourse(name, section);
+		return idx == -1 ? null : courses[idx];
+	}
+
+	/**
+	 * Returns every section of the course with the specified name. See
+	 * <code>CourseCatalog.getCourseSections()</code>.
+	 * @param name the name of the course
+	 * @return the Courses with the name in section order, or an empty array if there are none
+	 */
+	public Course[] getCourseSections(String name) {
+		int nameSymbol = Course.lookupNameSymbol(name);
+		if (nameSymbol == SymbolTable.NOT_FOUND) {
+			return new Course[0];
+		}
+
+		// sections of a name are contiguous
+		int first = indexOfFirstSection(nameSymbol);
+		if (first == -1) {
+			return new Course[0];
+		}
+		int end = first;
+		while (end < courses.length && courses[end].getNameSymbol() == nameSymbol) {
+			end++;
+		}
+		return Arrays.copyOfRange(courses, first, end);
+	}
+
+	/**
+	 * Returns the Courses whose names start with the prefix. See <code>CourseCatalog.getCoursesWithPrefix()</code>.
+	 * @param prefix the start of the course names
+	 * @return the matching Courses in catalog order, or an empty array if there are none
+	 * @throws IllegalArgumentException if prefix is null
+	 */
+	public Course[] getCoursesWithPrefix(String prefix) {
+		if (prefix == null) {
+			throw new IllegalArgumentException("Invalid prefix.");
+		}
+
+		int first = indexOfFirstAtOrAfter(prefix);
+		int end = first;
+		while (end < courses.length && courses[end].getName().startsWith(prefix)) {
+			end++;
+		}
+		return Arrays.copyOfRange(courses, first, end);
+	}
+
+	/**
+	 * Returns the Courses of a department. See <code>CourseCatalog.getDepartmentCourses()</code>.
+	 * @param department the department prefix of the course names
+	 * @return the department's Courses in catalog order, or an empty array if there are none
+	 * @throws IllegalArgumentException if department is null
+	 */
+	public Course[] getDepartmentCourses(String department) {
+		if (department == null) {
+			throw new IllegalArgumentException("Invalid department.");
+		}
+		int departmentSymbol = Course.lookupDepartmentSymbol(department);
+		if (departmentSymbol == SymbolTable.NOT_FOUND) {
+			return new Course[0];
+		}
+
+		// digits sort before letters, so the department's names come first among the names with its prefix
+		int first = indexOfFirstAtOrAfter(department);
+		int end = first;
+		while (end < courses.length && courses[end].getDepartmentSymbol() == departmentSymbol) {
+			end++;
+		}
+		return Arrays.copyOfRange(courses, first, end);
+	}
+
+	/**
+	 * Returns the Courses with names between two names. See <code>CourseCatalog.getCoursesInRange()</code>.
+	 * @param fromName the first course name of the range
+	 * @param toName the last course name of the range
+	 * @return the Courses in the range in catalog order, or an empty array if fromName is after toName
+	 * @throws IllegalArgumentException if fromName or toName is null
+	 */
+	public Course[] getCoursesInRange(String fromName, String toName) {
+		if (fromName == null || toName == null) {
+			throw new IllegalArgumentException("Invalid course name.");
+		}
+		if (fromName.compareTo(toName) > 0) {
+			return new Course[0];
+		}
+
+		int first = indexOfFirstAtOrAfter(fromName);
+		int end = first;
+		while (end < courses.length && courses[end].getName().compareTo(toName) <= 0) {
+			end++;
+		}
+		return Arrays.copyOfRange(courses, first, end);
+	}
+
+	/**
+	 * Returns the Courses meeting within a time window. See <code>CourseCatalog.getCoursesMeeting()</code>.
+	 * @param meetingDays the days to search, as a series of the chars M, T, W, H, and F
+	 * @param startTime the start of the window in military time
+	 * @param endTime the end of the window in military time
+	 * @param openSeatsOnly whether to return only Courses with open seats
+	 * @return the matching Courses in catalog order
+	 * @throws IllegalArgumentException if the days contain an invalid or repeated day, or the window is invalid
+	 */
+	public Course[] getCoursesMeeting(String meetingDays, int startTime, int endTime, boolean openSeatsOnly) {
+		MeetingTimeIndex index = timeIndex;
+		if (index == null) {
+			// racing readers may each build an index; they are equal and any one may be kept
+			index = new MeetingTimeIndex(courses);
+			timeIndex = index;
+		}
+		return index.getCourses(meetingDays, startTime, endTime, openSeatsOnly);
+	}
+
+	/**
+	 * Returns the Courses as rows of name, section, title, meeting string, and open seats. See
+	 * <code>CourseCatalog.getCourseCatalog()</code>.
+	 * @return a row for each Course in catalog order
+	 */
+	public String[][] getCourseCatalog() {
+		String[][] courseCatalog = new String[courses.length][];
+		for (int i = 0; i < courses.length; i++) {
+			// each row is a new array of the Course's cached, already formatted short display fields
+			courseCatalog[i] = courses[i].getShortDisplayArray();
+		}
+		return courseCatalog;
+	}
+
+	/**
+	 * Returns the index of the Course with the specified name and section. The first section of the name is
+	 * looked up by name symbol, then its sections are checked by interned symbol.
+	 * @param name the name of the course
+	 * @param section the section of the course
+	 * @return the index of the Course, or -1 if the snapshot has no such course
+	 */
+	int indexOfCourse(String name, String section) {
+		int nameSymbol = Course.lookupNameSymbol(name);
+		int sectionSymbol = Course.lookupSectionSymbol(section);
+		if (nameSymbol == SymbolTable.NOT_FOUND || sectionSymbol == SymbolTable.NOT_FOUND) {
+			return -1;
+		}
+
+		int first = indexOfFirstSection(nameSymbol);
+		if (first == -1) {
+			return -1;
+		}
+		for (int i = first; i < courses.length; i++) {
+			Course course = courses[i];
+			if (course.getNameSymbol() != nameSymbol) {
+				break;
+			}
+			if (course.getSectionSymbol() == sectionSymbol) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Helper method that returns the index of the first section of a course name, building the name index on the
+	 * first call. The index is complete before it is published, so concurrent readers either build their own or
+	 * see a finished one.
+	 * @param nameSymbol the interned name symbol
+	 * @return the index of the first Course with the name, or -1 if the snapshot has none
+	 */
+	private int indexOfFirstSection(int nameSymbol) {
+		IntIntHashMap index = firstSections;
+		if (index == null) {
+			index = new IntIntHashMap();
+			for (int i = 0; i < courses.length; i++) {
+				if (i == 0 || courses[i - 1].getNameSymbol() != courses[i].getNameSymbol()) {
+					index.put(courses[i].getNameSymbol(), i);
+				}
+			}
+			firstSections = index;
+		}
+		return index.get(nameSymbol, -1);
+	}
+
+	/**
+	 * Helper method that binary searches for the first Course whose name is not before the given name.
+	 * @param name the name to search for
+	 * @return the index of the first Course with a name at or after the given name, or the size if none
+	 */
+	private int indexOfFirstAtOrAfter(String name) {
+		int low = 0;
+		int high = courses.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (courses[mid].getName().compareTo(name) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+}
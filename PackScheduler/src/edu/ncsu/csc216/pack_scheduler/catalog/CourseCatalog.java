@@ -7,53 +7,96 @@
 package edu.ncsu.csc216.pack_scheduler.catalog;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.Arrays;
+import edu.ncsu.csc216.pack_scheduler.course.ConflictMatrix;
 import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.course.roll.CourseRoll;
+import edu.ncsu.csc216.pack_scheduler.course.roll.EnrollResult;
 import edu.ncsu.csc216.pack_scheduler.io.CourseRecordIO;
-import edu.ncsu.csc217.collections.list.SortedList;
+import edu.ncsu.csc216.pack_scheduler.user.Student;
+import edu.ncsu.csc216.pack_scheduler.user.schedule.Schedule;
+import edu.ncsu.csc216.pack_scheduler.util.BTreeSortedList;
 
 /**
  * The CourseCatalog class manages a list of courses and provides various
- * methods for interacting with a SortedList of catalog Courses.
+ * methods for interacting with a sorted catalog of Courses.
  * 
- * The class encapsulates the Course SortedList catalog. Provides add, remove, get behavior for
+ * The class encapsulates the sorted Course catalog. Provides add, remove, get behavior for
  * a catalog Course. In addition, global behavior of resetting, saving, and loading in Course catalog.
  * 
+ * Catalog Courses are indexed in a ConflictMatrix kept in step with the catalog, so schedule conflict checks
+ * between catalog Courses are lookups, and in an OpenSeatIndex that follows enrollment so open seat queries and
+ * seat notifications don't require reloading the catalog.
+ * 
+ * The Courses themselves are held in an immutable CatalogSnapshot. Every change builds a new snapshot and
+ * publishes it through a volatile field, so the lookups and range queries never lock and each one sees a
+ * consistent catalog even while the registrar edits it. Changes are synchronized with each other; readers
+ * needing several queries to agree can take <code>getSnapshot()</code> once. Changing the meeting days or times
+ * of a catalog Course also publishes a new snapshot, so time queries never use a stale meeting time index.
+ * Open seats change with enrollment rather than with the catalog, so open seat queries read the OpenSeatIndex
+ * under the index's own lock instead of a snapshot.
+ * 
  * @author Eswar Talasila
  */
 
 public class CourseCatalog {
-	/** Catalog of Courses */
-	private SortedList<Course> catalog;
+	/** Current Courses of the catalog, replaced as a whole on every change */
+	private volatile CatalogSnapshot catalog;
+	/** Meeting conflicts between the catalog Courses */
+	private ConflictMatrix conflicts = new ConflictMatrix();
+	/** Open seats of the catalog Courses */
+	private OpenSeatIndex seatIndex = new OpenSeatIndex();
 	
 	/**
      * Constructs a new CourseCatalog with an empty catalog.
      */
 	public CourseCatalog() {
+		conflicts.setMeetingListener(c -> republish());
 		newCourseCatalog();
 		
 	}
 	
 	/**
-     * Initializes the catalog as a new empty SortedList.
+     * Initializes the catalog as a new empty catalog.
      */
-	public void newCourseCatalog() {
-		catalog = new SortedList<Course>();
+	public synchronized void newCourseCatalog() {
+		catalog = CatalogSnapshot.EMPTY;
+		conflicts.clear();
+		seatIndex.clear();
 		
 	}
 	
+	/**
+	 * Publishes a new snapshot of the same Courses, dropping the meeting time index built for the old one.
+	 */
+	private synchronized void republish() {
+		catalog = new CatalogSnapshot(catalog.getCourses());
+	}
+	
 	/**
      * Loads courses from a file into the catalog.
      *
      * @param fileName the name of the file to load courses from
      * @throws IllegalArgumentException if the specified file cannot be found
      */
-	public void loadCoursesFromFile(String fileName) {
-		
+	public synchronized void loadCoursesFromFile(String fileName) {
+		BTreeSortedList<Course> courses;
 		try {
-			catalog = CourseRecordIO.readCourseRecords(fileName);
+			courses = CourseRecordIO.readCourseRecords(fileName);
 		} catch (FileNotFoundException e) {
 			throw new IllegalArgumentException("Cannot find file.");
 		}
+		
+		Course[] loaded = new Course[courses.size()];
+		conflicts.clear();
+		seatIndex.clear();
+		int i = 0;
+		for (Course c : courses) {
+			loaded[i++] = c;
+			conflicts.add(c);
+			seatIndex.add(c);
+		}
+		catalog = new CatalogSnapshot(loaded);
 
 		
 	}
@@ -77,18 +120,21 @@ public class CourseCatalog {
      * @return true if the addition of the course to the catalog is successful, false otherwise.
      * @throws IllegalArgumentException if a course with the same name already exists in the catalog or if there is a scheduling conflict                            
      */
-	public boolean addCourseToCatalog(String name, String title, String section, int credits, String instructorId, int enrollmentCap, String meetingDays, int startTime, int endTime) {
+	public synchronized boolean addCourseToCatalog(String name, String title, String section, int credits, String instructorId, int enrollmentCap, String meetingDays, int startTime, int endTime) {
 		// check if course exists in catalog
-		//Course catalogCourse = null;
-		for (int i = 0; i < catalog.size(); i++) {
-			Course course = catalog.get(i);
-			if (name.equals(course.getName()) && section.equals(course.getSection())) {
-				//catalogCourse = course;
-				return false;
-			}
+		if (catalog.indexOfCourse(name, section) != -1) {
+			return false;
 		}
 
-		return catalog.add(new Course(name, title, section, credits, instructorId, enrollmentCap, meetingDays, startTime, endTime)); // add course to the end of the schedule and return true on success
+		Course course = new Course(name, title, section, credits, instructorId, enrollmentCap, meetingDays, startTime, endTime);
+		CatalogSnapshot added = catalog.with(course);
+		if (added == null) {
+			return false;
+		}
+		conflicts.add(course);
+		seatIndex.add(course);
+		catalog = added;
+		return true;
 	}
 	
 	/**
@@ -97,15 +143,17 @@ public class CourseCatalog {
      * @param section the section of the course to remove
      * @return true if the removal of the course was successful, false otherwise
      */
-	public boolean removeCourseFromCatalog(String name, String section) {
-		for (int i = 0; i < catalog.size(); i++) {
-			Course course = catalog.get(i);
-			if (name.equals(course.getName()) && section.equals(course.getSection())) {
-				catalog.remove(i);
-				return true;
-			}
+	public synchronized boolean removeCourseFromCatalog(String name, String section) {
+		CatalogSnapshot current = catalog;
+		int idx = current.indexOfCourse(name, section);
+		if (idx == -1) {
+			return false;
 		}
-		return false;
+		Course course = current.get(idx);
+		catalog = current.without(idx);
+		conflicts.remove(course);
+		seatIndex.remove(course);
+		return true;
 	}
 	
 	/**
@@ -115,32 +163,273 @@ public class CourseCatalog {
      * @return the Course object from the catalog identified uniquely by the name and section parameters, or null if the course doesn't exist
      */
 	public Course getCourseFromCatalog(String name, String section) {
-		for (int i = 0; i < catalog.size(); i++) {
-			Course course = catalog.get(i);
-			if (name.equals(course.getName()) && section.equals(course.getSection())) {
-				return course;
+		return catalog.getCourse(name, section);
+	}
+	
+	/**
+	 * Returns the current snapshot of the catalog Courses. The snapshot never changes, so several queries against
+	 * it agree with each other even if the catalog is edited in between.
+	 * @return the current snapshot
+	 */
+	public CatalogSnapshot getSnapshot() {
+		return catalog;
+	}
+	
+	/**
+	 * Returns every section of the course with the specified name, in section order.
+	 * @param name the name of the course
+	 * @return the catalog Courses with the name, or an empty array if there are none
+	 */
+	public Course[] getCourseSections(String name) {
+		return catalog.getCourseSections(name);
+	}
+	
+	/**
+	 * Returns the catalog Courses whose names start with the prefix, for example all "CSC" courses, in
+	 * catalog order. The range is found by binary search, so only the matching Courses are visited.
+	 * @param prefix the start of the course names
+	 * @return the matching catalog Courses, or an empty array if there are none
+	 * @throws IllegalArgumentException if prefix is null
+	 */
+	public Course[] getCoursesWithPrefix(String prefix) {
+		return catalog.getCoursesWithPrefix(prefix);
+	}
+	
+	/**
+	 * Returns the catalog Courses of a department, the Courses whose names are the department's letters followed
+	 * by digits. Unlike a prefix query for "CS", the department "CS" does not include "CSC" courses.
+	 * @param department the department prefix of the course names
+	 * @return the department's catalog Courses in catalog order, or an empty array if there are none
+	 * @throws IllegalArgumentException if department is null
+	 */
+	public Course[] getDepartmentCourses(String department) {
+		return catalog.getDepartmentCourses(department);
+	}
+	
+	/**
+	 * Returns the catalog Courses with names between two names, including every section of both end names, for
+	 * example all Courses from "CSC216" to "CSC316".
+	 * @param fromName the first course name of the range
+	 * @param toName the last course name of the range
+	 * @return the catalog Courses in the range in catalog order, or an empty array if fromName is after toName
+	 * @throws IllegalArgumentException if fromName or toName is null
+	 */
+	public Course[] getCoursesInRange(String fromName, String toName) {
+		return catalog.getCoursesInRange(fromName, toName);
+	}
+	
+	/**
+	 * Returns the catalog Courses that meet on at least one of the given days with their whole meeting time
+	 * inside the window, for example sections meeting "MW" between 900 and 1200. Arranged Courses are never
+	 * returned. The query uses a per-day index sorted by start time, built on the first query against each
+	 * snapshot of the catalog.
+	 * @param meetingDays the days to search, as a series of the chars M, T, W, H, and F
+	 * @param startTime the start of the window in military time
+	 * @param endTime the end of the window in military time
+	 * @param openSeatsOnly whether to return only Courses with open seats
+	 * @return the matching Courses in catalog order
+	 * @throws IllegalArgumentException if the days contain an invalid or repeated day, or the window is invalid
+	 */
+	public Course[] getCoursesMeeting(String meetingDays, int startTime, int endTime, boolean openSeatsOnly) {
+		return catalog.getCoursesMeeting(meetingDays, startTime, endTime, openSeatsOnly);
+	}
+	
+	/**
+	 * Returns the catalog Courses with at least the given number of open seats, from the OpenSeatIndex rather
+	 * than a scan of the catalog. The query briefly holds the index's lock, which enrollment changes also take.
+	 * @param minOpenSeats the least number of open seats
+	 * @return the Courses, most open seats first and in catalog order for equal open seats
+	 * @throws IllegalArgumentException if minOpenSeats is negative
+	 */
+	public Course[] getCoursesWithOpenSeats(int minOpenSeats) {
+		return seatIndex.getCoursesWithOpenSeats(minOpenSeats);
+	}
+	
+	/**
+	 * Starts notifying a watcher when the catalog Course with the specified name and section goes from full to
+	 * having an open seat.
+	 * @param name the name of the course
+	 * @param section the section of the course
+	 * @param watcher the watcher to notify
+	 * @throws IllegalArgumentException if the course is not in the catalog or the watcher is null
+	 */
+	public void watchCourse(String name, String section, SeatWatcher watcher) {
+		Course course = getCourseFromCatalog(name, section);
+		if (course == null) {
+			throw new IllegalArgumentException("Course not in catalog.");
+		}
+		seatIndex.watch(course, watcher);
+	}
+	
+	/**
+	 * Stops notifying a watcher about the catalog Course with the specified name and section.
+	 * @param name the name of the course
+	 * @param section the section of the course
+	 * @param watcher the watcher to stop notifying
+	 * @return true if the watcher was watching the course
+	 */
+	public boolean unwatchCourse(String name, String section, SeatWatcher watcher) {
+		Course course = getCourseFromCatalog(name, section);
+		return course != null && seatIndex.unwatch(course, watcher);
+	}
+	
+	/**
+	 * Moves every enrolled and waitlisted student of one section of a course to another section, as when two
+	 * sections are merged. Enrolled students are moved first, then waitlisted students in waitlist order. Each
+	 * student's schedule is re-checked in one pass with the source section swapped for the target, using the
+	 * catalog's conflict matrix. A student who fits gets a seat in the target if one is open; a waitlisted student
+	 * who fits may instead join the target's waitlist, but an enrolled student is never traded a seat for a place on
+	 * a waitlist and stays seated in the source when the target is full. Students who cannot be moved stay in the
+	 * source section and are listed in the report with the reason: DUPLICATE if they are already on the target's
+	 * roll or waitlist, SECTION_FULL or WAITLIST_FULL if the target has no room for them, SCHEDULE_CONFLICT, or
+	 * OVER_CREDITS. The moved students leave the source with a single drop pass,
+	 * which promotes its waitlisted students into the freed seats.
+	 * @param name the name of the course
+	 * @param fromSection the section to move students from
+	 * @param toSection the section to move students to
+	 * @return the report of moved and failed students
+	 * @throws IllegalArgumentException if either section is not in the catalog or the sections are the same
+	 */
+	public synchronized MigrationReport migrateSection(String name, String fromSection, String toSection) {
+		Course source = getCourseFromCatalog(name, fromSection);
+		Course target = getCourseFromCatalog(name, toSection);
+		if (source == null || target == null || source == target) {
+			throw new IllegalArgumentException("Invalid sections.");
+		}
+		return migrate(source, target, false);
+	}
+	
+	/**
+	 * Cancels a section of a course: its students are moved to another section as by <code>migrateSection()</code>,
+	 * students who cannot be moved are dropped, and the section is removed from the catalog and from every
+	 * student's schedule. Every student who is dropped, moved or not, is reported as SECTION_CANCELLED, as the
+	 * cancellation is why they lost the section. The section's waitlist is not promoted into seats freed by the
+	 * moved students, as the
+	 * section is about to be removed.
+	 * @param name the name of the course
+	 * @param section the section to cancel
+	 * @param toSection the section to move students to, or null to drop every student
+	 * @return the report of moved and dropped students
+	 * @throws IllegalArgumentException if the section or the target section is not in the catalog, or they are the same
+	 */
+	public synchronized MigrationReport cancelSection(String name, String section, String toSection) {
+		Course source = getCourseFromCatalog(name, section);
+		if (source == null) {
+			throw new IllegalArgumentException("Invalid sections.");
+		}
+		
+		MigrationReport report;
+		if (toSection == null) {
+			report = new MigrationReport(source, null);
+		} else {
+			Course target = getCourseFromCatalog(name, toSection);
+			if (target == null || source == target) {
+				throw new IllegalArgumentException("Invalid sections.");
 			}
+			// the moved students are dropped with everyone else below, so the waitlist is never promoted
+			report = migrate(source, target, true);
 		}
-
-		return null;
+		
+		CourseRoll roll = source.getCourseRoll();
+		Student[] enrolled = roll.getEnrolledStudents();
+		Student[] waiting = roll.getWaitlist();
+		Student[] remaining = new Student[enrolled.length + waiting.length];
+		System.arraycopy(enrolled, 0, remaining, 0, enrolled.length);
+		System.arraycopy(waiting, 0, remaining, enrolled.length, waiting.length);
+		for (Student s : remaining) {
+			s.getSchedule().removeCourseFromSchedule(source);
+			if (toSection == null) {
+				report.addFailure(s, MigrationReport.SECTION_CANCELLED);
+			}
+		}
+		roll.dropAll(remaining);
+		
+		removeCourseFromCatalog(name, section);
+		return report;
 	}
 	
 	/**
-     * Returns the course catalog as a 2-dimensional String array with rows for each catalog course and columns for name, section, title, and meeting string.
+	 * Helper method that moves the students of the source section to the target section.
+	 * @param source the section to move students from
+	 * @param target the section to move students to
+	 * @param cancelling true if the source is being cancelled: students who can't be moved are reported as
+	 * SECTION_CANCELLED and the caller drops every student; otherwise the moved students are dropped from the
+	 * source, promoting its waitlist
+	 * @return the report of moved and failed students
+	 */
+	private MigrationReport migrate(Course source, Course target, boolean cancelling) {
+		MigrationReport report = new MigrationReport(source, target);
+		CourseRoll from = source.getCourseRoll();
+		CourseRoll to = target.getCourseRoll();
+		
+		Student[] enrolled = from.getEnrolledStudents();
+		Student[] waiting = from.getWaitlist();
+		Student[] moved = new Student[enrolled.length + waiting.length];
+		int numMoved = 0;
+		for (int i = 0; i < moved.length; i++) {
+			Student s = i < enrolled.length ? enrolled[i] : waiting[i - enrolled.length];
+			Schedule schedule = s.getSchedule();
+			
+			String reason = rosterFailure(to.checkEnroll(s), i < enrolled.length);
+			if (reason == null && !schedule.canReplace(source, target, Integer.MAX_VALUE)) {
+				reason = MigrationReport.SCHEDULE_CONFLICT;
+			} else if (reason == null && !schedule.canReplace(source, target, s.getMaxCredits())) {
+				reason = MigrationReport.OVER_CREDITS;
+			}
+			
+			if (reason != null) {
+				report.addFailure(s, cancelling ? MigrationReport.SECTION_CANCELLED : reason);
+			} else {
+				boolean seated = to.getOpenSeats() > 0;
+				to.enroll(s);
+				schedule.removeCourseFromSchedule(source);
+				schedule.addCourseToSchedule(target);
+				report.addMoved(seated);
+				moved[numMoved++] = s;
+			}
+		}
+		
+		if (!cancelling) {
+			from.dropAll(Arrays.copyOf(moved, numMoved));
+		}
+		return report;
+	}
+	
+	/**
+	 * Helper method that returns why the target's roll can't take a student being migrated.
+	 * @param result the target roll's answer to enrolling the student
+	 * @param seatedInSource whether the student has a seat in the source, and so only moves for a seat
+	 * @return the MigrationReport failure reason, or null if the roll can take the student
+	 */
+	private static String rosterFailure(EnrollResult result, boolean seatedInSource) {
+		switch (result) {
+		case ENROLLED:
+			return null;
+		case WAITLISTED:
+			return seatedInSource ? MigrationReport.SECTION_FULL : null;
+		case DUPLICATE:
+			return MigrationReport.DUPLICATE;
+		case WAITLIST_FULL:
+			return seatedInSource ? MigrationReport.SECTION_FULL : MigrationReport.WAITLIST_FULL;
+		default:
+			return MigrationReport.SECTION_FULL;
+		}
+	}
+	
+	/**
+	 * Returns the ConflictMatrix indexing the meeting conflicts between the catalog Courses.
+	 * @return the catalog's ConflictMatrix
+	 */
+	public ConflictMatrix getConflictMatrix() {
+		return conflicts;
+	}
+	
+	/**
+     * Returns the course catalog as a 2-dimensional String array with rows for each catalog course and columns for name, section, title, meeting string, and open seats.
      * @return a 2-dimensional String array representing the course catalog
      */
 	public String[][] getCourseCatalog() {
-		String[][] courseCatalog = new String[catalog.size()][5];
-
-		for (int i = 0; i < catalog.size(); i++) {
-			courseCatalog[i][0] = catalog.get(i).getName();
-			courseCatalog[i][1] = catalog.get(i).getSection();
-			courseCatalog[i][2] = catalog.get(i).getTitle();
-			courseCatalog[i][3] = catalog.get(i).getMeetingString();
-			courseCatalog[i][4] = String.valueOf(catalog.get(i).getCourseRoll().getOpenSeats());
-		}
-		
-		return courseCatalog;
+		return catalog.getCourseCatalog();
 	}
 	
 	/**
@@ -151,7 +440,7 @@ public class CourseCatalog {
 	
 	public void saveCourseCatalog(String fileName) {
 		try {
-			CourseRecordIO.writeCourseRecords(fileName, catalog);
+			CourseRecordIO.writeCourseRecords(fileName, catalog.getCourses());
 		} catch (IOException e) {
 			throw new IllegalArgumentException("The file cannot be saved.");
 		}
@@ -0,0 +1,169 @@
+package edu.ncsu.csc216.pack_scheduler.catalog;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import edu.ncsu.csc216.pack_scheduler.course.Course;
+
+/**
+ * MeetingTimeIndex answers which Courses meet on given days within a time window. For each weekday it keeps the
+ * Courses meeting that day sorted by start time, so a query binary searches to the first Course starting in the
+ * window and scans only the Courses starting before the window ends. Arranged Courses have no meeting time and
+ * are never returned.
+ * <p>
+ * An index is a snapshot of the Courses it was built from. CourseCatalog rebuilds its index on the first query
+ * after the catalog changes.
+ *
+ * @author Maxim Shelepov
+ */
+public class MeetingTimeIndex {
+	/** Weekdays a Course may meet on, in index order */
+	private static final String DAYS = "MTWHF";
+	/** Latest valid hour of a time */
+	private static final int UPPER_HOUR = 23;
+	/** Latest valid minute of a time */
+	private static final int UPPER_MINUTE = 59;
+	/** Orders Courses by start time */
+	private static final Comparator<Course> BY_START_TIME = new Comparator<Course>() {
+		@Override
+		public int compare(Course a, Course b) {
+			return Integer.compare(a.getStartTime(), b.getStartTime());
+		}
+	};
+
+	/** Courses meeting on each weekday, sorted by start time */
+	private final Course[][] byDay;
+
+	/**
+	 * Constructs a MeetingTimeIndex over the given Courses.
+	 * @param courses the Courses to index
+	 * @throws IllegalArgumentException if courses is null
+	 */
+	public MeetingTimeIndex(Course[] courses) {
+		if (courses == null) {
+			throw new IllegalArgumentException("Invalid courses.");
+		}
+
+		int[] counts = new int[DAYS.length()];
+		for (Course c : courses) {
+			String meetingDays = c.getMeetingDays();
+			for (int i = 0; i < meetingDays.length(); i++) {
+				int day = DAYS.indexOf(meetingDays.charAt(i));
+				if (day != -1) {
+					counts[day]++;
+				}
+			}
+		}
+
+		byDay = new Course[DAYS.length()][];
+		for (int day = 0; day < byDay.length; day++) {
+			byDay[day] = new Course[counts[day]];
+			counts[day] = 0;
+		}
+		for (Course c : courses) {
+			String meetingDays = c.getMeetingDays();
+			for (int i = 0; i < meetingDays.length(); i++) {
+				int day = DAYS.indexOf(meetingDays.charAt(i));
+				if (day != -1) {
+					byDay[day][counts[day]++] = c;
+				}
+			}
+		}
+		for (Course[] dayCourses : byDay) {
+			Arrays.sort(dayCourses, BY_START_TIME);
+		}
+	}
+
+	/**
+	 * Returns the Courses that meet on at least one of the given days and whose meeting time lies within the
+	 * window, both ends inclusive.
+	 * @param meetingDays the days to search, as a series of the chars M, T, W, H, and F
+	 * @param startTime the start of the window in military time
+	 * @param endTime the end of the window in military time
+	 * @param openSeatsOnly whether to return only Courses with open seats
+	 * @return the matching Courses in catalog order (by name then section)
+	 * @throws IllegalArgumentException if the days contain an invalid or repeated day, or the window is invalid
+	 */
+	public Course[] getCourses(String meetingDays, int startTime, int endTime, boolean openSeatsOnly) {
+		if (meetingDays == null || meetingDays.length() == 0) {
+			throw new IllegalArgumentException("Invalid meeting days.");
+		}
+		int[] days = new int[meetingDays.length()];
+		for (int i = 0; i < days.length; i++) {
+			days[i] = DAYS.indexOf(meetingDays.charAt(i));
+			if (days[i] == -1 || meetingDays.indexOf(meetingDays.charAt(i)) != i) {
+				throw new IllegalArgumentException("Invalid meeting days.");
+			}
+		}
+		if (!isValidTime(startTime) || !isValidTime(endTime) || startTime > endTime) {
+			throw new IllegalArgumentException("Invalid time window.");
+		}
+
+		Course[] found = new Course[0];
+		int count = 0;
+		for (int d = 0; d < days.length; d++) {
+			Course[] dayCourses = byDay[days[d]];
+			for (int i = firstStartingAtOrAfter(dayCourses, startTime); i < dayCourses.length
+					&& dayCourses[i].getStartTime() <= endTime; i++) {
+				Course c = dayCourses[i];
+				if (c.getEndTime() <= endTime && !meetsOnEarlierDay(c, meetingDays, d)
+						&& (!openSeatsOnly || c.getCourseRoll().getOpenSeats() > 0)) {
+					if (count == found.length) {
+						found = Arrays.copyOf(found, Math.max(8, count * 2));
+					}
+					found[count++] = c;
+				}
+			}
+		}
+
+		Course[] result = Arrays.copyOf(found, count);
+		Arrays.sort(result);
+		return result;
+	}
+
+	/**
+	 * Helper method that binary searches a day's Courses for the first one starting at or after a time.
+	 * @param dayCourses the Courses of the day, sorted by start time
+	 * @param time the time to search for
+	 * @return the index of the first Course starting at or after the time, or the length if there is none
+	 */
+	private static int firstStartingAtOrAfter(Course[] dayCourses, int time) {
+		int low = 0;
+		int high = dayCourses.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (dayCourses[mid].getStartTime() < time) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Helper method that returns whether a Course meets on one of the query days before the given one, in which
+	 * case it was already found on that day.
+	 * @param c the Course to check
+	 * @param meetingDays the query days
+	 * @param d the index of the current query day
+	 * @return true if the Course meets on an earlier query day
+	 */
+	private static boolean meetsOnEarlierDay(Course c, String meetingDays, int d) {
+		for (int i = 0; i < d; i++) {
+			if (c.getMeetingDays().indexOf(meetingDays.charAt(i)) != -1) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Helper method that checks a military time.
+	 * @param time the time to check
+	 * @return true if the hour and minute are in range
+	 */
+	private static boolean isValidTime(int time) {
+		return time >= 0 && time / 100 <= UPPER_HOUR && time % 100 <= UPPER_MINUTE;
+	}
+}
@@ -0,0 +1,131 @@
+package edu.ncsu.csc216.pack_scheduler.catalog;
+
+import java.util.ArrayList;
+
+import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.user.Student;
+
+/**
+ * MigrationReport describes the result of moving the students of one section to another with
+ * <code>CourseCatalog.migrateSection()</code> or <code>CourseCatalog.cancelSection()</code>: how many students
+ * were moved onto the target's roll or waitlist, and which students could not be moved and why.
+ *
+ * @author Maxim Shelepov
+ */
+public class MigrationReport {
+	/** Failure reason for a student the target section has no seat, or no room at all, for */
+	public static final String SECTION_FULL = "Section full.";
+	/** Failure reason for a waitlisted student the target section's full waitlist has no room for */
+	public static final String WAITLIST_FULL = "Waitlist full.";
+	/** Failure reason for a student already on the target section's roll or waitlist */
+	public static final String DUPLICATE = "Already in section.";
+	/** Failure reason for a student the target section would put over their credit limit */
+	public static final String OVER_CREDITS = "Over credit limit.";
+	/** Failure reason for a student whose schedule conflicts with the target section */
+	public static final String SCHEDULE_CONFLICT = "Schedule conflict.";
+	/** Failure reason for a student dropped from a cancelled section without a target */
+	public static final String SECTION_CANCELLED = "Section cancelled.";
+
+	/** Section the students were moved from */
+	private Course source;
+	/** Section the students were moved to, or null if there is none */
+	private Course target;
+	/** Number of students moved onto the target's roll */
+	private int numEnrolled;
+	/** Number of students moved onto the target's waitlist */
+	private int numWaitlisted;
+	/** Students who could not be moved */
+	private ArrayList<Student> failed;
+	/** Reason each student could not be moved */
+	private ArrayList<String> reasons;
+
+	/**
+	 * Constructs an empty MigrationReport.
+	 * @param source the section the students are moved from
+	 * @param target the section the students are moved to, or null if there is none
+	 */
+	MigrationReport(Course source, Course target) {
+		this.source = source;
+		this.target = target;
+		failed = new ArrayList<Student>();
+		reasons = new ArrayList<String>();
+	}
+
+	/**
+	 * Records a student moved to the target section.
+	 * @param enrolled true if the student got a seat, false if they were waitlisted
+	 */
+	void addMoved(boolean enrolled) {
+		if (enrolled) {
+			numEnrolled++;
+		} else {
+			numWaitlisted++;
+		}
+	}
+
+	/**
+	 * Records a student who could not be moved.
+	 * @param student the student
+	 * @param reason why the student could not be moved
+	 */
+	void addFailure(Student student, String reason) {
+		failed.add(student);
+		reasons.add(reason);
+	}
+
+	/**
+	 * Returns the section the students were moved from.
+	 * @return the source section
+	 */
+	public Course getSource() {
+		return source;
+	}
+
+	/**
+	 * Returns the section the students were moved to.
+	 * @return the target section, or null if the students were not moved
+	 */
+	public Course getTarget() {
+		return target;
+	}
+
+	/**
+	 * Returns the number of students moved onto the target section's roll.
+	 * @return the number of students enrolled in the target
+	 */
+	public int getNumberEnrolled() {
+		return numEnrolled;
+	}
+
+	/**
+	 * Returns the number of students moved onto the target section's waitlist.
+	 * @return the number of students waitlisted in the target
+	 */
+	public int getNumberWaitlisted() {
+		return numWaitlisted;
+	}
+
+	/**
+	 * Returns the number of students who could not be moved.
+	 * @return the number of failures
+	 */
+	public int getNumberFailed() {
+		return failed.size();
+	}
+
+	/**
+	 * Returns the students who could not be moved, enrolled students first, then waitlisted students.
+	 * @return array of the students
+	 */
+	public Student[] getFailedStudents() {
+		return failed.toArray(new Student[failed.size()]);
+	}
+
+	/**
+	 * Returns why each student could not be moved, in the order of <code>getFailedStudents()</code>.
+	 * @return array of the failure reasons
+	 */
+	public String[] getFailureReasons() {
+		return reasons.toArray(new String[reasons.size()]);
+	}
+}
@@ -0,0 +1,254 @@
+package edu.ncsu.csc216.pack_scheduler.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.course.roll.CourseRoll;
+import edu.ncsu.csc216.pack_scheduler.course.roll.RollListener;
+
+/**
+ * OpenSeatIndex tracks the open seats of a set of Courses as students enroll and drop, and notifies SeatWatchers
+ * when a watched Course goes from full to open.
+ * <p>
+ * Courses are kept in one bucket per open seat count, from 0 to <code>CourseRoll.MAX_ENROLLMENT</code>, with a
+ * bitset of the non-empty buckets. The index listens to each Course's CourseRoll, so a roll change moves the Course
+ * between two buckets in constant time, and a query for Courses with at least k open seats visits only the
+ * non-empty buckets at or above k.
+ * <p>
+ * Roll changes reach the index from whichever thread enrolls or drops a student, outside the catalog's writer
+ * lock, so every method that reads or changes the buckets, counts, or watchers holds the index's own lock.
+ * Watchers are notified after the lock is released, so a watcher may query or change the index.
+ *
+ * @author Maxim Shelepov
+ */
+public class OpenSeatIndex implements RollListener {
+	/** Courses by open seat count */
+	private Set<Course>[] buckets;
+	/** Bitset of the non-empty buckets */
+	private long[] nonEmpty;
+	/** Open seat count each indexed Course is bucketed under */
+	private Map<Course, Integer> seatCounts;
+	/** Watchers of each watched Course */
+	private Map<Course, List<SeatWatcher>> watchers;
+
+	/**
+	 * Constructs an empty OpenSeatIndex.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public OpenSeatIndex() {
+		buckets = new Set[CourseRoll.MAX_ENROLLMENT + 1];
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = Collections.newSetFromMap(new IdentityHashMap<Course, Boolean>());
+		}
+		nonEmpty = new long[(buckets.length + 63) / 64];
+		seatCounts = new IdentityHashMap<Course, Integer>();
+		watchers = new IdentityHashMap<Course, List<SeatWatcher>>();
+	}
+
+	/**
+	 * Adds a Course to the index and starts listening to its CourseRoll.
+	 * @param course the Course to index
+	 * @throws IllegalArgumentException if course is null or its roll already has a listener
+	 */
+	public synchronized void add(Course course) {
+		if (course == null || course.getCourseRoll().getRollListener() != null) {
+			throw new IllegalArgumentException("Invalid course.");
+		}
+
+		int openSeats = course.getCourseRoll().getOpenSeats();
+		seatCounts.put(course, openSeats);
+		addToBucket(course, openSeats);
+		course.getCourseRoll().setRollListener(this);
+	}
+
+	/**
+	 * Removes a Course from the index, stops listening to its CourseRoll, and drops its watchers.
+	 * @param course the Course to remove
+	 * @return true if the Course was indexed and removed, false otherwise
+	 */
+	public synchronized boolean remove(Course course) {
+		Integer openSeats = seatCounts.remove(course);
+		if (openSeats == null) {
+			return false;
+		}
+
+		removeFromBucket(course, openSeats);
+		course.getCourseRoll().setRollListener(null);
+		watchers.remove(course);
+		return true;
+	}
+
+	/**
+	 * Removes every Course from the index.
+	 */
+	public synchronized void clear() {
+		for (Course course : seatCounts.keySet()) {
+			course.getCourseRoll().setRollListener(null);
+		}
+		for (Set<Course> bucket : buckets) {
+			bucket.clear();
+		}
+		Arrays.fill(nonEmpty, 0);
+		seatCounts.clear();
+		watchers.clear();
+	}
+
+	/**
+	 * Returns the number of indexed Courses.
+	 * @return the number of Courses
+	 */
+	public synchronized int size() {
+		return seatCounts.size();
+	}
+
+	/**
+	 * Returns the indexed Courses with at least the given number of open seats.
+	 * @param minOpenSeats the least number of open seats
+	 * @return the Courses, most open seats first and in catalog order for equal open seats
+	 * @throws IllegalArgumentException if minOpenSeats is negative
+	 */
+	public synchronized Course[] getCoursesWithOpenSeats(int minOpenSeats) {
+		if (minOpenSeats < 0) {
+			throw new IllegalArgumentException("Invalid number of open seats.");
+		}
+
+		int count = 0;
+		for (int seats = nextNonEmpty(minOpenSeats); seats != -1; seats = nextNonEmpty(seats + 1)) {
+			count += buckets[seats].size();
+		}
+
+		Course[] courses = new Course[count];
+		int end = count;
+		for (int seats = nextNonEmpty(minOpenSeats); seats != -1; seats = nextNonEmpty(seats + 1)) {
+			// fill from the back so buckets with more open seats come first
+			int start = end - buckets[seats].size();
+			int idx = start;
+			for (Course course : buckets[seats]) {
+				courses[idx++] = course;
+			}
+			Arrays.sort(courses, start, end);
+			end = start;
+		}
+		return courses;
+	}
+
+	/**
+	 * Starts notifying a watcher when an indexed Course goes from full to open.
+	 * @param course the Course to watch
+	 * @param watcher the watcher to notify
+	 * @throws IllegalArgumentException if the Course is not indexed or the watcher is null
+	 */
+	public synchronized void watch(Course course, SeatWatcher watcher) {
+		if (watcher == null || !seatCounts.containsKey(course)) {
+			throw new IllegalArgumentException("Invalid watch.");
+		}
+
+		List<SeatWatcher> list = watchers.get(course);
+		if (list == null) {
+			list = new ArrayList<SeatWatcher>();
+			watchers.put(course, list);
+		}
+		if (!list.contains(watcher)) {
+			list.add(watcher);
+		}
+	}
+
+	/**
+	 * Stops notifying a watcher about a Course.
+	 * @param course the watched Course
+	 * @param watcher the watcher to stop notifying
+	 * @return true if the watcher was watching the Course
+	 */
+	public synchronized boolean unwatch(Course course, SeatWatcher watcher) {
+		List<SeatWatcher> list = watchers.get(course);
+		if (list == null || !list.remove(watcher)) {
+			return false;
+		}
+		if (list.isEmpty()) {
+			watchers.remove(course);
+		}
+		return true;
+	}
+
+	/**
+	 * Moves a Course to the bucket of its current open seat count, and notifies its watchers if it went from
+	 * full to open.
+	 * @param course the Course whose roll changed
+	 */
+	@Override
+	public void rollChanged(Course course) {
+		SeatWatcher[] notify;
+		int openSeats;
+		synchronized (this) {
+			Integer previous = seatCounts.get(course);
+			openSeats = course.getCourseRoll().getOpenSeats();
+			if (previous == null || previous == openSeats) {
+				return;
+			}
+
+			removeFromBucket(course, previous);
+			addToBucket(course, openSeats);
+			seatCounts.put(course, openSeats);
+
+			List<SeatWatcher> list = watchers.get(course);
+			if (previous != 0 || list == null) {
+				return;
+			}
+			// copy so watchers may unwatch while being notified
+			notify = list.toArray(new SeatWatcher[list.size()]);
+		}
+		for (SeatWatcher watcher : notify) {
+			watcher.seatOpened(course, openSeats);
+		}
+	}
+
+	/**
+	 * Helper method that adds a Course to a bucket.
+	 * @param course the Course
+	 * @param openSeats the bucket
+	 */
+	private void addToBucket(Course course, int openSeats) {
+		buckets[openSeats].add(course);
+		nonEmpty[openSeats >>> 6] |= 1L << openSeats;
+	}
+
+	/**
+	 * Helper method that removes a Course from a bucket.
+	 * @param course the Course
+	 * @param openSeats the bucket
+	 */
+	private void removeFromBucket(Course course, int openSeats) {
+		buckets[openSeats].remove(course);
+		if (buckets[openSeats].isEmpty()) {
+			nonEmpty[openSeats >>> 6] &= ~(1L << openSeats);
+		}
+	}
+
+	/**
+	 * Helper method that finds the first non-empty bucket at or above an open seat count.
+	 * @param from the open seat count to start at
+	 * @return the open seat count of the bucket, or -1 if there is none
+	 */
+	private int nextNonEmpty(int from) {
+		int w = from >>> 6;
+		if (w >= nonEmpty.length) {
+			return -1;
+		}
+		long bits = nonEmpty[w] & (-1L << from);
+		while (true) {
+			if (bits != 0) {
+				return (w << 6) + Long.numberOfTrailingZeros(bits);
+			}
+			if (++w == nonEmpty.length) {
+				return -1;
+			}
+			bits = nonEmpty[w];
+		}
+	}
+}
@@ -0,0 +1,354 @@
+package edu.ncsu.csc216.pack_scheduler.catalog;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.PriorityQueue;
+
+import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.user.Student;
+import edu.ncsu.csc216.pack_scheduler.user.schedule.Schedule;
+import edu.ncsu.csc216.pack_scheduler.util.IntHashSet;
+
+/**
+ * ScheduleSearch answers "what can I take?" for a Student and a wish list of course names. It enumerates every
+ * catalog section of the wished courses, keeps the sections the Student could add to their current Schedule, and
+ * searches the combinations of at most one section per course by backtracking.
+ * <p>
+ * Pairwise conflicts between candidate sections are computed once per search into bitsets, so extending a partial
+ * combination is a few word ANDs instead of repeated <code>Activity</code> conflict checks. Combinations are
+ * pruned when they go over the Student's remaining credits, and when they cannot include enough courses to beat
+ * the worst of the best results found so far.
+ * <p>
+ * Results are ranked by most courses, then most credits, then fewest waitlisted sections.
+ *
+ * @author Maxim Shelepov
+ */
+public class ScheduleSearch {
+	/** Catalog searched for sections */
+	private CourseCatalog catalog;
+
+	/** Candidate sections of the current search, grouped by course */
+	private Course[] sections;
+	/** Index of the first candidate section of each course, with a final entry equal to the number of sections */
+	private int[] groupStart;
+	/** Conflict bitset of each candidate section over all candidate sections */
+	private long[][] conflicts;
+	/** Bitset of the sections in the current partial combination */
+	private long[] chosenBits;
+	/** Sections in the current partial combination, one slot per course */
+	private int[] chosen;
+	/** Credits the Student can still add */
+	private int creditBudget;
+	/** Best results found so far, worst first */
+	private PriorityQueue<Option> best;
+	/** Maximum number of results to keep */
+	private int maxResults;
+
+	/**
+	 * Constructs a ScheduleSearch over the given catalog.
+	 * @param catalog the catalog to search for sections
+	 * @throws IllegalArgumentException if catalog is null
+	 */
+	public ScheduleSearch(CourseCatalog catalog) {
+		if (catalog == null) {
+			throw new IllegalArgumentException("Invalid catalog.");
+		}
+		this.catalog = catalog;
+	}
+
+	/**
+	 * Returns the best conflict-free combinations of sections of the wished courses that the Student could add to
+	 * their current Schedule. A combination holds at most one section of each wished course and may leave courses
+	 * out; courses the Student is already enrolled in and sections that conflict with the current Schedule, are
+	 * over the Student's remaining credits, or cannot enroll the Student are never included.
+	 *
+	 * @param student the Student to search for
+	 * @param courseNames the names of the wished courses
+	 * @param maxResults the maximum number of combinations to return
+	 * @return up to maxResults combinations, best first, or an empty array if no wished course can be added
+	 * @throws IllegalArgumentException if student or courseNames is null, or maxResults is less than 1
+	 */
+	public Option[] search(Student student, String[] courseNames, int maxResults) {
+		if (student == null || courseNames == null) {
+			throw new IllegalArgumentException("Invalid search.");
+		}
+		if (maxResults < 1) {
+			throw new IllegalArgumentException("Invalid number of results.");
+		}
+
+		Schedule schedule = student.getSchedule();
+		creditBudget = student.getMaxCredits() - schedule.getScheduleCredits();
+		collectSections(student, courseNames);
+		buildConflicts();
+
+		int numGroups = groupStart.length - 1;
+		chosen = new int[numGroups];
+		chosenBits = new long[(sections.length + 63) / 64];
+		this.maxResults = maxResults;
+		best = new PriorityQueue<Option>(maxResults, Collections.reverseOrder());
+
+		search(0, 0, 0);
+
+		Option[] results = best.toArray(new Option[best.size()]);
+		Arrays.sort(results);
+
+		// release search state
+		sections = null;
+		conflicts = null;
+		best = null;
+		return results;
+	}
+
+	/**
+	 * Helper method that collects the candidate sections of each distinct wished course. Courses without any
+	 * candidate section are left out, and repeated names are recognized by their interned name symbol.
+	 * @param student the Student to search for
+	 * @param courseNames the names of the wished courses
+	 */
+	private void collectSections(Student student, String[] courseNames) {
+		Schedule schedule = student.getSchedule();
+		Course[][] groups = new Course[courseNames.length][];
+		int numGroups = 0;
+		int numSections = 0;
+		IntHashSet wished = new IntHashSet();
+
+		for (int i = 0; i < courseNames.length; i++) {
+			Course[] all = catalog.getCourseSections(courseNames[i]);
+			if (all.length == 0 || !wished.add(all[0].getNameSymbol())) {
+				continue;
+			}
+
+			Course[] candidates = new Course[all.length];
+			int count = 0;
+			for (Course c : all) {
+				if (c.getCredits() <= creditBudget && schedule.canAdd(c) && c.getCourseRoll().canEnroll(student)) {
+					candidates[count++] = c;
+				}
+			}
+			if (count > 0) {
+				groups[numGroups++] = Arrays.copyOf(candidates, count);
+				numSections += count;
+			}
+		}
+
+		sections = new Course[numSections];
+		groupStart = new int[numGroups + 1];
+		int idx = 0;
+		for (int g = 0; g < numGroups; g++) {
+			groupStart[g] = idx;
+			for (Course c : groups[g]) {
+				sections[idx++] = c;
+			}
+		}
+		groupStart[numGroups] = idx;
+	}
+
+	/**
+	 * Helper method that computes the pairwise conflict bitsets of the candidate sections. Sections of the same
+	 * course are never combined, so only pairs from different courses are checked.
+	 */
+	private void buildConflicts() {
+		int words = (sections.length + 63) / 64;
+		conflicts = new long[sections.length][words];
+
+		for (int g = 0; g < groupStart.length - 1; g++) {
+			for (int i = groupStart[g]; i < groupStart[g + 1]; i++) {
+				for (int j = groupStart[g + 1]; j < sections.length; j++) {
+					if (sections[i].conflictsWith(sections[j])) {
+						conflicts[i][j >>> 6] |= 1L << j;
+						conflicts[j][i >>> 6] |= 1L << i;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Helper method that extends the current partial combination with each candidate section of a course, or
+	 * with no section of it, and recurses to the next course.
+	 * @param group the index of the course to choose a section of
+	 * @param count the number of sections chosen so far
+	 * @param credits the credits of the sections chosen so far
+	 */
+	private void search(int group, int count, int credits) {
+		int numGroups = groupStart.length - 1;
+		if (best.size() == maxResults && count + (numGroups - group) < best.peek().getNumberOfCourses()) {
+			// cannot reach as many courses as the worst kept result
+			return;
+		}
+
+		if (group == numGroups) {
+			if (count > 0) {
+				offer(count, credits);
+			}
+			return;
+		}
+
+		for (int s = groupStart[group]; s < groupStart[group + 1]; s++) {
+			if (credits + sections[s].getCredits() <= creditBudget && !conflictsWithChosen(s)) {
+				chosen[count] = s;
+				chosenBits[s >>> 6] |= 1L << s;
+				search(group + 1, count + 1, credits + sections[s].getCredits());
+				chosenBits[s >>> 6] &= ~(1L << s);
+			}
+		}
+
+		// leave this course out
+		search(group + 1, count, credits);
+	}
+
+	/**
+	 * Helper method that returns whether a section conflicts with any section of the current partial combination.
+	 * @param s the index of the section
+	 * @return true if the section conflicts with a chosen section
+	 */
+	private boolean conflictsWithChosen(int s) {
+		long[] row = conflicts[s];
+		for (int w = 0; w < row.length; w++) {
+			if ((row[w] & chosenBits[w]) != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Helper method that records the current complete combination if it ranks among the best found so far.
+	 * @param count the number of sections chosen
+	 * @param credits the credits of the sections chosen
+	 */
+	private void offer(int count, int credits) {
+		Course[] courses = new Course[count];
+		int waitlisted = 0;
+		for (int i = 0; i < count; i++) {
+			courses[i] = sections[chosen[i]];
+			if (courses[i].getCourseRoll().getOpenSeats() == 0) {
+				waitlisted++;
+			}
+		}
+
+		Option option = new Option(courses, credits, waitlisted);
+		if (best.size() < maxResults) {
+			best.add(option);
+		} else if (option.compareTo(best.peek()) < 0) {
+			best.poll();
+			best.add(option);
+		}
+	}
+
+	/**
+	 * Option is one conflict-free combination of sections found by a ScheduleSearch. Options are ordered best
+	 * first: most courses, then most credits, then fewest waitlisted sections, then by the sections themselves.
+	 *
+	 * @author Maxim Shelepov
+	 */
+	public static class Option implements Comparable<Option> {
+		/** Sections of the combination, in wish list order */
+		private Course[] courses;
+		/** Total credits of the sections */
+		private int credits;
+		/** Number of sections without open seats, where the Student would be waitlisted */
+		private int waitlisted;
+
+		/**
+		 * Constructs an Option.
+		 * @param courses the sections of the combination
+		 * @param credits the total credits of the sections
+		 * @param waitlisted the number of sections without open seats
+		 */
+		private Option(Course[] courses, int credits, int waitlisted) {
+			this.courses = courses;
+			this.credits = credits;
+			this.waitlisted = waitlisted;
+		}
+
+		/**
+		 * Returns the sections of the combination.
+		 * @return a copy of the sections, in wish list order
+		 */
+		public Course[] getCourses() {
+			return Arrays.copyOf(courses, courses.length);
+		}
+
+		/**
+		 * Returns the number of sections in the combination.
+		 * @return the number of courses
+		 */
+		public int getNumberOfCourses() {
+			return courses.length;
+		}
+
+		/**
+		 * Returns the total credits of the combination.
+		 * @return the credits
+		 */
+		public int getCredits() {
+			return credits;
+		}
+
+		/**
+		 * Returns the number of sections of the combination that have no open seats.
+		 * @return the number of sections where the Student would be waitlisted
+		 */
+		public int getNumberWaitlisted() {
+			return waitlisted;
+		}
+
+		/**
+		 * Returns the sections as rows of their short display arrays, like <code>Schedule.getScheduledCourses()</code>.
+		 * @return 2d array of course info
+		 */
+		public String[][] getScheduledCourses() {
+			String[][] rows = new String[courses.length][];
+			for (int i = 0; i < courses.length; i++) {
+				rows[i] = courses[i].getShortDisplayArray();
+			}
+			return rows;
+		}
+
+		/**
+		 * Compares Options so that better Options come first.
+		 * @param o the Option to compare to
+		 * @return a negative integer if this Option ranks better, zero if equal, or a positive integer if worse
+		 */
+		@Override
+		public int compareTo(Option o) {
+			if (courses.length != o.courses.length) {
+				return o.courses.length - courses.length;
+			}
+			if (credits != o.credits) {
+				return o.credits - credits;
+			}
+			if (waitlisted != o.waitlisted) {
+				return waitlisted - o.waitlisted;
+			}
+			for (int i = 0; i < courses.length; i++) {
+				int cmp = courses[i].compareTo(o.courses[i]);
+				if (cmp != 0) {
+					return cmp;
+				}
+			}
+			return 0;
+		}
+
+		/**
+		 * Generates a hash code from the sections of the combination.
+		 */
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(courses);
+		}
+
+		/**
+		 * Compares Options for equality of their sections.
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (obj == null || getClass() != obj.getClass())
+				return false;
+			return Arrays.equals(courses, ((Option) obj).courses);
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package edu.ncsu.csc216.pack_scheduler.catalog;
+
+import edu.ncsu.csc216.pack_scheduler.course.Course;
+
+/**
+ * SeatWatcher is an interface for objects notified when a watched catalog Course goes from full to having an
+ * open seat. Notifications are delivered synchronously by the enroll, drop, or enrollment cap change that opened
+ * the seat, so watchers should return quickly.
+ * 
+ * @author Maxim Shelepov
+ */
+public interface SeatWatcher {
+	/**
+	 * Called when a watched Course goes from no open seats to at least one open seat.
+	 * @param course the Course with an open seat
+	 * @param openSeats the number of open seats in the Course
+	 */
+	void seatOpened(Course course, int openSeats);
+}
@@ -28,6 +28,8 @@ public abstract class Activity implements Conflict {
 	private int startTime;
 	/** Activity ending time in military time */
 	private int endTime;
+	/** Cached meeting string, rebuilt lazily after the meeting days or times change */
+	private String meetingString;
 	/** Activity start and end times maximum hour */
 	private static final int UPPER_HOUR = 23;
 	/** Activity start and end times maximum minute */
@@ -61,6 +63,31 @@ public abstract class Activity implements Conflict {
 	 */
 	@Override
 	public void checkConflict(Activity possibleConflictingActivity) throws ConflictException {
+		if (conflictsWith(possibleConflictingActivity)) {
+			throw new ConflictException();
+		}
+ 	}
+	
+	/**
+	 * Returns whether the provided Activity is conflicting with this Activity, using the same rules as 
+	 * <code>checkConflict()</code> but without throwing an exception, for callers that test many pairs.
+	 * 
+	 * @param possibleConflictingActivity the possibly conflicting Activity with this Activity
+	 * @return true if the two Activities meet on a shared day at overlapping times, false otherwise
+	 */
+	public boolean conflictsWith(Activity possibleConflictingActivity) {
+		return meetingsOverlap(possibleConflictingActivity);
+	}
+	
+	/**
+	 * Computes whether the meeting days and times of the provided Activity overlap with this Activity's. Unlike 
+	 * <code>conflictsWith()</code>, which child classes may answer from a precomputed index, this method always 
+	 * compares the meeting fields.
+	 * 
+	 * @param possibleConflictingActivity the possibly conflicting Activity with this Activity
+	 * @return true if the two Activities meet on a shared day at overlapping times, false otherwise
+	 */
+	protected final boolean meetingsOverlap(Activity possibleConflictingActivity) {
 		String possiblyConflictingDays = possibleConflictingActivity.getMeetingDays();
 		
 		if (!"A".equals(meetingDays) || !"A".equals(possiblyConflictingDays)) {
@@ -72,14 +99,13 @@ public abstract class Activity implements Conflict {
 				}
 			}
 			
-			if (matchingDay && 
+			return matchingDay && 
 				possibleConflictingActivity.getStartTime() <= endTime && 
-				startTime <= possibleConflictingActivity.getEndTime()
-			) {
-				throw new ConflictException();
-			}
+				startTime <= possibleConflictingActivity.getEndTime();
 		}
- 	}
+		
+		return false;
+	}
 
 	/**
 	 * Should return a String array containing some identifying model objects fields to display
@@ -134,6 +160,7 @@ public abstract class Activity implements Conflict {
 		}
 		
 		this.title = title;
+		clearDisplayCache();
 	}
 
 	/**
@@ -168,11 +195,24 @@ public abstract class Activity implements Conflict {
 	 * @return meeting days with start and end time in standard time format as a String or "Arranged" in the case of 'A' meeting day
 	 */
 	public String getMeetingString() {
-		if ("A".equals(meetingDays)) {
-			return "Arranged";
+		if (meetingString == null) {
+			if ("A".equals(meetingDays)) {
+				meetingString = "Arranged";
+			} else {
+				meetingString = meetingDays + " " + getTimeString(startTime) + "-" + getTimeString(endTime);
+			}
 		}
 		
-		return meetingDays + " " + getTimeString(startTime) + "-" + getTimeString(endTime);
+		return meetingString;
+	}
+	
+	/**
+	 * Discards any cached display strings so they are rebuilt on the next request. Called by every
+	 * setter that changes a displayed field; child classes caching their own display arrays should
+	 * override this method and call the super implementation.
+	 */
+	protected void clearDisplayCache() {
+		meetingString = null;
 	}
 
 	/**
@@ -197,11 +237,11 @@ public abstract class Activity implements Conflict {
 		}
 		
 		// break apart time into hours and minutes
-		int startHour = getHourAndMinute(startTime)[0];
-		int startMin = getHourAndMinute(startTime)[1];
+		int startHour = startTime / 100;
+		int startMin = startTime % 100;
 		
-		int endHour = getHourAndMinute(endTime)[0];
-		int endMin = getHourAndMinute(endTime)[1];
+		int endHour = endTime / 100;
+		int endMin = endTime % 100;
 		
 		// validate the start and end times
 		if (startHour < 0 || startHour > UPPER_HOUR) {
@@ -228,19 +268,7 @@ public abstract class Activity implements Conflict {
 		this.meetingDays = meetingDays;
 		this.startTime = startTime;
 		this.endTime = endTime;
-	}
-
-	/**
-	 * Helper method to extract the hour and minute values from a military time format integer.
-	 * @param time the time in military time format
-	 * @return hours and minutes for the given time in array format: [hours, minutes]
-	 */
-	private int[] getHourAndMinute(int time) {
-		int[] hoursAndMinutes = new int[2];
-		hoursAndMinutes[0] = time / 100;
-		hoursAndMinutes[1] = time % 100;
-		
-		return hoursAndMinutes;
+		clearDisplayCache();
 	}
 
 	/**
@@ -249,8 +277,8 @@ public abstract class Activity implements Conflict {
 	 * @return the time string in standard time format
 	 */
 	private String getTimeString(int time) {
-		int hour = getHourAndMinute(time)[0];
-		int minute = getHourAndMinute(time)[1];
+		int hour = time / 100;
+		int minute = time % 100;
 		String timeOfDay = "AM";
 		
 		if (hour == 0) {
@@ -0,0 +1,261 @@
+package edu.ncsu.csc216.pack_scheduler.course;
+
+import edu.ncsu.csc216.pack_scheduler.util.IntArrayList;
+
+/**
+ * ConflictMatrix records which pairs of a set of Courses have overlapping meeting days and times. Each indexed
+ * Course gets a slot, and each slot has a bitset row with one bit per slot, so a conflict between two indexed
+ * Courses is a single bit test instead of a comparison of meeting days and times.
+ * <p>
+ * The matrix is maintained incrementally: adding a Course compares it once against every indexed Course, and
+ * removing a Course clears its row and column and frees its slot for reuse. While a Course is indexed, its
+ * <code>conflictsWith()</code> answers from the matrix for other Courses of the same matrix, and changing its
+ * meeting days and times recomputes its row and notifies the matrix's MeetingListener, if any. A Course may be
+ * indexed by at most one matrix at a time.
+ *
+ * @author Maxim Shelepov
+ */
+public class ConflictMatrix {
+	/** Initial number of slots, must be a multiple of 64 */
+	private static final int INIT_CAPACITY = 64;
+
+	/** Indexed Courses by slot, null for an unused slot */
+	private Course[] courses;
+	/** Conflict bitset of each slot over all slots */
+	private long[][] rows;
+	/** Slots freed by removals, reused before new slots */
+	private IntArrayList freeSlots;
+	/** Number of slots ever used; slots at or above this index have never held a Course */
+	private int highWater;
+	/** Number of indexed Courses */
+	private int size;
+	/** Listener notified when an indexed Course's meeting days or times change, or null */
+	private MeetingListener listener;
+
+	/**
+	 * Constructs an empty ConflictMatrix.
+	 */
+	public ConflictMatrix() {
+		courses = new Course[INIT_CAPACITY];
+		rows = new long[INIT_CAPACITY][INIT_CAPACITY / 64];
+		freeSlots = new IntArrayList();
+		highWater = 0;
+		size = 0;
+	}
+
+	/**
+	 * Adds a Course to the matrix, computing its conflicts with every indexed Course.
+	 * @param course the Course to index
+	 * @throws IllegalArgumentException if course is null or already indexed by a matrix
+	 */
+	public void add(Course course) {
+		if (course == null || course.getConflictMatrix() != null) {
+			throw new IllegalArgumentException("Invalid course.");
+		}
+
+		int slot;
+		if (!freeSlots.isEmpty()) {
+			slot = freeSlots.removeLast();
+		} else {
+			if (highWater == courses.length) {
+				grow();
+			}
+			slot = highWater++;
+		}
+
+		courses[slot] = course;
+		course.setConflictSlot(this, slot);
+		size++;
+		computeRow(slot);
+	}
+
+	/**
+	 * Removes a Course from the matrix. The Course goes back to comparing meeting days and times in
+	 * <code>conflictsWith()</code>.
+	 * @param course the Course to remove
+	 * @return true if the Course was indexed by this matrix and removed, false otherwise
+	 */
+	public boolean remove(Course course) {
+		if (course == null || course.getConflictMatrix() != this) {
+			return false;
+		}
+
+		int slot = course.getConflictSlot();
+		clearSlot(slot);
+		courses[slot] = null;
+		freeSlots.add(slot);
+		course.setConflictSlot(null, -1);
+		size--;
+		return true;
+	}
+
+	/**
+	 * Recomputes the conflicts of an indexed Course after its meeting days or times change.
+	 * @param course the Course to recompute
+	 * @throws IllegalArgumentException if the Course is not indexed by this matrix
+	 */
+	public void update(Course course) {
+		if (course == null || course.getConflictMatrix() != this) {
+			throw new IllegalArgumentException("Invalid course.");
+		}
+
+		computeRow(course.getConflictSlot());
+		if (listener != null) {
+			listener.meetingChanged(course);
+		}
+	}
+
+	/**
+	 * Sets the listener notified after an indexed Course's meeting days or times change.
+	 * @param listener the listener, or null for none
+	 */
+	public void setMeetingListener(MeetingListener listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Removes every Course from the matrix.
+	 */
+	public void clear() {
+		for (int slot = 0; slot < highWater; slot++) {
+			if (courses[slot] != null) {
+				courses[slot].setConflictSlot(null, -1);
+				courses[slot] = null;
+			}
+			for (int w = 0; w < rows[slot].length; w++) {
+				rows[slot][w] = 0;
+			}
+		}
+		freeSlots.clear();
+		highWater = 0;
+		size = 0;
+	}
+
+	/**
+	 * Returns whether a Course is indexed by this matrix.
+	 * @param course the Course to check
+	 * @return true if the Course is indexed by this matrix
+	 */
+	public boolean contains(Course course) {
+		return course != null && course.getConflictMatrix() == this;
+	}
+
+	/**
+	 * Returns the number of indexed Courses.
+	 * @return the number of Courses
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns whether two Courses conflict, by lookup when both are indexed by this matrix and by comparing
+	 * their meeting days and times otherwise.
+	 * @param a the first Course
+	 * @param b the second Course
+	 * @return true if the Courses meet on a shared day at overlapping times
+	 */
+	public boolean conflicts(Course a, Course b) {
+		if (contains(a) && contains(b)) {
+			return conflicts(a.getConflictSlot(), b.getConflictSlot());
+		}
+		return a.meetingsOverlap(b);
+	}
+
+	/**
+	 * Returns every indexed Course that conflicts with an indexed Course.
+	 * @param course the indexed Course
+	 * @return the conflicting Courses other than the Course itself, in slot order
+	 * @throws IllegalArgumentException if the Course is not indexed by this matrix
+	 */
+	public Course[] getConflicts(Course course) {
+		if (!contains(course)) {
+			throw new IllegalArgumentException("Invalid course.");
+		}
+
+		int slot = course.getConflictSlot();
+		long[] row = rows[slot];
+		int count = 0;
+		for (int w = 0; w < row.length; w++) {
+			count += Long.bitCount(row[w]);
+		}
+		if (conflicts(slot, slot)) {
+			count--;
+		}
+
+		Course[] conflicting = new Course[count];
+		int idx = 0;
+		for (int w = 0; w < row.length; w++) {
+			long bits = row[w];
+			while (bits != 0) {
+				int other = (w << 6) + Long.numberOfTrailingZeros(bits);
+				bits &= bits - 1;
+				if (other != slot) {
+					conflicting[idx++] = courses[other];
+				}
+			}
+		}
+		return conflicting;
+	}
+
+	/**
+	 * Returns whether the Courses in two slots conflict.
+	 * @param a the first slot
+	 * @param b the second slot
+	 * @return true if the conflict bit of the pair is set
+	 */
+	boolean conflicts(int a, int b) {
+		return (rows[a][b >>> 6] & (1L << b)) != 0;
+	}
+
+	/**
+	 * Helper method that clears a slot's row and column and recomputes them against every indexed Course.
+	 * @param slot the slot to compute
+	 */
+	private void computeRow(int slot) {
+		clearSlot(slot);
+		Course course = courses[slot];
+		for (int other = 0; other < highWater; other++) {
+			if (courses[other] != null && course.meetingsOverlap(courses[other])) {
+				rows[slot][other >>> 6] |= 1L << other;
+				rows[other][slot >>> 6] |= 1L << slot;
+			}
+		}
+	}
+
+	/**
+	 * Helper method that clears a slot's row and its bit in every other row.
+	 * @param slot the slot to clear
+	 */
+	private void clearSlot(int slot) {
+		long[] row = rows[slot];
+		for (int w = 0; w < row.length; w++) {
+			long bits = row[w];
+			while (bits != 0) {
+				int other = (w << 6) + Long.numberOfTrailingZeros(bits);
+				bits &= bits - 1;
+				rows[other][slot >>> 6] &= ~(1L << slot);
+			}
+			row[w] = 0;
+		}
+	}
+
+	/**
+	 * Helper method that doubles the number of slots, widening every row.
+	 */
+	private void grow() {
+		int capacity = courses.length * 2;
+		Course[] newCourses = new Course[capacity];
+		System.arraycopy(courses, 0, newCourses, 0, courses.length);
+		courses = newCourses;
+
+		long[][] newRows = new long[capacity][];
+		for (int slot = 0; slot < capacity; slot++) {
+			newRows[slot] = new long[capacity / 64];
+			if (slot < rows.length) {
+				System.arraycopy(rows[slot], 0, newRows[slot], 0, rows[slot].length);
+			}
+		}
+		rows = newRows;
+	}
+}
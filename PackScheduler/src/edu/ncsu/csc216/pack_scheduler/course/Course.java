@@ -3,9 +3,11 @@
  */
 package edu.ncsu.csc216.pack_scheduler.course;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import edu.ncsu.csc216.pack_scheduler.course.roll.CourseRoll;
-import edu.ncsu.csc216.pack_scheduler.course.validator.CourseNameValidator;
-import edu.ncsu.csc216.pack_scheduler.course.validator.InvalidTransitionException;
+import edu.ncsu.csc216.pack_scheduler.course.validator.CourseNameValidatorDFA;
+import edu.ncsu.csc216.pack_scheduler.util.SymbolTable;
 
 /**
  * Course is a model class which represents a university course found in the course directory or 
@@ -26,6 +28,10 @@ import edu.ncsu.csc216.pack_scheduler.course.validator.InvalidTransitionExceptio
  * Course object performs getter and setter operations for retrieval and setting of the above state 
  * information with proper validation before committing the data. In addition, the Course object provides 
  * actions to display said state information in a human interpretable format.
+ * <p>
+ * Names, sections, department prefixes, and instructor ids are interned in tables shared by all Courses. Each
+ * Course holds the canonical String instances and their dense int symbols, so equality, duplicate checks, and
+ * catalog lookups compare ints instead of characters.
  * 
  * @author Maxim Shelepov
  */
@@ -38,22 +44,48 @@ public class Course extends Activity implements Comparable<Course> {
 	private int credits;
 	/** Course's instructor unity id */
 	private String instructorId;
+	/** Symbol of the Course's name */
+	private int nameSymbol;
+	/** Symbol of the Course's section */
+	private int sectionSymbol;
+	/** Symbol of the Course's department prefix */
+	private int departmentSymbol;
+	/** Symbol of the Course's instructor unity id, or SymbolTable.NOT_FOUND if there is no instructor */
+	private int instructorSymbol;
 	/** Course name minimum total character length */
 	private static final int MIN_NAME_LENGTH = 4;
 	/** Course name maximum total character length */
 	private static final int MAX_NAME_LENGTH = 8;
 	/** Course section exact character length */
 	private static final int SECTION_LENGTH = 3;
+	/** Interned course names shared by all Courses */
+	private static final SymbolTable NAME_SYMBOLS = new SymbolTable();
+	/** Interned course sections shared by all Courses */
+	private static final SymbolTable SECTION_SYMBOLS = new SymbolTable();
+	/** Interned department prefixes (leading letters of the course name) shared by all Courses */
+	private static final SymbolTable DEPARTMENT_SYMBOLS = new SymbolTable();
+	/** Interned instructor unity ids shared by all Courses */
+	private static final SymbolTable INSTRUCTOR_SYMBOLS = new SymbolTable();
 	/** Course minimum allowed credits  */
 	private static final int MIN_CREDITS = 1;
 	/** Course maximum allowed credits  */
 	private static final int MAX_CREDITS = 5;
-	
-	/** Course name validator object */
-	private CourseNameValidator validator;
+	/** Counter bumped whenever any Course's credits are set, so cached credit totals know to recount */
+	private static final AtomicInteger CREDITS_VERSION = new AtomicInteger();
 	
 	/** Course roll of registered students */
 	private CourseRoll roll;
+	
+	/** Formatted short display fields, rebuilt lazily after a displayed field changes and copied on every request */
+	private String[] shortDisplay;
+	/** Formatted long display fields, rebuilt lazily after a displayed field changes and copied on every request */
+	private String[] longDisplay;
+	/** Open seat count currently formatted in the short display fields */
+	private int displayedOpenSeats;
+	/** ConflictMatrix indexing this Course, or null if the Course is not indexed */
+	private ConflictMatrix conflictMatrix;
+	/** Slot of this Course in its ConflictMatrix */
+	private int conflictSlot;
 
 	/**
 	 * Constructs a Course object with values for all fields.
@@ -77,6 +109,7 @@ public class Course extends Activity implements Comparable<Course> {
         
         //construct course roll given enrollmentCap
         roll = new CourseRoll(this, enrollmentCap);
+        conflictSlot = -1;
 	}
 
 	/**
@@ -97,23 +130,34 @@ public class Course extends Activity implements Comparable<Course> {
 	
 	/**
 	 * Required abstract method enforced by Activity. Returns a shortened String array representation 
-	 * of the Course using the fields: name, section, title, and the meeting string.
+	 * of the Course using the fields: name, section, title, the meeting string, and the open seats in the roll.
+	 * 
+	 * Note: only the formatting is cached, not the array. The formatted Strings, such as the meeting string, are
+	 * kept until a setter changes a field, and only the open seat column is refreshed from the CourseRoll on each
+	 * call. Each call still allocates a new array, so callers may keep or modify it without changing the Course or
+	 * rows returned earlier.
 	 * 
-	 * @return String array of length 4 consistent of the Course's name, section, title, and meeting string
+	 * @return String array of length 5 consistent of the Course's name, section, title, meeting string, and open seats
 	 */
 	@Override
 	public String[] getShortDisplayArray() {
-		String[] shortDisplay = new String[5];
-		
-		shortDisplay[0] = name;
-		shortDisplay[1] = section;
-		shortDisplay[2] = getTitle();
-		shortDisplay[3] = getMeetingString();
-		
-		//new for lab 8; open seats in course roll
-		shortDisplay[4] = String.valueOf(this.roll.getOpenSeats());
+		if (shortDisplay == null) {
+			shortDisplay = new String[5];
+			
+			shortDisplay[0] = name;
+			shortDisplay[1] = section;
+			shortDisplay[2] = getTitle();
+			shortDisplay[3] = getMeetingString();
+			
+			//new for lab 8; open seats in course roll
+			displayedOpenSeats = this.roll.getOpenSeats();
+			shortDisplay[4] = String.valueOf(displayedOpenSeats);
+		} else if (displayedOpenSeats != this.roll.getOpenSeats()) {
+			displayedOpenSeats = this.roll.getOpenSeats();
+			shortDisplay[4] = String.valueOf(displayedOpenSeats);
+		}
 		
-		return shortDisplay;
+		return shortDisplay.clone();
 	}
 	
 	/**
@@ -121,22 +165,37 @@ public class Course extends Activity implements Comparable<Course> {
 	 * of the Course using the fields: name, section, title, credits, instructor unity id, meeting string, and buffer String
 	 * for other getLongDisplayArray implementations.
 	 * 
+	 * Note: only the formatting is cached, not the array. The formatted Strings are kept until a setter changes a
+	 * field, and each call allocates a new array, so callers may keep or modify it.
+	 * 
 	 * @return String array of length 7 consistent of the Course's name, section, title, credits, instructor unity id, meeting string, and 
 	 * empty buffer string
 	 */
 	@Override
 	public String[] getLongDisplayArray() {
-		String[] longDisplay = new String[7];
-		
-		longDisplay[0] = name;
-		longDisplay[1] = section;
-		longDisplay[2] = getTitle();
-		longDisplay[3] = Integer.toString(credits);
-		longDisplay[4] = instructorId;
-		longDisplay[5] = getMeetingString();
-		longDisplay[6] = "";
+		if (longDisplay == null) {
+			longDisplay = new String[7];
+			
+			longDisplay[0] = name;
+			longDisplay[1] = section;
+			longDisplay[2] = getTitle();
+			longDisplay[3] = Integer.toString(credits);
+			longDisplay[4] = instructorId;
+			longDisplay[5] = getMeetingString();
+			longDisplay[6] = "";
+		}
 		
-		return longDisplay;
+		return longDisplay.clone();
+	}
+	
+	/**
+	 * Discards the cached meeting string and display arrays so they are rebuilt on the next request.
+	 */
+	@Override
+	protected void clearDisplayCache() {
+		super.clearDisplayCache();
+		shortDisplay = null;
+		longDisplay = null;
 	}
 	
 	/**
@@ -151,7 +210,7 @@ public class Course extends Activity implements Comparable<Course> {
 		if (activity instanceof Course) {
 			Course course = (Course) activity;
 			
-			return name.equals(course.getName());
+			return nameSymbol == course.getNameSymbol();
 		}
 		
 		return false;
@@ -191,17 +250,44 @@ public class Course extends Activity implements Comparable<Course> {
 			throw new IllegalArgumentException("Invalid course name.");
 		}
 		
-		validator = new CourseNameValidator();
-		try {
-			if (!validator.isValid(name)) {
-				throw new IllegalArgumentException("Invalid course name.");
-			}
-		} catch (InvalidTransitionException e) {
+		if (!CourseNameValidatorDFA.getInstance().isValid(name)) {
 			throw new IllegalArgumentException("Invalid course name.");
 		}
 		
+		nameSymbol = NAME_SYMBOLS.intern(name);
+		this.name = NAME_SYMBOLS.getSymbol(nameSymbol);
 		
-		this.name = name;
+		// department prefix is every letter before the first digit
+		int prefixLength = 0;
+		while (!Character.isDigit(name.charAt(prefixLength))) {
+			prefixLength++;
+		}
+		departmentSymbol = DEPARTMENT_SYMBOLS.intern(name.substring(0, prefixLength));
+		clearDisplayCache();
+	}
+	
+	/**
+	 * Returns the symbol of the Course's name. Two Courses have the same name exactly when their name symbols are equal.
+	 * @return the name symbol
+	 */
+	public int getNameSymbol() {
+		return nameSymbol;
+	}
+	
+	/**
+	 * Returns the Course's department prefix: the leading letters of the name, such as "CSC" for "CSC216".
+	 * @return the department prefix
+	 */
+	public String getDepartment() {
+		return DEPARTMENT_SYMBOLS.getSymbol(departmentSymbol);
+	}
+	
+	/**
+	 * Returns the symbol of the Course's department prefix.
+	 * @return the department symbol
+	 */
+	public int getDepartmentSymbol() {
+		return departmentSymbol;
 	}
 
 	/**
@@ -232,7 +318,17 @@ public class Course extends Activity implements Comparable<Course> {
 			}
 		}
 		
-		this.section = section;
+		sectionSymbol = SECTION_SYMBOLS.intern(section);
+		this.section = SECTION_SYMBOLS.getSymbol(sectionSymbol);
+		clearDisplayCache();
+	}
+	
+	/**
+	 * Returns the symbol of the Course's section.
+	 * @return the section symbol
+	 */
+	public int getSectionSymbol() {
+		return sectionSymbol;
 	}
 
 	/**
@@ -255,6 +351,17 @@ public class Course extends Activity implements Comparable<Course> {
 		}
 		
 		this.credits = credits;
+		CREDITS_VERSION.incrementAndGet();
+		clearDisplayCache();
+	}
+	
+	/**
+	 * Returns a counter that changes whenever the credits of any Course are set. A running credit total 
+	 * that remembers the counter it was computed at is still valid while the counter is unchanged.
+	 * @return the current credits version
+	 */
+	public static int getCreditsVersion() {
+		return CREDITS_VERSION.get();
 	}
 
 	/**
@@ -274,7 +381,62 @@ public class Course extends Activity implements Comparable<Course> {
 		if ("".equals(instructorId)) {
 			throw new IllegalArgumentException("Invalid instructor id.");
 		}
-		this.instructorId = instructorId;
+		if (instructorId == null) {
+			instructorSymbol = SymbolTable.NOT_FOUND;
+			this.instructorId = null;
+		} else {
+			instructorSymbol = INSTRUCTOR_SYMBOLS.intern(instructorId);
+			this.instructorId = INSTRUCTOR_SYMBOLS.getSymbol(instructorSymbol);
+		}
+		clearDisplayCache();
+	}
+	
+	/**
+	 * Returns the symbol of the Course's instructor id.
+	 * @return the instructor symbol, or SymbolTable.NOT_FOUND if the Course has no instructor
+	 */
+	public int getInstructorSymbol() {
+		return instructorSymbol;
+	}
+	
+	/**
+	 * Returns the symbol of a course name without interning it.
+	 * @param name the course name to look up
+	 * @return the name symbol, or SymbolTable.NOT_FOUND if no Course has ever had the name
+	 * @throws NullPointerException if name is null
+	 */
+	public static int lookupNameSymbol(String name) {
+		return NAME_SYMBOLS.getId(name);
+	}
+	
+	/**
+	 * Returns the symbol of a course section without interning it.
+	 * @param section the section to look up
+	 * @return the section symbol, or SymbolTable.NOT_FOUND if no Course has ever had the section
+	 * @throws NullPointerException if section is null
+	 */
+	public static int lookupSectionSymbol(String section) {
+		return SECTION_SYMBOLS.getId(section);
+	}
+	
+	/**
+	 * Returns the symbol of a department prefix without interning it.
+	 * @param department the department prefix to look up
+	 * @return the department symbol, or SymbolTable.NOT_FOUND if no Course has ever had the prefix
+	 * @throws NullPointerException if department is null
+	 */
+	public static int lookupDepartmentSymbol(String department) {
+		return DEPARTMENT_SYMBOLS.getId(department);
+	}
+	
+	/**
+	 * Returns the symbol of an instructor id without interning it.
+	 * @param instructorId the instructor id to look up
+	 * @return the instructor symbol, or SymbolTable.NOT_FOUND if no Course has ever had the instructor
+	 * @throws NullPointerException if instructorId is null
+	 */
+	public static int lookupInstructorSymbol(String instructorId) {
+		return INSTRUCTOR_SYMBOLS.getId(instructorId);
 	}
 	
 	/**
@@ -337,10 +499,57 @@ public class Course extends Activity implements Comparable<Course> {
 		}
 		
 		super.setMeetingDaysAndTime(meetingDays, startTime, endTime);
+		if (conflictMatrix != null) {
+			conflictMatrix.update(this);
+		}
+	}
+	
+	/**
+	 * Returns whether the provided Activity is conflicting with this Course. When both are Courses indexed by 
+	 * the same ConflictMatrix the answer is a lookup, otherwise the meeting days and times are compared.
+	 * 
+	 * @param possibleConflictingActivity the possibly conflicting Activity with this Course
+	 * @return true if the two Activities meet on a shared day at overlapping times, false otherwise
+	 */
+	@Override
+	public boolean conflictsWith(Activity possibleConflictingActivity) {
+		if (conflictMatrix != null && possibleConflictingActivity instanceof Course) {
+			Course other = (Course) possibleConflictingActivity;
+			if (other.conflictMatrix == conflictMatrix) {
+				return conflictMatrix.conflicts(conflictSlot, other.conflictSlot);
+			}
+		}
+		return meetingsOverlap(possibleConflictingActivity);
+	}
+	
+	/**
+	 * Returns the ConflictMatrix indexing this Course.
+	 * @return the ConflictMatrix, or null if the Course is not indexed
+	 */
+	ConflictMatrix getConflictMatrix() {
+		return conflictMatrix;
+	}
+	
+	/**
+	 * Returns the slot of this Course in its ConflictMatrix.
+	 * @return the slot, or -1 if the Course is not indexed
+	 */
+	int getConflictSlot() {
+		return conflictSlot;
+	}
+	
+	/**
+	 * Records the ConflictMatrix indexing this Course and its slot. Only called by ConflictMatrix.
+	 * @param matrix the ConflictMatrix, or null when the Course is removed from its matrix
+	 * @param slot the slot of the Course, or -1 when removed
+	 */
+	void setConflictSlot(ConflictMatrix matrix, int slot) {
+		this.conflictMatrix = matrix;
+		this.conflictSlot = slot;
 	}
 
 	/**
-	 * Generates a hashCode for Course using all fields.
+	 * Generates a hashCode for Course using all fields. Interned fields contribute their symbols.
 	 * @return hashCode for the Course
 	 */
 	@Override
@@ -348,14 +557,15 @@ public class Course extends Activity implements Comparable<Course> {
 		final int prime = 31;
 		int result = super.hashCode();
 		result = prime * result + credits;
-		result = prime * result + ((instructorId == null) ? 0 : instructorId.hashCode());
-		result = prime * result + ((name == null) ? 0 : name.hashCode());
-		result = prime * result + ((section == null) ? 0 : section.hashCode());
+		result = prime * result + instructorSymbol;
+		result = prime * result + nameSymbol;
+		result = prime * result + sectionSymbol;
 		return result;
 	}
 	
 	/**
-	 * Compares this Course object to provided object for equality in all fields.
+	 * Compares this Course object to provided object for equality in all fields. Interned fields are compared
+	 * by symbol.
 	 * @return true if this and provided object is the same in all fields
 	 */
 	@Override
@@ -367,24 +577,8 @@ public class Course extends Activity implements Comparable<Course> {
 		if (getClass() != obj.getClass())
 			return false;
 		Course other = (Course) obj;
-		if (credits != other.credits)
-			return false;
-		if (instructorId == null) {
-			if (other.instructorId != null)
-				return false;
-		} else if (!instructorId.equals(other.instructorId))
-			return false;
-		if (name == null) {
-			if (other.name != null)
-				return false;
-		} else if (!name.equals(other.name))
-			return false;
-		if (section == null) {
-			if (other.section != null)
-				return false;
-		} else if (!section.equals(other.section))
-			return false;
-		return true;
+		return credits == other.credits && instructorSymbol == other.instructorSymbol
+				&& nameSymbol == other.nameSymbol && sectionSymbol == other.sectionSymbol;
 	}
 
 	/**
@@ -405,13 +599,16 @@ public class Course extends Activity implements Comparable<Course> {
 	 */
 	@Override
 	public int compareTo(Course c) {
-		int nameComparison = name.compareTo(c.getName());
+		// different symbols always mean different strings, so only unequal fields need a character comparison
+		if (nameSymbol != c.getNameSymbol()) {
+			return name.compareTo(c.getName());
+		}
 		
-		if (nameComparison != 0) {
-			return nameComparison;
+		if (sectionSymbol != c.getSectionSymbol()) {
+			return section.compareTo(c.getSection());
 		}
 		
-		return section.compareTo(c.getSection());
+		return 0;
 	}
 	
 	/**
@@ -0,0 +1,16 @@
+package edu.ncsu.csc216.pack_scheduler.course;
+
+/**
+ * MeetingListener is an interface for objects that track the meeting days and times of the Courses indexed by a
+ * ConflictMatrix. The matrix calls its listener after an indexed Course's meeting days or times change, once the
+ * Course's conflicts have been recomputed.
+ * 
+ * @author Maxim Shelepov
+ */
+public interface MeetingListener {
+	/**
+	 * Called after the meeting days or times of an indexed Course change.
+	 * @param course the Course whose meeting days or times changed
+	 */
+	void meetingChanged(Course course);
+}
@@ -3,9 +3,13 @@
  */
 package edu.ncsu.csc216.pack_scheduler.course.roll;
 
+import java.util.Iterator;
+
 import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.metrics.WaitlistPromotionEvent;
 import edu.ncsu.csc216.pack_scheduler.user.Student;
-import edu.ncsu.csc216.pack_scheduler.util.ArrayQueue;
+import edu.ncsu.csc216.pack_scheduler.util.ArrayList;
+import edu.ncsu.csc216.pack_scheduler.util.HeapQueue;
 import edu.ncsu.csc216.pack_scheduler.util.LinkedAbstractList;
 
 /**
@@ -13,6 +17,13 @@ import edu.ncsu.csc216.pack_scheduler.util.LinkedAbstractList;
  * All students have a unique id and are stored in a linked abstract list of Student's. The class allows
  * the user to drop and enroll students.
  * 
+ * The waitlist capacity is configurable per course, defaulting to DEFAULT_WAITLIST_CAPACITY. The waitlist is a
+ * heap ordered by an optional WaitlistPolicy and then by the order students joined, so promotion on drop is
+ * O(log n) even for long waitlists. Without a policy the waitlist is first come, first served.
+ * 
+ * A RollListener may be registered to be told after each change to the roll, so indexes over open seats stay
+ * current without polling.
+ * 
  * @author Nick Bechard
  */
 public class CourseRoll {
@@ -29,12 +40,21 @@ public class CourseRoll {
 	/** The maximum number that the enrollment cap can be set as. */
 	public static final int MAX_ENROLLMENT = 250;
 	
-	/** The wait-list for course enrollment. */
-	private ArrayQueue<Student> waitlist;
+	/** The default number of students that can be on the wait-list. */
+	public static final int DEFAULT_WAITLIST_CAPACITY = 10;
+	
+	/** The wait-list for course enrollment, ordered by priority then by the order students joined. */
+	private HeapQueue<Student> waitlist;
+	
+	/** Policy ranking wait-listed students, or null for first come, first served. */
+	private WaitlistPolicy waitlistPolicy;
 	
 	/** Course for the course roll. */
 	private Course course;
 	
+	/** Listener told about roll changes, or null if there is none. */
+	private RollListener listener;
+	
 	/**
 	 * Default constructor for CourseRoll, sets the maximum capacity of students allowed in the course list.
 	 * @param capacity the maximum capacity of students allowed in the course roll
@@ -43,7 +63,7 @@ public class CourseRoll {
 	public CourseRoll(Course c, int capacity) {
 		setEnrollmentCap(capacity);
 		roll = new LinkedAbstractList<Student>(capacity);
-		waitlist = new ArrayQueue<Student>(10);
+		waitlist = new HeapQueue<Student>(DEFAULT_WAITLIST_CAPACITY, Student::getId);
 		if(c == null) {
 			throw new IllegalArgumentException();
 		}
@@ -78,7 +98,7 @@ public class CourseRoll {
 		}
 		
 		this.enrollmentCap = enrollmentCap;
-		
+		fireRollChanged();
 	}
 	
 	/**
@@ -88,32 +108,33 @@ public class CourseRoll {
 	 * adding student to roll
 	 */
 	public void enroll(Student s) {
-		if(s == null) {
-			throw new IllegalArgumentException();
-		}
-				
-		if(!canEnroll(s)) {
+		if(!tryEnroll(s).isSuccess()) {
 			throw new IllegalArgumentException();
 		}
+	}
 	
-		try {
-			if(roll.size() == enrollmentCap) {
-				if(waitlist.size() == 10) {
-					throw new IllegalArgumentException();
-				}
-				waitlist.enqueue(s);
-			}
-			else {
-				roll.add(roll.size(), s);
-			}
-			
-		} catch (Exception e) {
-			throw new IllegalArgumentException();
+	/**
+	 * Enrolls a student in the course roll, or on the wait-list if the roll is full, and returns the 
+	 * outcome instead of throwing when the student cannot be enrolled. See <code>checkEnroll()</code>.
+	 * @param s the student to be enrolled
+	 * @return ENROLLED or WAITLISTED if the student was added, otherwise why not
+	 */
+	public EnrollResult tryEnroll(Student s) {
+		EnrollResult result = checkEnroll(s);
+		if(result == EnrollResult.ENROLLED) {
+			roll.add(roll.size(), s);
+		} else if(result == EnrollResult.WAITLISTED) {
+			waitlist.enqueue(s, getWaitlistPriority(s));
+		} else {
+			return result;
 		}
+		fireRollChanged();
+		return result;
 	}
 	
 	/**
-	 * Drops a student from the course roll.
+	 * Drops a student from the course roll or the wait-list. If the student held a seat, wait-listed students 
+	 * are promoted into the open seats (see <code>promoteFromWaitlist()</code>).
 	 * @param s the student to be dropped
 	 * @throws IllegalArgumentException if student is null or issues with adding student to roll
 	 */
@@ -122,36 +143,19 @@ public class CourseRoll {
 			 if (s == null) {
 			        throw new IllegalArgumentException("Student cannot be null");
 			 }
-			// boolean throwException = true;
-			 for (int i = 0; i < roll.size(); i++) {
-			    if (s.equals(roll.get(i))) {
-			    	roll.remove(i);
-			    	if (waitlist.size() > 0) {
-			    		Student waitlistStudent = waitlist.dequeue();
-			    		enroll(waitlistStudent);
-			    		waitlistStudent.getSchedule().addCourseToSchedule(course);
-			    	}
-			    	//throwException = false;
-			    	break;
-				} else if ( waitlist.contains(s)) {
-					ArrayQueue<Student> p = new ArrayQueue<Student>(waitlist.getCapacity());
-					Student h = null;
-					while (waitlist.size() > 0) {
-						h = waitlist.dequeue();
-						if (!s.equals(h)) {
-							p.enqueue(h);
-						}
-					}
-					waitlist = p;
-					//throwException = false;
-				}
+			 if (removeStudent(s)) {
+				 try {
+					 promoteFromWaitlist();
+				 } catch (IllegalArgumentException e) {
+					 // the promotion was undone, the seat stays open and the drop stands
+				 }
 			 }
-			 
 		}
 			 catch (Exception e) {
 				 throw new IllegalArgumentException("Error dropping the student");
 				 
 			 }
+			 fireRollChanged();
 			
 		
 //		 if (s == null) {
@@ -184,22 +188,152 @@ public class CourseRoll {
 		
 	}
 
+	/**
+	 * Drops several students from the course roll or the wait-list, then fills the freed seats with one 
+	 * promotion pass instead of one promotion per drop. Students who are not on the roll or the wait-list are 
+	 * ignored.
+	 * @param students the students to be dropped
+	 * @return the number of wait-listed students promoted
+	 * @throws IllegalArgumentException if students is null or holds a null student
+	 */
+	public int dropAll(Student[] students) {
+		if (students == null) {
+			throw new IllegalArgumentException("Students cannot be null");
+		}
+		for (Student s : students) {
+			if (s == null) {
+				throw new IllegalArgumentException("Student cannot be null");
+			}
+		}
+		
+		for (Student s : students) {
+			removeStudent(s);
+		}
+		int promoted = promoteFromWaitlist();
+		fireRollChanged();
+		return promoted;
+	}
+	
+	/**
+	 * Fills the open seats of the roll from the wait-list in one pass. Wait-listed students are considered in 
+	 * wait-list order; a student is eligible if the course is already on their schedule, or if their schedule 
+	 * can add it without a duplicate, conflict, or going over their credits. Ineligible students are skipped and 
+	 * keep their place on the wait-list.
+	 * <p>
+	 * The pass first chooses every promoted student, then commits them: each is added to the roll and, if the 
+	 * course is not yet on their schedule, to their schedule. If a commit step fails, the steps already taken are 
+	 * undone and the chosen students return to their places on the wait-list, so the roll, the schedules, and 
+	 * the wait-list order are never left half updated.
+	 * @return the number of students promoted
+	 * @throws IllegalArgumentException if a promotion could not be committed
+	 */
+	public int promoteFromWaitlist() {
+		int openSeats = getOpenSeats();
+		if (openSeats <= 0 || waitlist.isEmpty()) {
+			return 0;
+		}
+		
+		WaitlistPromotionEvent event = new WaitlistPromotionEvent();
+		event.begin();
+		
+		// choose, remembering each chosen student's place in line in case the pass is undone
+		int[] chosenPriorities = new int[openSeats];
+		long[] chosenOrder = new long[openSeats];
+		ArrayList<Student> chosen = waitlist.removeFirst(openSeats, 
+				s -> s.getSchedule().contains(course) || s.canAdd(course), chosenPriorities, chosenOrder);
+		boolean[] addedToSchedule = new boolean[chosen.size()];
+		
+		// commit
+		int committed = 0;
+		try {
+			for (; committed < chosen.size(); committed++) {
+				Student s = chosen.get(committed);
+				roll.add(roll.size(), s);
+				if (!s.getSchedule().contains(course)) {
+					s.getSchedule().addCourseToSchedule(course);
+					addedToSchedule[committed] = true;
+				}
+			}
+		} catch (RuntimeException e) {
+			// undo, newest first, then put every chosen student back in their old place on the wait-list
+			for (int i = committed; i >= 0; i--) {
+				Student s = chosen.get(i);
+				if (addedToSchedule[i]) {
+					s.getSchedule().removeCourseFromSchedule(course);
+				}
+				removeFromRoll(s);
+			}
+			for (int i = 0; i < chosen.size(); i++) {
+				waitlist.reinsert(chosen.get(i), chosenPriorities[i], chosenOrder[i]);
+			}
+			commitPromotionEvent(event, openSeats, chosen, true);
+			throw new IllegalArgumentException("Waitlist promotion failed.");
+		}
+		commitPromotionEvent(event, openSeats, chosen, false);
+		return committed;
+	}
+	
+	/**
+	 * Ends a promotion event and commits it if it is enabled. The ids of the promoted students are only joined 
+	 * when the event is committed.
+	 * @param event the event
+	 * @param openSeats the open seats before the promotion
+	 * @param chosen the students chosen for promotion
+	 * @param failed whether the promotion was undone
+	 */
+	private void commitPromotionEvent(WaitlistPromotionEvent event, int openSeats, ArrayList<Student> chosen, boolean failed) {
+		event.end();
+		if (event.shouldCommit()) {
+			StringBuilder ids = new StringBuilder();
+			for (int i = 0; i < chosen.size(); i++) {
+				ids.append(i == 0 ? "" : ",").append(chosen.get(i).getId());
+			}
+			event.courseName = course.getName();
+			event.section = course.getSection();
+			event.openSeats = openSeats;
+			event.promoted = failed ? 0 : chosen.size();
+			event.waitlisted = waitlist.size();
+			event.promotedIds = ids.toString();
+			event.failed = failed;
+			event.commit();
+		}
+	}
+	
 	/**
 	 * Checks if a student can be enrolled in the course list.
 	 * @param s the student to be checked
 	 * @return true if the student can be enrolled, false if the student can't
 	 */
 	public boolean canEnroll(Student s) {
-		if(roll.size() + 1 > enrollmentCap && waitlist.size() == 10) {
-			return false;
+		return checkEnroll(s).isSuccess();
+	}
+	
+	/**
+	 * Returns what enrolling a student would do, without enrolling them: ENROLLED if there is an open seat, 
+	 * WAITLISTED if the roll is full but the wait-list is not, FULL or WAITLIST_FULL if there is no room, 
+	 * DUPLICATE if the student is already on the roll or the wait-list, and INVALID if the student is null.
+	 * @param s the student to be checked
+	 * @return the outcome of enrolling the student
+	 */
+	public EnrollResult checkEnroll(Student s) {
+		if(s == null) {
+			return EnrollResult.INVALID;
 		}
-		
-		for(int i = 0; i < roll.size(); i++) {
-			if(roll.get(i).equals(s)) {
-				return false;
+		for(Student enrolled : roll) {
+			if(enrolled.equals(s)) {
+				return EnrollResult.DUPLICATE;
 			}
 		}
-		return !waitlist.contains(s);
+		if(waitlist.contains(s)) {
+			return EnrollResult.DUPLICATE;
+		}
+		if(roll.size() < enrollmentCap) {
+			return EnrollResult.ENROLLED;
+		}
+		if(waitlist.size() < waitlist.getCapacity()) {
+			return EnrollResult.WAITLISTED;
+		}
+		return waitlist.getCapacity() == 0 ? EnrollResult.FULL : EnrollResult.WAITLIST_FULL;
 	}
 	
 	/**
@@ -217,4 +351,130 @@ public class CourseRoll {
 	public int getNumberOnWaitlist() {
 		return waitlist.size();
 	}
+	
+	/**
+	 * Returns the maximum number of students on the wait-list.
+	 * @return the wait-list capacity
+	 */
+	public int getWaitlistCapacity() {
+		return waitlist.getCapacity();
+	}
+	
+	/**
+	 * Sets the maximum number of students on the wait-list.
+	 * @param capacity the wait-list capacity
+	 * @throws IllegalArgumentException if capacity is negative or less than the number of students on the wait-list
+	 */
+	public void setWaitlistCapacity(int capacity) {
+		waitlist.setCapacity(capacity);
+	}
+	
+	/**
+	 * Returns the policy ranking wait-listed students.
+	 * @return the policy, or null if the wait-list is first come, first served
+	 */
+	public WaitlistPolicy getWaitlistPolicy() {
+		return waitlistPolicy;
+	}
+	
+	/**
+	 * Sets the policy ranking wait-listed students. Students already on the wait-list are ranked again under the
+	 * new policy, keeping the order they joined for equal priorities.
+	 * @param policy the policy, or null for first come, first served
+	 */
+	public void setWaitlistPolicy(WaitlistPolicy policy) {
+		this.waitlistPolicy = policy;
+		
+		Object[] waiting = waitlist.toArray();
+		HeapQueue<Student> ranked = new HeapQueue<Student>(waitlist.getCapacity(), Student::getId);
+		for (Object o : waiting) {
+			Student s = (Student) o;
+			ranked.enqueue(s, getWaitlistPriority(s));
+		}
+		waitlist = ranked;
+	}
+	
+	/**
+	 * Returns the enrolled students in the order they enrolled.
+	 * @return array of the enrolled students
+	 */
+	public Student[] getEnrolledStudents() {
+		return roll.toArray(new Student[roll.size()]);
+	}
+	
+	/**
+	 * Returns the wait-listed students in the order they would be promoted.
+	 * @return array of the wait-listed students, next to be promoted first
+	 */
+	public Student[] getWaitlist() {
+		Object[] waiting = waitlist.toArray();
+		Student[] students = new Student[waiting.length];
+		for (int i = 0; i < waiting.length; i++) {
+			students[i] = (Student) waiting[i];
+		}
+		return students;
+	}
+	
+	/**
+	 * Removes a student from the roll, or from the wait-list if they are not on the roll.
+	 * @param s the student
+	 * @return true if the student held a seat on the roll
+	 */
+	private boolean removeStudent(Student s) {
+		if (removeFromRoll(s)) {
+			return true;
+		}
+		waitlist.remove(s);
+		return false;
+	}
+	
+	/**
+	 * Removes a student from the roll.
+	 * @param s the student
+	 * @return true if the student was on the roll
+	 */
+	private boolean removeFromRoll(Student s) {
+		Iterator<Student> it = roll.iterator();
+		while (it.hasNext()) {
+			if (s.equals(it.next())) {
+				it.remove();
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Returns the wait-list priority of a student under the current policy.
+	 * @param s the student
+	 * @return the priority, or the default priority without a policy
+	 */
+	private int getWaitlistPriority(Student s) {
+		return waitlistPolicy == null ? HeapQueue.DEFAULT_PRIORITY : waitlistPolicy.getPriority(course, s);
+	}
+	
+	/**
+	 * Returns the listener told about roll changes.
+	 * @return the listener, or null if there is none
+	 */
+	public RollListener getRollListener() {
+		return listener;
+	}
+	
+	/**
+	 * Sets the listener told about roll changes, replacing any previous listener.
+	 * @param listener the listener, or null to remove the listener
+	 */
+	public void setRollListener(RollListener listener) {
+		this.listener = listener;
+	}
+	
+	/**
+	 * Tells the listener, if any, that the roll changed.
+	 */
+	private void fireRollChanged() {
+		if (listener != null) {
+			listener.rollChanged(course);
+		}
+	}
 }
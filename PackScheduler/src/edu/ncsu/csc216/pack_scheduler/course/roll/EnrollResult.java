@@ -0,0 +1,55 @@
+package edu.ncsu.csc216.pack_scheduler.course.roll;
+
+/**
+ * EnrollResult is the outcome of an attempt to enroll a Student in a Course. Enrolling through
+ * <code>RegistrationManager.enroll()</code>, <code>CourseRoll.tryEnroll()</code>, or the checks of Schedule and
+ * CourseRoll returns one of these instead of throwing, so a rejected enroll, the most common outcome when a
+ * popular section opens, costs no exception. Each result carries a message suitable for the user.
+ *
+ * @author Maxim Shelepov
+ */
+public enum EnrollResult {
+	/** The student has a seat */
+	ENROLLED("Enrolled in the course."),
+	/** The roll is full and the student is on the wait-list */
+	WAITLISTED("The course is full, added to the wait-list."),
+	/** The student already has the course, or is on its roll or wait-list */
+	DUPLICATE("Already enrolled in the course."),
+	/** The course meets at the same time as a scheduled course */
+	CONFLICT("The course conflicts with a scheduled course."),
+	/** The course would put the student over their max credits */
+	OVER_CREDITS("The course would exceed the maximum credits."),
+	/** The roll is full and the course has no wait-list */
+	FULL("The course is full."),
+	/** The roll and the wait-list are full */
+	WAITLIST_FULL("The course and its wait-list are full."),
+	/** The course or student is missing */
+	INVALID("The course cannot be added to the schedule.");
+
+	/** Message for the user */
+	private final String message;
+
+	/**
+	 * Constructs an EnrollResult.
+	 * @param message the message for the user
+	 */
+	EnrollResult(String message) {
+		this.message = message;
+	}
+
+	/**
+	 * Returns whether the student was added to the roll or the wait-list.
+	 * @return true for ENROLLED and WAITLISTED
+	 */
+	public boolean isSuccess() {
+		return this == ENROLLED || this == WAITLISTED;
+	}
+
+	/**
+	 * Returns the message for the user.
+	 * @return the message
+	 */
+	public String getMessage() {
+		return message;
+	}
+}
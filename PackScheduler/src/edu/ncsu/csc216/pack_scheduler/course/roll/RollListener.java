@@ -0,0 +1,18 @@
+package edu.ncsu.csc216.pack_scheduler.course.roll;
+
+import edu.ncsu.csc216.pack_scheduler.course.Course;
+
+/**
+ * RollListener is an interface for objects that track CourseRolls as students enroll and drop. A CourseRoll
+ * calls its listener after every change to its enrolled students or enrollment cap, once the change, including
+ * any promotion from the waitlist, is complete.
+ * 
+ * @author Maxim Shelepov
+ */
+public interface RollListener {
+	/**
+	 * Called after the roll of a Course changes.
+	 * @param course the Course whose roll changed
+	 */
+	void rollChanged(Course course);
+}
@@ -0,0 +1,21 @@
+package edu.ncsu.csc216.pack_scheduler.course.roll;
+
+import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.user.Student;
+
+/**
+ * WaitlistPolicy is an interface that ranks Students on a CourseRoll's waitlist. Students with lower priority
+ * values are promoted first, and Students with equal priority values are promoted in the order they joined the
+ * waitlist. For example, a policy may give majors priority 0 and everyone else priority 1.
+ * 
+ * @author Maxim Shelepov
+ */
+public interface WaitlistPolicy {
+	/**
+	 * Returns the waitlist priority of a Student for a Course.
+	 * @param course the Course being waitlisted
+	 * @param student the waitlisted Student
+	 * @return the priority, lower values are promoted first
+	 */
+	int getPriority(Course course, Student student);
+}
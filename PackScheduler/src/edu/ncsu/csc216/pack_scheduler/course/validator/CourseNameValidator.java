@@ -8,6 +8,9 @@ package edu.ncsu.csc216.pack_scheduler.course.validator;
  * with 4 concrete states: Initial, Letter, Digit, and Suffix. The object can be in only one state at a time, beginning with the 
  * initial state and ending in valid digit or suffix state.
  * 
+ * Note: Course validates names with the shared CourseNameValidatorDFA; this class is kept as a reference
+ * implementation that the DFA is tested against.
+ * 
  * @author Maxim Shelepov
  */
 public class CourseNameValidator {
@@ -0,0 +1,171 @@
+package edu.ncsu.csc216.pack_scheduler.course.validator;
+
+/**
+ * CourseNameValidatorDFA validates course names with a precomputed transition table instead of state objects
+ * or exceptions. It accepts exactly the same names as CourseNameValidatorFSM and CourseNameValidator:
+ * <ul>
+ * <li>At least 1 and at most 4 letters.
+ * <li>Exactly 3 digits.
+ * <li>Optional letter suffix.
+ * </ul>
+ * The validator holds no per-call state, so the single shared instance returned by <code>getInstance()</code>
+ * is thread-safe and can be used by every Course. Rejections are reported through the error codes returned by
+ * <code>validate()</code>; <code>getErrorMessage()</code> maps a code to the message the reference validators
+ * put in their InvalidTransitionException.
+ *
+ * @author Maxim Shelepov
+ */
+public class CourseNameValidatorDFA {
+	/** Code returned for a valid course name */
+	public static final int VALID = 0;
+	/** Code returned when the name ends before reaching an end state (too short or missing digits) */
+	public static final int ERROR_INCOMPLETE = 1;
+	/** Code returned when the name contains a character that is not a letter or digit */
+	public static final int ERROR_OTHER_CHARACTER = 2;
+	/** Code returned when the name starts with a digit */
+	public static final int ERROR_START_DIGIT = 3;
+	/** Code returned when the name starts with more than 4 letters */
+	public static final int ERROR_TOO_MANY_LETTERS = 4;
+	/** Code returned when a letter follows fewer than 3 digits */
+	public static final int ERROR_TOO_FEW_DIGITS = 5;
+	/** Code returned when more than 3 digits follow the letters */
+	public static final int ERROR_TOO_MANY_DIGITS = 6;
+	/** Code returned when more than 1 suffix letter is present */
+	public static final int ERROR_SUFFIX_LETTER = 7;
+	/** Code returned when a digit follows the suffix */
+	public static final int ERROR_SUFFIX_DIGIT = 8;
+
+	/** Messages for each code, matching the reference validators' InvalidTransitionException messages */
+	private static final String[] MESSAGES = {
+		null,
+		"Course name is incomplete.",
+		"Course name can only contain letters and digits.",
+		"Course name must start with a letter.",
+		"Course name cannot start with more than 4 letters.",
+		"Course name must have 3 digits.",
+		"Course name can only have 3 digits.",
+		"Course name can only have a 1 letter suffix.",
+		"Course name cannot contain digits after the suffix."
+	};
+
+	/** Character class of letters */
+	private static final int LETTER = 0;
+	/** Character class of digits */
+	private static final int DIGIT = 1;
+	/** Character class of every other character */
+	private static final int OTHER = 2;
+
+	/** Initial state before input is examined */
+	private static final int STATE_INITIAL = 0;
+	/** State at which three digits have been identified */
+	private static final int STATE_DDD = 7;
+	/** State at which a suffix letter has been identified */
+	private static final int STATE_SUFFIX = 8;
+
+	/**
+	 * Transition table indexed by [state][character class]. Non-negative entries are the next state and
+	 * negative entries are the negated error code of a disallowed transition. States 1-4 count letters and
+	 * states 5-7 count digits, as in CourseNameValidatorFSM.
+	 */
+	private static final int[][] TRANSITIONS = {
+		/* initial */ {1, -ERROR_START_DIGIT, -ERROR_OTHER_CHARACTER},
+		/* L       */ {2, 5, -ERROR_OTHER_CHARACTER},
+		/* LL      */ {3, 5, -ERROR_OTHER_CHARACTER},
+		/* LLL     */ {4, 5, -ERROR_OTHER_CHARACTER},
+		/* LLLL    */ {-ERROR_TOO_MANY_LETTERS, 5, -ERROR_OTHER_CHARACTER},
+		/* D       */ {-ERROR_TOO_FEW_DIGITS, 6, -ERROR_OTHER_CHARACTER},
+		/* DD      */ {-ERROR_TOO_FEW_DIGITS, 7, -ERROR_OTHER_CHARACTER},
+		/* DDD     */ {8, -ERROR_TOO_MANY_DIGITS, -ERROR_OTHER_CHARACTER},
+		/* suffix  */ {-ERROR_SUFFIX_LETTER, -ERROR_SUFFIX_DIGIT, -ERROR_OTHER_CHARACTER}
+	};
+
+	/** Character classes of the ASCII range, so common input never calls into Character */
+	private static final int[] ASCII_CLASSES = new int[128];
+
+	static {
+		for (char c = 0; c < ASCII_CLASSES.length; c++) {
+			ASCII_CLASSES[c] = classify(c);
+		}
+	}
+
+	/** The single shared instance */
+	private static final CourseNameValidatorDFA INSTANCE = new CourseNameValidatorDFA();
+
+	/**
+	 * Constructs the validator. Private as the class is stateless and shared through getInstance().
+	 */
+	private CourseNameValidatorDFA() {
+		// nothing to initialize
+	}
+
+	/**
+	 * Returns the shared validator instance.
+	 * @return the shared CourseNameValidatorDFA
+	 */
+	public static CourseNameValidatorDFA getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Validates a course name, returning VALID or the code of the first rejected character. A name that
+	 * runs out of characters before reaching 3 digits returns ERROR_INCOMPLETE, which the reference validators
+	 * report by returning false rather than throwing.
+	 * @param courseName the name of the Course to validate
+	 * @return VALID if the course name is valid, otherwise one of the ERROR codes
+	 * @throws NullPointerException if courseName is null
+	 */
+	public int validate(String courseName) {
+		int state = STATE_INITIAL;
+
+		for (int i = 0; i < courseName.length(); i++) {
+			char c = courseName.charAt(i);
+			int charClass = c < ASCII_CLASSES.length ? ASCII_CLASSES[c] : classify(c);
+
+			state = TRANSITIONS[state][charClass];
+			if (state < 0) {
+				return -state;
+			}
+		}
+
+		return state == STATE_DDD || state == STATE_SUFFIX ? VALID : ERROR_INCOMPLETE;
+	}
+
+	/**
+	 * Returns true if the course name is valid.
+	 * @param courseName the name of the Course to validate
+	 * @return true if the course name is valid, false otherwise
+	 * @throws NullPointerException if courseName is null
+	 */
+	public boolean isValid(String courseName) {
+		return validate(courseName) == VALID;
+	}
+
+	/**
+	 * Returns the message describing an error code returned by <code>validate()</code>.
+	 * @param code the code to describe
+	 * @return the message for the code, or null for VALID
+	 * @throws IllegalArgumentException if the code is unknown
+	 */
+	public static String getErrorMessage(int code) {
+		if (code < 0 || code >= MESSAGES.length) {
+			throw new IllegalArgumentException("Invalid error code.");
+		}
+
+		return MESSAGES[code];
+	}
+
+	/**
+	 * Helper method that maps a character to its class using the same checks as the reference validators.
+	 * @param c the character to classify
+	 * @return LETTER, DIGIT, or OTHER
+	 */
+	private static int classify(char c) {
+		if (Character.isLetter(c)) {
+			return LETTER;
+		} else if (Character.isDigit(c)) {
+			return DIGIT;
+		}
+
+		return OTHER;
+	}
+}
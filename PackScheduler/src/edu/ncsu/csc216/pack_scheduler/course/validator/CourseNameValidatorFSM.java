@@ -4,6 +4,9 @@ package edu.ncsu.csc216.pack_scheduler.course.validator;
  * Finite State Machine for checking whether
  * a Course's Name is valid.
  * 
+ * Note: Course validates names with the shared CourseNameValidatorDFA; this class is kept as a reference
+ * implementation that the DFA is tested against.
+ * 
  * @author Jason King
  * @author Sarah Heckman
  */
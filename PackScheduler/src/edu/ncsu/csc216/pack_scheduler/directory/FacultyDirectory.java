@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.Iterator;
 
 import edu.ncsu.csc216.pack_scheduler.io.FacultyRecordIO;
 import edu.ncsu.csc216.pack_scheduler.user.Faculty;
@@ -83,9 +84,10 @@ public class FacultyDirectory {
 	 * @return if the faculty member was removed
 	 */
 	public boolean removeFaculty(String name) {
-		for (int i = 0; i < faculty.size(); i++) {
-			if (faculty.get(i).getId().equals(name)) {
-				faculty.remove(i);
+		Iterator<Faculty> it = faculty.iterator();
+		while (it.hasNext()) {
+			if (it.next().getId().equals(name)) {
+				it.remove();
 				return true;
 			}
 		}
@@ -97,14 +99,22 @@ public class FacultyDirectory {
 	 */
 	public String[][] getFacultyDirectory(){
 		String[][] stringList = new String[faculty.size()][3];
-		for (int i = 0; i < faculty.size(); i++) {
-			Faculty f = faculty.get(i);
+		int i = 0;
+		for (Faculty f : faculty) {
 			stringList[i][0] = f.getFirstName();
 			stringList[i][1] = f.getLastName();
 			stringList[i][2] = f.getId();
+			i++;
 		}
 		return stringList;
 	}
+	/**
+	 * Returns the faculty members of the directory
+	 * @return array of the Faculty in directory order
+	 */
+	public Faculty[] getFaculty() {
+		return faculty.toArray(new Faculty[faculty.size()]);
+	}
 	/**
 	 * Saves the faculty directory to a file
 	 * @param fileName the name of the file to save to
@@ -122,9 +132,9 @@ public class FacultyDirectory {
 	 * @return Faculty member with the id
 	 */
 	public Faculty getFacultyById(String id) {
-		for (int i = 0; i < faculty.size(); i++) {
-			if (id.equals(faculty.get(i).getId())) {
-		        return faculty.get(i);
+		for (Faculty f : faculty) {
+			if (id.equals(f.getId())) {
+		        return f;
 		    }
 		}
 		return null;
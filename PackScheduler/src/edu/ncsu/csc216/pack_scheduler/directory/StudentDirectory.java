@@ -5,15 +5,18 @@ import java.io.IOException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.HashMap;
 
 import edu.ncsu.csc216.pack_scheduler.io.StudentRecordIO;
 import edu.ncsu.csc216.pack_scheduler.user.Student;
 import edu.ncsu.csc216.pack_scheduler.user.User;
-import edu.ncsu.csc217.collections.list.SortedList;
+import edu.ncsu.csc216.pack_scheduler.util.BTreeSortedList;
 
 /**
  * Maintains a directory of all students enrolled at NC State.
- * All students have a unique id and are stored in a SortedList of Student's. The class also
+ * All students have a unique id and are stored in a BTreeSortedList of Student's, sorted
+ * by name, and indexed by id in a HashMap, so finding, adding, and removing a student by
+ * id stay O(log n) in large directories. The class also
  * provides a standard hash algorithm constant as one of its fields.
  * 
  * @author Sarah Heckman
@@ -21,7 +24,9 @@ import edu.ncsu.csc217.collections.list.SortedList;
 public class StudentDirectory {
 	
 	/** List of students in the directory */
-	private SortedList<Student> studentDirectory;
+	private BTreeSortedList<Student> studentDirectory;
+	/** Students in the directory by id */
+	private HashMap<String, Student> studentsById;
 	/** Hashing algorithm */
 	private static final String HASH_ALGORITHM = "SHA-256";
 	
@@ -37,7 +42,8 @@ public class StudentDirectory {
 	 * list are emptied unless saved by the user to external file.
 	 */
 	public void newStudentDirectory() {
-		studentDirectory = new SortedList<Student>();
+		studentDirectory = new BTreeSortedList<Student>();
+		studentsById = new HashMap<String, Student>();
 	}
 	
 	/**
@@ -53,6 +59,10 @@ public class StudentDirectory {
 		} catch (FileNotFoundException e) {
 			throw new IllegalArgumentException("Unable to read file " + fileName);
 		}
+		studentsById = new HashMap<String, Student>();
+		for (Student s : studentDirectory) {
+			studentsById.put(s.getId(), s);
+		}
 	}
 	
 	/**
@@ -94,13 +104,12 @@ public class StudentDirectory {
 			student = new Student(firstName, lastName, id, email, hashPW, maxCredits);
 		}
 		
-		for (int i = 0; i < studentDirectory.size(); i++) {
-			User s = studentDirectory.get(i);
-			if (s.getId().equals(student.getId())) {
-				return false;
-			}
+		if (studentsById.containsKey(student.getId())) {
+			return false;
 		}
-		return studentDirectory.add(student);
+		studentDirectory.add(student);
+		studentsById.put(student.getId(), student);
+		return true;
 	}
 	
 	/**
@@ -128,14 +137,8 @@ public class StudentDirectory {
 	 * @return true if removed and false if unsuccessful
 	 */
 	public boolean removeStudent(String studentId) {
-		for (int i = 0; i < studentDirectory.size(); i++) {
-			User s = studentDirectory.get(i);
-			if (s.getId().equals(studentId)) {
-				studentDirectory.remove(i);
-				return true;
-			}
-		}
-		return false;
+		Student s = studentsById.remove(studentId);
+		return s != null && studentDirectory.remove(s);
 	}
 	
 	/**
@@ -144,11 +147,12 @@ public class StudentDirectory {
 	 */
 	public String[][] getStudentDirectory() {
 		String [][] directory = new String[studentDirectory.size()][3];
-		for (int i = 0; i < studentDirectory.size(); i++) {
-			User s = studentDirectory.get(i);
+		int i = 0;
+		for (User s : studentDirectory) {
 			directory[i][0] = s.getFirstName();
 			directory[i][1] = s.getLastName();
 			directory[i][2] = s.getId();
+			i++;
 		}
 		return directory;
 	}
@@ -172,13 +176,7 @@ public class StudentDirectory {
 	 * @return the Student matching the provided student id or null if not found
 	 */
 	public Student getStudentById(String id) {
-		for (int i = 0; i < studentDirectory.size(); i++) {
-			Student s = studentDirectory.get(i);
-			if (id.equals(s.getId())) {
-				return s;
-			}
-		}
-		return null;
+		return studentsById.get(id);
 	}
 
 }
@@ -8,7 +8,11 @@ import java.util.NoSuchElementException;
 import java.util.Scanner;
 import edu.ncsu.csc216.pack_scheduler.course.Course;
 import edu.ncsu.csc216.pack_scheduler.manager.RegistrationManager;
-import edu.ncsu.csc217.collections.list.SortedList;
+import edu.ncsu.csc216.pack_scheduler.metrics.Counter;
+import edu.ncsu.csc216.pack_scheduler.metrics.MetricsRegistry;
+import edu.ncsu.csc216.pack_scheduler.metrics.RecordLoadEvent;
+import edu.ncsu.csc216.pack_scheduler.metrics.Timer;
+import edu.ncsu.csc216.pack_scheduler.util.BTreeSortedList;
 
 /**
  * CourseRecordIO is a utility class that reads and writes Course records from and to text files.
@@ -23,6 +27,15 @@ import edu.ncsu.csc217.collections.list.SortedList;
  * @author Maxim Shelepov
  */
 public class CourseRecordIO {
+    /** Time taken by reads of course record files */
+    private static final Timer READ_TIME = MetricsRegistry.getInstance().timer("record_read_seconds", "file", "course");
+    /** Time taken by writes of course record files */
+    private static final Timer WRITE_TIME = MetricsRegistry.getInstance().timer("record_write_seconds", "file", "course");
+    /** Course records read */
+    private static final Counter RECORDS_READ = MetricsRegistry.getInstance().counter("records_read_total", "file", "course");
+    /** Course records skipped as invalid or duplicate */
+    private static final Counter RECORDS_SKIPPED = MetricsRegistry.getInstance().counter("records_skipped_total", "file", "course");
+
 
     /**
      * Reads course records from a file and generates a list of valid Courses. Any invalid
@@ -32,9 +45,13 @@ public class CourseRecordIO {
      * @return a list of valid Courses
      * @throws FileNotFoundException if the file cannot be found or read
      */
-    public static SortedList<Course> readCourseRecords(String fileName) throws FileNotFoundException {
+    public static BTreeSortedList<Course> readCourseRecords(String fileName) throws FileNotFoundException {
+    	RecordLoadEvent event = new RecordLoadEvent();
+    	event.begin();
+    	long start = READ_TIME.start();
+    	int skipped = 0;
     	Scanner fileReader = new Scanner(new FileInputStream(fileName)); // Create a file scanner to read the file
-        SortedList<Course> courses = new SortedList<Course>(); // Create an empty array of Course objects
+        BTreeSortedList<Course> courses = new BTreeSortedList<Course>(); // Create an empty sorted list of Course objects
         
         while (fileReader.hasNextLine()) { // While we have more lines in the file
             try { // Attempt to do the following
@@ -42,32 +59,27 @@ public class CourseRecordIO {
                 // If trying to construct a Course in readCourse() results in an exception, flow of control will transfer to the catch block, below
                 Course course = readCourse(fileReader.nextLine()); 
 
-                // Create a flag to see if the newly created Course is a duplicate of something already in the list  
-                boolean duplicate = false;
-                // Look at all the courses in our list
-                for (int i = 0; i < courses.size(); i++) {
-                    // Get the course at index i
-                    Course current = courses.get(i);
-                    // Check if the name and section are the same
-                    if (course.getName().equals(current.getName()) &&
-                            course.getSection().equals(current.getSection())) {
-                        // It's a duplicate!
-                        duplicate = true;
-                        break; // We can break out of the loop, no need to continue searching
-                    }
-                }
+                // Courses sort by name then section, so an equal Course in the list is a duplicate
+                boolean duplicate = courses.contains(course);
                 // If the course is NOT a duplicate
                 if (!duplicate) {
                     courses.add(course); //Add to the ArrayList!
-                } // Otherwise ignore
+                } else {
+                    skipped++; // Otherwise ignore
+                }
             } catch (IllegalArgumentException e) {
                 // The line is invalid b/c we couldn't create a course, skip it!
+                skipped++;
             }
         }
         
         // Close the Scanner b/c we're responsible with our file handles
         fileReader.close();
-        // Return the SortedList with all the courses we read!
+        RECORDS_READ.add(courses.size());
+        RECORDS_SKIPPED.add(skipped);
+        READ_TIME.stop(start);
+        event.finish(fileName, "course", courses.size(), skipped);
+        // Return the sorted list with all the courses we read!
         return courses;
     }
     /**
@@ -135,14 +147,32 @@ public class CourseRecordIO {
      * @param courses list of Courses to write
      * @throws IOException if cannot write to file
      */
-    public static void writeCourseRecords(String fileName, SortedList<Course> courses) throws IOException {
+    public static void writeCourseRecords(String fileName, BTreeSortedList<Course> courses) throws IOException {
+    	Course[] array = new Course[courses.size()];
+    	int i = 0;
+    	for (Course c : courses) {
+    	    array[i++] = c;
+    	}
+    	writeCourseRecords(fileName, array);
+    }
+
+	/**
+     * Writes the given Courses to a file in array order, as from a CatalogSnapshot. If unsuccessful, 
+     * throws IOException.
+     * @param fileName file to write schedule of Courses to
+     * @param courses Courses to write
+     * @throws IOException if cannot write to file
+     */
+    public static void writeCourseRecords(String fileName, Course[] courses) throws IOException {
+    	long start = WRITE_TIME.start();
     	PrintStream fileWriter = new PrintStream(new File(fileName));
 
-    	for (int i = 0; i < courses.size(); i++) {
-    	    fileWriter.println(courses.get(i).toString());
+    	for (Course c : courses) {
+    	    fileWriter.println(c.toString());
     	}
 
     	fileWriter.close();
+    	WRITE_TIME.stop(start);
         
     }
 
@@ -8,6 +8,10 @@ import java.io.PrintStream;
 import java.util.NoSuchElementException;
 import java.util.Scanner;
 
+import edu.ncsu.csc216.pack_scheduler.metrics.Counter;
+import edu.ncsu.csc216.pack_scheduler.metrics.MetricsRegistry;
+import edu.ncsu.csc216.pack_scheduler.metrics.RecordLoadEvent;
+import edu.ncsu.csc216.pack_scheduler.metrics.Timer;
 import edu.ncsu.csc216.pack_scheduler.user.Faculty;
 import edu.ncsu.csc216.pack_scheduler.user.User;
 import edu.ncsu.csc216.pack_scheduler.util.LinkedList;
@@ -21,6 +25,14 @@ import edu.ncsu.csc216.pack_scheduler.util.LinkedList;
  * Faculty directory records to an external plain text file.
  */
 public class FacultyRecordIO {
+	/** Time taken by reads of faculty record files */
+	private static final Timer READ_TIME = MetricsRegistry.getInstance().timer("record_read_seconds", "file", "faculty");
+	/** Time taken by writes of faculty record files */
+	private static final Timer WRITE_TIME = MetricsRegistry.getInstance().timer("record_write_seconds", "file", "faculty");
+	/** Faculty records read */
+	private static final Counter RECORDS_READ = MetricsRegistry.getInstance().counter("records_read_total", "file", "faculty");
+	/** Faculty records skipped as invalid or duplicate */
+	private static final Counter RECORDS_SKIPPED = MetricsRegistry.getInstance().counter("records_skipped_total", "file", "faculty");
 	
 	/**
 	 * Reads Faculty records from a file and returns them as a LinkedList.
@@ -30,6 +42,10 @@ public class FacultyRecordIO {
 	 * @throws FileNotFoundException if the specified file is not found
 	 */
 	public static LinkedList<Faculty> readFacultyRecords(String filename) throws FileNotFoundException {
+		RecordLoadEvent event = new RecordLoadEvent();
+		event.begin();
+		long start = READ_TIME.start();
+		int skipped = 0;
 		Scanner fileReader = new Scanner(new FileInputStream(filename));
 		LinkedList<Faculty> faculty = new LinkedList<>();
 		while (fileReader.hasNextLine()) {
@@ -38,8 +54,7 @@ public class FacultyRecordIO {
 
 				boolean duplicate = false;
 
-				for (int i = 0; i < faculty.size(); i++) {
-					User current = faculty.get(i);
+				for (User current : faculty) {
 					if (student.getId().equals(current.getId())) {
 						duplicate = true;
 						break;
@@ -47,13 +62,20 @@ public class FacultyRecordIO {
 				}
 				if (!duplicate) {
 					faculty.add(student);
+				} else {
+					skipped++;
 				}
 			} catch (IllegalArgumentException e) {
 				// The line is invalid b/c we couldn't create a course, skip it!
+				skipped++;
 			}
 		}
 
 		fileReader.close();
+		RECORDS_READ.add(faculty.size());
+		RECORDS_SKIPPED.add(skipped);
+		READ_TIME.stop(start);
+		event.finish(filename, "faculty", faculty.size(), skipped);
 		return faculty;
 		
 	}
@@ -91,13 +113,15 @@ public class FacultyRecordIO {
 	 * @throws IOException if file does not exist or unable to write to file
 	 */
 	public static void writeFacultyRecords(String fileName, LinkedList<Faculty> facultyDirectory) throws IOException {
+		long start = WRITE_TIME.start();
 		PrintStream fileWriter = new PrintStream(new File(fileName));
 	
-		for (int i = 0; i < facultyDirectory.size(); i++) {
-			fileWriter.println(facultyDirectory.get(i).toString());
+		for (Faculty f : facultyDirectory) {
+			fileWriter.println(f.toString());
 		}
 	
 		fileWriter.close();
+		WRITE_TIME.stop(start);
 	}
 	
 
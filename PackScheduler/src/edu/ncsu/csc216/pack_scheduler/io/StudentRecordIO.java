@@ -6,11 +6,15 @@ import java.util.Scanner;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.io.File;
+import java.util.HashSet;
 import java.util.NoSuchElementException;
 
+import edu.ncsu.csc216.pack_scheduler.metrics.Counter;
+import edu.ncsu.csc216.pack_scheduler.metrics.MetricsRegistry;
+import edu.ncsu.csc216.pack_scheduler.metrics.RecordLoadEvent;
+import edu.ncsu.csc216.pack_scheduler.metrics.Timer;
 import edu.ncsu.csc216.pack_scheduler.user.Student;
-import edu.ncsu.csc216.pack_scheduler.user.User;
-import edu.ncsu.csc217.collections.list.SortedList;
+import edu.ncsu.csc216.pack_scheduler.util.BTreeSortedList;
 
 /**
  * StudentRecordIO is a utility class for reading and writing Student records
@@ -24,10 +28,20 @@ import edu.ncsu.csc217.collections.list.SortedList;
  * @author Maxim Shelepov
  */
 public class StudentRecordIO {
+	/** Time taken by reads of student record files */
+	private static final Timer READ_TIME = MetricsRegistry.getInstance().timer("record_read_seconds", "file", "student");
+	/** Time taken by writes of student record files */
+	private static final Timer WRITE_TIME = MetricsRegistry.getInstance().timer("record_write_seconds", "file", "student");
+	/** Student records read */
+	private static final Counter RECORDS_READ = MetricsRegistry.getInstance().counter("records_read_total", "file", "student");
+	/** Student records skipped as invalid or duplicate */
+	private static final Counter RECORDS_SKIPPED = MetricsRegistry.getInstance().counter("records_skipped_total", "file", "student");
+	
 	/**
-	 * Reads student records from a file and returns them as a SortedList.
+	 * Reads student records from a file and returns them as a BTreeSortedList.
 	 * 
-	 * Note: Duplicates of Student records are ignored.
+	 * Note: Duplicates of Student records are ignored. Students sort by name, so duplicate ids are found with a
+	 * set of the ids read rather than by searching the list.
 	 * 
 	 * Citation: The code for this method is based on the GP1
 	 * CourseRecordsIO.readCourseRecords method and class. The cited code can be
@@ -38,32 +52,36 @@ public class StudentRecordIO {
 	 * @return sorted list containing student records
 	 * @throws FileNotFoundException if the specified file is not found
 	 */
-	public static SortedList<Student> readStudentRecords(String fileName) throws FileNotFoundException {
+	public static BTreeSortedList<Student> readStudentRecords(String fileName) throws FileNotFoundException {
+		RecordLoadEvent event = new RecordLoadEvent();
+		event.begin();
+		long start = READ_TIME.start();
+		int skipped = 0;
 		Scanner fileReader = new Scanner(new FileInputStream(fileName));
-		SortedList<Student> students = new SortedList<>();
+		BTreeSortedList<Student> students = new BTreeSortedList<Student>();
+		HashSet<String> ids = new HashSet<String>();
 
 		while (fileReader.hasNextLine()) {
 			try {
 				Student student = processStudent(fileReader.nextLine());
 
-				boolean duplicate = false;
-
-				for (int i = 0; i < students.size(); i++) {
-					User current = students.get(i);
-					if (student.getId().equals(current.getId())) {
-						duplicate = true;
-						break;
-					}
-				}
+				boolean duplicate = !ids.add(student.getId());
 				if (!duplicate) {
 					students.add(student);
+				} else {
+					skipped++;
 				}
 			} catch (IllegalArgumentException e) {
 				// The line is invalid b/c we couldn't create a course, skip it!
+				skipped++;
 			}
 		}
 
 		fileReader.close();
+		RECORDS_READ.add(students.size());
+		RECORDS_SKIPPED.add(skipped);
+		READ_TIME.stop(start);
+		event.finish(fileName, "student", students.size(), skipped);
 		return students;
 	}
 
@@ -117,14 +135,16 @@ public class StudentRecordIO {
 	 * @param studentDirectory the students to write to the specified file
 	 * @throws IOException if file does not exist or unable to write to file
 	 */
-	public static void writeStudentRecords(String fileName, SortedList<Student> studentDirectory) throws IOException {
+	public static void writeStudentRecords(String fileName, BTreeSortedList<Student> studentDirectory) throws IOException {
+		long start = WRITE_TIME.start();
 		PrintStream fileWriter = new PrintStream(new File(fileName));
 	
-		for (int i = 0; i < studentDirectory.size(); i++) {
-			fileWriter.println(studentDirectory.get(i).toString());
+		for (Student s : studentDirectory) {
+			fileWriter.println(s.toString());
 		}
 	
 		fileWriter.close();
+		WRITE_TIME.stop(start);
 	}
 
 }
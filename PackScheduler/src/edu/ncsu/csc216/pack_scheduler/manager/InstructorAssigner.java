@@ -0,0 +1,217 @@
+package edu.ncsu.csc216.pack_scheduler.manager;
+
+import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.user.Faculty;
+
+/**
+ * InstructorAssigner finds a load-balanced assignment of instructors to courses. Each Faculty may teach up to
+ * their max courses, counting the courses already on their FacultySchedule, and never two courses that conflict.
+ * <p>
+ * The assignment is built as a bipartite matching between courses and Faculty, one load level at a time: first
+ * every Faculty may teach one course, then two, up to Faculty.MAX_COURSES. At each level every unassigned course
+ * looks for an augmenting path, a chain of reassignments ending at a Faculty with room, so no course assigned at
+ * a lower level is dropped to make room for another and no Faculty reaches a higher load while another could
+ * still take the course at a lower one. Conflicts are re-checked along the path against the Faculty's current
+ * courses.
+ *
+ * @author Maxim Shelepov
+ */
+public class InstructorAssigner {
+	/** Courses to assign */
+	private Course[] courses;
+	/** Faculty to assign courses to */
+	private Faculty[] faculty;
+	/** Index of the Faculty assigned each course, or -1 */
+	private int[] owner;
+	/** Number of courses each Faculty teaches, scheduled or assigned */
+	private int[] load;
+	/** Indexes of the courses assigned to each Faculty */
+	private int[][] taught;
+	/** Number of courses assigned to each Faculty */
+	private int[] numTaught;
+	/** Indexes of the Faculty with room at the current level */
+	private int[] open;
+	/** Position of each Faculty in open, or -1 */
+	private int[] openPosition;
+	/** Number of Faculty with room at the current level */
+	private int numOpen;
+	/** Most courses a Faculty may teach at the current level */
+	private int level;
+	/** Search in which each Faculty was last visited */
+	private int[] visited;
+	/** Current search */
+	private int stamp;
+
+	/**
+	 * Constructs an InstructorAssigner for the given courses and Faculty.
+	 * @param courses the courses to assign, courses with an instructor are left alone
+	 * @param faculty the Faculty to assign them to
+	 * @throws IllegalArgumentException if either array is null or holds null
+	 */
+	public InstructorAssigner(Course[] courses, Faculty[] faculty) {
+		if (courses == null || faculty == null) {
+			throw new IllegalArgumentException("Invalid assignment.");
+		}
+		for (Course c : courses) {
+			if (c == null) {
+				throw new IllegalArgumentException("Invalid assignment.");
+			}
+		}
+		for (Faculty f : faculty) {
+			if (f == null) {
+				throw new IllegalArgumentException("Invalid assignment.");
+			}
+		}
+		this.courses = courses.clone();
+		this.faculty = faculty.clone();
+	}
+
+	/**
+	 * Computes the assignment without changing any course or FacultySchedule.
+	 * @return the Faculty assigned each course, index aligned with the courses, or null where no Faculty can
+	 *         take the course or it already has an instructor
+	 */
+	public Faculty[] solve() {
+		owner = new int[courses.length];
+		for (int c = 0; c < courses.length; c++) {
+			owner[c] = -1;
+		}
+		load = new int[faculty.length];
+		taught = new int[faculty.length][Faculty.MAX_COURSES];
+		numTaught = new int[faculty.length];
+		open = new int[faculty.length];
+		openPosition = new int[faculty.length];
+		visited = new int[faculty.length];
+		stamp = 0;
+		for (int f = 0; f < faculty.length; f++) {
+			load[f] = faculty[f].getSchedule().getNumScheduledCourses();
+		}
+
+		for (level = 1; level <= Faculty.MAX_COURSES; level++) {
+			numOpen = 0;
+			for (int f = 0; f < faculty.length; f++) {
+				openPosition[f] = -1;
+				updateOpen(f);
+			}
+			for (int c = 0; c < courses.length && numOpen > 0; c++) {
+				if (owner[c] == -1 && courses[c].getInstructorId() == null) {
+					stamp++;
+					augment(c);
+				}
+			}
+		}
+
+		Faculty[] result = new Faculty[courses.length];
+		for (int c = 0; c < courses.length; c++) {
+			if (owner[c] != -1) {
+				result[c] = faculty[owner[c]];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Computes the assignment and adds each assigned course to its Faculty's schedule.
+	 * @return the number of courses assigned
+	 */
+	public int assign() {
+		Faculty[] result = solve();
+		int assigned = 0;
+		for (int c = 0; c < courses.length; c++) {
+			if (result[c] != null) {
+				result[c].getSchedule().addCourseToSchedule(courses[c]);
+				assigned++;
+			}
+		}
+		return assigned;
+	}
+
+	/**
+	 * Helper method that looks for an augmenting path assigning a course: a Faculty with room takes it, or a
+	 * Faculty takes it once one of their assigned courses moves to another Faculty along a further path.
+	 * @param c the index of the course
+	 * @return true if the course was assigned
+	 */
+	private boolean augment(int c) {
+		for (int i = 0; i < numOpen; i++) {
+			int f = open[i];
+			if (visited[f] != stamp && f != owner[c] && canTeach(f, c, -1)) {
+				give(c, f);
+				return true;
+			}
+		}
+
+		for (int f = 0; f < faculty.length; f++) {
+			if (visited[f] == stamp || f == owner[c]) {
+				continue;
+			}
+			visited[f] = stamp;
+			for (int k = 0; k < numTaught[f]; k++) {
+				int other = taught[f][k];
+				if (canTeach(f, c, other) && augment(other)) {
+					give(c, f);
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Helper method that returns whether a Faculty could teach a course alongside their scheduled courses and
+	 * their assigned courses.
+	 * @param f the index of the Faculty
+	 * @param c the index of the course
+	 * @param skip the index of an assigned course to leave out, or -1
+	 * @return true if the course conflicts with none of the Faculty's courses
+	 */
+	private boolean canTeach(int f, int c, int skip) {
+		for (int k = 0; k < numTaught[f]; k++) {
+			int other = taught[f][k];
+			if (other != skip && courses[c].conflictsWith(courses[other])) {
+				return false;
+			}
+		}
+		return faculty[f].getSchedule().canAssign(courses[c]);
+	}
+
+	/**
+	 * Helper method that assigns a course to a Faculty, taking it from its current Faculty.
+	 * @param c the index of the course
+	 * @param f the index of the Faculty
+	 */
+	private void give(int c, int f) {
+		int from = owner[c];
+		if (from != -1) {
+			for (int k = 0; k < numTaught[from]; k++) {
+				if (taught[from][k] == c) {
+					taught[from][k] = taught[from][--numTaught[from]];
+					break;
+				}
+			}
+			load[from]--;
+			updateOpen(from);
+		}
+		owner[c] = f;
+		taught[f][numTaught[f]++] = c;
+		load[f]++;
+		updateOpen(f);
+	}
+
+	/**
+	 * Helper method that adds a Faculty to or removes them from the Faculty with room at the current level.
+	 * @param f the index of the Faculty
+	 */
+	private void updateOpen(int f) {
+		boolean hasRoom = load[f] < Math.min(level, faculty[f].getMaxCourses());
+		if (hasRoom && openPosition[f] == -1) {
+			openPosition[f] = numOpen;
+			open[numOpen++] = f;
+		} else if (!hasRoom && openPosition[f] != -1) {
+			int last = open[--numOpen];
+			open[openPosition[f]] = last;
+			openPosition[last] = openPosition[f];
+			openPosition[f] = -1;
+		}
+	}
+}
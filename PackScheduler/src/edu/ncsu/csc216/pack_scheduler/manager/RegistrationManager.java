@@ -6,13 +6,23 @@ import java.io.InputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Properties;
 
 import edu.ncsu.csc216.pack_scheduler.catalog.CourseCatalog;
+import edu.ncsu.csc216.pack_scheduler.catalog.MigrationReport;
+import edu.ncsu.csc216.pack_scheduler.catalog.ScheduleSearch;
 import edu.ncsu.csc216.pack_scheduler.course.Course;
 import edu.ncsu.csc216.pack_scheduler.course.roll.CourseRoll;
+import edu.ncsu.csc216.pack_scheduler.course.roll.EnrollResult;
 import edu.ncsu.csc216.pack_scheduler.directory.FacultyDirectory;
 import edu.ncsu.csc216.pack_scheduler.directory.StudentDirectory;
+import edu.ncsu.csc216.pack_scheduler.metrics.Counter;
+import edu.ncsu.csc216.pack_scheduler.metrics.DropEvent;
+import edu.ncsu.csc216.pack_scheduler.metrics.EnrollEvent;
+import edu.ncsu.csc216.pack_scheduler.metrics.MetricsRegistry;
+import edu.ncsu.csc216.pack_scheduler.metrics.Timer;
 import edu.ncsu.csc216.pack_scheduler.user.Faculty;
 import edu.ncsu.csc216.pack_scheduler.user.Student;
 import edu.ncsu.csc216.pack_scheduler.user.User;
@@ -34,6 +44,11 @@ import edu.ncsu.csc216.pack_scheduler.user.schedule.Schedule;
  * <li> Enroll a Student in a Course.
  * <li> Drop a Student from a Course.
  * <li> Reset the Student Schedule.
+ * <li> Search for conflict-free schedules of wished Courses.
+ * <li> Migrate the students of a section, or cancel a section.
+ * <li> Assign instructors to every unassigned Course.
+ * <li> Count and time logins, enrolls, and drops by outcome in the MetricsRegistry, and record enrolls and 
+ *      drops as Flight Recorder events.
  * <li> Clear Course catalog and Student directory.
  * </ul>
  * 
@@ -59,6 +74,45 @@ public class RegistrationManager {
 	private static final String HASH_ALGORITHM = "SHA-256";
 	/** File name of the properties file with Registrar information */
 	private static final String PROP_FILE = "registrar.properties";
+	/** Time taken by logins */
+	private static final Timer LOGIN_TIME = MetricsRegistry.getInstance().timer("login_seconds");
+	/** Successful logins */
+	private static final Counter LOGIN_SUCCESS = loginCounter("success");
+	/** Logins with a wrong password, or while another User is logged in */
+	private static final Counter LOGIN_FAILURE = loginCounter("failure");
+	/** Logins of Users that don't exist */
+	private static final Counter LOGIN_UNKNOWN = loginCounter("unknown");
+	/** Time taken by enrolls */
+	private static final Timer ENROLL_TIME = MetricsRegistry.getInstance().timer("enroll_seconds");
+	/** Enroll counters by outcome */
+	private static final Map<EnrollResult, Counter> ENROLL_OUTCOMES = enrollCounters();
+	/** Time taken by drops */
+	private static final Timer DROP_TIME = MetricsRegistry.getInstance().timer("drop_seconds");
+	/** Drops that removed the Course from the Student's schedule */
+	private static final Counter DROP_DROPPED = MetricsRegistry.getInstance().counter("drop_total", "outcome", "dropped");
+	/** Drops of a Course not on the Student's schedule */
+	private static final Counter DROP_NOT_SCHEDULED = MetricsRegistry.getInstance().counter("drop_total", "outcome", "not_scheduled");
+
+	/**
+	 * Returns the login counter of a result.
+	 * @param result the result of the login
+	 * @return the counter
+	 */
+	private static Counter loginCounter(String result) {
+		return MetricsRegistry.getInstance().counter("login_total", "result", result);
+	}
+	
+	/**
+	 * Returns the enroll counters, one per outcome, labeled with the outcome in lower case.
+	 * @return the counters by outcome
+	 */
+	private static Map<EnrollResult, Counter> enrollCounters() {
+		Map<EnrollResult, Counter> counters = new EnumMap<EnrollResult, Counter>(EnrollResult.class);
+		for (EnrollResult result : EnrollResult.values()) {
+			counters.put(result, MetricsRegistry.getInstance().counter("enroll_total", "outcome", result.name().toLowerCase()));
+		}
+		return counters;
+	}
 
 	/**
 	 * Constructs the singleton instance of the RegistrationManager. Registers the Registrar and instantiates
@@ -202,6 +256,71 @@ public class RegistrationManager {
 		fs.resetSchedule();
 	}
 	
+	/**
+	 * Assigns instructors to every course in the catalog without one, balancing the load across the faculty 
+	 * directory. See <code>InstructorAssigner</code>.
+	 * @return the number of courses assigned an instructor
+	 * @throws IllegalArgumentException if the current user is not the Registrar
+	 */
+	public int assignInstructors() {
+		if(currentUser == null || currentUser != registrar) {
+			throw new IllegalArgumentException("Illegal Action");
+		}
+		
+		Course[] courses = courseCatalog.getSnapshot().getCourses();
+		int unassigned = 0;
+		for(int i = 0; i < courses.length; i++) {
+			if(courses[i].getInstructorId() == null) {
+				courses[unassigned++] = courses[i];
+			}
+		}
+		Course[] toAssign = new Course[unassigned];
+		System.arraycopy(courses, 0, toAssign, 0, unassigned);
+		return new InstructorAssigner(toAssign, faculty.getFaculty()).assign();
+	}
+	
+	/**
+	 * Moves every student of one section of a course to another section. See 
+	 * <code>CourseCatalog.migrateSection()</code>.
+	 * @param name the name of the course
+	 * @param fromSection the section to move students from
+	 * @param toSection the section to move students to
+	 * @return the report of moved and failed students
+	 * @throws IllegalArgumentException if the current user is not the Registrar, or the sections are invalid
+	 */
+	public MigrationReport migrateSection(String name, String fromSection, String toSection) {
+		if(currentUser == null || currentUser != registrar) {
+			throw new IllegalArgumentException("Illegal Action");
+		}
+		
+		return courseCatalog.migrateSection(name, fromSection, toSection);
+	}
+	
+	/**
+	 * Cancels a section of a course, moving its students to another section if one is given, and removes the 
+	 * section from its instructor's schedule. See <code>CourseCatalog.cancelSection()</code>.
+	 * @param name the name of the course
+	 * @param section the section to cancel
+	 * @param toSection the section to move students to, or null to drop every student
+	 * @return the report of moved and dropped students
+	 * @throws IllegalArgumentException if the current user is not the Registrar, or the sections are invalid
+	 */
+	public MigrationReport cancelSection(String name, String section, String toSection) {
+		if(currentUser == null || currentUser != registrar) {
+			throw new IllegalArgumentException("Illegal Action");
+		}
+		
+		Course c = courseCatalog.getCourseFromCatalog(name, section);
+		MigrationReport report = courseCatalog.cancelSection(name, section, toSection);
+		if(c.getInstructorId() != null) {
+			Faculty f = faculty.getFacultyById(c.getInstructorId());
+			if(f != null) {
+				f.getSchedule().removeCourseFromSchedule(c);
+			}
+		}
+		return report;
+	}
+	
 	/**
 	 * Logs-in a User using the provided id and password. Sets as the current system User.
 	 * If the User id matches but the password has doesn not, the login is not successful. If
@@ -212,6 +331,31 @@ public class RegistrationManager {
 	 * @throws IllegalArgumentException if the user doesn't exist
 	 */
 	public boolean login(String id, String password) {
+		long start = LOGIN_TIME.start();
+		try {
+			boolean loggedIn = authenticate(id, password);
+			if (loggedIn) {
+				LOGIN_SUCCESS.increment();
+			} else {
+				LOGIN_FAILURE.increment();
+			}
+			return loggedIn;
+		} catch (IllegalArgumentException e) {
+			LOGIN_UNKNOWN.increment();
+			throw e;
+		} finally {
+			LOGIN_TIME.stop(start);
+		}
+	}
+	
+	/**
+	 * Sets the User with the id as the current User if the password matches.
+	 * @param id the id of the User to login
+	 * @param password the password of the User
+	 * @return true if the login was successful, false otherwise
+	 * @throws IllegalArgumentException if the user doesn't exist
+	 */
+	private boolean authenticate(String id, String password) {
 		String localHashPW = hashPW(password);
 		Student stu = studentDirectory.getStudentById(id);
 		Faculty fac = faculty.getFacultyById(id);
@@ -289,29 +433,57 @@ public class RegistrationManager {
 	
 	/**
 	 * Returns true if the logged in student can enroll in the given course.
+	 * See <code>enroll()</code>.
 	 * @param c Course to enroll in
 	 * @return true if enrolled
 	 * @throws IllegalArgumentException if illegal action by current user
 	 */
 	public boolean enrollStudentInCourse(Course c) {
+	    return enroll(c).isSuccess();
+	}
+	
+	/**
+	 * Enrolls the logged in student in the given course, or puts them on 
+	 * its wait-list if the course is full, and returns the outcome. A 
+	 * rejected enroll returns why it was rejected instead of throwing.
+	 * @param c Course to enroll in
+	 * @return ENROLLED or WAITLISTED if the student was added, otherwise why not
+	 * @throws IllegalArgumentException if illegal action by current user
+	 */
+	public EnrollResult enroll(Course c) {
 	    if (!(currentUser instanceof Student)) {
 	        throw new IllegalArgumentException("Illegal Action");
 	    }
+	    EnrollEvent event = new EnrollEvent();
+	    event.begin();
+	    long start = ENROLL_TIME.start();
+	    Student s = (Student)currentUser;
+	    EnrollResult result = s.checkAdd(c);
 	    try {
-	        Student s = (Student)currentUser;
-	        Schedule schedule = s.getSchedule();
-	        CourseRoll roll = c.getCourseRoll();
-	        
-	        if (s.canAdd(c) && roll.canEnroll(s)) {
-	            schedule.addCourseToSchedule(c);
-	            roll.enroll(s);
-	            return true;
+	        if (result == EnrollResult.ENROLLED) {
+	            CourseRoll roll = c.getCourseRoll();
+	            result = roll.checkEnroll(s);
+	            if (result.isSuccess()) {
+	                s.getSchedule().addCourseToSchedule(c);
+	                roll.enroll(s);
+	            }
 	        }
-	        
 	    } catch (IllegalArgumentException e) {
-	        return false;
+	        // only if the checks above disagree with the schedule or roll
+	        result = EnrollResult.INVALID;
+	    } finally {
+	        ENROLL_TIME.stop(start);
+	        ENROLL_OUTCOMES.get(result).increment();
+	        event.end();
+	        if (event.shouldCommit()) {
+	            event.studentId = s.getId();
+	            event.courseName = c == null ? null : c.getName();
+	            event.section = c == null ? null : c.getSection();
+	            event.outcome = result.name().toLowerCase();
+	            event.commit();
+	        }
 	    }
-	    return false;
+	    return result;
 	}
 
 
@@ -325,18 +497,56 @@ public class RegistrationManager {
 	    if (!(currentUser instanceof Student)) {
 	        throw new IllegalArgumentException("Illegal Action");
 	    }
+	    DropEvent event = new DropEvent();
+	    event.begin();
+	    long start = DROP_TIME.start();
+	    Student s = (Student)currentUser;
+	    boolean dropped = false;
 	    try {
-	        Student s = (Student)currentUser;
 	        c.getCourseRoll().drop(s);
-	        return s.getSchedule().removeCourseFromSchedule(c);
+	        dropped = s.getSchedule().removeCourseFromSchedule(c);
+	        return dropped;
 	    } catch (IllegalArgumentException e) {
 	        return false; 
+	    } finally {
+	        DROP_TIME.stop(start);
+	        if (dropped) {
+	            DROP_DROPPED.increment();
+	        } else {
+	            DROP_NOT_SCHEDULED.increment();
+	        }
+	        event.end();
+	        if (event.shouldCommit()) {
+	            event.studentId = s.getId();
+	            event.courseName = c.getName();
+	            event.section = c.getSection();
+	            event.dropped = dropped;
+	            event.commit();
+	        }
+	    }
+	}
+
+	/**
+	 * Returns the best conflict-free combinations of sections of the wished courses that the logged in
+	 * student could add to their schedule. See <code>ScheduleSearch.search()</code>.
+	 * @param courseNames the names of the wished courses
+	 * @param maxResults the maximum number of combinations to return
+	 * @return up to maxResults combinations, best first
+	 * @throws IllegalArgumentException if illegal action by current user, or the search parameters are invalid
+	 */
+	public ScheduleSearch.Option[] searchSchedules(String[] courseNames, int maxResults) {
+	    if (!(currentUser instanceof Student)) {
+	        throw new IllegalArgumentException("Illegal Action");
 	    }
+	    return new ScheduleSearch(courseCatalog).search((Student)currentUser, courseNames, maxResults);
 	}
 
 	/**
 	 * Resets the logged in student's schedule by dropping them
-	 * from every course and then resetting the schedule.
+	 * from every course and then resetting the schedule. The 
+	 * scheduled courses are dropped directly, without looking 
+	 * them up in the catalog, so the cost does not grow with 
+	 * the size of the catalog.
 	 * @throws IllegalArgumentException if illegal action by current user
 	 */
 	public void resetSchedule() {
@@ -346,9 +556,7 @@ public class RegistrationManager {
 	    try {
 	        Student s = (Student)currentUser;
 	        Schedule schedule = s.getSchedule();
-	        String [][] scheduleArray = schedule.getScheduledCourses();
-	        for (int i = 0; i < scheduleArray.length; i++) {
-	            Course c = courseCatalog.getCourseFromCatalog(scheduleArray[i][0], scheduleArray[i][1]);
+	        for (Course c : schedule) {
 	            c.getCourseRoll().drop(s);
 	        }
 	        schedule.resetSchedule();
@@ -0,0 +1,59 @@
+package edu.ncsu.csc216.pack_scheduler.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter counts events, such as successful logins. Incrementing does not lock, and threads incrementing at the
+ * same time update separate cells, so a counter can sit on a hot path.
+ *
+ * @author Maxim Shelepov
+ */
+public class Counter extends Metric {
+	/** The count */
+	private LongAdder count = new LongAdder();
+
+	/**
+	 * Constructs a Counter. Counters are created through the MetricsRegistry.
+	 * @param name the name of the counter
+	 * @param labelName the name of the label, or null for none
+	 * @param labelValue the value of the label, or null for none
+	 */
+	Counter(String name, String labelName, String labelValue) {
+		super(name, labelName, labelValue);
+	}
+
+	/**
+	 * Adds one to the count.
+	 */
+	public void increment() {
+		count.increment();
+	}
+
+	/**
+	 * Adds to the count.
+	 * @param n the amount to add
+	 * @throws IllegalArgumentException if n is negative
+	 */
+	public void add(long n) {
+		if (n < 0) {
+			throw new IllegalArgumentException("Invalid count.");
+		}
+		count.add(n);
+	}
+
+	/**
+	 * Returns the count.
+	 * @return the count
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Sets the count back to 0.
+	 */
+	@Override
+	public void reset() {
+		count.reset();
+	}
+}
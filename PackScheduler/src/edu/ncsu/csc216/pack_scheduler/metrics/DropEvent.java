@@ -0,0 +1,35 @@
+package edu.ncsu.csc216.pack_scheduler.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * DropEvent is a Java Flight Recorder event for one call of RegistrationManager.dropStudentFromCourse(). Its
+ * duration includes promoting wait-listed students into the freed seat, which is also recorded on its own as a
+ * WaitlistPromotionEvent.
+ *
+ * @author Maxim Shelepov
+ */
+@Name("edu.ncsu.csc216.pack_scheduler.Drop")
+@Label("Drop")
+@Category({"PackScheduler", "Registration"})
+@Description("A student dropping a course")
+@StackTrace(false)
+public class DropEvent extends Event {
+	/** Id of the student */
+	@Label("Student")
+	public String studentId;
+	/** Name of the course */
+	@Label("Course")
+	public String courseName;
+	/** Section of the course */
+	@Label("Section")
+	public String section;
+	/** Whether the course was on the student's schedule */
+	@Label("Dropped")
+	public boolean dropped;
+}
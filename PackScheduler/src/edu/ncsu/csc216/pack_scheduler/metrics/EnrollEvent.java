@@ -0,0 +1,37 @@
+package edu.ncsu.csc216.pack_scheduler.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * EnrollEvent is a Java Flight Recorder event for one call of RegistrationManager.enrollStudentInCourse(), with
+ * the student, the course, and the outcome as counted in the <code>enroll_total</code> metric. When no recording
+ * has the event enabled, begin(), end(), and shouldCommit() compile to almost nothing, so the event can stay on
+ * the enroll path.
+ *
+ * @author Maxim Shelepov
+ */
+@Name("edu.ncsu.csc216.pack_scheduler.Enroll")
+@Label("Enroll")
+@Category({"PackScheduler", "Registration"})
+@Description("A student enrolling in a course")
+@StackTrace(false)
+public class EnrollEvent extends Event {
+	/** Id of the student */
+	@Label("Student")
+	public String studentId;
+	/** Name of the course */
+	@Label("Course")
+	public String courseName;
+	/** Section of the course */
+	@Label("Section")
+	public String section;
+	/** Outcome of the enroll */
+	@Label("Outcome")
+	@Description("enrolled, waitlisted, or the reason the enroll was rejected")
+	public String outcome;
+}
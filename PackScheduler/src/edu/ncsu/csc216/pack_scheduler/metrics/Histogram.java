@@ -0,0 +1,201 @@
+package edu.ncsu.csc216.pack_scheduler.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram counts recorded values in log-linear buckets, the layout HdrHistogram uses: values below
+ * {@value #SUB_BUCKETS} have a bucket each, and every doubling above that is split into {@value #SUB_BUCKETS} / 2
+ * equal buckets. Recording is a few shifts and atomic increments without locks, the memory is fixed no matter how
+ * many values are recorded, and any percentile is reported within 1/128 of its true value.
+ * <p>
+ * A value recorded while another thread reads the histogram may be missing from some of the statistics read, but
+ * never corrupts them.
+ *
+ * @author Maxim Shelepov
+ */
+public class Histogram extends Metric {
+	/** Bits of precision of a bucket */
+	private static final int SUB_BUCKET_BITS = 8;
+	/** Buckets below the first doubling */
+	public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	/** Buckets in each doubling above the first */
+	private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+
+	/** Count of values in each bucket */
+	private AtomicLongArray counts = new AtomicLongArray(SUB_BUCKETS + (64 - SUB_BUCKET_BITS) * HALF_SUB_BUCKETS);
+	/** Number of recorded values */
+	private LongAdder totalCount = new LongAdder();
+	/** Sum of the recorded values */
+	private LongAdder sum = new LongAdder();
+	/** Smallest recorded value */
+	private LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+	/** Largest recorded value */
+	private LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * Constructs a Histogram without a name, for use outside the MetricsRegistry.
+	 */
+	public Histogram() {
+		this(null, null, null);
+	}
+
+	/**
+	 * Constructs a Histogram. Named histograms are created through the MetricsRegistry.
+	 * @param name the name of the histogram
+	 * @param labelName the name of the label, or null for none
+	 * @param labelValue the value of the label, or null for none
+	 */
+	Histogram(String name, String labelName, String labelValue) {
+		super(name, labelName, labelValue);
+	}
+
+	/**
+	 * Records a value.
+	 * @param value the value
+	 * @throws IllegalArgumentException if the value is negative
+	 */
+	public void record(long value) {
+		if (value < 0) {
+			throw new IllegalArgumentException("Invalid value.");
+		}
+		counts.incrementAndGet(index(value));
+		totalCount.increment();
+		sum.add(value);
+		min.accumulate(value);
+		max.accumulate(value);
+	}
+
+	/**
+	 * Returns the number of recorded values.
+	 * @return the count
+	 */
+	public long getCount() {
+		return totalCount.sum();
+	}
+
+	/**
+	 * Returns the sum of the recorded values.
+	 * @return the sum
+	 */
+	public long getSum() {
+		return sum.sum();
+	}
+
+	/**
+	 * Returns the mean recorded value, or 0 if none were recorded.
+	 * @return the mean
+	 */
+	public double getMean() {
+		long count = getCount();
+		return count == 0 ? 0 : (double) getSum() / count;
+	}
+
+	/**
+	 * Returns the smallest recorded value, or 0 if none were recorded.
+	 * @return the minimum
+	 */
+	public long getMin() {
+		long value = min.get();
+		return value == Long.MAX_VALUE ? 0 : value;
+	}
+
+	/**
+	 * Returns the largest recorded value, or 0 if none were recorded.
+	 * @return the maximum
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Returns the value that the given percentage of recorded values are at or below, or 0 if none were recorded.
+	 * The result is the upper end of the bucket holding the percentile, capped at the maximum.
+	 * @param percentile the percentile, from 0 to 100
+	 * @return the value
+	 * @throws IllegalArgumentException if the percentile is out of range
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("Invalid percentile.");
+		}
+		long[] snapshot = new long[counts.length()];
+		long total = 0;
+		for (int i = 0; i < snapshot.length; i++) {
+			snapshot[i] = counts.get(i);
+			total += snapshot[i];
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+		long seen = 0;
+		for (int i = 0; i < snapshot.length; i++) {
+			seen += snapshot[i];
+			if (seen >= target) {
+				return Math.min(getMax(), highestValue(i));
+			}
+		}
+		return getMax();
+	}
+
+	/**
+	 * Adds the values recorded by another histogram to this one.
+	 * @param other the other histogram
+	 */
+	public void add(Histogram other) {
+		for (int i = 0; i < counts.length(); i++) {
+			long count = other.counts.get(i);
+			if (count != 0) {
+				counts.addAndGet(i, count);
+			}
+		}
+		totalCount.add(other.getCount());
+		sum.add(other.getSum());
+		min.accumulate(other.min.get());
+		max.accumulate(other.getMax());
+	}
+
+	/**
+	 * Clears the recorded values.
+	 */
+	@Override
+	public void reset() {
+		for (int i = 0; i < counts.length(); i++) {
+			counts.set(i, 0);
+		}
+		totalCount.reset();
+		sum.reset();
+		min.reset();
+		max.reset();
+	}
+
+	/**
+	 * Helper method that returns the bucket of a value.
+	 * @param value the value
+	 * @return the index of its bucket
+	 */
+	private static int index(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		// shift so the value lands in the upper half of the sub buckets
+		int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + (int) (value >>> shift) - HALF_SUB_BUCKETS;
+	}
+
+	/**
+	 * Helper method that returns the largest value counted in a bucket.
+	 * @param index the index of the bucket
+	 * @return the largest value
+	 */
+	private static long highestValue(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int shift = (index - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+		long subBucket = (index - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+		return ((subBucket + 1) << shift) - 1;
+	}
+}
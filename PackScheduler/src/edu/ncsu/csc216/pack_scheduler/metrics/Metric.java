@@ -0,0 +1,77 @@
+package edu.ncsu.csc216.pack_scheduler.metrics;
+
+/**
+ * Metric is a named measurement kept by the MetricsRegistry, such as a Counter or Histogram. A metric may have
+ * one label, so the outcomes of an operation can be counted as separate series of one metric, for example
+ * <code>enroll_total{outcome="full"}</code>.
+ *
+ * @author Maxim Shelepov
+ */
+public abstract class Metric {
+	/** Name of the metric */
+	private String name;
+	/** Name of the label, or null for none */
+	private String labelName;
+	/** Value of the label, or null for none */
+	private String labelValue;
+
+	/**
+	 * Constructs a Metric.
+	 * @param name the name of the metric
+	 * @param labelName the name of the label, or null for none
+	 * @param labelValue the value of the label, or null for none
+	 */
+	Metric(String name, String labelName, String labelValue) {
+		this.name = name;
+		this.labelName = labelName;
+		this.labelValue = labelValue;
+	}
+
+	/**
+	 * Returns the name of the metric.
+	 * @return the name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the name of the label.
+	 * @return the label name, or null if the metric has no label
+	 */
+	public String getLabelName() {
+		return labelName;
+	}
+
+	/**
+	 * Returns the value of the label.
+	 * @return the label value, or null if the metric has no label
+	 */
+	public String getLabelValue() {
+		return labelValue;
+	}
+
+	/**
+	 * Returns the series key of the metric: its name, followed by the label in braces if it has one.
+	 * @return the series key
+	 */
+	public String getKey() {
+		return key(name, labelName, labelValue);
+	}
+
+	/**
+	 * Sets the metric back to its state before anything was recorded.
+	 */
+	public abstract void reset();
+
+	/**
+	 * Returns the series key of a name and label.
+	 * @param name the name of the metric
+	 * @param labelName the name of the label, or null for none
+	 * @param labelValue the value of the label, or null for none
+	 * @return the series key
+	 */
+	static String key(String name, String labelName, String labelValue) {
+		return labelName == null ? name : name + "{" + labelName + "=\"" + labelValue + "\"}";
+	}
+}
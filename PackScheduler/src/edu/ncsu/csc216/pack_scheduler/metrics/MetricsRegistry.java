@@ -0,0 +1,322 @@
+package edu.ncsu.csc216.pack_scheduler.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MetricsRegistry is the singleton holding every Counter, Timer, and Histogram of PackScheduler. Code that
+ * records a metric looks it up once, usually into a static field, and then records into it without going
+ * through the registry again:
+ *
+ * <pre>
+ * private static final Counter LOGIN_SUCCESS = MetricsRegistry.getInstance().counter("login_total", "result", "success");
+ * </pre>
+ *
+ * The registry can write a snapshot of every metric as readable text, or in the Prometheus text format so a
+ * node exporter's textfile collector or a push gateway can pick it up without a server running in
+ * PackScheduler. In the Prometheus format names get the prefix {@value #PREFIX}, and timers and histograms are
+ * written as summaries with their 0.5, 0.9, and 0.99 quantiles, timers in seconds.
+ *
+ * @author Maxim Shelepov
+ */
+public class MetricsRegistry {
+	/** Prefix of the metric names in the Prometheus format */
+	public static final String PREFIX = "pack_scheduler_";
+	/** Quantiles written for timers and histograms */
+	private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+	/** Singleton instance of the registry */
+	private static MetricsRegistry instance = new MetricsRegistry();
+
+	/** The metrics by series key */
+	private ConcurrentHashMap<String, Metric> metrics = new ConcurrentHashMap<String, Metric>();
+
+	/**
+	 * Constructs the MetricsRegistry.
+	 */
+	private MetricsRegistry() {
+		// only the singleton instance
+	}
+
+	/**
+	 * Returns the singleton instance of the registry.
+	 * @return the registry
+	 */
+	public static MetricsRegistry getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Returns the counter with a name, creating it if needed.
+	 * @param name the name of the counter
+	 * @return the counter
+	 * @throws IllegalArgumentException if the name is invalid or belongs to another kind of metric
+	 */
+	public Counter counter(String name) {
+		return counter(name, null, null);
+	}
+
+	/**
+	 * Returns the counter with a name and label, creating it if needed.
+	 * @param name the name of the counter
+	 * @param labelName the name of the label
+	 * @param labelValue the value of the label
+	 * @return the counter
+	 * @throws IllegalArgumentException if the name or label is invalid, or the name belongs to another kind of
+	 * metric
+	 */
+	public Counter counter(String name, String labelName, String labelValue) {
+		return get(name, labelName, labelValue, Counter.class);
+	}
+
+	/**
+	 * Returns the timer with a name, creating it if needed.
+	 * @param name the name of the timer
+	 * @return the timer
+	 * @throws IllegalArgumentException if the name is invalid or belongs to another kind of metric
+	 */
+	public Timer timer(String name) {
+		return timer(name, null, null);
+	}
+
+	/**
+	 * Returns the timer with a name and label, creating it if needed.
+	 * @param name the name of the timer
+	 * @param labelName the name of the label
+	 * @param labelValue the value of the label
+	 * @return the timer
+	 * @throws IllegalArgumentException if the name or label is invalid, or the name belongs to another kind of
+	 * metric
+	 */
+	public Timer timer(String name, String labelName, String labelValue) {
+		return get(name, labelName, labelValue, Timer.class);
+	}
+
+	/**
+	 * Returns the histogram with a name, creating it if needed.
+	 * @param name the name of the histogram
+	 * @return the histogram
+	 * @throws IllegalArgumentException if the name is invalid or belongs to another kind of metric
+	 */
+	public Histogram histogram(String name) {
+		return histogram(name, null, null);
+	}
+
+	/**
+	 * Returns the histogram with a name and label, creating it if needed.
+	 * @param name the name of the histogram
+	 * @param labelName the name of the label
+	 * @param labelValue the value of the label
+	 * @return the histogram
+	 * @throws IllegalArgumentException if the name or label is invalid, or the name belongs to another kind of
+	 * metric
+	 */
+	public Histogram histogram(String name, String labelName, String labelValue) {
+		return get(name, labelName, labelValue, Histogram.class);
+	}
+
+	/**
+	 * Returns every metric, sorted by name and then label value.
+	 * @return the metrics
+	 */
+	public List<Metric> getMetrics() {
+		List<Metric> sorted = new ArrayList<Metric>(metrics.values());
+		sorted.sort(Comparator.comparing(Metric::getName).thenComparing(Metric::getKey));
+		return sorted;
+	}
+
+	/**
+	 * Sets every metric back to its state before anything was recorded. The metrics stay registered, so
+	 * references held by the recording code keep working.
+	 */
+	public void reset() {
+		for (Metric m : metrics.values()) {
+			m.reset();
+		}
+	}
+
+	/**
+	 * Returns a readable snapshot of every metric, one per line. Counters show their count, and timers and
+	 * histograms their count, mean, 50th, 90th, and 99th percentiles, and maximum, timers in microseconds.
+	 * @return the snapshot
+	 */
+	public String toText() {
+		StringBuilder text = new StringBuilder();
+		for (Metric m : getMetrics()) {
+			text.append(m.getKey());
+			if (m instanceof Counter) {
+				text.append(' ').append(((Counter) m).getCount());
+			} else {
+				Histogram h = (Histogram) m;
+				double scale = m instanceof Timer ? 1000 : 1;
+				text.append(String.format(Locale.US, " count=%d mean=%.1f p50=%.1f p90=%.1f p99=%.1f max=%.1f%s",
+						h.getCount(), h.getMean() / scale, h.getValueAtPercentile(50) / scale,
+						h.getValueAtPercentile(90) / scale, h.getValueAtPercentile(99) / scale, h.getMax() / scale,
+						m instanceof Timer ? "us" : ""));
+			}
+			text.append('\n');
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Returns a snapshot of every metric in the Prometheus text format.
+	 * @return the snapshot
+	 */
+	public String toPrometheus() {
+		StringBuilder text = new StringBuilder();
+		String family = null;
+		for (Metric m : getMetrics()) {
+			String name = PREFIX + m.getName();
+			if (!name.equals(family)) {
+				family = name;
+				text.append("# TYPE ").append(name).append(m instanceof Counter ? " counter\n" : " summary\n");
+			}
+			if (m instanceof Counter) {
+				text.append(series(name, m, null)).append(' ').append(((Counter) m).getCount()).append('\n');
+				continue;
+			}
+			Histogram h = (Histogram) m;
+			double scale = m instanceof Timer ? 1e9 : 1;
+			for (double q : QUANTILES) {
+				text.append(series(name, m, "quantile=\"" + q + "\"")).append(' ')
+						.append(format(h.getValueAtPercentile(q * 100) / scale)).append('\n');
+			}
+			text.append(series(name + "_sum", m, null)).append(' ').append(format(h.getSum() / scale)).append('\n');
+			text.append(series(name + "_count", m, null)).append(' ').append(h.getCount()).append('\n');
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Writes the readable snapshot to a file. See toText().
+	 * @param fileName the file to write
+	 * @throws IllegalArgumentException if the file cannot be written
+	 */
+	public void saveText(String fileName) {
+		save(fileName, toText());
+	}
+
+	/**
+	 * Writes the Prometheus snapshot to a file. The snapshot is written to a temporary file and then moved into
+	 * place, so a collector reading the file never sees half of it.
+	 * @param fileName the file to write
+	 * @throws IllegalArgumentException if the file cannot be written
+	 */
+	public void savePrometheus(String fileName) {
+		save(fileName, toPrometheus());
+	}
+
+	/**
+	 * Helper method that returns a metric, creating it if needed.
+	 * @param <M> the kind of metric
+	 * @param name the name of the metric
+	 * @param labelName the name of the label, or null for none
+	 * @param labelValue the value of the label, or null for none
+	 * @param type the kind of metric
+	 * @return the metric
+	 * @throws IllegalArgumentException if the name or label is invalid, or the name belongs to another kind of
+	 * metric
+	 */
+	private <M extends Metric> M get(String name, String labelName, String labelValue, Class<M> type) {
+		if (!validName(name) || labelName != null && (!validName(labelName) || labelValue == null
+				|| labelValue.indexOf('"') >= 0 || labelValue.indexOf('\\') >= 0 || labelValue.indexOf('\n') >= 0)) {
+			throw new IllegalArgumentException("Invalid metric name.");
+		}
+		for (Metric m : metrics.values()) {
+			if (m.getName().equals(name) && m.getClass() != type) {
+				throw new IllegalArgumentException("Metric " + name + " is a " + m.getClass().getSimpleName() + ".");
+			}
+		}
+		Metric m = metrics.computeIfAbsent(Metric.key(name, labelName, labelValue), key -> create(name, labelName,
+				labelValue, type));
+		if (m.getClass() != type) {
+			throw new IllegalArgumentException("Metric " + name + " is a " + m.getClass().getSimpleName() + ".");
+		}
+		return type.cast(m);
+	}
+
+	/**
+	 * Helper method that creates a metric.
+	 * @param name the name of the metric
+	 * @param labelName the name of the label, or null for none
+	 * @param labelValue the value of the label, or null for none
+	 * @param type the kind of metric
+	 * @return the metric
+	 */
+	private static Metric create(String name, String labelName, String labelValue, Class<? extends Metric> type) {
+		if (type == Counter.class) {
+			return new Counter(name, labelName, labelValue);
+		} else if (type == Timer.class) {
+			return new Timer(name, labelName, labelValue);
+		}
+		return new Histogram(name, labelName, labelValue);
+	}
+
+	/**
+	 * Helper method that returns whether a metric or label name is valid in the Prometheus format.
+	 * @param name the name
+	 * @return true if the name is valid
+	 */
+	private static boolean validName(String name) {
+		return name != null && name.matches("[a-zA-Z_][a-zA-Z0-9_]*");
+	}
+
+	/**
+	 * Helper method that returns a Prometheus series name with the metric's label and an extra label.
+	 * @param name the series name
+	 * @param m the metric
+	 * @param extraLabel another label as <code>name="value"</code>, or null for none
+	 * @return the series
+	 */
+	private static String series(String name, Metric m, String extraLabel) {
+		List<String> labels = new ArrayList<String>();
+		if (m.getLabelName() != null) {
+			labels.add(m.getLabelName() + "=\"" + m.getLabelValue() + "\"");
+		}
+		if (extraLabel != null) {
+			labels.add(extraLabel);
+		}
+		return labels.isEmpty() ? name : name + "{" + String.join(",", labels) + "}";
+	}
+
+	/**
+	 * Helper method that formats a value for the Prometheus format.
+	 * @param value the value
+	 * @return the formatted value
+	 */
+	private static String format(double value) {
+		return value == Math.rint(value) && Math.abs(value) < 1e15 ? Long.toString((long) value)
+				: Double.toString(value);
+	}
+
+	/**
+	 * Helper method that writes text to a file through a temporary file.
+	 * @param fileName the file to write
+	 * @param text the text
+	 * @throws IllegalArgumentException if the file cannot be written
+	 */
+	private static void save(String fileName, String text) {
+		File file = new File(fileName);
+		File temp = new File(file.getAbsoluteFile().getParentFile(), file.getName() + ".tmp");
+		try {
+			PrintStream out = new PrintStream(temp, "UTF-8");
+			out.print(text);
+			out.close();
+			if (out.checkError()) {
+				throw new IOException();
+			}
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			temp.delete();
+			throw new IllegalArgumentException("The file cannot be saved.");
+		}
+	}
+}
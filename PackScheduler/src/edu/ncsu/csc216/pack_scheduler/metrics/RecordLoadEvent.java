@@ -0,0 +1,51 @@
+package edu.ncsu.csc216.pack_scheduler.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * RecordLoadEvent is a Java Flight Recorder event for reading one record file in the io package.
+ *
+ * @author Maxim Shelepov
+ */
+@Name("edu.ncsu.csc216.pack_scheduler.RecordLoad")
+@Label("Record Load")
+@Category({"PackScheduler", "IO"})
+@Description("A course, student, or faculty record file being read")
+@StackTrace(false)
+public class RecordLoadEvent extends Event {
+	/** Name of the file */
+	@Label("File")
+	public String fileName;
+	/** Kind of record in the file */
+	@Label("Record Type")
+	public String recordType;
+	/** Records read */
+	@Label("Records Read")
+	public int recordsRead;
+	/** Records skipped as invalid or duplicate */
+	@Label("Records Skipped")
+	public int recordsSkipped;
+
+	/**
+	 * Ends the event and commits it if it is enabled.
+	 * @param fileName the name of the file
+	 * @param recordType the kind of record
+	 * @param recordsRead the records read
+	 * @param recordsSkipped the records skipped
+	 */
+	public void finish(String fileName, String recordType, int recordsRead, int recordsSkipped) {
+		end();
+		if (shouldCommit()) {
+			this.fileName = fileName;
+			this.recordType = recordType;
+			this.recordsRead = recordsRead;
+			this.recordsSkipped = recordsSkipped;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package edu.ncsu.csc216.pack_scheduler.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * ScheduleConflictEvent is a Java Flight Recorder event for a course rejected by Schedule.addCourseToSchedule()
+ * because the schedule already has it or a course meeting at the same time. A schedule doesn't know its student,
+ * so the event keeps the stack trace, which leads back to the caller.
+ *
+ * @author Maxim Shelepov
+ */
+@Name("edu.ncsu.csc216.pack_scheduler.ScheduleConflict")
+@Label("Schedule Conflict")
+@Category({"PackScheduler", "Registration"})
+@Description("A course rejected by a schedule as a duplicate or time conflict")
+public class ScheduleConflictEvent extends Event {
+	/** Title of the schedule */
+	@Label("Schedule")
+	public String scheduleTitle;
+	/** Name of the rejected course */
+	@Label("Course")
+	public String courseName;
+	/** Section of the rejected course */
+	@Label("Section")
+	public String section;
+	/** Name of the scheduled course it collided with */
+	@Label("Scheduled Course")
+	public String scheduledCourseName;
+	/** Section of the scheduled course it collided with */
+	@Label("Scheduled Section")
+	public String scheduledSection;
+	/** Why the course was rejected */
+	@Label("Reason")
+	@Description("duplicate or conflict")
+	public String reason;
+}
@@ -0,0 +1,45 @@
+package edu.ncsu.csc216.pack_scheduler.metrics;
+
+/**
+ * Timer records how long calls take, in nanoseconds, in a Histogram. Timing a call costs two reads of
+ * System.nanoTime() and one histogram record:
+ *
+ * <pre>
+ * long start = timer.start();
+ * ...
+ * timer.stop(start);
+ * </pre>
+ *
+ * @author Maxim Shelepov
+ */
+public class Timer extends Histogram {
+
+	/**
+	 * Constructs a Timer. Timers are created through the MetricsRegistry.
+	 * @param name the name of the timer
+	 * @param labelName the name of the label, or null for none
+	 * @param labelValue the value of the label, or null for none
+	 */
+	Timer(String name, String labelName, String labelValue) {
+		super(name, labelName, labelValue);
+	}
+
+	/**
+	 * Returns the start time of a call.
+	 * @return the current System.nanoTime()
+	 */
+	public long start() {
+		return System.nanoTime();
+	}
+
+	/**
+	 * Records the time since a call started.
+	 * @param start the start time returned by start()
+	 * @return the recorded nanoseconds
+	 */
+	public long stop(long start) {
+		long elapsed = Math.max(0, System.nanoTime() - start);
+		record(elapsed);
+		return elapsed;
+	}
+}
@@ -0,0 +1,44 @@
+package edu.ncsu.csc216.pack_scheduler.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * WaitlistPromotionEvent is a Java Flight Recorder event for one pass of CourseRoll.promoteFromWaitlist() that
+ * had open seats and wait-listed students, whether it runs after a drop, a batch of drops, or a section
+ * migration.
+ *
+ * @author Maxim Shelepov
+ */
+@Name("edu.ncsu.csc216.pack_scheduler.WaitlistPromotion")
+@Label("Waitlist Promotion")
+@Category({"PackScheduler", "Registration"})
+@Description("Wait-listed students promoted into the open seats of a course")
+@StackTrace(false)
+public class WaitlistPromotionEvent extends Event {
+	/** Name of the course */
+	@Label("Course")
+	public String courseName;
+	/** Section of the course */
+	@Label("Section")
+	public String section;
+	/** Open seats before the promotion */
+	@Label("Open Seats")
+	public int openSeats;
+	/** Students promoted */
+	@Label("Promoted")
+	public int promoted;
+	/** Students left on the wait-list */
+	@Label("Still Wait-listed")
+	public int waitlisted;
+	/** Ids of the promoted students, comma separated */
+	@Label("Promoted Students")
+	public String promotedIds;
+	/** Whether the promotion failed and was undone */
+	@Label("Failed")
+	public boolean failed;
+}
@@ -26,6 +26,7 @@ import javax.swing.table.AbstractTableModel;
 
 import edu.ncsu.csc216.pack_scheduler.catalog.CourseCatalog;
 import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.course.roll.EnrollResult;
 import edu.ncsu.csc216.pack_scheduler.manager.RegistrationManager;
 import edu.ncsu.csc216.pack_scheduler.user.Student;
 import edu.ncsu.csc216.pack_scheduler.user.schedule.Schedule;
@@ -307,8 +308,9 @@ public class StudentRegistrationPanel  extends JPanel implements ActionListener
 				JOptionPane.showMessageDialog(this, "No course selected in the catalog.");
 			} else {
 				try {
-					if (!RegistrationManager.getInstance().enrollStudentInCourse(catalog.getCourseFromCatalog(tableCatalog.getValueAt(row, 0).toString(), tableCatalog.getValueAt(row, 1).toString()))) {
-						JOptionPane.showMessageDialog(this, "Course cannot be added to schedule.");
+					EnrollResult result = RegistrationManager.getInstance().enroll(catalog.getCourseFromCatalog(tableCatalog.getValueAt(row, 0).toString(), tableCatalog.getValueAt(row, 1).toString()));
+					if (!result.isSuccess()) {
+						JOptionPane.showMessageDialog(this, result.getMessage());
 					} else {
 						updateCourseDetails(catalog.getCourseFromCatalog(tableCatalog.getValueAt(row, 0).toString(), tableCatalog.getValueAt(row, 1).toString()));
 					}
@@ -1,7 +1,5 @@
 package edu.ncsu.csc216.pack_scheduler.user;
 
-import java.util.Objects;
-
 import edu.ncsu.csc216.pack_scheduler.user.schedule.FacultySchedule;
 
 /**
@@ -83,16 +81,18 @@ public class Faculty extends User {
 		}
 		
 		this.maxCourses = maxCourses;
+		clearHashCode();
 	}
 
 	/**
-	 * Generates the hash code for the faculty class.
+	 * Computes the hash code for the faculty class from the User fields and maxCourses.
+	 * @return the hash code of the current field values
 	 */
 	@Override
-	public int hashCode() {
+	protected int computeHashCode() {
 		final int prime = 31;
-		int result = super.hashCode();
-		result = prime * result + Objects.hash(maxCourses);
+		int result = super.computeHashCode();
+		result = prime * result + maxCourses;
 		return result;
 	}
 
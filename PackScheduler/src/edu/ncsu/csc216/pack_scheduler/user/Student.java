@@ -1,8 +1,7 @@
 package edu.ncsu.csc216.pack_scheduler.user;
 
-import java.util.Objects;
-
 import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.course.roll.EnrollResult;
 import edu.ncsu.csc216.pack_scheduler.user.schedule.Schedule;
 
 /**
@@ -83,6 +82,7 @@ public class Student extends User implements Comparable<Student> {
 		}
 
 		this.maxCredits = maxCredits;
+		clearHashCode();
 	}
 
 
@@ -133,13 +133,14 @@ public class Student extends User implements Comparable<Student> {
 	}
 
 	/**
-	 * Generates the hash code for the student class.
+	 * Computes the hash code for the student class from the User fields and maxCredits.
+	 * @return the hash code of the current field values
 	 */
 	@Override
-	public int hashCode() {
+	protected int computeHashCode() {
 		final int prime = 31;
-		int result = super.hashCode();
-		result = prime * result + Objects.hash(maxCredits);
+		int result = super.computeHashCode();
+		result = prime * result + maxCredits;
 		return result;
 	}
 
@@ -176,19 +177,19 @@ public class Student extends User implements Comparable<Student> {
 	 * @return boolean if course can be added. 
 	 */
 	public boolean canAdd(Course c) {
-		if(c == null) {
-			return false;
-		}
-		
-		//check for course going over credits
-		int currentCredits = this.schedule.getScheduleCredits();
-		if(currentCredits + c.getCredits() > this.maxCredits) {
-			return false;
-		}
-		
-		//use schedule canAdd to check for null, duplicate, or conflict
-		return this.schedule.canAdd(c);
+		//use schedule canAdd to check for null, going over credits, duplicate, or conflict
+		return this.schedule.canAdd(c, this.maxCredits);
 		
 	}
+	
+	/**
+	 * Returns why a course can't be added to the student's schedule, or 
+	 * ENROLLED if it can. See <code>Schedule.checkAdd()</code>.
+	 * @param c course to be checked
+	 * @return ENROLLED if the course can be added, otherwise why not
+	 */
+	public EnrollResult checkAdd(Course c) {
+		return this.schedule.checkAdd(c, this.maxCredits);
+	}
 
 }
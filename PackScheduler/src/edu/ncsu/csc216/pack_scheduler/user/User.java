@@ -1,12 +1,15 @@
 package edu.ncsu.csc216.pack_scheduler.user;
 
-import java.util.Objects;
-
 /**
  * User is a abstract class which represents any user with access to PackScheduler system. The class encapsulates
  * the common fields needed for any type of User (Student or Registrar): first name, last name, unique user identifier, 
  * student email, and hashed password. The class provides the standard getter and setter behavior for those fields. In addition to
  * hashcode and equals for object comparison.
+ * <p>
+ * The hash code is computed once and cached until a setter changes a field, so hash based indexes over Users don't rehash
+ * five Strings on every lookup. Subclasses with extra fields extend <code>computeHashCode()</code> and call
+ * <code>clearHashCode()</code> from their own setters. For indexes keyed only by unity id, <code>equalsById()</code> and
+ * <code>hashCodeById()</code> provide an id-only equality.
  * 
  * @author Nick Bechar
  */
@@ -22,6 +25,10 @@ public abstract class User {
 	private String email;
 	/** user's hashed password */
 	private String password;
+	/** cached hash code, valid only when hashCodeCached is true */
+	private int hashCode;
+	/** whether hashCode holds the hash of the current fields */
+	private boolean hashCodeCached;
 	
 	/**
 	 * The default constructor for the User class.
@@ -59,6 +66,7 @@ public abstract class User {
 		}
 	
 		this.firstName = firstName;
+		clearHashCode();
 	}
 
 	/**
@@ -80,6 +88,7 @@ public abstract class User {
 		}
 	
 		this.lastName = lastName;
+		clearHashCode();
 	
 	}
 
@@ -102,6 +111,7 @@ public abstract class User {
 		}
 	
 		this.id = id;
+		clearHashCode();
 	}
 
 	/**
@@ -131,6 +141,7 @@ public abstract class User {
 		}
 	
 		this.email = email;
+		clearHashCode();
 	}
 
 	/**
@@ -152,19 +163,50 @@ public abstract class User {
 		}
 	
 		this.password = password;
+		clearHashCode();
 	
 	}
 
 	/**
-	 * Generates the hash code for User.
+	 * Returns the hash code for User, computing it with <code>computeHashCode()</code> on the first call after
+	 * construction or a field change.
 	 */
 	@Override
 	public int hashCode() {
-		return Objects.hash(email, firstName, id, lastName, password);
+		if (!hashCodeCached) {
+			hashCode = computeHashCode();
+			hashCodeCached = true;
+		}
+		return hashCode;
+	}
+	
+	/**
+	 * Computes the hash code of the User from all fields. Subclasses with additional fields override this method,
+	 * combining the super implementation with their own fields.
+	 * @return the hash code of the current field values
+	 */
+	protected int computeHashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + email.hashCode();
+		result = prime * result + firstName.hashCode();
+		result = prime * result + id.hashCode();
+		result = prime * result + lastName.hashCode();
+		result = prime * result + password.hashCode();
+		return result;
+	}
+	
+	/**
+	 * Discards the cached hash code. Must be called by every setter that changes a field used by
+	 * <code>computeHashCode()</code>.
+	 */
+	protected void clearHashCode() {
+		hashCodeCached = false;
 	}
 
 	/**
-	 * Compares an object to the current instance of User.
+	 * Compares an object to the current instance of User. The cached hash codes are compared first so
+	 * most unequal Users are rejected without comparing Strings.
 	 */
 	@Override
 	public boolean equals(Object obj) {
@@ -175,10 +217,27 @@ public abstract class User {
 		if (getClass() != obj.getClass())
 			return false;
 		User other = (User) obj;
-		return Objects.equals(email, other.email) && Objects.equals(firstName, other.firstName)
-				&& Objects.equals(id, other.id) && Objects.equals(lastName, other.lastName)
-				&& Objects.equals(password, other.password);
+		if (hashCode() != other.hashCode())
+			return false;
+		return id.equals(other.id) && email.equals(other.email) && firstName.equals(other.firstName)
+				&& lastName.equals(other.lastName) && password.equals(other.password);
 	}
 	
+	/**
+	 * Id-only equality for indexes that look Users up by unity id: true if the other User is of the same
+	 * class and has the same id, regardless of the other fields.
+	 * @param other the User to compare to
+	 * @return true if both Users are of the same class and have the same id
+	 */
+	public boolean equalsById(User other) {
+		return other != null && getClass() == other.getClass() && id.equals(other.id);
+	}
 	
-}
\ No newline at end of file
+	/**
+	 * Returns a hash code consistent with <code>equalsById()</code>.
+	 * @return the hash code of the User's id
+	 */
+	public int hashCodeById() {
+		return id.hashCode();
+	}
+}
@@ -1,6 +1,5 @@
 package edu.ncsu.csc216.pack_scheduler.user.schedule;
 
-import edu.ncsu.csc216.pack_scheduler.course.ConflictException;
 import edu.ncsu.csc216.pack_scheduler.course.Course;
 import edu.ncsu.csc216.pack_scheduler.util.LinkedListRecursive;
 
@@ -30,13 +29,11 @@ public class FacultySchedule {
 	 * @return true if added
 	 */
 	public boolean addCourseToSchedule(Course course) {
-		for (int i = 0; i < schedule.size(); i++) {
-			if (schedule.get(i).isDuplicate(course) && schedule.get(i).getSection().equals(course.getSection())) {
+		for (Course c : schedule) {
+			if (c.isDuplicate(course) && c.getSectionSymbol() == course.getSectionSymbol()) {
 			    throw new IllegalArgumentException("Already assigned " + course.getName());
 			}
-			try {
-				schedule.get(i).checkConflict(course);
-			} catch (ConflictException e) {
+			if (c.conflictsWith(course)) {
 				throw new IllegalArgumentException("The course cannot be assigned due to a conflict.");
 			}
 		}
@@ -50,6 +47,25 @@ public class FacultySchedule {
 		return false;
 	}
 	
+	/**
+	 * Returns whether a course could be added to the schedule: it 
+	 * has no instructor, is not already assigned, and does not 
+	 * conflict with a scheduled course.
+	 * @param course Course to check
+	 * @return true if the course can be added
+	 */
+	public boolean canAssign(Course course) {
+		if (course == null || course.getInstructorId() != null) {
+			return false;
+		}
+		for (Course c : schedule) {
+			if ((c.isDuplicate(course) && c.getSectionSymbol() == course.getSectionSymbol()) || c.conflictsWith(course)) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
 	/**
 	 * Removes a course from the schedule.
 	 * @param course Course to remove from the schedule
@@ -67,10 +83,10 @@ public class FacultySchedule {
 	 * Resets the schedule to an empty schedule
 	 */
 	public void resetSchedule() {
-		int startingSize = schedule.size();
-		for (int i = 0; i < startingSize; i++) {
-			removeCourseFromSchedule(schedule.get(0)); //also removes from Course
+		for (Course c : schedule) {
+			c.setInstructorId(null);
 		}
+		schedule = new LinkedListRecursive<Course>();
 	}
 	
 	/**
@@ -79,8 +95,9 @@ public class FacultySchedule {
 	 */
 	public String[][] getScheduledCourses() {
 		String [][] scheduleArray = new String[schedule.size()][4];
-		for (int i = 0; i < schedule.size(); i++) {
-			scheduleArray[i] = schedule.get(i).getShortDisplayArray();
+		int i = 0;
+		for (Course c : schedule) {
+			scheduleArray[i++] = c.getShortDisplayArray();
 		}
 		return scheduleArray;
 	}
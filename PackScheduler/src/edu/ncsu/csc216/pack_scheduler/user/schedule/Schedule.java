@@ -3,21 +3,34 @@
  */
 package edu.ncsu.csc216.pack_scheduler.user.schedule;
 
+import java.util.Collections;
+import java.util.Iterator;
+
 import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.course.roll.EnrollResult;
+import edu.ncsu.csc216.pack_scheduler.metrics.ScheduleConflictEvent;
 import edu.ncsu.csc216.pack_scheduler.util.ArrayList;
 
 /**
  * Schedule is a data object representing a student schedule in the PackScheduler system. The Schedule encapsulates its name and a 
  * custom implementation of ArrayList of Courses as its fields. The object provides add, remove, get, and reset schedule actions. As well as, 
  * get and set actions for name of the schedule. In addition, an ability to validate if the Course can be added to the Schedule.
+ * The total credits of the scheduled Courses are maintained as Courses are added and removed, so credit checks don't
+ * traverse the schedule. The total is recounted after any Course's credits are set, so it follows a later
+ * Course.setCredits() on a scheduled Course. Iterating a Schedule gives the scheduled Course objects themselves,
+ * so callers acting on every scheduled Course don't need to look them up again by name and section.
  * 
  * @author Gabriel Perri
  */
-public class Schedule {
+public class Schedule implements Iterable<Course> {
 	/** custom list of courses **/
 	ArrayList<Course> schedule;
 	/** schedule title **/
 	String title;
+	/** running total of the credits of the scheduled courses **/
+	private int scheduleCredits;
+	/** Course credits version the running total was counted at **/
+	private int creditsVersion = Course.getCreditsVersion();
 	
 	/**
 	 * Constructs a basic schedule object, setting
@@ -44,24 +57,42 @@ public class Schedule {
 	public boolean addCourseToSchedule(Course newCourse) {
 		//check if course already exists or has conflict
 		for(int i = 0; i < schedule.size(); i++) {
-			if(newCourse.equals(schedule.get(i)) || newCourse.getName().compareTo(schedule.get(i).getName()) == 0) {
+			if(newCourse.isDuplicate(schedule.get(i))) {
+				recordConflict(newCourse, schedule.get(i), "duplicate");
 				throw new IllegalArgumentException("You are already enrolled in " + newCourse.getName());
 			}
-			else {
-				try {
-					newCourse.checkConflict(schedule.get(i));
-				}
-				catch (Exception e) {
-					throw new IllegalArgumentException("The course cannot be added due to a conflict");
-				}
+			else if(newCourse.conflictsWith(schedule.get(i))) {
+				recordConflict(newCourse, schedule.get(i), "conflict");
+				throw new IllegalArgumentException("The course cannot be added due to a conflict");
 			}
 		}
 		
 		//if all above passes, add course to schedule
 		schedule.add(newCourse);
+		scheduleCredits += newCourse.getCredits();
 		return true;
 		
 	}
+	
+	/**
+	 * Records a rejected course as a ScheduleConflictEvent if the event is enabled.
+	 * @param newCourse the rejected course
+	 * @param scheduled the scheduled course it collided with
+	 * @param reason duplicate or conflict
+	 */
+	private void recordConflict(Course newCourse, Course scheduled, String reason) {
+		ScheduleConflictEvent event = new ScheduleConflictEvent();
+		if(event.shouldCommit()) {
+			event.scheduleTitle = title;
+			event.courseName = newCourse.getName();
+			event.section = newCourse.getSection();
+			event.scheduledCourseName = scheduled.getName();
+			event.scheduledSection = scheduled.getSection();
+			event.reason = reason;
+			event.commit();
+		}
+	}
+	
 	/**
 	 * Searches for and deletes a given course
 	 * from the schedule
@@ -73,7 +104,7 @@ public class Schedule {
 			for(int i = 0; i < schedule.size(); i++) {
 				//check for the course to delete
 				if(removedCourse.equals(schedule.get(i))) {
-					schedule.remove(i);
+					scheduleCredits -= schedule.remove(i).getCredits();
 					return true;
 				}
 			}
@@ -82,6 +113,40 @@ public class Schedule {
 		return false;
 	}
 	
+	/**
+	 * Returns whether the given course, this exact section,
+	 * is in the schedule. 
+	 * @param c course to look for
+	 * @return true if the course is in the schedule
+	 */
+	public boolean contains(Course c) {
+		for(int i = 0; i < schedule.size(); i++) {
+			if(schedule.get(i).equals(c)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Returns an iterator over the scheduled courses in the order
+	 * they were added. The iterator does not support remove(), 
+	 * courses leave the schedule through removeCourseFromSchedule(). 
+	 * @return iterator over the scheduled courses
+	 */
+	@Override
+	public Iterator<Course> iterator() {
+		return Collections.unmodifiableList(schedule).iterator();
+	}
+	
+	/**
+	 * Returns the number of courses in the schedule.
+	 * @return num courses
+	 */
+	public int getNumScheduledCourses() {
+		return schedule.size();
+	}
+	
 	/**
 	 * Resets the current schedule to a empty
 	 * schedule object
@@ -89,6 +154,8 @@ public class Schedule {
 	public void resetSchedule() {
 		//resets the schedule to a new schedule
 		schedule = new ArrayList<Course>();
+		scheduleCredits = 0;
+		creditsVersion = Course.getCreditsVersion();
 	}
 	
 	/**
@@ -137,15 +204,22 @@ public class Schedule {
 	
 	/**
 	 * Returns the cumulative sum of the total 
-	 * class credits in the schedule. 
+	 * class credits in the schedule. The running 
+	 * total is recounted only if a course's credits 
+	 * were set since it was last counted. 
 	 * @return total sum of credits
 	 */
 	public int getScheduleCredits() {
-		int sum = 0;
-		for(int i = 0; i < this.schedule.size(); i++) {
-			sum += this.schedule.get(i).getCredits();
+		int version = Course.getCreditsVersion();
+		if(version != creditsVersion) {
+			int credits = 0;
+			for(int i = 0; i < schedule.size(); i++) {
+				credits += schedule.get(i).getCredits();
+			}
+			scheduleCredits = credits;
+			creditsVersion = version;
 		}
-		return sum;
+		return scheduleCredits;
 	}
 	
 	/**
@@ -165,11 +239,8 @@ public class Schedule {
 			if(c.isDuplicate(this.schedule.get(i))) {
 				return false;
 			}
-			//check for time conflict
-			try {
-			    this.schedule.get(i).checkConflict(c);
-			}
-			catch (Exception e){
+			//check for time conflict, a lookup for catalog courses
+			if(this.schedule.get(i).conflictsWith(c)) {
 				return false;
 			}
 		}
@@ -177,5 +248,95 @@ public class Schedule {
 		return true;
 		
 	}
+	
+	/**
+	 * Checks if one course in the schedule may be swapped for another, as when 
+	 * a section is moved to a different section. The old course is ignored 
+	 * when checking the new course for duplicates and conflicts, and its 
+	 * credits are replaced by the new course's credits. The old course does 
+	 * not have to be in the schedule. Conflicts with catalog courses are 
+	 * looked up in the catalog's conflict matrix. 
+	 * @param oldCourse course being replaced
+	 * @param newCourse course replacing it
+	 * @param maxCredits the most credits the schedule may hold
+	 * @return true if the swap keeps the schedule valid and false otherwise
+	 */
+	public boolean canReplace(Course oldCourse, Course newCourse, int maxCredits) {
+		if(oldCourse == null || newCourse == null) {
+			return false;
+		}
+		int credits = getScheduleCredits() + newCourse.getCredits();
+		if(contains(oldCourse)) {
+			credits -= oldCourse.getCredits();
+		}
+		if(credits > maxCredits) {
+			return false;
+		}
+		
+		for(int i = 0; i < this.schedule.size(); i++) {
+			Course c = this.schedule.get(i);
+			if(!c.equals(oldCourse) && (newCourse.isDuplicate(c) || newCourse.conflictsWith(c))) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Checks if given course may be added to the schedule without going over 
+	 * the given credit limit. Credits, duplicates, and conflicts are checked in 
+	 * a single pass over the schedule, which also recounts the running credit 
+	 * total if a course's credits were set since it was last counted. 
+	 * @param c course to be checked for validity
+	 * @param maxCredits the most credits the schedule may hold
+	 * @return true if course can be added and false otherwise
+	 */
+	public boolean canAdd(Course c, int maxCredits) {
+		return checkAdd(c, maxCredits) == EnrollResult.ENROLLED;
+	}
+	
+	/**
+	 * Returns why a course can't be added to the schedule without going over 
+	 * the given credit limit, or ENROLLED if it can: INVALID for a null course, 
+	 * OVER_CREDITS, DUPLICATE if a section of the course is scheduled, or CONFLICT. 
+	 * A duplicate is reported before a conflict with another scheduled course.
+	 * @param c course to be checked for validity
+	 * @param maxCredits the most credits the schedule may hold
+	 * @return ENROLLED if the course can be added, otherwise why not
+	 */
+	public EnrollResult checkAdd(Course c, int maxCredits) {
+		if(c == null) {
+			return EnrollResult.INVALID;
+		}
+		int version = Course.getCreditsVersion();
+		boolean recount = version != creditsVersion;
+		int credits = 0;
+		boolean duplicate = false;
+		boolean conflict = false;
+		for(int i = 0; i < this.schedule.size(); i++) {
+			Course scheduled = this.schedule.get(i);
+			if(recount) {
+				credits += scheduled.getCredits();
+			}
+			if(!duplicate && c.isDuplicate(scheduled)) {
+				duplicate = true;
+			} else if(!duplicate && !conflict) {
+				conflict = scheduled.conflictsWith(c);
+			}
+		}
+		if(recount) {
+			scheduleCredits = credits;
+			creditsVersion = version;
+		}
+		
+		//a credit overload is reported first, then a duplicate before a conflict
+		if(scheduleCredits + c.getCredits() > maxCredits) {
+			return EnrollResult.OVER_CREDITS;
+		}
+		if(duplicate) {
+			return EnrollResult.DUPLICATE;
+		}
+		return conflict ? EnrollResult.CONFLICT : EnrollResult.ENROLLED;
+	}
  	
 }
@@ -0,0 +1,661 @@
+package edu.ncsu.csc216.pack_scheduler.util;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * BTreeSortedList keeps distinct elements in their natural order, like the array backed SortedList of
+ * CSC217Collections and with the same methods, but stores them in a B+ tree so that adding, removing, and
+ * finding an element take O(log n) instead of shifting or scanning the whole list.
+ * <p>
+ * Elements live in leaves of up to {@value #MAX_ENTRIES} elements linked in order, so iteration walks arrays
+ * leaf by leaf. Inner nodes hold up to {@value #MAX_ENTRIES} children with the smallest element of each child
+ * after the first as separator keys, and every node knows the number of elements below it, so
+ * <code>get(int)</code>, <code>remove(int)</code>, and <code>indexOf()</code> are O(log n) as well. Nodes other
+ * than the root are kept at least half full by borrowing from or merging with a sibling after a removal.
+ *
+ * @param <E> type of element, compared by its natural order
+ * @author Maxim Shelepov
+ */
+public class BTreeSortedList<E extends Comparable<E>> implements Iterable<E> {
+	/** Most elements in a leaf and children in an inner node */
+	static final int MAX_ENTRIES = 64;
+	/** Fewest elements or children in a node other than the root */
+	private static final int MIN_ENTRIES = MAX_ENTRIES / 2;
+
+	/** Root of the tree, a leaf while the list fits in one */
+	private Node root;
+	/** Number of structural changes, for failing iterators fast */
+	private int modCount;
+
+	/**
+	 * A node of the tree.
+	 */
+	private abstract static class Node {
+		/** Number of elements in a leaf, or of children in an inner node */
+		int n;
+		/** Number of elements in the subtree */
+		int size;
+	}
+
+	/**
+	 * A leaf holding elements in order.
+	 */
+	private static final class Leaf extends Node {
+		/** Elements of the leaf */
+		Object[] items = new Object[MAX_ENTRIES];
+		/** Next leaf in order, or null for the last */
+		Leaf next;
+	}
+
+	/**
+	 * An inner node holding children in order.
+	 */
+	private static final class Inner extends Node {
+		/** Children of the node */
+		Node[] children = new Node[MAX_ENTRIES];
+		/** Lower bound of each child after the first, above every element of the previous child */
+		Object[] keys = new Object[MAX_ENTRIES];
+	}
+
+	/**
+	 * Constructs an empty list.
+	 */
+	public BTreeSortedList() {
+		root = new Leaf();
+	}
+
+	/**
+	 * Adds an element in sorted order.
+	 * @param element the element to add
+	 * @return true, as the list changed
+	 * @throws NullPointerException if element is null
+	 * @throws IllegalArgumentException if an equal element is already in the list
+	 */
+	public boolean add(E element) {
+		if (element == null) {
+			throw new NullPointerException();
+		}
+		Node sibling = insert(root, element);
+		if (sibling != null) {
+			Inner newRoot = new Inner();
+			newRoot.children[0] = root;
+			newRoot.children[1] = sibling;
+			newRoot.keys[1] = minKey(sibling);
+			newRoot.n = 2;
+			newRoot.size = root.size + sibling.size;
+			root = newRoot;
+		}
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * Returns the element at an index in sorted order.
+	 * @param idx the index of the element
+	 * @return the element
+	 * @throws IndexOutOfBoundsException if the index is out of bounds
+	 */
+	@SuppressWarnings("unchecked")
+	public E get(int idx) {
+		checkIndex(idx);
+		Node node = root;
+		while (node instanceof Inner) {
+			Inner inner = (Inner) node;
+			int i = 0;
+			while (idx >= inner.children[i].size) {
+				idx -= inner.children[i].size;
+				i++;
+			}
+			node = inner.children[i];
+		}
+		return (E) ((Leaf) node).items[idx];
+	}
+
+	/**
+	 * Returns the element of the list equal to a key.
+	 * @param key the element to look for
+	 * @return the element in the list equal to the key, or null if there is none
+	 * @throws NullPointerException if key is null
+	 */
+	@SuppressWarnings("unchecked")
+	public E find(E key) {
+		Leaf leaf = findLeaf(key);
+		int pos = search(leaf, key);
+		return pos >= 0 ? (E) leaf.items[pos] : null;
+	}
+
+	/**
+	 * Returns the index of an element in sorted order.
+	 * @param element the element to look for
+	 * @return the index of the element, or -1 if it is not in the list
+	 * @throws NullPointerException if element is null
+	 */
+	public int indexOf(E element) {
+		if (element == null) {
+			throw new NullPointerException();
+		}
+		int base = 0;
+		Node node = root;
+		while (node instanceof Inner) {
+			Inner inner = (Inner) node;
+			int i = childIndex(inner, element);
+			for (int j = 0; j < i; j++) {
+				base += inner.children[j].size;
+			}
+			node = inner.children[i];
+		}
+		int pos = search((Leaf) node, element);
+		return pos >= 0 ? base + pos : -1;
+	}
+
+	/**
+	 * Returns whether the list contains an element.
+	 * @param element the element to look for
+	 * @return true if an equal element is in the list, false otherwise or if element is null
+	 */
+	public boolean contains(E element) {
+		return element != null && find(element) != null;
+	}
+
+	/**
+	 * Removes the element at an index in sorted order.
+	 * @param idx the index of the element to remove
+	 * @return the removed element
+	 * @throws IndexOutOfBoundsException if the index is out of bounds
+	 */
+	@SuppressWarnings("unchecked")
+	public E remove(int idx) {
+		checkIndex(idx);
+		Object removed = removeAt(root, idx);
+		if (root instanceof Inner && root.n == 1) {
+			root = ((Inner) root).children[0];
+		}
+		modCount++;
+		return (E) removed;
+	}
+
+	/**
+	 * Removes the element equal to a key.
+	 * @param key the element to remove
+	 * @return true if an equal element was removed, false if there was none
+	 * @throws NullPointerException if key is null
+	 */
+	public boolean remove(E key) {
+		int idx = indexOf(key);
+		if (idx == -1) {
+			return false;
+		}
+		remove(idx);
+		return true;
+	}
+
+	/**
+	 * Removes every element.
+	 */
+	public void clear() {
+		root = new Leaf();
+		modCount++;
+	}
+
+	/**
+	 * Returns the number of elements.
+	 * @return the number of elements
+	 */
+	public int size() {
+		return root.size;
+	}
+
+	/**
+	 * Returns whether the list is empty.
+	 * @return true if the list has no elements
+	 */
+	public boolean isEmpty() {
+		return root.size == 0;
+	}
+
+	/**
+	 * Returns an iterator over the elements in sorted order. The iterator walks the linked leaves, so a full
+	 * iteration is O(n). It fails with a ConcurrentModificationException if the list is changed other than
+	 * through the iterator, and its remove() takes O(log n).
+	 * @return the iterator
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new LeafIterator();
+	}
+
+	/**
+	 * Iterates the elements leaf by leaf.
+	 */
+	private class LeafIterator implements Iterator<E> {
+		/** Leaf of the next element */
+		private Leaf leaf;
+		/** Position of the next element in its leaf */
+		private int pos;
+		/** Index of the next element in the list */
+		private int index;
+		/** Whether remove() may be called */
+		private boolean canRemove;
+		/** Change count the iterator expects */
+		private int expectedModCount = modCount;
+
+		/**
+		 * Constructs an iterator at the first element.
+		 */
+		LeafIterator() {
+			Node node = root;
+			while (node instanceof Inner) {
+				node = ((Inner) node).children[0];
+			}
+			leaf = (Leaf) node;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return index < size();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			while (pos == leaf.n) {
+				leaf = leaf.next;
+				pos = 0;
+			}
+			index++;
+			canRemove = true;
+			return (E) leaf.items[pos++];
+		}
+
+		@Override
+		public void remove() {
+			if (!canRemove) {
+				throw new IllegalStateException();
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			// leaves may be merged or rebalanced, so find the next element again by index
+			BTreeSortedList.this.remove(--index);
+			canRemove = false;
+			expectedModCount = modCount;
+			seek(index);
+		}
+
+		/**
+		 * Helper method that positions the iterator at an index.
+		 * @param idx the index of the next element
+		 */
+		private void seek(int idx) {
+			Node node = root;
+			while (node instanceof Inner) {
+				Inner inner = (Inner) node;
+				int i = 0;
+				while (i < inner.n - 1 && idx >= inner.children[i].size) {
+					idx -= inner.children[i].size;
+					i++;
+				}
+				node = inner.children[i];
+			}
+			leaf = (Leaf) node;
+			pos = idx;
+		}
+	}
+
+	/**
+	 * Helper method that adds an element to a subtree.
+	 * @param node the root of the subtree
+	 * @param element the element to add
+	 * @return a new right sibling of the node if the node split, or null
+	 * @throws IllegalArgumentException if an equal element is already in the subtree
+	 */
+	private Node insert(Node node, E element) {
+		if (node instanceof Leaf) {
+			Leaf leaf = (Leaf) node;
+			int pos = search(leaf, element);
+			if (pos >= 0) {
+				throw new IllegalArgumentException("Element already in list.");
+			}
+			pos = -pos - 1;
+			if (leaf.n < MAX_ENTRIES) {
+				insertItem(leaf, pos, element);
+				return null;
+			}
+
+			Leaf right = new Leaf();
+			int mid = MAX_ENTRIES / 2;
+			System.arraycopy(leaf.items, mid, right.items, 0, MAX_ENTRIES - mid);
+			java.util.Arrays.fill(leaf.items, mid, MAX_ENTRIES, null);
+			leaf.n = mid;
+			leaf.size = mid;
+			right.n = MAX_ENTRIES - mid;
+			right.size = right.n;
+			right.next = leaf.next;
+			leaf.next = right;
+			if (pos <= mid) {
+				insertItem(leaf, pos, element);
+			} else {
+				insertItem(right, pos - mid, element);
+			}
+			return right;
+		}
+
+		Inner inner = (Inner) node;
+		int i = childIndex(inner, element);
+		Node sibling = insert(inner.children[i], element);
+		inner.size++;
+		if (sibling == null) {
+			return null;
+		}
+		Object key = minKey(sibling);
+		if (inner.n < MAX_ENTRIES) {
+			insertChild(inner, i + 1, sibling, key);
+			return null;
+		}
+
+		Inner right = new Inner();
+		int mid = MAX_ENTRIES / 2;
+		System.arraycopy(inner.children, mid, right.children, 0, MAX_ENTRIES - mid);
+		System.arraycopy(inner.keys, mid, right.keys, 0, MAX_ENTRIES - mid);
+		java.util.Arrays.fill(inner.children, mid, MAX_ENTRIES, null);
+		java.util.Arrays.fill(inner.keys, mid, MAX_ENTRIES, null);
+		right.keys[0] = null;
+		inner.n = mid;
+		right.n = MAX_ENTRIES - mid;
+		if (i + 1 <= mid) {
+			insertChild(inner, i + 1, sibling, key);
+		} else {
+			insertChild(right, i + 1 - mid, sibling, key);
+		}
+		inner.size = sumSizes(inner);
+		right.size = sumSizes(right);
+		return right;
+	}
+
+	/**
+	 * Helper method that removes the element at an index of a subtree and rebalances the child it was removed
+	 * from.
+	 * @param node the root of the subtree
+	 * @param idx the index within the subtree
+	 * @return the removed element
+	 */
+	private Object removeAt(Node node, int idx) {
+		if (node instanceof Leaf) {
+			Leaf leaf = (Leaf) node;
+			Object removed = leaf.items[idx];
+			System.arraycopy(leaf.items, idx + 1, leaf.items, idx, leaf.n - idx - 1);
+			leaf.items[--leaf.n] = null;
+			leaf.size--;
+			return removed;
+		}
+
+		Inner inner = (Inner) node;
+		int i = 0;
+		while (idx >= inner.children[i].size) {
+			idx -= inner.children[i].size;
+			i++;
+		}
+		Object removed = removeAt(inner.children[i], idx);
+		inner.size--;
+		if (inner.children[i].n < MIN_ENTRIES) {
+			rebalance(inner, i);
+		}
+		return removed;
+	}
+
+	/**
+	 * Helper method that refills a child that fell below half full, by borrowing an entry from a sibling with
+	 * entries to spare or else merging with a sibling.
+	 * @param parent the parent of the child
+	 * @param i the index of the child
+	 */
+	private void rebalance(Inner parent, int i) {
+		if (i > 0 && parent.children[i - 1].n > MIN_ENTRIES) {
+			borrowFromLeft(parent, i);
+		} else if (i + 1 < parent.n && parent.children[i + 1].n > MIN_ENTRIES) {
+			borrowFromRight(parent, i);
+		} else if (i > 0) {
+			merge(parent, i - 1);
+		} else if (i + 1 < parent.n) {
+			merge(parent, i);
+		}
+	}
+
+	/**
+	 * Helper method that moves the last entry of a child's left sibling to the front of the child.
+	 * @param parent the parent of the child
+	 * @param i the index of the child
+	 */
+	private static void borrowFromLeft(Inner parent, int i) {
+		Node left = parent.children[i - 1];
+		Node child = parent.children[i];
+		if (child instanceof Leaf) {
+			Leaf from = (Leaf) left;
+			Object item = from.items[--from.n];
+			from.items[from.n] = null;
+			from.size--;
+			insertItem((Leaf) child, 0, item);
+			parent.keys[i] = item;
+			return;
+		}
+
+		Inner from = (Inner) left;
+		Inner to = (Inner) child;
+		Node moved = from.children[--from.n];
+		Object movedKey = from.keys[from.n];
+		from.children[from.n] = null;
+		from.keys[from.n] = null;
+		from.size -= moved.size;
+		System.arraycopy(to.children, 0, to.children, 1, to.n);
+		System.arraycopy(to.keys, 0, to.keys, 1, to.n);
+		to.children[0] = moved;
+		to.keys[0] = null;
+		to.keys[1] = parent.keys[i];
+		to.n++;
+		to.size += moved.size;
+		parent.keys[i] = movedKey;
+	}
+
+	/**
+	 * Helper method that moves the first entry of a child's right sibling to the end of the child.
+	 * @param parent the parent of the child
+	 * @param i the index of the child
+	 */
+	private static void borrowFromRight(Inner parent, int i) {
+		Node child = parent.children[i];
+		Node right = parent.children[i + 1];
+		if (child instanceof Leaf) {
+			Leaf from = (Leaf) right;
+			Leaf to = (Leaf) child;
+			to.items[to.n++] = from.items[0];
+			to.size++;
+			System.arraycopy(from.items, 1, from.items, 0, from.n - 1);
+			from.items[--from.n] = null;
+			from.size--;
+			parent.keys[i + 1] = from.items[0];
+			return;
+		}
+
+		Inner from = (Inner) right;
+		Inner to = (Inner) child;
+		Node moved = from.children[0];
+		to.children[to.n] = moved;
+		to.keys[to.n] = parent.keys[i + 1];
+		to.n++;
+		to.size += moved.size;
+		parent.keys[i + 1] = from.keys[1];
+		System.arraycopy(from.children, 1, from.children, 0, from.n - 1);
+		System.arraycopy(from.keys, 1, from.keys, 0, from.n - 1);
+		from.n--;
+		from.children[from.n] = null;
+		from.keys[from.n] = null;
+		from.keys[0] = null;
+		from.size -= moved.size;
+	}
+
+	/**
+	 * Helper method that merges a child's right sibling into the child and removes the sibling from the parent.
+	 * @param parent the parent of the children
+	 * @param i the index of the left child
+	 */
+	private static void merge(Inner parent, int i) {
+		Node left = parent.children[i];
+		Node right = parent.children[i + 1];
+		if (left instanceof Leaf) {
+			Leaf to = (Leaf) left;
+			Leaf from = (Leaf) right;
+			System.arraycopy(from.items, 0, to.items, to.n, from.n);
+			to.n += from.n;
+			to.next = from.next;
+		} else {
+			Inner to = (Inner) left;
+			Inner from = (Inner) right;
+			System.arraycopy(from.children, 0, to.children, to.n, from.n);
+			System.arraycopy(from.keys, 0, to.keys, to.n, from.n);
+			to.keys[to.n] = parent.keys[i + 1];
+			to.n += from.n;
+		}
+		left.size += right.size;
+
+		System.arraycopy(parent.children, i + 2, parent.children, i + 1, parent.n - i - 2);
+		System.arraycopy(parent.keys, i + 2, parent.keys, i + 1, parent.n - i - 2);
+		parent.n--;
+		parent.children[parent.n] = null;
+		parent.keys[parent.n] = null;
+	}
+
+	/**
+	 * Helper method that inserts an element into a leaf with room for it.
+	 * @param leaf the leaf
+	 * @param pos the position of the element
+	 * @param item the element
+	 */
+	private static void insertItem(Leaf leaf, int pos, Object item) {
+		System.arraycopy(leaf.items, pos, leaf.items, pos + 1, leaf.n - pos);
+		leaf.items[pos] = item;
+		leaf.n++;
+		leaf.size++;
+	}
+
+	/**
+	 * Helper method that inserts a child into an inner node with room for it. The size of the node is left to
+	 * the caller.
+	 * @param inner the inner node
+	 * @param pos the position of the child, at least 1
+	 * @param child the child
+	 * @param key the separator key of the child
+	 */
+	private static void insertChild(Inner inner, int pos, Node child, Object key) {
+		System.arraycopy(inner.children, pos, inner.children, pos + 1, inner.n - pos);
+		System.arraycopy(inner.keys, pos, inner.keys, pos + 1, inner.n - pos);
+		inner.children[pos] = child;
+		inner.keys[pos] = key;
+		inner.n++;
+	}
+
+	/**
+	 * Helper method that finds the leaf where an element is or belongs.
+	 * @param element the element
+	 * @return the leaf
+	 */
+	private Leaf findLeaf(E element) {
+		if (element == null) {
+			throw new NullPointerException();
+		}
+		Node node = root;
+		while (node instanceof Inner) {
+			Inner inner = (Inner) node;
+			node = inner.children[childIndex(inner, element)];
+		}
+		return (Leaf) node;
+	}
+
+	/**
+	 * Helper method that binary searches the separator keys for the child where an element is or belongs.
+	 * @param inner the inner node
+	 * @param element the element
+	 * @return the index of the child
+	 */
+	@SuppressWarnings("unchecked")
+	private static <E extends Comparable<E>> int childIndex(Inner inner, E element) {
+		int low = 1;
+		int high = inner.n;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (element.compareTo((E) inner.keys[mid]) >= 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low - 1;
+	}
+
+	/**
+	 * Helper method that binary searches a leaf for an element.
+	 * @param leaf the leaf
+	 * @param element the element
+	 * @return the position of the element, or -(insertion point) - 1 if it is not in the leaf
+	 */
+	@SuppressWarnings("unchecked")
+	private static <E extends Comparable<E>> int search(Leaf leaf, E element) {
+		int low = 0;
+		int high = leaf.n - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int cmp = ((E) leaf.items[mid]).compareTo(element);
+			if (cmp < 0) {
+				low = mid + 1;
+			} else if (cmp > 0) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -(low + 1);
+	}
+
+	/**
+	 * Helper method that returns the smallest element of a subtree.
+	 * @param node the root of the subtree
+	 * @return the smallest element
+	 */
+	private static Object minKey(Node node) {
+		while (node instanceof Inner) {
+			node = ((Inner) node).children[0];
+		}
+		return ((Leaf) node).items[0];
+	}
+
+	/**
+	 * Helper method that adds up the sizes of the children of an inner node.
+	 * @param inner the inner node
+	 * @return the number of elements below the node
+	 */
+	private static int sumSizes(Inner inner) {
+		int size = 0;
+		for (int i = 0; i < inner.n; i++) {
+			size += inner.children[i].size;
+		}
+		return size;
+	}
+
+	/**
+	 * Helper method that checks the index of an existing element.
+	 * @param idx the index to check
+	 * @throws IndexOutOfBoundsException if the index is out of bounds
+	 */
+	private void checkIndex(int idx) {
+		if (idx < 0 || idx >= size()) {
+			throw new IndexOutOfBoundsException("Index out of bounds.");
+		}
+	}
+}
@@ -0,0 +1,444 @@
+package edu.ncsu.csc216.pack_scheduler.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * HeapQueue is a priority Queue backed by a binary heap. Each element is enqueued with an int priority and
+ * elements with lower priority values are dequeued first; elements with equal priorities are dequeued in the
+ * order they were enqueued, so a HeapQueue whose elements all have the same priority behaves like a FIFO Queue.
+ * The elements are distinct: an element equal to one already in the queue can't be enqueued.
+ * <p>
+ * Enqueue, dequeue, and removing an element are O(log n), and contains() is O(1): each heap entry is a node that
+ * knows its own heap index, and a hash map from each element's key to the nodes with that key finds elements
+ * without scanning the heap. An element's key is the element itself unless the queue is constructed with a key
+ * function. Elements whose hashCode() can change while they are queued, such as Students, should be keyed by
+ * something that can't, such as their id; elements sharing a key are told apart with equals(). The backing array
+ * grows as needed up to the capacity, so a large capacity costs nothing until it is used.
+ *
+ * @param <E> generic type
+ * @author Maxim Shelepov
+ */
+public class HeapQueue<E> implements Queue<E> {
+	/** Initial length of the backing array */
+	private static final int INIT_SIZE = 10;
+	/** Priority given to elements enqueued without one */
+	public static final int DEFAULT_PRIORITY = 0;
+
+	/** Heap of entries */
+	private Entry[] heap;
+	/** Number of elements in the queue */
+	private int size;
+	/** Maximum number of elements in the queue */
+	private int capacity;
+	/** Enqueue order of the next element */
+	private long nextOrder;
+	/** Key of each element, never changing while the element is queued */
+	private Function<? super E, ?> keyOf;
+	/** First entry with each key; further entries with the same key are chained from it */
+	private HashMap<Object, Entry> entries = new HashMap<Object, Entry>();
+
+	/**
+	 * Constructs a HeapQueue whose elements are their own keys
+	 * @param capacity the capacity of the HeapQueue
+	 * @throws IllegalArgumentException if capacity is negative
+	 */
+	public HeapQueue(int capacity) {
+		this(capacity, e -> e);
+	}
+
+	/**
+	 * Constructs a HeapQueue that finds elements by the given keys, then by equals() among elements sharing a key
+	 * @param capacity the capacity of the HeapQueue
+	 * @param keyOf function giving the key of an element, which must not change while the element is queued and
+	 * must be the same for equal elements
+	 * @throws IllegalArgumentException if capacity is negative or keyOf is null
+	 */
+	public HeapQueue(int capacity, Function<? super E, ?> keyOf) {
+		if (keyOf == null) {
+			throw new IllegalArgumentException();
+		}
+		heap = new Entry[Math.max(1, Math.min(capacity, INIT_SIZE))];
+		this.keyOf = keyOf;
+		setCapacity(capacity);
+	}
+
+	/**
+	 * Adds the element to the queue with the default priority
+	 * @param element the element to add
+	 * @throws IllegalArgumentException if there is no capacity or the element is already in the queue
+	 */
+	@Override
+	public void enqueue(E element) {
+		enqueue(element, DEFAULT_PRIORITY);
+	}
+
+	/**
+	 * Adds the element to the queue behind every element with a lower or equal priority value
+	 * @param element the element to add
+	 * @param priority the priority of the element, lower values leave the queue first
+	 * @throws IllegalArgumentException if there is no capacity or the element is already in the queue
+	 * @throws NullPointerException if element is null
+	 */
+	public void enqueue(E element, int priority) {
+		if (element == null) {
+			throw new NullPointerException();
+		}
+		if (size == capacity || find(element) != null) {
+			throw new IllegalArgumentException();
+		}
+		insert(new Entry(element, keyOf.apply(element), priority, nextOrder++));
+	}
+
+	/**
+	 * Puts an element removed by removeFirst() back in the queue with the priority and enqueue order it had, so
+	 * it takes its old place in line ahead of equal priority elements enqueued after it
+	 * @param element the element to put back
+	 * @param priority the priority the element had
+	 * @param enqueueOrder the enqueue order the element had
+	 * @throws IllegalArgumentException if there is no capacity, the element is already in the queue, or the
+	 * enqueue order was never given out
+	 * @throws NullPointerException if element is null
+	 */
+	public void reinsert(E element, int priority, long enqueueOrder) {
+		if (element == null) {
+			throw new NullPointerException();
+		}
+		if (size == capacity || find(element) != null || enqueueOrder < 0 || enqueueOrder >= nextOrder) {
+			throw new IllegalArgumentException();
+		}
+		insert(new Entry(element, keyOf.apply(element), priority, enqueueOrder));
+	}
+
+	/**
+	 * Removes and returns the element at the front of the queue
+	 * @return Element at the front of the queue
+	 * @throws NoSuchElementException if queue is empty
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public E dequeue() {
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		return (E) removeAt(0).element;
+	}
+
+	/**
+	 * Returns the element at the front of the queue without removing it
+	 * @return Element at the front of the queue
+	 * @throws NoSuchElementException if queue is empty
+	 */
+	@SuppressWarnings("unchecked")
+	public E peek() {
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		return (E) heap[0].element;
+	}
+
+	/**
+	 * Removes the element of the queue equal to the given element, wherever it is in the queue
+	 * @param element the element to remove
+	 * @return true if an element was removed
+	 */
+	public boolean remove(E element) {
+		Entry entry = find(element);
+		if (entry == null) {
+			return false;
+		}
+		removeAt(entry.index);
+		return true;
+	}
+
+	/**
+	 * Removes up to max elements accepted by the predicate, in the order they would be dequeued. Elements the
+	 * predicate rejects stay in the queue with their priority and place in line unchanged.
+	 * @param max the most elements to remove
+	 * @param accept the test an element must pass to be removed
+	 * @return list of the removed elements, front first
+	 */
+	public ArrayList<E> removeFirst(int max, Predicate<? super E> accept) {
+		return removeFirst(max, accept, null, null);
+	}
+
+	/**
+	 * Removes up to max elements accepted by the predicate, as removeFirst(int, Predicate) does, and records the
+	 * priority and enqueue order of each removed element, so they can be put back in their place with reinsert().
+	 * @param max the most elements to remove
+	 * @param accept the test an element must pass to be removed
+	 * @param removedPriorities receives the priority of each removed element, in removal order; null or at least
+	 * max long
+	 * @param removedOrder receives the enqueue order of each removed element, in removal order; null or at least
+	 * max long
+	 * @return list of the removed elements, front first
+	 */
+	@SuppressWarnings("unchecked")
+	public ArrayList<E> removeFirst(int max, Predicate<? super E> accept, int[] removedPriorities, long[] removedOrder) {
+		ArrayList<E> removed = new ArrayList<E>();
+		int skipped = 0;
+		Entry[] skippedEntries = new Entry[Math.min(size, INIT_SIZE)];
+
+		while (removed.size() < max && size > 0) {
+			Entry entry = removeAt(0);
+			if (accept.test((E) entry.element)) {
+				if (removedPriorities != null) {
+					removedPriorities[removed.size()] = entry.priority;
+				}
+				if (removedOrder != null) {
+					removedOrder[removed.size()] = entry.order;
+				}
+				removed.add((E) entry.element);
+			} else {
+				if (skipped == skippedEntries.length) {
+					skippedEntries = Arrays.copyOf(skippedEntries, skipped * 2);
+				}
+				skippedEntries[skipped++] = entry;
+			}
+		}
+
+		for (int i = 0; i < skipped; i++) {
+			insert(skippedEntries[i]);
+		}
+		return removed;
+	}
+
+	/**
+	 * Returns whether the queue holds an element equal to the given element
+	 * @param element the element to look for
+	 * @return true if the element is in the queue
+	 */
+	public boolean contains(E element) {
+		return find(element) != null;
+	}
+
+	/**
+	 * Returns true if the queue is empty
+	 * @return boolean of whether the queue is empty
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the number of elements in the queue
+	 * @return number of elements in the queue
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Sets the queue's capacity
+	 * @param capacity the capacity of the queue
+	 * @throws IllegalArgumentException If the actual parameter is negative or if it is less than the number of elements in the queue
+	 */
+	@Override
+	public void setCapacity(int capacity) {
+		if (capacity < 0 || capacity < size) {
+			throw new IllegalArgumentException();
+		}
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Returns the capacity of the queue
+	 * @return capacity of queue
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Returns the elements in the order they would be dequeued, without changing the queue. The heap entries are
+	 * copied and sorted, so the queue and its index are left alone.
+	 * @return array of the elements, front first
+	 */
+	public Object[] toArray() {
+		Entry[] sorted = Arrays.copyOf(heap, size);
+		Arrays.sort(sorted, (a, b) -> a.before(b) ? -1 : 1);
+		Object[] result = new Object[size];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = sorted[i].element;
+		}
+		return result;
+	}
+
+	/**
+	 * Helper method that finds the entry of an element, looking only at the entries with the element's key. The
+	 * element itself matches even if it changed since it was enqueued.
+	 * @param element the element to look for
+	 * @return the entry of the element, or null if it is not in the queue
+	 */
+	private Entry find(E element) {
+		if (element == null) {
+			return null;
+		}
+		for (Entry entry = entries.get(keyOf.apply(element)); entry != null; entry = entry.nextWithKey) {
+			if (entry.element == element || entry.element.equals(element)) {
+				return entry;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Helper method that adds an entry to the heap
+	 * @param entry the entry to add
+	 */
+	private void insert(Entry entry) {
+		if (size == heap.length) {
+			grow();
+		}
+		entry.nextWithKey = entries.put(entry.key, entry);
+		place(entry, size);
+		siftUp(size++);
+	}
+
+	/**
+	 * Helper method that removes the entry at a heap index, moving the last entry into its place
+	 * @param idx the index to remove
+	 * @return the removed entry
+	 */
+	private Entry removeAt(int idx) {
+		Entry removed = heap[idx];
+		unlink(removed);
+		size--;
+		if (idx != size) {
+			place(heap[size], idx);
+			siftDown(idx);
+			siftUp(idx);
+		}
+		heap[size] = null;
+		return removed;
+	}
+
+	/**
+	 * Helper method that takes an entry out of the chain of entries with its key
+	 * @param entry the entry to unlink
+	 */
+	private void unlink(Entry entry) {
+		Entry first = entries.get(entry.key);
+		if (first == entry) {
+			if (entry.nextWithKey == null) {
+				entries.remove(entry.key);
+			} else {
+				entries.put(entry.key, entry.nextWithKey);
+			}
+		} else {
+			Entry prev = first;
+			while (prev.nextWithKey != entry) {
+				prev = prev.nextWithKey;
+			}
+			prev.nextWithKey = entry.nextWithKey;
+		}
+		entry.nextWithKey = null;
+	}
+
+	/**
+	 * Helper method that moves an entry up the heap until its parent leaves the queue first
+	 * @param idx the index of the entry
+	 */
+	private void siftUp(int idx) {
+		Entry entry = heap[idx];
+		while (idx > 0) {
+			int parent = (idx - 1) >>> 1;
+			if (!entry.before(heap[parent])) {
+				break;
+			}
+			place(heap[parent], idx);
+			idx = parent;
+		}
+		place(entry, idx);
+	}
+
+	/**
+	 * Helper method that moves an entry down the heap until it leaves the queue before its children
+	 * @param idx the index of the entry
+	 */
+	private void siftDown(int idx) {
+		Entry entry = heap[idx];
+		while (true) {
+			int child = 2 * idx + 1;
+			if (child >= size) {
+				break;
+			}
+			if (child + 1 < size && heap[child + 1].before(heap[child])) {
+				child++;
+			}
+			if (!heap[child].before(entry)) {
+				break;
+			}
+			place(heap[child], idx);
+			idx = child;
+		}
+		place(entry, idx);
+	}
+
+	/**
+	 * Helper method that puts an entry at a heap index and records the index in the entry
+	 * @param entry the entry
+	 * @param idx the heap index
+	 */
+	private void place(Entry entry, int idx) {
+		heap[idx] = entry;
+		entry.index = idx;
+	}
+
+	/**
+	 * Helper method that doubles the backing array, without going past the capacity
+	 */
+	private void grow() {
+		heap = Arrays.copyOf(heap, (int) Math.min((long) capacity, heap.length * 2L));
+	}
+
+	/**
+	 * Entry is a node of the heap holding an element, its key, its priority and enqueue order, and its current
+	 * heap index, so moving it updates a field instead of the hash map. Entries sharing a key form a chain.
+	 */
+	private static class Entry {
+		/** The element */
+		private final Object element;
+		/** Key of the element in the hash map */
+		private final Object key;
+		/** Priority of the element */
+		private final int priority;
+		/** Enqueue order of the element, breaking ties between equal priorities */
+		private final long order;
+		/** Current index of the entry in the heap */
+		private int index;
+		/** Next entry with the same key, or null */
+		private Entry nextWithKey;
+
+		/**
+		 * Constructs an Entry
+		 * @param element the element
+		 * @param key the key of the element
+		 * @param priority the priority of the element
+		 * @param order the enqueue order of the element
+		 */
+		Entry(Object element, Object key, int priority, long order) {
+			this.element = element;
+			this.key = key;
+			this.priority = priority;
+			this.order = order;
+		}
+
+		/**
+		 * Returns whether this entry leaves the queue before another
+		 * @param other the other entry
+		 * @return true if this entry has a lower priority value, or an equal one and was enqueued earlier
+		 */
+		boolean before(Entry other) {
+			if (priority != other.priority) {
+				return priority < other.priority;
+			}
+			return order < other.order;
+		}
+	}
+}
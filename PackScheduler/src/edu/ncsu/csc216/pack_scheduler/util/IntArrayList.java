@@ -0,0 +1,199 @@
+package edu.ncsu.csc216.pack_scheduler.util;
+
+import java.util.Arrays;
+
+/**
+ * IntArrayList is a growable list of int values backed by an int array, for numeric data such as slots, dense
+ * ids, and meeting times that would otherwise be boxed into a list of Integers. Unlike ArrayList it allows
+ * duplicate values, since the same time or count commonly repeats.
+ *
+ * @author Maxim Shelepov
+ */
+public class IntArrayList {
+	/** Initial list capacity */
+	private static final int INIT_SIZE = 10;
+
+	/** Values of the list */
+	private int[] list;
+	/** Size of the list */
+	private int size;
+
+	/**
+	 * Constructs an empty list with the default capacity.
+	 */
+	public IntArrayList() {
+		this(INIT_SIZE);
+	}
+
+	/**
+	 * Constructs an empty list able to hold the given number of values before growing.
+	 * @param capacity the initial capacity
+	 * @throws IllegalArgumentException if capacity is negative
+	 */
+	public IntArrayList(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Invalid capacity.");
+		}
+		list = new int[capacity];
+		size = 0;
+	}
+
+	/**
+	 * Adds a value to the end of the list.
+	 * @param value the value to add
+	 */
+	public void add(int value) {
+		if (size == list.length) {
+			grow();
+		}
+		list[size++] = value;
+	}
+
+	/**
+	 * Adds a value to the list at the specified index, shifting later values back.
+	 * @param idx the index of the insertion
+	 * @param value the value to insert
+	 * @throws IndexOutOfBoundsException if the index is out of bounds
+	 */
+	public void add(int idx, int value) {
+		if (idx < 0 || idx > size) {
+			throw new IndexOutOfBoundsException("Index out of bounds.");
+		}
+		if (size == list.length) {
+			grow();
+		}
+		System.arraycopy(list, idx, list, idx + 1, size - idx);
+		list[idx] = value;
+		size++;
+	}
+
+	/**
+	 * Retrieves the value at the specified index.
+	 * @param idx the index of the value
+	 * @return the value
+	 * @throws IndexOutOfBoundsException if the index is out of bounds
+	 */
+	public int get(int idx) {
+		checkIndex(idx);
+		return list[idx];
+	}
+
+	/**
+	 * Sets the value at the specified index.
+	 * @param idx the index to set
+	 * @param value the new value
+	 * @return the value being replaced
+	 * @throws IndexOutOfBoundsException if the index is out of bounds
+	 */
+	public int set(int idx, int value) {
+		checkIndex(idx);
+		int previous = list[idx];
+		list[idx] = value;
+		return previous;
+	}
+
+	/**
+	 * Removes the value at the specified index, shifting later values forward.
+	 * @param idx the index of the value to remove
+	 * @return the removed value
+	 * @throws IndexOutOfBoundsException if the index is out of bounds
+	 */
+	public int remove(int idx) {
+		checkIndex(idx);
+		int removed = list[idx];
+		System.arraycopy(list, idx + 1, list, idx, size - idx - 1);
+		size--;
+		return removed;
+	}
+
+	/**
+	 * Removes and returns the last value, so the list can be used as a stack.
+	 * @return the last value
+	 * @throws IndexOutOfBoundsException if the list is empty
+	 */
+	public int removeLast() {
+		if (size == 0) {
+			throw new IndexOutOfBoundsException("Index out of bounds.");
+		}
+		return list[--size];
+	}
+
+	/**
+	 * Returns the index of the first occurrence of a value.
+	 * @param value the value to find
+	 * @return the index of the value, or -1 if the list does not contain it
+	 */
+	public int indexOf(int value) {
+		for (int i = 0; i < size; i++) {
+			if (list[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns whether the list contains a value.
+	 * @param value the value to find
+	 * @return true if the list contains the value
+	 */
+	public boolean contains(int value) {
+		return indexOf(value) != -1;
+	}
+
+	/**
+	 * Sorts the values in ascending order.
+	 */
+	public void sort() {
+		Arrays.sort(list, 0, size);
+	}
+
+	/**
+	 * Removes every value, keeping the capacity.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Returns the values in a new array.
+	 * @return the values in list order
+	 */
+	public int[] toArray() {
+		return Arrays.copyOf(list, size);
+	}
+
+	/**
+	 * Retrieves the size of the list.
+	 * @return the number of values
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns whether the list is empty.
+	 * @return true if the list has no values
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Helper method that checks an index of an existing value.
+	 * @param idx the index to check
+	 * @throws IndexOutOfBoundsException if the index is out of bounds
+	 */
+	private void checkIndex(int idx) {
+		if (idx < 0 || idx >= size) {
+			throw new IndexOutOfBoundsException("Index out of bounds.");
+		}
+	}
+
+	/**
+	 * Helper method to double the list capacity.
+	 */
+	private void grow() {
+		list = Arrays.copyOf(list, Math.max(INIT_SIZE, list.length * 2));
+	}
+}
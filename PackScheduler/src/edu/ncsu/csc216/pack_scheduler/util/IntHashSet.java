@@ -0,0 +1,196 @@
+package edu.ncsu.csc216.pack_scheduler.util;
+
+/**
+ * IntHashSet is a set of int values, such as dense ids from a SymbolTable, stored without boxing. It is an open
+ * addressing hash table with linear probing over a single int array, kept at most half full, so a lookup is a
+ * few array reads instead of a boxed Integer, a HashMap node, and a pointer chase for each value.
+ * <p>
+ * An empty slot holds 0, so the value 0 is tracked by a separate flag. Removing a value shifts the values
+ * probing past it back, so the table never holds deleted markers.
+ *
+ * @author Maxim Shelepov
+ */
+public class IntHashSet {
+	/** Initial number of slots, must be a power of two */
+	private static final int INIT_SLOTS = 16;
+
+	/** Slots holding the values other than 0, 0 for an empty slot */
+	private int[] slots;
+	/** Whether the set contains 0 */
+	private boolean hasZero;
+	/** Number of values in the set */
+	private int size;
+
+	/**
+	 * Constructs an empty IntHashSet.
+	 */
+	public IntHashSet() {
+		slots = new int[INIT_SLOTS];
+		hasZero = false;
+		size = 0;
+	}
+
+	/**
+	 * Adds a value to the set.
+	 * @param value the value to add
+	 * @return true if the value was added, false if the set already contained it
+	 */
+	public boolean add(int value) {
+		if (value == 0) {
+			if (hasZero) {
+				return false;
+			}
+			hasZero = true;
+			size++;
+			return true;
+		}
+
+		int slot = findSlot(value);
+		if (slots[slot] == value) {
+			return false;
+		}
+		if ((size + 1) * 2 > slots.length) {
+			grow();
+			slot = findSlot(value);
+		}
+		slots[slot] = value;
+		size++;
+		return true;
+	}
+
+	/**
+	 * Returns whether the set contains a value.
+	 * @param value the value to find
+	 * @return true if the set contains the value
+	 */
+	public boolean contains(int value) {
+		if (value == 0) {
+			return hasZero;
+		}
+		return slots[findSlot(value)] == value;
+	}
+
+	/**
+	 * Removes a value from the set.
+	 * @param value the value to remove
+	 * @return true if the value was removed, false if the set did not contain it
+	 */
+	public boolean remove(int value) {
+		if (value == 0) {
+			if (!hasZero) {
+				return false;
+			}
+			hasZero = false;
+			size--;
+			return true;
+		}
+
+		int slot = findSlot(value);
+		if (slots[slot] != value) {
+			return false;
+		}
+		removeSlot(slot);
+		size--;
+		return true;
+	}
+
+	/**
+	 * Removes every value, keeping the capacity.
+	 */
+	public void clear() {
+		for (int i = 0; i < slots.length; i++) {
+			slots[i] = 0;
+		}
+		hasZero = false;
+		size = 0;
+	}
+
+	/**
+	 * Returns the number of values in the set.
+	 * @return the number of values
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns whether the set is empty.
+	 * @return true if the set has no values
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the values in a new array.
+	 * @return the values, in no particular order
+	 */
+	public int[] toArray() {
+		int[] values = new int[size];
+		int idx = 0;
+		if (hasZero) {
+			values[idx++] = 0;
+		}
+		for (int value : slots) {
+			if (value != 0) {
+				values[idx++] = value;
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Returns the home slot of a value in a table of the given number of slots.
+	 * @param value the value
+	 * @param mask the number of slots minus one
+	 * @return the slot the value's probe starts at
+	 */
+	static int home(int value, int mask) {
+		int h = value * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & mask;
+	}
+
+	/**
+	 * Helper method that finds the slot holding a value, or the empty slot where it belongs.
+	 * @param value the value to look for, not 0
+	 * @return the slot index
+	 */
+	private int findSlot(int value) {
+		int mask = slots.length - 1;
+		int slot = home(value, mask);
+		while (slots[slot] != 0 && slots[slot] != value) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Helper method that empties a slot and shifts back the values whose probe passed through it.
+	 * @param slot the slot to empty
+	 */
+	private void removeSlot(int slot) {
+		int mask = slots.length - 1;
+		int gap = slot;
+		for (int next = (gap + 1) & mask; slots[next] != 0; next = (next + 1) & mask) {
+			// the value may fill the gap if its home is not between the gap and its slot
+			if (((next - home(slots[next], mask)) & mask) >= ((next - gap) & mask)) {
+				slots[gap] = slots[next];
+				gap = next;
+			}
+		}
+		slots[gap] = 0;
+	}
+
+	/**
+	 * Helper method that doubles the number of slots and rehashes the values.
+	 */
+	private void grow() {
+		int[] old = slots;
+		slots = new int[old.length * 2];
+		for (int value : old) {
+			if (value != 0) {
+				slots[findSlot(value)] = value;
+			}
+		}
+	}
+}
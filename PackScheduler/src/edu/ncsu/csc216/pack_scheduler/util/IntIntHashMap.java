@@ -0,0 +1,250 @@
+package edu.ncsu.csc216.pack_scheduler.util;
+
+/**
+ * IntIntHashMap maps int keys to int values without boxing, for tables such as counts per dense id or per time
+ * slot. Like IntHashSet it is an open addressing hash table with linear probing, kept at most half full, with
+ * the keys and values in two parallel int arrays.
+ * <p>
+ * An empty slot holds the key 0, so the key 0 and its value are kept in separate fields. Removing a key shifts
+ * the entries probing past it back, so the table never holds deleted markers.
+ *
+ * @author Maxim Shelepov
+ */
+public class IntIntHashMap {
+	/** Initial number of slots, must be a power of two */
+	private static final int INIT_SLOTS = 16;
+
+	/** Keys other than 0 by slot, 0 for an empty slot */
+	private int[] keys;
+	/** Values by slot */
+	private int[] values;
+	/** Whether the map has the key 0 */
+	private boolean hasZeroKey;
+	/** Value of the key 0 */
+	private int zeroValue;
+	/** Number of keys in the map */
+	private int size;
+
+	/**
+	 * Constructs an empty IntIntHashMap.
+	 */
+	public IntIntHashMap() {
+		keys = new int[INIT_SLOTS];
+		values = new int[INIT_SLOTS];
+		hasZeroKey = false;
+		size = 0;
+	}
+
+	/**
+	 * Returns the value of a key, or a default if the map does not have the key.
+	 * @param key the key
+	 * @param defaultValue the value returned for a missing key
+	 * @return the value of the key, or defaultValue
+	 */
+	public int get(int key, int defaultValue) {
+		if (key == 0) {
+			return hasZeroKey ? zeroValue : defaultValue;
+		}
+		int slot = findSlot(key);
+		return keys[slot] == key ? values[slot] : defaultValue;
+	}
+
+	/**
+	 * Returns whether the map has a key.
+	 * @param key the key
+	 * @return true if the map has the key
+	 */
+	public boolean containsKey(int key) {
+		if (key == 0) {
+			return hasZeroKey;
+		}
+		return keys[findSlot(key)] == key;
+	}
+
+	/**
+	 * Sets the value of a key.
+	 * @param key the key
+	 * @param value the value
+	 * @return true if the key is new, false if an existing value was replaced
+	 */
+	public boolean put(int key, int value) {
+		if (key == 0) {
+			boolean added = !hasZeroKey;
+			if (added) {
+				hasZeroKey = true;
+				size++;
+			}
+			zeroValue = value;
+			return added;
+		}
+
+		int slot = findSlot(key);
+		if (keys[slot] == key) {
+			values[slot] = value;
+			return false;
+		}
+		insert(slot, key, value);
+		return true;
+	}
+
+	/**
+	 * Adds to the value of a key, treating a missing key as 0, for example to count occupancy per slot.
+	 * @param key the key
+	 * @param delta the amount to add
+	 * @return the new value of the key
+	 */
+	public int increment(int key, int delta) {
+		if (key == 0) {
+			if (!hasZeroKey) {
+				hasZeroKey = true;
+				zeroValue = 0;
+				size++;
+			}
+			zeroValue += delta;
+			return zeroValue;
+		}
+
+		int slot = findSlot(key);
+		if (keys[slot] == key) {
+			values[slot] += delta;
+			return values[slot];
+		}
+		insert(slot, key, delta);
+		return delta;
+	}
+
+	/**
+	 * Removes a key and its value.
+	 * @param key the key to remove
+	 * @return true if the key was removed, false if the map did not have it
+	 */
+	public boolean remove(int key) {
+		if (key == 0) {
+			if (!hasZeroKey) {
+				return false;
+			}
+			hasZeroKey = false;
+			size--;
+			return true;
+		}
+
+		int slot = findSlot(key);
+		if (keys[slot] != key) {
+			return false;
+		}
+		removeSlot(slot);
+		size--;
+		return true;
+	}
+
+	/**
+	 * Removes every key, keeping the capacity.
+	 */
+	public void clear() {
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = 0;
+		}
+		hasZeroKey = false;
+		size = 0;
+	}
+
+	/**
+	 * Returns the number of keys in the map.
+	 * @return the number of keys
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns whether the map is empty.
+	 * @return true if the map has no keys
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the keys in a new array.
+	 * @return the keys, in no particular order
+	 */
+	public int[] keys() {
+		int[] result = new int[size];
+		int idx = 0;
+		if (hasZeroKey) {
+			result[idx++] = 0;
+		}
+		for (int key : keys) {
+			if (key != 0) {
+				result[idx++] = key;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Helper method that stores a new entry in the empty slot found for its key, growing the table first if it
+	 * would be more than half full.
+	 * @param slot the empty slot found for the key
+	 * @param key the key, not 0
+	 * @param value the value
+	 */
+	private void insert(int slot, int key, int value) {
+		if ((size + 1) * 2 > keys.length) {
+			grow();
+			slot = findSlot(key);
+		}
+		keys[slot] = key;
+		values[slot] = value;
+		size++;
+	}
+
+	/**
+	 * Helper method that finds the slot holding a key, or the empty slot where it belongs.
+	 * @param key the key to look for, not 0
+	 * @return the slot index
+	 */
+	private int findSlot(int key) {
+		int mask = keys.length - 1;
+		int slot = IntHashSet.home(key, mask);
+		while (keys[slot] != 0 && keys[slot] != key) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Helper method that empties a slot and shifts back the entries whose probe passed through it.
+	 * @param slot the slot to empty
+	 */
+	private void removeSlot(int slot) {
+		int mask = keys.length - 1;
+		int gap = slot;
+		for (int next = (gap + 1) & mask; keys[next] != 0; next = (next + 1) & mask) {
+			// the entry may fill the gap if its home is not between the gap and its slot
+			if (((next - IntHashSet.home(keys[next], mask)) & mask) >= ((next - gap) & mask)) {
+				keys[gap] = keys[next];
+				values[gap] = values[next];
+				gap = next;
+			}
+		}
+		keys[gap] = 0;
+	}
+
+	/**
+	 * Helper method that doubles the number of slots and rehashes the entries.
+	 */
+	private void grow() {
+		int[] oldKeys = keys;
+		int[] oldValues = values;
+		keys = new int[oldKeys.length * 2];
+		values = new int[oldValues.length * 2];
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != 0) {
+				int slot = findSlot(oldKeys[i]);
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+			}
+		}
+	}
+}
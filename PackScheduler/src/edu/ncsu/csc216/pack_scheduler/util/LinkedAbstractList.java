@@ -4,6 +4,12 @@
 package edu.ncsu.csc216.pack_scheduler.util;
 
 import java.util.AbstractList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 
 /**
  * LinkedAbstractList is a custom linear data structure generic type linked list class. 
@@ -17,6 +23,9 @@ import java.util.AbstractList;
  * <li>accessing the size of the list.
  * </ul>
  * In addition to setting the list capacity.
+ * <p>
+ * The iterator, forEach(), and spliterator() follow the node links, so a full traversal is O(n) rather than the
+ * O(n^2) of calling get() with each index.
  * 
  * @param <E> generic type object
  * @author Maxim Shelepov
@@ -97,6 +106,7 @@ public class LinkedAbstractList<E> extends AbstractList<E> {
 			curr.next = new ListNode(elem, saveNext);
 		}
 		size++;
+		modCount++;
 	}
 	
 	/**
@@ -150,6 +160,7 @@ public class LinkedAbstractList<E> extends AbstractList<E> {
 			curr.next = curr.next.next;
 		}
 		size--;
+		modCount++;
 		
 		return removed;
 	}
@@ -215,6 +226,106 @@ public class LinkedAbstractList<E> extends AbstractList<E> {
 		return size;
 	}
 	
+	/**
+	 * Returns an iterator over the items in list order that follows the node links. The iterator supports 
+	 * remove() and fails with a ConcurrentModificationException if the list is changed other than through it.
+	 * @return the iterator
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new NodeIterator();
+	}
+	
+	/**
+	 * Performs an action for each item in list order.
+	 * @param action the action to perform
+	 * @throws NullPointerException if action is null
+	 * @throws ConcurrentModificationException if the action changes the list
+	 */
+	@Override
+	public void forEach(Consumer<? super E> action) {
+		if (action == null) {
+			throw new NullPointerException();
+		}
+		int expectedModCount = modCount;
+		for (ListNode curr = front; curr != null; curr = curr.next) {
+			action.accept(curr.data);
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+	
+	/**
+	 * Returns a spliterator over the items in list order. It knows the list size and that the items are 
+	 * distinct and non-null.
+	 * @return the spliterator
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return Spliterators.spliterator(iterator(), size, 
+				Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+	}
+	
+	/**
+	 * NodeIterator walks the list from front to back. It keeps the node before the last returned node, so 
+	 * remove() unlinks it without walking the list again.
+	 * 
+	 * @author Maxim Shelepov
+	 */
+	private class NodeIterator implements Iterator<E> {
+		/** Node of the next item, or null at the end */
+		private ListNode next = front;
+		/** Node of the last returned item, or null if remove() may not be called */
+		private ListNode lastReturned;
+		/** Node before the last returned item, or null if it is the front */
+		private ListNode beforeLast;
+		/** Node before the next item, or null if the next item is the front */
+		private ListNode previous;
+		/** Change count the iterator expects */
+		private int expectedModCount = modCount;
+		
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+		
+		@Override
+		public E next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (next == null) {
+				throw new NoSuchElementException();
+			}
+			beforeLast = previous;
+			lastReturned = next;
+			previous = next;
+			next = next.next;
+			return lastReturned.data;
+		}
+		
+		@Override
+		public void remove() {
+			if (lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (beforeLast == null) {
+				front = next;
+			} else {
+				beforeLast.next = next;
+			}
+			previous = beforeLast;
+			lastReturned = null;
+			size--;
+			modCount++;
+			expectedModCount = modCount;
+		}
+	}
+	
 	/**
 	 * ListNode is an object that represents a node in this LinkedList. The ListNode manages
 	 * its generic type object data and the pointer to the next ListNode. ListNode provides 2 constructors one with 
@@ -1,9 +1,17 @@
 package edu.ncsu.csc216.pack_scheduler.util;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
 /**
- * This class develops a linked list that is implemented through recursion
+ * This class develops a linked list that is implemented through recursion.
+ * Iterating the list follows the node links, so a full traversal is O(n)
+ * rather than calling get() with each index.
  * @param <E> type of object that this list will utilize
  */
-public class LinkedListRecursive<E> {
+public class LinkedListRecursive<E> implements Iterable<E> {
 	/**
 	 * List node representing front of list
 	 */
@@ -162,6 +170,44 @@ public class LinkedListRecursive<E> {
 		}
 		return front.set(index, element);
 	}
+	/**
+	 * Returns an iterator over the elements in list order. The iterator
+	 * does not support remove(), and the list must not be changed while
+	 * it is in use.
+	 * @return iterator over the elements
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+			/** Node of the next element, or null at the end */
+			private ListNode next = front;
+
+			@Override
+			public boolean hasNext() {
+				return next != null;
+			}
+
+			@Override
+			public E next() {
+				if (next == null) {
+					throw new NoSuchElementException();
+				}
+				E data = next.data;
+				next = next.next;
+				return data;
+			}
+		};
+	}
+	/**
+	 * Returns a spliterator over the elements in list order that knows
+	 * the list size and that the elements are distinct and non-null.
+	 * @return spliterator over the elements
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return Spliterators.spliterator(iterator(), size,
+				Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+	}
 	/**
 	 * ListNode class
 	 */
@@ -0,0 +1,129 @@
+package edu.ncsu.csc216.pack_scheduler.util;
+
+/**
+ * SymbolTable interns Strings into dense int ids. The first String interned gets id 0, the next new String id 1,
+ * and so on; interning an equal String again returns the existing id and the canonical String instance, so
+ * objects holding interned Strings share one copy and can compare ids instead of characters.
+ *
+ * The table is an open addressing hash table of ids (no boxing) next to an array of symbols indexed by id.
+ * Symbols are never removed. All methods are synchronized so a table can be shared between model objects.
+ *
+ * @author Maxim Shelepov
+ */
+public class SymbolTable {
+	/** Initial number of hash slots, must be a power of two */
+	private static final int INIT_SLOTS = 16;
+	/** Id returned when a symbol is not in the table */
+	public static final int NOT_FOUND = -1;
+
+	/** Symbols indexed by id */
+	private String[] symbols;
+	/** Hash slots holding id + 1, or 0 for an empty slot */
+	private int[] slots;
+	/** Number of symbols in the table */
+	private int size;
+
+	/**
+	 * Constructs an empty SymbolTable.
+	 */
+	public SymbolTable() {
+		symbols = new String[INIT_SLOTS / 2];
+		slots = new int[INIT_SLOTS];
+		size = 0;
+	}
+
+	/**
+	 * Returns the id of the symbol, adding it to the table if it is new.
+	 * @param symbol the String to intern
+	 * @return the dense id of the symbol
+	 * @throws NullPointerException if symbol is null
+	 */
+	public synchronized int intern(String symbol) {
+		int slot = findSlot(symbol);
+		if (slots[slot] != 0) {
+			return slots[slot] - 1;
+		}
+
+		if (size == symbols.length) {
+			grow();
+			slot = findSlot(symbol);
+		}
+
+		symbols[size] = symbol;
+		slots[slot] = size + 1;
+		return size++;
+	}
+
+	/**
+	 * Returns the canonical instance of the symbol, adding it to the table if it is new.
+	 * @param symbol the String to intern
+	 * @return the table's instance of an equal String
+	 * @throws NullPointerException if symbol is null
+	 */
+	public synchronized String canonical(String symbol) {
+		return symbols[intern(symbol)];
+	}
+
+	/**
+	 * Returns the id of the symbol without adding it to the table.
+	 * @param symbol the String to look up
+	 * @return the id of the symbol, or NOT_FOUND if it has never been interned
+	 * @throws NullPointerException if symbol is null
+	 */
+	public synchronized int getId(String symbol) {
+		return slots[findSlot(symbol)] - 1;
+	}
+
+	/**
+	 * Returns the symbol for an id.
+	 * @param id the id of the symbol
+	 * @return the symbol with the id
+	 * @throws IndexOutOfBoundsException if no symbol has the id
+	 */
+	public synchronized String getSymbol(int id) {
+		if (id < 0 || id >= size) {
+			throw new IndexOutOfBoundsException("Index out of bounds.");
+		}
+
+		return symbols[id];
+	}
+
+	/**
+	 * Returns the number of symbols in the table.
+	 * @return the number of symbols
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Helper method that finds the slot holding the symbol, or the empty slot where it belongs.
+	 * @param symbol the symbol to look for
+	 * @return the slot index
+	 */
+	private int findSlot(String symbol) {
+		int mask = slots.length - 1;
+		int h = symbol.hashCode();
+		int slot = (h ^ (h >>> 16)) & mask;
+		while (slots[slot] != 0 && !symbols[slots[slot] - 1].equals(symbol)) {
+			slot = (slot + 1) & mask;
+		}
+
+		return slot;
+	}
+
+	/**
+	 * Helper method that doubles the symbol array and rehashes into twice as many slots, keeping
+	 * the load factor at or below one half.
+	 */
+	private void grow() {
+		String[] newSymbols = new String[symbols.length * 2];
+		System.arraycopy(symbols, 0, newSymbols, 0, size);
+		symbols = newSymbols;
+
+		slots = new int[slots.length * 2];
+		for (int id = 0; id < size; id++) {
+			slots[findSlot(symbols[id])] = id + 1;
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package edu.ncsu.csc216.pack_scheduler.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.pack_scheduler.course.Course;
+
+/**
+ * Tests CatalogSnapshot. The class specifically tests that a snapshot does not change when the catalog does,
+ * its queries, and that readers see only complete, sorted catalogs while the catalog is edited.
+ *
+ * @author Maxim Shelepov
+ */
+class CatalogSnapshotTest {
+
+	/**
+	 * Tests that a snapshot taken before an edit keeps the Courses it had.
+	 */
+	@Test
+	void testSnapshotUnchanged() {
+		CourseCatalog catalog = new CourseCatalog();
+		CatalogSnapshot empty = catalog.getSnapshot();
+		assertEquals(0, empty.size());
+
+		catalog.addCourseToCatalog("CSC216", "Software Development Fundamentals", "001", 3, "sesmith5", 10, "TH", 1330, 1445);
+		catalog.addCourseToCatalog("CSC116", "Intro to Programming - Java", "001", 3, "jdyoung2", 10, "MW", 910, 1100);
+		CatalogSnapshot two = catalog.getSnapshot();
+		assertNotSame(empty, two);
+		assertEquals(0, empty.size());
+		assertEquals(2, two.size());
+		assertEquals("CSC116", two.get(0).getName());
+		assertEquals("CSC216", two.get(1).getName());
+
+		catalog.removeCourseFromCatalog("CSC116", "001");
+		assertEquals(2, two.size());
+		assertNotNull(two.getCourse("CSC116", "001"));
+		assertNull(catalog.getSnapshot().getCourse("CSC116", "001"));
+		assertEquals(1, catalog.getSnapshot().size());
+
+		// a failed add publishes nothing
+		CatalogSnapshot one = catalog.getSnapshot();
+		assertFalse(catalog.addCourseToCatalog("CSC216", "Software Development Fundamentals", "001", 3, "sesmith5", 10, "TH", 1330, 1445));
+		assertSame(one, catalog.getSnapshot());
+
+		Course[] courses = one.getCourses();
+		courses[0] = null;
+		assertNotNull(one.get(0));
+		assertThrows(IndexOutOfBoundsException.class, () -> one.get(1));
+	}
+
+	/**
+	 * Tests the queries of a snapshot against a loaded catalog.
+	 */
+	@Test
+	void testQueries() {
+		CourseCatalog catalog = new CourseCatalog();
+		catalog.loadCoursesFromFile("test-files/course_records.txt");
+		CatalogSnapshot snapshot = catalog.getSnapshot();
+		assertEquals(13, snapshot.size());
+		assertEquals(3, snapshot.getCourseSections("CSC216").length);
+		assertEquals(13, snapshot.getCoursesWithPrefix("CSC").length);
+		assertEquals(13, snapshot.getDepartmentCourses("CSC").length);
+		assertEquals(7, snapshot.getCoursesInRange("CSC216", "CSC217").length);
+		assertEquals(2, snapshot.getCoursesMeeting("TH", 1100, 1500, false).length);
+		assertEquals(13, snapshot.getCourseCatalog().length);
+		assertEquals("Software Development Fundamentals", snapshot.getCourse("CSC216", "002").getTitle());
+
+		catalog.newCourseCatalog();
+		assertEquals(2, snapshot.getCoursesMeeting("TH", 1100, 1500, false).length);
+		assertEquals(13, snapshot.size());
+		assertEquals(0, catalog.getSnapshot().size());
+	}
+
+	/**
+	 * Tests that readers running while a writer adds and removes Courses always see a sorted catalog holding
+	 * the Course that is never removed.
+	 * @throws InterruptedException if interrupted while waiting for the readers
+	 */
+	@Test
+	void testConcurrentReaders() throws InterruptedException {
+		CourseCatalog catalog = new CourseCatalog();
+		catalog.addCourseToCatalog("CSC216", "Software Development Fundamentals", "001", 3, null, 10, "A", 0, 0);
+		AtomicReference<String> failure = new AtomicReference<String>();
+		Thread[] readers = new Thread[3];
+		AtomicBoolean done = new AtomicBoolean();
+		for (int t = 0; t < readers.length; t++) {
+			readers[t] = new Thread(() -> {
+				while (!done.get()) {
+					CatalogSnapshot snapshot = catalog.getSnapshot();
+					for (int i = 1; i < snapshot.size(); i++) {
+						if (snapshot.get(i - 1).compareTo(snapshot.get(i)) >= 0) {
+							failure.set("unsorted");
+						}
+					}
+					if (snapshot.getCourse("CSC216", "001") == null || catalog.getCourseFromCatalog("CSC216", "001") == null) {
+						failure.set("missing");
+					}
+				}
+			});
+			readers[t].start();
+		}
+
+		for (int i = 0; i < 2000; i++) {
+			String section = String.format("%03d", 100 + i % 50);
+			catalog.addCourseToCatalog("CSC116", "Intro to Programming - Java", section, 3, null, 10, "A", 0, 0);
+			catalog.addCourseToCatalog("CSC316", "Data Structures and Algorithms", section, 3, null, 10, "A", 0, 0);
+			if (i % 3 == 0) {
+				catalog.removeCourseFromCatalog("CSC116", section);
+			}
+		}
+		done.set(true);
+		for (Thread t : readers) {
+			t.join();
+		}
+		assertNull(failure.get());
+	}
+}
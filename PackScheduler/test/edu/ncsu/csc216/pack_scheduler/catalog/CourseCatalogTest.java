@@ -4,9 +4,14 @@ import java.io.IOException;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Before;
 import org.junit.Test;
 import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.user.Student;
 
 /**
  * Tests the CourseCatalog class.
@@ -147,6 +152,363 @@ public class CourseCatalogTest {
 		assertEquals("Software Development Fundamentals", courseCatalog[3][2]);
 	}
 	
+	/**
+	 * Tests querying the course catalog by meeting days and time window.
+	 * 
+	 * This test checks that the query returns the sections meeting inside the window, and that the
+	 * results follow additions and removals from the catalog and changes to a catalog course's meeting times.
+	 */
+
+	@Test
+	public void testGetCoursesMeeting() {
+		CourseCatalog catalog = new CourseCatalog();
+		catalog.loadCoursesFromFile("test-files/course_records.txt");
+		Course[] found = catalog.getCoursesMeeting("MW", 900, 1200, true);
+		assertEquals(2, found.length);
+		assertEquals("CSC116", found[0].getName());
+		assertEquals("001", found[0].getSection());
+		assertEquals("CSC226", found[1].getName());
+		
+		assertEquals(1, catalog.getCoursesMeeting("T", 800, 1100, false).length);
+		assertTrue(catalog.addCourseToCatalog("CSC333", "Automata, Grammars, and Computability", "001", 3, null, 10, "MW", 1000, 1115));
+		assertEquals(3, catalog.getCoursesMeeting("MW", 900, 1200, true).length);
+		assertTrue(catalog.removeCourseFromCatalog("CSC116", "001"));
+		assertEquals(2, catalog.getCoursesMeeting("MW", 900, 1200, true).length);
+		
+		// moving a catalog course publishes a snapshot with a fresh time index
+		CatalogSnapshot before = catalog.getSnapshot();
+		catalog.getCourseFromCatalog("CSC333", "001").setMeetingDaysAndTime("TH", 1000, 1115);
+		assertNotSame(before, catalog.getSnapshot());
+		assertEquals(1, catalog.getCoursesMeeting("MW", 900, 1200, true).length);
+		assertEquals(2, catalog.getCoursesMeeting("T", 800, 1200, false).length);
+		assertThrows(IllegalArgumentException.class, () -> catalog.getCoursesMeeting("A", 0, 0, false));
+	}
+	
+	/**
+	 * Tests prefix, department, and range queries over the sorted course catalog.
+	 * 
+	 * This test checks that each query returns exactly the matching Courses in catalog order, including
+	 * ranges at the start and end of the catalog and empty ranges.
+	 */
+
+	@Test
+	public void testRangeQueries() {
+		CourseCatalog catalog = new CourseCatalog();
+		catalog.loadCoursesFromFile("test-files/course_records.txt");
+		catalog.addCourseToCatalog("CS101", "Intro to Computing", "001", 3, null, 10, "A", 0, 0);
+		catalog.addCourseToCatalog("MA141", "Calculus I", "001", 4, null, 10, "A", 0, 0);
+		
+		Course[] csc = catalog.getCoursesWithPrefix("CSC");
+		assertEquals(13, csc.length);
+		assertEquals("CSC116", csc[0].getName());
+		assertEquals("CSC316", csc[12].getName());
+		assertEquals(14, catalog.getCoursesWithPrefix("CS").length);
+		assertEquals(7, catalog.getCoursesWithPrefix("CSC21").length);
+		assertEquals(15, catalog.getCoursesWithPrefix("").length);
+		assertEquals(0, catalog.getCoursesWithPrefix("ZZ").length);
+		
+		assertEquals(13, catalog.getDepartmentCourses("CSC").length);
+		Course[] cs = catalog.getDepartmentCourses("CS");
+		assertEquals(1, cs.length);
+		assertEquals("CS101", cs[0].getName());
+		assertEquals(1, catalog.getDepartmentCourses("MA").length);
+		assertEquals(0, catalog.getDepartmentCourses("E").length);
+		
+		Course[] range = catalog.getCoursesInRange("CSC216", "CSC316");
+		assertEquals(10, range.length);
+		assertEquals("CSC216", range[0].getName());
+		assertEquals("001", range[0].getSection());
+		assertEquals("CSC316", range[9].getName());
+		assertEquals(4, catalog.getCoursesInRange("CSC217", "CSC217").length);
+		assertEquals(2, catalog.getCoursesInRange("CSC300", "ZZZ999").length);
+		assertEquals(0, catalog.getCoursesInRange("CSC316", "CSC216").length);
+		
+		assertEquals(3, catalog.getCourseSections("CSC216").length);
+		assertThrows(IllegalArgumentException.class, () -> catalog.getCoursesWithPrefix(null));
+		assertThrows(IllegalArgumentException.class, () -> catalog.getDepartmentCourses(null));
+		assertThrows(IllegalArgumentException.class, () -> catalog.getCoursesInRange(null, "CSC216"));
+	}
+	
+	/**
+	 * Tests open seat queries and seat watching on the course catalog.
+	 * 
+	 * This test checks that the catalog indexes loaded, added, and removed Courses.
+	 */
+
+	@Test
+	public void testOpenSeats() {
+		CourseCatalog catalog = new CourseCatalog();
+		catalog.loadCoursesFromFile("test-files/course_records.txt");
+		assertEquals(13, catalog.getCoursesWithOpenSeats(10).length);
+		catalog.addCourseToCatalog("CSC333", "Automata, Grammars, and Computability", "001", 3, null, 20, "A", 0, 0);
+		Course[] found = catalog.getCoursesWithOpenSeats(11);
+		assertEquals(1, found.length);
+		assertEquals("CSC333", found[0].getName());
+		
+		SeatWatcher watcher = (course, openSeats) -> { };
+		catalog.watchCourse("CSC333", "001", watcher);
+		assertThrows(IllegalArgumentException.class, () -> catalog.watchCourse("CSC999", "001", watcher));
+		assertTrue(catalog.removeCourseFromCatalog("CSC333", "001"));
+		assertFalse(catalog.unwatchCourse("CSC333", "001", watcher));
+		assertEquals(0, catalog.getCoursesWithOpenSeats(11).length);
+	}
+	
+	/**
+	 * Tests open seat queries while other threads enroll and drop students.
+	 * 
+	 * This test checks that every query sees each catalog Course exactly once and never fails while the rolls,
+	 * and so the seat index, change underneath it.
+	 * @throws InterruptedException if interrupted while waiting for the threads
+	 */
+
+	@Test
+	public void testOpenSeatsWhileEnrolling() throws InterruptedException {
+		CourseCatalog catalog = new CourseCatalog();
+		catalog.loadCoursesFromFile("test-files/course_records.txt");
+		Course[] courses = catalog.getSnapshot().getCourses();
+		AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+		AtomicBoolean done = new AtomicBoolean();
+		
+		Thread[] writers = new Thread[courses.length];
+		for (int t = 0; t < writers.length; t++) {
+			Course course = courses[t];
+			writers[t] = new Thread(() -> {
+				Student[] students = new Student[5];
+				for (int i = 0; i < students.length; i++) {
+					students[i] = new Student("First", "Last", "id" + i, "id" + i + "@ncsu.edu", "pw", 18);
+				}
+				for (int round = 0; round < 2000; round++) {
+					for (Student student : students) {
+						course.getCourseRoll().enroll(student);
+					}
+					for (Student student : students) {
+						course.getCourseRoll().drop(student);
+					}
+				}
+			});
+		}
+		Thread reader = new Thread(() -> {
+			try {
+				while (!done.get()) {
+					Course[] found = catalog.getCoursesWithOpenSeats(0);
+					if (found.length != courses.length || new HashSet<Course>(Arrays.asList(found)).size() != courses.length) {
+						failure.set(new AssertionError("found " + found.length + " courses"));
+					}
+				}
+			} catch (RuntimeException e) {
+				failure.set(e);
+			}
+		});
+		
+		reader.start();
+		for (Thread t : writers) {
+			t.start();
+		}
+		for (Thread t : writers) {
+			t.join();
+		}
+		done.set(true);
+		reader.join();
+		assertNull(failure.get());
+		assertEquals(courses.length, catalog.getCoursesWithOpenSeats(10).length);
+	}
+	
+	/**
+	 * Tests migrating the students of one section to another.
+	 * 
+	 * This test checks that students who fit are moved to the target's roll, that only waitlisted students move to
+	 * the target's waitlist, and that students with a conflict or without room stay in the source section, enrolled
+	 * students keeping their seats.
+	 */
+
+	@Test
+	public void testMigrateSection() {
+		CourseCatalog catalog = new CourseCatalog();
+		catalog.loadCoursesFromFile("test-files/course_records.txt");
+		catalog.addCourseToCatalog("CSC333", "Automata, Grammars, and Computability", "001", 3, null, 10, "MW", 1400, 1500);
+		Course source = catalog.getCourseFromCatalog("CSC216", "001");
+		Course target = catalog.getCourseFromCatalog("CSC216", "002");
+		Course conflict = catalog.getCourseFromCatalog("CSC333", "001");
+		
+		Student[] students = new Student[25];
+		for (int i = 0; i < students.length; i++) {
+			students[i] = new Student("First", "Last", "id" + i, "id" + i + "@ncsu.edu", "pw", 18);
+		}
+		for (int i = 0; i < 8; i++) {
+			enroll(students[i], target);
+		}
+		enroll(students[10], conflict);
+		for (int i = 10; i < 25; i++) {
+			enroll(students[i], source);
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> catalog.migrateSection("CSC216", "001", "001"));
+		assertThrows(IllegalArgumentException.class, () -> catalog.migrateSection("CSC216", "001", "999"));
+		
+		MigrationReport report = catalog.migrateSection("CSC216", "001", "002");
+		assertSame(source, report.getSource());
+		assertSame(target, report.getTarget());
+		assertEquals(2, report.getNumberEnrolled());
+		assertEquals(5, report.getNumberWaitlisted());
+		assertEquals(8, report.getNumberFailed());
+		assertSame(students[10], report.getFailedStudents()[0]);
+		assertEquals(MigrationReport.SCHEDULE_CONFLICT, report.getFailureReasons()[0]);
+		assertSame(students[13], report.getFailedStudents()[1]);
+		assertEquals(MigrationReport.SECTION_FULL, report.getFailureReasons()[1]);
+		assertSame(students[19], report.getFailedStudents()[7]);
+		
+		assertTrue(students[11].getSchedule().contains(target));
+		assertFalse(students[11].getSchedule().contains(source));
+		assertTrue(students[10].getSchedule().contains(source));
+		// seated students the target had no room for keep their seats in the source
+		assertTrue(students[13].getSchedule().contains(source));
+		assertEquals(8, source.getCourseRoll().getEnrollmentCap() - source.getCourseRoll().getOpenSeats());
+		assertTrue(students[24].getSchedule().contains(target));
+		assertEquals(0, target.getCourseRoll().getOpenSeats());
+		assertEquals(5, target.getCourseRoll().getNumberOnWaitlist());
+		assertEquals(0, source.getCourseRoll().getNumberOnWaitlist());
+	}
+	
+	/**
+	 * Tests the failure reason of each student who can't be migrated.
+	 * 
+	 * This test checks that students already in the target are reported as duplicates rather than as finding the
+	 * section full, that a full waitlist is told apart from a full roll, that credit limits are reported, and that
+	 * cancelling a section reports every student it drops as cancelled.
+	 */
+
+	@Test
+	public void testMigrateSectionFailureReasons() {
+		CourseCatalog catalog = new CourseCatalog();
+		catalog.loadCoursesFromFile("test-files/course_records.txt");
+		Course source = catalog.getCourseFromCatalog("CSC216", "001");
+		Course target = catalog.getCourseFromCatalog("CSC216", "002");
+		Course arranged = catalog.getCourseFromCatalog("CSC216", "601");
+		
+		for (int i = 0; i < 10; i++) {
+			enroll(new Student("Tar", "Get", "t" + i, "t" + i + "@ncsu.edu", "pw", 18), target);
+		}
+		// on the target's waitlist without it on their schedule, which fills the target's waitlist
+		Student duplicate = new Student("Dup", "Licate", "dup", "dup@ncsu.edu", "pw", 18);
+		target.getCourseRoll().setWaitlistCapacity(1);
+		target.getCourseRoll().enroll(duplicate);
+		enroll(duplicate, source);
+		Student light = new Student("Li", "Ght", "light", "light@ncsu.edu", "pw", 3);
+		enroll(light, source);
+		for (int i = 0; i < 8; i++) {
+			enroll(new Student("Sou", "Rce", "s" + i, "s" + i + "@ncsu.edu", "pw", 18), source);
+		}
+		Student waiting = new Student("Wai", "Ting", "waiting", "waiting@ncsu.edu", "pw", 18);
+		enroll(waiting, source);
+		
+		MigrationReport report = catalog.migrateSection("CSC216", "001", "002");
+		assertEquals(0, report.getNumberEnrolled() + report.getNumberWaitlisted());
+		assertEquals(11, report.getNumberFailed());
+		assertSame(duplicate, report.getFailedStudents()[0]);
+		assertEquals(MigrationReport.DUPLICATE, report.getFailureReasons()[0]);
+		assertSame(light, report.getFailedStudents()[1]);
+		assertEquals(MigrationReport.SECTION_FULL, report.getFailureReasons()[1]);
+		assertSame(waiting, report.getFailedStudents()[10]);
+		assertEquals(MigrationReport.WAITLIST_FULL, report.getFailureReasons()[10]);
+		
+		// the arranged section has room, but more credits than the light student can take
+		arranged.setCredits(4);
+		report = catalog.migrateSection("CSC216", "001", "601");
+		assertEquals(10, report.getNumberEnrolled());
+		assertEquals(1, report.getNumberFailed());
+		assertSame(light, report.getFailedStudents()[0]);
+		assertEquals(MigrationReport.OVER_CREDITS, report.getFailureReasons()[0]);
+		assertTrue(waiting.getSchedule().contains(arranged));
+		
+		report = catalog.cancelSection("CSC216", "001", "601");
+		assertEquals(1, report.getNumberFailed());
+		assertSame(light, report.getFailedStudents()[0]);
+		assertEquals(MigrationReport.SECTION_CANCELLED, report.getFailureReasons()[0]);
+		assertEquals(0, light.getSchedule().getNumScheduledCourses());
+	}
+	
+	/**
+	 * Tests cancelling a section.
+	 * 
+	 * This test checks that a cancelled section leaves the catalog and every student's schedule.
+	 */
+
+	@Test
+	public void testCancelSection() {
+		CourseCatalog catalog = new CourseCatalog();
+		catalog.loadCoursesFromFile("test-files/course_records.txt");
+		Course source = catalog.getCourseFromCatalog("CSC216", "001");
+		Course target = catalog.getCourseFromCatalog("CSC216", "002");
+		Student s1 = new Student("First", "Last", "id1", "id1@ncsu.edu", "pw", 18);
+		Student s2 = new Student("First", "Last", "id2", "id2@ncsu.edu", "pw", 18);
+		enroll(s1, source);
+		enroll(s2, source);
+		
+		assertThrows(IllegalArgumentException.class, () -> catalog.cancelSection("CSC216", "999", null));
+		assertThrows(IllegalArgumentException.class, () -> catalog.cancelSection("CSC216", "001", "001"));
+		
+		MigrationReport report = catalog.cancelSection("CSC216", "001", "002");
+		assertEquals(2, report.getNumberEnrolled());
+		assertEquals(0, report.getNumberFailed());
+		assertNull(catalog.getCourseFromCatalog("CSC216", "001"));
+		assertTrue(s1.getSchedule().contains(target));
+		assertEquals(12, catalog.getCourseCatalog().length);
+		
+		report = catalog.cancelSection("CSC216", "002", null);
+		assertNull(report.getTarget());
+		assertEquals(2, report.getNumberFailed());
+		assertEquals(MigrationReport.SECTION_CANCELLED, report.getFailureReasons()[0]);
+		assertFalse(s1.getSchedule().contains(target));
+		assertEquals(0, s2.getSchedule().getScheduleCredits());
+		assertEquals(0, target.getCourseRoll().getEnrollmentCap() - target.getCourseRoll().getOpenSeats());
+	}
+	
+	/**
+	 * Tests that cancelling a section doesn't promote its waitlisted students into the seats freed by the students
+	 * moved to the target section.
+	 */
+	@Test
+	public void testCancelSectionWithoutPromotion() {
+		CourseCatalog catalog = new CourseCatalog();
+		catalog.loadCoursesFromFile("test-files/course_records.txt");
+		catalog.addCourseToCatalog("CSC333", "Automata, Grammars, and Computability", "001", 3, null, 10, "MW", 1400, 1500);
+		Course source = catalog.getCourseFromCatalog("CSC216", "001");
+		Course conflict = catalog.getCourseFromCatalog("CSC333", "001");
+		for (int i = 0; i < 10; i++) {
+			enroll(new Student("First", "Last", "id" + i, "id" + i + "@ncsu.edu", "pw", 18), source);
+		}
+		// fits the source but conflicts with the target, so it stays on the source's waitlist
+		Student waiting = new Student("Wai", "Ting", "waiting", "waiting@ncsu.edu", "pw", 18);
+		enroll(waiting, conflict);
+		enroll(waiting, source);
+		assertEquals(1, source.getCourseRoll().getNumberOnWaitlist());
+		
+		boolean[] promoted = new boolean[1];
+		source.getCourseRoll().setRollListener(c -> {
+			for (Student s : c.getCourseRoll().getEnrolledStudents()) {
+				promoted[0] |= s == waiting;
+			}
+		});
+		MigrationReport report = catalog.cancelSection("CSC216", "001", "002");
+		assertEquals(10, report.getNumberEnrolled());
+		assertEquals(1, report.getNumberFailed());
+		assertSame(waiting, report.getFailedStudents()[0]);
+		assertEquals(MigrationReport.SECTION_CANCELLED, report.getFailureReasons()[0]);
+		assertFalse(promoted[0]);
+		assertFalse(waiting.getSchedule().contains(source));
+		assertEquals(0, source.getCourseRoll().getNumberOnWaitlist());
+	}
+	
+	/**
+	 * Enrolls a student in a course the way RegistrationManager does.
+	 * @param s the student
+	 * @param c the course
+	 */
+	private static void enroll(Student s, Course c) {
+		s.getSchedule().addCourseToSchedule(c);
+		c.getCourseRoll().enroll(s);
+	}
+	
 	/**
 	 * Tests exporting the course catalog to a file.
 	 * 
@@ -0,0 +1,83 @@
+package edu.ncsu.csc216.pack_scheduler.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.user.Student;
+
+/**
+ * Tests the MeetingTimeIndex which finds Courses meeting on given days within a time window.
+ *
+ * @author Maxim Shelepov
+ */
+class MeetingTimeIndexTest {
+	/** Courses indexed by the tests */
+	private final Course[] courses = {
+		new Course("CSC216", "Software Development Fundamentals", "001", 3, "sesmith5", 10, "MW", 1330, 1445),
+		new Course("CSC216", "Software Development Fundamentals", "002", 3, "jtking", 10, "TH", 900, 1015),
+		new Course("CSC226", "Discrete Mathematics", "001", 3, "tmbarnes", 10, "MWF", 935, 1025),
+		new Course("CSC230", "C and Software Tools", "001", 3, "dbsturgi", 10, "W", 1145, 1300),
+		new Course("CSC116", "Intro to Programming", "601", 3, "jdyoung2", 10, "A"),
+		new Course("MA141", "Calculus I", "001", 4, "jdoe", 10, "F", 800, 850)
+	};
+
+	/**
+	 * Tests window and day matching.
+	 */
+	@Test
+	void testGetCourses() {
+		MeetingTimeIndex index = new MeetingTimeIndex(courses);
+
+		Course[] found = index.getCourses("MW", 900, 1300, false);
+		assertEquals(2, found.length);
+		assertEquals("CSC226", found[0].getName());
+		assertEquals("CSC230", found[1].getName());
+
+		// a Course meeting on several query days is returned once, in catalog order
+		found = index.getCourses("FWM", 0, 2359, false);
+		assertEquals(4, found.length);
+		assertEquals("CSC216", found[0].getName());
+		assertEquals("CSC226", found[1].getName());
+		assertEquals("CSC230", found[2].getName());
+		assertEquals("MA141", found[3].getName());
+
+		// window ends are inclusive
+		assertEquals(1, index.getCourses("H", 900, 1015, false).length);
+		assertEquals(0, index.getCourses("H", 901, 1015, false).length);
+		assertEquals(0, index.getCourses("H", 900, 1014, false).length);
+		assertEquals(0, new MeetingTimeIndex(new Course[0]).getCourses("MTWHF", 0, 2359, false).length);
+	}
+
+	/**
+	 * Tests the open seats filter.
+	 */
+	@Test
+	void testOpenSeats() {
+		MeetingTimeIndex index = new MeetingTimeIndex(courses);
+		for (int i = 0; i < 10; i++) {
+			courses[1].getCourseRoll().enroll(new Student("Zahir", "King", "zking" + i, "zking@ncsu.edu", "pw", 18));
+		}
+
+		assertEquals(1, index.getCourses("T", 800, 1200, false).length);
+		assertEquals(0, index.getCourses("T", 800, 1200, true).length);
+	}
+
+	/**
+	 * Tests invalid queries.
+	 */
+	@Test
+	void testInvalid() {
+		assertThrows(IllegalArgumentException.class, () -> new MeetingTimeIndex(null));
+		MeetingTimeIndex index = new MeetingTimeIndex(courses);
+		assertThrows(IllegalArgumentException.class, () -> index.getCourses(null, 900, 1000, false));
+		assertThrows(IllegalArgumentException.class, () -> index.getCourses("", 900, 1000, false));
+		assertThrows(IllegalArgumentException.class, () -> index.getCourses("MM", 900, 1000, false));
+		assertThrows(IllegalArgumentException.class, () -> index.getCourses("MS", 900, 1000, false));
+		assertThrows(IllegalArgumentException.class, () -> index.getCourses("M", 1000, 900, false));
+		assertThrows(IllegalArgumentException.class, () -> index.getCourses("M", 960, 1000, false));
+		assertThrows(IllegalArgumentException.class, () -> index.getCourses("M", 900, 2400, false));
+		assertThrows(IllegalArgumentException.class, () -> index.getCourses("M", -1, 1000, false));
+	}
+}
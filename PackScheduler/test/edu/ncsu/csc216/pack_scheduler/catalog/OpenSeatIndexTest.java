@@ -0,0 +1,117 @@
+package edu.ncsu.csc216.pack_scheduler.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.user.Student;
+
+/**
+ * Tests the OpenSeatIndex which tracks open seats as students enroll and drop, and notifies watchers when a full
+ * Course opens.
+ *
+ * @author Maxim Shelepov
+ */
+class OpenSeatIndexTest {
+
+	/**
+	 * Creates a Student with a unique id.
+	 * @param i the number of the Student
+	 * @return the Student
+	 */
+	private static Student student(int i) {
+		return new Student("First", "Last", "id" + i, "id" + i + "@ncsu.edu", "pw", 18);
+	}
+
+	/**
+	 * Tests add(), remove(), clear(), and queries following enrollment.
+	 */
+	@Test
+	void testGetCoursesWithOpenSeats() {
+		OpenSeatIndex index = new OpenSeatIndex();
+		Course c1 = new Course("CSC216", "Software Development Fundamentals", "001", 3, "sesmith5", 10, "A");
+		Course c2 = new Course("CSC226", "Discrete Mathematics", "001", 3, "tmbarnes", 20, "A");
+		Course c3 = new Course("CSC116", "Intro to Programming", "001", 3, "jdyoung2", 10, "A");
+		index.add(c1);
+		index.add(c2);
+		index.add(c3);
+		assertEquals(3, index.size());
+		assertThrows(IllegalArgumentException.class, () -> index.add(c1));
+		assertThrows(IllegalArgumentException.class, () -> index.add(null));
+		assertThrows(IllegalArgumentException.class, () -> index.getCoursesWithOpenSeats(-1));
+
+		Course[] found = index.getCoursesWithOpenSeats(0);
+		assertArrayEquals(new Course[] {c2, c3, c1}, found);
+		assertArrayEquals(new Course[] {c2}, index.getCoursesWithOpenSeats(11));
+		assertEquals(0, index.getCoursesWithOpenSeats(250).length);
+
+		for (int i = 0; i < 10; i++) {
+			c1.getCourseRoll().enroll(student(i));
+		}
+		c3.getCourseRoll().enroll(student(0));
+		assertArrayEquals(new Course[] {c2, c3}, index.getCoursesWithOpenSeats(1));
+		assertArrayEquals(new Course[] {c2, c3, c1}, index.getCoursesWithOpenSeats(0));
+
+		c2.getCourseRoll().setEnrollmentCap(10);
+		assertArrayEquals(new Course[] {c2, c3}, index.getCoursesWithOpenSeats(9));
+
+		assertTrue(index.remove(c2));
+		assertFalse(index.remove(c2));
+		assertNull(c2.getCourseRoll().getRollListener());
+		assertArrayEquals(new Course[] {c3}, index.getCoursesWithOpenSeats(1));
+
+		index.clear();
+		assertEquals(0, index.size());
+		assertEquals(0, index.getCoursesWithOpenSeats(0).length);
+		assertNull(c1.getCourseRoll().getRollListener());
+	}
+
+	/**
+	 * Tests watch(), unwatch(), and notifications when a full Course opens.
+	 */
+	@Test
+	void testWatch() {
+		OpenSeatIndex index = new OpenSeatIndex();
+		Course c = new Course("CSC216", "Software Development Fundamentals", "001", 3, "sesmith5", 10, "A");
+		Course other = new Course("CSC226", "Discrete Mathematics", "001", 3, "tmbarnes", 10, "A");
+		index.add(c);
+		int[] notified = new int[2];
+		SeatWatcher watcher = (course, openSeats) -> {
+			assertSame(c, course);
+			notified[0]++;
+			notified[1] = openSeats;
+		};
+		assertThrows(IllegalArgumentException.class, () -> index.watch(other, watcher));
+		assertThrows(IllegalArgumentException.class, () -> index.watch(c, null));
+		index.watch(c, watcher);
+		index.watch(c, watcher);
+
+		Student[] students = new Student[11];
+		for (int i = 0; i < students.length; i++) {
+			students[i] = student(i);
+			c.getCourseRoll().enroll(students[i]);
+		}
+		assertEquals(0, notified[0]);
+
+		// the waitlisted student takes the seat, so the Course never opens
+		c.getCourseRoll().drop(students[0]);
+		assertEquals(0, notified[0]);
+		assertEquals(0, c.getCourseRoll().getOpenSeats());
+
+		c.getCourseRoll().drop(students[1]);
+		assertEquals(1, notified[0]);
+		assertEquals(1, notified[1]);
+
+		// already open, no notification
+		c.getCourseRoll().drop(students[2]);
+		assertEquals(1, notified[0]);
+
+		c.getCourseRoll().enroll(students[1]);
+		c.getCourseRoll().enroll(students[2]);
+		assertTrue(index.unwatch(c, watcher));
+		assertFalse(index.unwatch(c, watcher));
+		c.getCourseRoll().drop(students[1]);
+		assertEquals(1, notified[0]);
+	}
+}
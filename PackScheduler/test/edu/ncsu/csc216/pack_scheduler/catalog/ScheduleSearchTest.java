@@ -0,0 +1,100 @@
+package edu.ncsu.csc216.pack_scheduler.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.user.Student;
+
+/**
+ * Tests the ScheduleSearch which finds ranked conflict-free combinations of wished course sections.
+ *
+ * @author Maxim Shelepov
+ */
+class ScheduleSearchTest {
+	/** Catalog searched by the tests */
+	private CourseCatalog catalog;
+
+	/**
+	 * Builds a catalog where the sections of CSC216, CSC226, and MA141 overlap in different ways.
+	 */
+	@BeforeEach
+	void setUp() {
+		catalog = new CourseCatalog();
+		catalog.addCourseToCatalog("CSC216", "Software Development Fundamentals", "001", 3, "sesmith5", 10, "MW", 1330, 1445);
+		catalog.addCourseToCatalog("CSC216", "Software Development Fundamentals", "002", 3, "jtking", 10, "TH", 1330, 1445);
+		catalog.addCourseToCatalog("CSC226", "Discrete Mathematics", "001", 3, "tmbarnes", 10, "MWF", 1330, 1420);
+		catalog.addCourseToCatalog("CSC226", "Discrete Mathematics", "002", 3, "tmbarnes", 10, "TH", 1400, 1515);
+		catalog.addCourseToCatalog("MA141", "Calculus I", "001", 4, "jdoe", 10, "MWF", 1330, 1420);
+		catalog.addCourseToCatalog("CSC116", "Intro to Programming", "001", 3, "jdyoung2", 10, "A", 0, 0);
+	}
+
+	/**
+	 * Tests the constructor and invalid search parameters.
+	 */
+	@Test
+	void testInvalid() {
+		assertThrows(IllegalArgumentException.class, () -> new ScheduleSearch(null));
+		ScheduleSearch search = new ScheduleSearch(catalog);
+		Student s = new Student("Zahir", "King", "zking", "zking@ncsu.edu", "pw", 18);
+		assertThrows(IllegalArgumentException.class, () -> search.search(null, new String[] {"CSC216"}, 1));
+		assertThrows(IllegalArgumentException.class, () -> search.search(s, null, 1));
+		assertThrows(IllegalArgumentException.class, () -> search.search(s, new String[] {"CSC216"}, 0));
+		assertEquals(0, search.search(s, new String[] {"CSC999"}, 5).length);
+	}
+
+	/**
+	 * Tests that the best combinations take as many wished courses as possible without conflicts.
+	 */
+	@Test
+	void testSearch() {
+		ScheduleSearch search = new ScheduleSearch(catalog);
+		Student s = new Student("Zahir", "King", "zking", "zking@ncsu.edu", "pw", 18);
+
+		ScheduleSearch.Option[] options = search.search(s, new String[] {"CSC216", "CSC226", "MA141", "CSC116"}, 3);
+		assertEquals(3, options.length);
+
+		// CSC226-001 and MA141-001 meet at the same time and conflict with CSC216-001, so at most three courses fit,
+		// and the most credits come from CSC216-002, MA141-001, CSC116-001
+		assertEquals(3, options[0].getNumberOfCourses());
+		assertEquals(10, options[0].getCredits());
+		Course[] best = options[0].getCourses();
+		assertEquals("CSC216", best[0].getName());
+		assertEquals("002", best[0].getSection());
+		assertEquals("MA141", best[1].getName());
+		assertEquals("CSC116", best[2].getName());
+		assertEquals(3, options[0].getScheduledCourses().length);
+		assertEquals("MA141", options[0].getScheduledCourses()[1][0]);
+
+		for (ScheduleSearch.Option option : options) {
+			Course[] courses = option.getCourses();
+			for (int i = 0; i < courses.length; i++) {
+				for (int j = i + 1; j < courses.length; j++) {
+					assertFalse(courses[i].conflictsWith(courses[j]));
+				}
+			}
+		}
+		assertTrue(options[0].compareTo(options[1]) < 0);
+		assertTrue(options[1].compareTo(options[2]) <= 0);
+	}
+
+	/**
+	 * Tests that the Student's credits and current schedule limit the combinations.
+	 */
+	@Test
+	void testSearchWithSchedule() {
+		ScheduleSearch search = new ScheduleSearch(catalog);
+		Student s = new Student("Zahir", "King", "zking", "zking@ncsu.edu", "pw", 6);
+		s.getSchedule().addCourseToSchedule(catalog.getCourseFromCatalog("CSC216", "002"));
+
+		// CSC216 is already scheduled, CSC226-002 conflicts with it, and MA141 is over the remaining 3 credits
+		ScheduleSearch.Option[] options = search.search(s, new String[] {"CSC216", "CSC226", "MA141", "CSC226"}, 10);
+		assertEquals(1, options.length);
+		assertEquals(1, options[0].getNumberOfCourses());
+		assertEquals("CSC226", options[0].getCourses()[0].getName());
+		assertEquals("001", options[0].getCourses()[0].getSection());
+		assertEquals(0, options[0].getNumberWaitlisted());
+	}
+}
@@ -48,6 +48,10 @@ class ActivityTest {
 	    
 	    assertDoesNotThrow(() -> a5.checkConflict(a6));
 	    assertDoesNotThrow(() -> a6.checkConflict(a5));
+	    
+	    assertFalse(a1.conflictsWith(a2));
+	    assertFalse(a3.conflictsWith(a4));
+	    assertFalse(a5.conflictsWith(a6));
 	}
 	
 	/**
@@ -96,6 +100,11 @@ class ActivityTest {
 		
 	    Exception e8 = assertThrows(ConflictException.class, () -> a8.checkConflict(a7));
 	    assertEquals("Schedule conflict.", e8.getMessage());
+	    
+	    assertTrue(a1.conflictsWith(a2));
+	    assertTrue(a4.conflictsWith(a3));
+	    assertTrue(a5.conflictsWith(a6));
+	    assertTrue(a8.conflictsWith(a7));
 	}
 
 }
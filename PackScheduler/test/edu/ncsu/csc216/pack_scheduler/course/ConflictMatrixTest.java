@@ -0,0 +1,117 @@
+package edu.ncsu.csc216.pack_scheduler.course;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the ConflictMatrix which records meeting conflicts between pairs of Courses. The class tests adding,
+ * removing, updating, and clearing Courses, and compares every lookup with a direct comparison of the meeting
+ * days and times, including growth past the initial capacity.
+ *
+ * @author Maxim Shelepov
+ */
+class ConflictMatrixTest {
+
+	/**
+	 * Test method for add(), conflicts(), and getConflicts().
+	 */
+	@Test
+	void testAdd() {
+		ConflictMatrix matrix = new ConflictMatrix();
+		Course c1 = new Course("CSC216", "Software Development Fundamentals", "001", 3, "sesmith5", 10, "MW", 1330, 1445);
+		Course c2 = new Course("CSC226", "Discrete Mathematics", "001", 3, "tmbarnes", 10, "M", 1445, 1555);
+		Course c3 = new Course("CSC116", "Intro to Programming", "001", 3, "jdyoung2", 10, "TH", 1330, 1445);
+		Course c4 = new Course("CSC230", "C and Software Tools", "001", 3, null, 10, "A");
+
+		matrix.add(c1);
+		matrix.add(c2);
+		matrix.add(c3);
+		matrix.add(c4);
+		assertEquals(4, matrix.size());
+		assertTrue(matrix.contains(c1));
+
+		assertTrue(c1.conflictsWith(c2));
+		assertTrue(c2.conflictsWith(c1));
+		assertTrue(matrix.conflicts(c1, c2));
+		assertFalse(c1.conflictsWith(c3));
+		assertFalse(c4.conflictsWith(c1));
+		assertThrows(ConflictException.class, () -> c1.checkConflict(c2));
+
+		Course[] conflicting = matrix.getConflicts(c1);
+		assertEquals(1, conflicting.length);
+		assertSame(c2, conflicting[0]);
+		assertEquals(0, matrix.getConflicts(c4).length);
+
+		assertThrows(IllegalArgumentException.class, () -> matrix.add(null));
+		assertThrows(IllegalArgumentException.class, () -> matrix.add(c1));
+		assertThrows(IllegalArgumentException.class, () -> new ConflictMatrix().add(c1));
+	}
+
+	/**
+	 * Test method for remove(), update(), and clear().
+	 */
+	@Test
+	void testRemove() {
+		ConflictMatrix matrix = new ConflictMatrix();
+		Course c1 = new Course("CSC216", "Software Development Fundamentals", "001", 3, "sesmith5", 10, "MW", 1330, 1445);
+		Course c2 = new Course("CSC226", "Discrete Mathematics", "001", 3, "tmbarnes", 10, "M", 1445, 1555);
+		Course c3 = new Course("CSC116", "Intro to Programming", "001", 3, "jdyoung2", 10, "W", 1400, 1500);
+		matrix.add(c1);
+		matrix.add(c2);
+
+		assertTrue(matrix.remove(c2));
+		assertFalse(matrix.remove(c2));
+		assertFalse(matrix.contains(c2));
+		assertEquals(1, matrix.size());
+		assertEquals(0, matrix.getConflicts(c1).length);
+		// unindexed Courses still compare meeting days and times
+		assertTrue(c1.conflictsWith(c2));
+		assertThrows(IllegalArgumentException.class, () -> matrix.getConflicts(c2));
+
+		// the freed slot is reused without stale conflicts
+		matrix.add(c3);
+		assertEquals(1, matrix.getConflicts(c1).length);
+		assertSame(c3, matrix.getConflicts(c1)[0]);
+
+		// changing meeting times recomputes the row
+		c3.setMeetingDaysAndTime("F", 1400, 1500);
+		assertFalse(c1.conflictsWith(c3));
+		assertEquals(0, matrix.getConflicts(c1).length);
+		assertThrows(IllegalArgumentException.class, () -> matrix.update(c2));
+
+		matrix.clear();
+		assertEquals(0, matrix.size());
+		assertFalse(matrix.contains(c1));
+		matrix.add(c2);
+		matrix.add(c1);
+		assertTrue(c1.conflictsWith(c2));
+	}
+
+	/**
+	 * Tests that lookups match direct comparisons after growing past the initial capacity with interleaved
+	 * removals.
+	 */
+	@Test
+	void testGrow() {
+		ConflictMatrix matrix = new ConflictMatrix();
+		String[] days = {"M", "T", "W", "H", "F", "MW", "TH", "MWF", "A"};
+		Course[] courses = new Course[200];
+		for (int i = 0; i < courses.length; i++) {
+			String day = days[i % days.length];
+			int start = "A".equals(day) ? 0 : 800 + (i % 10) * 100 + (i % 4) * 15;
+			int end = "A".equals(day) ? 0 : start + 100 + (i % 3) * 100;
+			courses[i] = new Course("CSC" + (100 + i), "Course", "001", 3, null, 10, day, start, end);
+			matrix.add(courses[i]);
+			if (i % 7 == 3) {
+				matrix.remove(courses[i - 1]);
+			}
+		}
+
+		for (int i = 0; i < courses.length; i++) {
+			for (int j = 0; j < courses.length; j++) {
+				assertEquals(courses[i].meetingsOverlap(courses[j]), courses[i].conflictsWith(courses[j]));
+			}
+		}
+	}
+}
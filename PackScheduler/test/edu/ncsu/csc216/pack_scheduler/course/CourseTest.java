@@ -11,6 +11,8 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import edu.ncsu.csc216.pack_scheduler.user.Student;
+
 /**
  * Tests the Course class.
  * 
@@ -558,6 +560,88 @@ public class CourseTest {
         assertEquals("", longDisplay[6]);
     }
 
+    /**
+     * Tests that the display arrays are copies of the cached rows, so callers can't change the Course or
+     * rows returned earlier, that the open seat column follows the course roll, and that setters refresh the rows.
+     */
+	@Test
+    public void testDisplayArrayCache() {
+		Course course1 = new Course("CSC216", "Software Engineering", "001", 3, "instructor1", CAP, "MW", 800, 900);
+		String[] shortDisplay = course1.getShortDisplayArray();
+		String[] longDisplay = course1.getLongDisplayArray();
+		assertNotSame(shortDisplay, course1.getShortDisplayArray());
+		assertArrayEquals(shortDisplay, course1.getShortDisplayArray());
+		assertNotSame(longDisplay, course1.getLongDisplayArray());
+		assertArrayEquals(longDisplay, course1.getLongDisplayArray());
+		assertSame(course1.getMeetingString(), course1.getMeetingString());
+		
+		// writing into a returned row, as a table model does, leaves the Course alone
+		shortDisplay[2] = "Edited";
+		longDisplay[3] = "9";
+		assertEquals("Software Engineering", course1.getShortDisplayArray()[2]);
+		assertEquals("3", course1.getLongDisplayArray()[3]);
+		
+		// open seats refreshed from the roll, without changing a row already returned
+		String[] before = course1.getShortDisplayArray();
+		course1.getCourseRoll().enroll(new Student("Zahir", "King", "zking", "zking@ncsu.edu", "pw"));
+		assertEquals(String.valueOf(CAP), before[4]);
+		assertEquals(String.valueOf(CAP - 1), course1.getShortDisplayArray()[4]);
+		
+		// setters invalidate the cached strings
+		course1.setMeetingDaysAndTime("TH", 1330, 1445);
+		assertEquals("TH 1:30PM-2:45PM", course1.getMeetingString());
+		assertEquals("TH 1:30PM-2:45PM", course1.getShortDisplayArray()[3]);
+		assertEquals("TH 1:30PM-2:45PM", course1.getLongDisplayArray()[5]);
+		
+		course1.setInstructorId("instructor2");
+		assertEquals("instructor2", course1.getLongDisplayArray()[4]);
+		course1.setCredits(4);
+		assertEquals("4", course1.getLongDisplayArray()[3]);
+		course1.setSection("002");
+		assertEquals("002", course1.getShortDisplayArray()[1]);
+		course1.setTitle("Data Structures");
+		assertEquals("Data Structures", course1.getShortDisplayArray()[2]);
+		assertEquals(String.valueOf(CAP - 1), course1.getShortDisplayArray()[4]);
+    }
+
+    /**
+     * Tests that names, sections, department prefixes, and instructor ids are interned into shared symbols.
+     */
+	@Test
+    public void testSymbols() {
+		Course c1 = new Course(new String("CSC216"), "Software Engineering", new String("001"), 3, new String("sesmith5"), CAP, "MW", 800, 900);
+		Course c2 = new Course(new String("CSC216"), "Software Engineering", new String("002"), 3, new String("sesmith5"), CAP, "TH", 800, 900);
+		Course c3 = new Course("CSC226", "Discrete Math", "001", 3, null, CAP, "MW", 1000, 1100);
+		Course c4 = new Course("MA141", "Calculus I", "001", 4, "jdoe", CAP, "MWF", 800, 850);
+		
+		assertSame(c1.getName(), c2.getName());
+		assertSame(c1.getInstructorId(), c2.getInstructorId());
+		assertSame(c1.getSection(), c3.getSection());
+		assertEquals(c1.getNameSymbol(), c2.getNameSymbol());
+		assertNotEquals(c1.getNameSymbol(), c3.getNameSymbol());
+		assertNotEquals(c1.getSectionSymbol(), c2.getSectionSymbol());
+		assertEquals(c1.getSectionSymbol(), c3.getSectionSymbol());
+		assertEquals(c1.getInstructorSymbol(), c2.getInstructorSymbol());
+		assertEquals(-1, c3.getInstructorSymbol());
+		
+		assertEquals("CSC", c1.getDepartment());
+		assertEquals("MA", c4.getDepartment());
+		assertEquals(c1.getDepartmentSymbol(), c3.getDepartmentSymbol());
+		assertNotEquals(c1.getDepartmentSymbol(), c4.getDepartmentSymbol());
+		
+		assertEquals(c1.getNameSymbol(), Course.lookupNameSymbol("CSC216"));
+		assertEquals(c1.getSectionSymbol(), Course.lookupSectionSymbol("001"));
+		assertEquals(c4.getDepartmentSymbol(), Course.lookupDepartmentSymbol("MA"));
+		assertEquals(c4.getInstructorSymbol(), Course.lookupInstructorSymbol("jdoe"));
+		assertEquals(-1, Course.lookupNameSymbol("ZZZZ999"));
+		
+		c3.setInstructorId("sesmith5");
+		assertEquals(c1.getInstructorSymbol(), c3.getInstructorSymbol());
+		c3.setInstructorId(null);
+		assertEquals(-1, c3.getInstructorSymbol());
+		assertNull(c3.getInstructorId());
+    }
+
     /**
      * Test isDuplicate method.
      */
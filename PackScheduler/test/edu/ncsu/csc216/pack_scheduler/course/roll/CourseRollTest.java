@@ -220,4 +220,274 @@ class CourseRollTest {
 		assertTrue(cr.canEnroll(s1));
 	}
 
+	/**
+	 * Tests checkEnroll() and tryEnroll(), which return the outcome of enrolling instead of throwing.
+	 */
+	@Test
+	void testTryEnroll() {
+		Course c = new Course("CSC216", "Programming Concepts - Java", "001", 4, "sesmith5", 10, "A");
+		CourseRoll cr = c.getCourseRoll();
+		cr.setWaitlistCapacity(1);
+		Student[] students = new Student[12];
+		for (int i = 0; i < students.length; i++) {
+			students[i] = new Student("First", "Last", "id" + i, "id" + i + "@ncsu.edu", "pw", 18);
+		}
+		
+		assertEquals(EnrollResult.INVALID, cr.checkEnroll(null));
+		assertEquals(EnrollResult.INVALID, cr.tryEnroll(null));
+		assertEquals(EnrollResult.ENROLLED, cr.checkEnroll(students[0]));
+		assertEquals(0, cr.getEnrolledStudents().length);
+		for (int i = 0; i < 10; i++) {
+			assertEquals(EnrollResult.ENROLLED, cr.tryEnroll(students[i]));
+		}
+		assertEquals(EnrollResult.DUPLICATE, cr.tryEnroll(students[3]));
+		assertEquals(EnrollResult.WAITLISTED, cr.checkEnroll(students[10]));
+		assertEquals(EnrollResult.WAITLISTED, cr.tryEnroll(students[10]));
+		assertEquals(1, cr.getNumberOnWaitlist());
+		assertEquals(EnrollResult.DUPLICATE, cr.tryEnroll(students[10]));
+		assertEquals(EnrollResult.WAITLIST_FULL, cr.tryEnroll(students[11]));
+		assertFalse(cr.canEnroll(students[11]));
+		assertEquals(10, cr.getEnrolledStudents().length);
+		
+		cr.drop(students[10]);
+		cr.setWaitlistCapacity(0);
+		assertEquals(EnrollResult.FULL, cr.checkEnroll(students[11]));
+		assertThrows(IllegalArgumentException.class, () -> cr.enroll(students[11]));
+		
+		assertTrue(EnrollResult.ENROLLED.isSuccess());
+		assertTrue(EnrollResult.WAITLISTED.isSuccess());
+		assertFalse(EnrollResult.FULL.isSuccess());
+		assertEquals("The course and its wait-list are full.", EnrollResult.WAITLIST_FULL.getMessage());
+	}
+
+	/**
+	 * Tests that the RollListener is told after enrolling, dropping, and changing the enrollment cap.
+	 */
+	@Test
+	void testRollListener() {
+		Course c = new Course("CSC216", "Programming Concepts - Java", "001", 4, "sesmith5", 10, "A");
+		CourseRoll cr = c.getCourseRoll();
+		int[] calls = new int[1];
+		RollListener listener = course -> {
+			assertSame(c, course);
+			calls[0]++;
+		};
+		assertNull(cr.getRollListener());
+		cr.setRollListener(listener);
+		assertSame(listener, cr.getRollListener());
+		
+		Student s = new Student("Zahir", "King", "zking", "zking@ncsu.edu", "pw", 18);
+		cr.enroll(s);
+		assertEquals(1, calls[0]);
+		cr.drop(s);
+		assertEquals(2, calls[0]);
+		cr.setEnrollmentCap(20);
+		assertEquals(3, calls[0]);
+		
+		cr.setRollListener(null);
+		cr.enroll(s);
+		assertEquals(3, calls[0]);
+	}
+
+	/**
+	 * Tests configuring the wait-list capacity.
+	 */
+	@Test
+	void testWaitlistCapacity() {
+		Course c = new Course("CSC216", "Programming Concepts - Java", "001", 4, "sesmith5", 10, "A");
+		CourseRoll cr = c.getCourseRoll();
+		assertEquals(CourseRoll.DEFAULT_WAITLIST_CAPACITY, cr.getWaitlistCapacity());
+		cr.setWaitlistCapacity(500);
+		assertEquals(500, cr.getWaitlistCapacity());
+		
+		for (int i = 0; i < 510; i++) {
+			cr.enroll(new Student("First", "Last", "id" + i, "id" + i + "@ncsu.edu", "pw", 18));
+		}
+		assertEquals(500, cr.getNumberOnWaitlist());
+		Student extra = new Student("First", "Last", "extra", "extra@ncsu.edu", "pw", 18);
+		assertFalse(cr.canEnroll(extra));
+		assertThrows(IllegalArgumentException.class, () -> cr.enroll(extra));
+		assertThrows(IllegalArgumentException.class, () -> cr.setWaitlistCapacity(499));
+		assertThrows(IllegalArgumentException.class, () -> cr.setWaitlistCapacity(-1));
+		
+		// dropping a wait-listed student frees a wait-list spot
+		cr.drop(new Student("First", "Last", "id100", "id100@ncsu.edu", "pw", 18));
+		assertEquals(499, cr.getNumberOnWaitlist());
+		assertTrue(cr.canEnroll(extra));
+		
+		// a wait-listed student changed through a setter is still found on the wait-list
+		Student changed = cr.getWaitlist()[0];
+		changed.setMaxCredits(9);
+		changed.setEmail("changed@ncsu.edu");
+		assertFalse(cr.canEnroll(changed));
+		assertThrows(IllegalArgumentException.class, () -> cr.enroll(changed));
+		cr.drop(changed);
+		assertEquals(498, cr.getNumberOnWaitlist());
+		assertTrue(cr.canEnroll(changed));
+	}
+	
+	/**
+	 * Tests ranking the wait-list with a WaitlistPolicy.
+	 */
+	@Test
+	void testWaitlistPolicy() {
+		Course c = new Course("CSC216", "Programming Concepts - Java", "001", 4, "sesmith5", 10, "A");
+		CourseRoll cr = c.getCourseRoll();
+		Student[] enrolled = new Student[10];
+		for (int i = 0; i < enrolled.length; i++) {
+			enrolled[i] = new Student("First", "Last", "id" + i, "id" + i + "@ncsu.edu", "pw", 18);
+			cr.enroll(enrolled[i]);
+		}
+		
+		Student a = new Student("Amy", "Ames", "aames", "aames@ncsu.edu", "pw", 12);
+		Student b = new Student("Bob", "Bell", "bbell", "bbell@ncsu.edu", "pw", 18);
+		Student d = new Student("Dan", "Dow", "ddow", "ddow@ncsu.edu", "pw", 18);
+		cr.enroll(a);
+		cr.enroll(b);
+		assertArrayEquals(new Student[] {a, b}, cr.getWaitlist());
+		
+		// students allowed more credits go first
+		WaitlistPolicy policy = (course, s) -> -s.getMaxCredits();
+		cr.setWaitlistPolicy(policy);
+		assertSame(policy, cr.getWaitlistPolicy());
+		assertArrayEquals(new Student[] {b, a}, cr.getWaitlist());
+		cr.enroll(d);
+		assertArrayEquals(new Student[] {b, d, a}, cr.getWaitlist());
+		
+		cr.drop(enrolled[0]);
+		assertArrayEquals(new Student[] {d, a}, cr.getWaitlist());
+		assertFalse(cr.canEnroll(b));
+		
+		cr.setWaitlistPolicy(null);
+		assertNull(cr.getWaitlistPolicy());
+		assertArrayEquals(new Student[] {d, a}, cr.getWaitlist());
+	}
+
+	/**
+	 * Tests that promotion skips ineligible wait-listed students, keeps them in place, and accepts students
+	 * who already have the course on their schedule.
+	 */
+	@Test
+	void testPromoteFromWaitlist() {
+		Course c = new Course("CSC216", "Programming Concepts - Java", "001", 4, "sesmith5", 10, "MW", 1330, 1445);
+		Course other = new Course("CSC226", "Discrete Mathematics", "001", 3, "tmbarnes", 10, "M", 1400, 1500);
+		CourseRoll cr = c.getCourseRoll();
+		Student[] enrolled = new Student[10];
+		for (int i = 0; i < enrolled.length; i++) {
+			enrolled[i] = new Student("First", "Last", "id" + i, "id" + i + "@ncsu.edu", "pw", 18);
+			cr.enroll(enrolled[i]);
+		}
+		
+		// conflicting schedule
+		Student conflicted = new Student("Con", "Flict", "conflict", "conflict@ncsu.edu", "pw", 18);
+		conflicted.getSchedule().addCourseToSchedule(other);
+		// course already on the schedule, as when wait-listed through the RegistrationManager
+		Student holding = new Student("Hol", "Ding", "holding", "holding@ncsu.edu", "pw", 18);
+		holding.getSchedule().addCourseToSchedule(c);
+		Student plain = new Student("Pla", "In", "plain", "plain@ncsu.edu", "pw", 18);
+		cr.enroll(conflicted);
+		cr.enroll(holding);
+		cr.enroll(plain);
+		assertEquals(0, cr.promoteFromWaitlist());
+		
+		cr.drop(enrolled[0]);
+		assertArrayEquals(new Student[] {conflicted, plain}, cr.getWaitlist());
+		assertEquals(1, holding.getSchedule().getScheduledCourses().length);
+		assertFalse(cr.canEnroll(holding));
+		
+		cr.drop(enrolled[1]);
+		assertArrayEquals(new Student[] {conflicted}, cr.getWaitlist());
+		assertTrue(plain.getSchedule().contains(c));
+		
+		// the skipped student is promoted once their conflict is gone
+		cr.drop(enrolled[2]);
+		assertEquals(1, cr.getOpenSeats());
+		conflicted.getSchedule().removeCourseFromSchedule(other);
+		assertEquals(1, cr.promoteFromWaitlist());
+		assertEquals(0, cr.getNumberOnWaitlist());
+		assertTrue(conflicted.getSchedule().contains(c));
+	}
+	
+	/**
+	 * Tests that a promotion pass that fails partway is undone and leaves the wait-list in its old order,
+	 * including the skipped student and the students waiting behind the chosen ones.
+	 */
+	@Test
+	void testPromoteFromWaitlistUndone() {
+		Course c = new Course("CSC216", "Programming Concepts - Java", "001", 4, "sesmith5", 10, "MW", 1330, 1445);
+		Course other = new Course("CSC226", "Discrete Mathematics", "001", 3, "tmbarnes", 10, "M", 1400, 1500);
+		CourseRoll cr = c.getCourseRoll();
+		Student[] enrolled = new Student[10];
+		for (int i = 0; i < enrolled.length; i++) {
+			enrolled[i] = new Student("First", "Last", "id" + i, "id" + i + "@ncsu.edu", "pw", 18);
+			cr.enroll(enrolled[i]);
+		}
+		
+		Student skipped = new Student("Ski", "Pped", "skipped", "skipped@ncsu.edu", "pw", 18);
+		skipped.getSchedule().addCourseToSchedule(other);
+		Student first = new Student("Fir", "St", "first", "first@ncsu.edu", "pw", 18);
+		// claims it can add the course, but its schedule rejects the conflict when the pass commits
+		Student failing = new Student("Fai", "Ling", "failing", "failing@ncsu.edu", "pw", 18) {
+			@Override
+			public boolean canAdd(Course course) {
+				return true;
+			}
+		};
+		failing.getSchedule().addCourseToSchedule(other);
+		Student last = new Student("La", "St", "last", "last@ncsu.edu", "pw", 18);
+		cr.enroll(skipped);
+		cr.enroll(first);
+		cr.enroll(failing);
+		cr.enroll(last);
+		
+		Exception e = assertThrows(IllegalArgumentException.class, () -> cr.dropAll(new Student[] {enrolled[0], enrolled[1]}));
+		assertEquals("Waitlist promotion failed.", e.getMessage());
+		assertArrayEquals(new Student[] {skipped, first, failing, last}, cr.getWaitlist());
+		assertEquals(2, cr.getOpenSeats());
+		assertFalse(first.getSchedule().contains(c));
+		
+		// the next pass promotes in the same order
+		skipped.getSchedule().removeCourseFromSchedule(other);
+		failing.getSchedule().removeCourseFromSchedule(other);
+		assertEquals(2, cr.promoteFromWaitlist());
+		assertArrayEquals(new Student[] {failing, last}, cr.getWaitlist());
+		assertTrue(skipped.getSchedule().contains(c));
+		assertTrue(first.getSchedule().contains(c));
+	}
+	
+	/**
+	 * Tests dropping many students with a single promotion pass.
+	 */
+	@Test
+	void testDropAll() {
+		Course c = new Course("CSC216", "Programming Concepts - Java", "001", 4, "sesmith5", 10, "A");
+		CourseRoll cr = c.getCourseRoll();
+		cr.setWaitlistCapacity(300);
+		Student[] students = new Student[310];
+		for (int i = 0; i < students.length; i++) {
+			students[i] = new Student("First", "Last", "id" + i, "id" + i + "@ncsu.edu", "pw", 18);
+			cr.enroll(students[i]);
+		}
+		int[] calls = new int[1];
+		cr.setRollListener(course -> calls[0]++);
+		
+		// drop the whole roll and one wait-listed student
+		Student[] dropped = new Student[11];
+		System.arraycopy(students, 0, dropped, 0, 10);
+		dropped[10] = students[10];
+		assertEquals(10, cr.getEnrolledStudents().length);
+		assertSame(students[0], cr.getEnrolledStudents()[0]);
+		assertEquals(10, cr.dropAll(dropped));
+		assertEquals(1, calls[0]);
+		assertEquals(0, cr.getOpenSeats());
+		assertEquals(289, cr.getNumberOnWaitlist());
+		assertTrue(students[11].getSchedule().contains(c));
+		assertTrue(students[20].getSchedule().contains(c));
+		assertFalse(students[21].getSchedule().contains(c));
+		
+		assertThrows(IllegalArgumentException.class, () -> cr.dropAll(null));
+		assertThrows(IllegalArgumentException.class, () -> cr.dropAll(new Student[] {students[11], null}));
+		assertTrue(students[11].getSchedule().contains(c));
+		assertEquals(0, cr.dropAll(new Student[0]));
+	}
 }
@@ -0,0 +1,145 @@
+package edu.ncsu.csc216.pack_scheduler.course.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the CourseNameValidatorDFA, the table-driven validator used by Course. Besides the individual
+ * error codes, the DFA is checked against the CourseNameValidatorFSM and CourseNameValidator reference
+ * implementations for every short string over a small alphabet of letters, digits, and other characters.
+ *
+ * @author Maxim Shelepov
+ */
+class CourseNameValidatorDFATest {
+	/** Alphabet for the differential test: two letters, two digits, and two other characters */
+	private static final char[] ALPHABET = {'C', 'z', '0', '7', '.', ' '};
+	/** Longest string length for the differential test */
+	private static final int MAX_LENGTH = 7;
+
+	/**
+	 * Tests the shared instance.
+	 */
+	@Test
+	void testGetInstance() {
+		assertSame(CourseNameValidatorDFA.getInstance(), CourseNameValidatorDFA.getInstance());
+	}
+
+	/**
+	 * Tests validate() codes and messages for each kind of invalid transition.
+	 */
+	@Test
+	void testValidate() {
+		CourseNameValidatorDFA c = CourseNameValidatorDFA.getInstance();
+		assertTrue(c.isValid("CSC116"));
+		assertTrue(c.isValid("CSCA116"));
+		assertTrue(c.isValid("CSC116A"));
+		assertTrue(c.isValid("C116"));
+		assertFalse(c.isValid("CSC11"));
+		assertFalse(c.isValid(""));
+
+		assertEquals(CourseNameValidatorDFA.VALID, c.validate("CS116"));
+		assertEquals(CourseNameValidatorDFA.ERROR_INCOMPLETE, c.validate("CSC"));
+		assertEquals(CourseNameValidatorDFA.ERROR_START_DIGIT, c.validate("1CSC116"));
+		assertEquals(CourseNameValidatorDFA.ERROR_TOO_FEW_DIGITS, c.validate("C1SC116"));
+		assertEquals(CourseNameValidatorDFA.ERROR_TOO_MANY_LETTERS, c.validate("CSCCC116"));
+		assertEquals(CourseNameValidatorDFA.ERROR_OTHER_CHARACTER, c.validate("CS.,C116"));
+		assertEquals(CourseNameValidatorDFA.ERROR_TOO_MANY_DIGITS, c.validate("CSC1116"));
+		assertEquals(CourseNameValidatorDFA.ERROR_SUFFIX_LETTER, c.validate("CSC116WW"));
+		assertEquals(CourseNameValidatorDFA.ERROR_SUFFIX_DIGIT, c.validate("CSC116W1"));
+
+		assertNull(CourseNameValidatorDFA.getErrorMessage(CourseNameValidatorDFA.VALID));
+		assertEquals("Course name must start with a letter.",
+				CourseNameValidatorDFA.getErrorMessage(CourseNameValidatorDFA.ERROR_START_DIGIT));
+		assertThrows(IllegalArgumentException.class, () -> CourseNameValidatorDFA.getErrorMessage(-1));
+		assertThrows(IllegalArgumentException.class, () -> CourseNameValidatorDFA.getErrorMessage(9));
+	}
+
+	/**
+	 * Tests that the DFA agrees with both reference implementations on every string up to MAX_LENGTH
+	 * characters over ALPHABET: same result for names they accept or reject, and same message for names
+	 * on which they throw.
+	 */
+	@Test
+	void testMatchesReferenceImplementations() {
+		CourseNameValidatorDFA dfa = CourseNameValidatorDFA.getInstance();
+		CourseNameValidatorFSM fsm = new CourseNameValidatorFSM();
+		char[] chars = new char[MAX_LENGTH];
+
+		for (int length = 0; length <= MAX_LENGTH; length++) {
+			int[] digits = new int[length];
+			boolean done = false;
+			while (!done) {
+				for (int i = 0; i < length; i++) {
+					chars[i] = ALPHABET[digits[i]];
+				}
+				String name = new String(chars, 0, length);
+
+				String expected = describe(fsm, name);
+				// CourseNameValidator never resets its end state flag, so use a fresh instance per name
+				assertEquals(expected, describe(new CourseNameValidator(), name), name);
+				assertEquals(expected, describe(dfa, name), name);
+
+				// advance to the next string of this length
+				done = true;
+				for (int i = length - 1; i >= 0; i--) {
+					digits[i]++;
+					if (digits[i] < ALPHABET.length) {
+						done = false;
+						break;
+					}
+					digits[i] = 0;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Describes the outcome of the FSM reference validator.
+	 * @param fsm the validator
+	 * @param name the name to validate
+	 * @return "true", "false", or the exception message
+	 */
+	private static String describe(CourseNameValidatorFSM fsm, String name) {
+		try {
+			return String.valueOf(fsm.isValid(name));
+		} catch (InvalidTransitionException e) {
+			return e.getMessage();
+		}
+	}
+
+	/**
+	 * Describes the outcome of the State Pattern reference validator.
+	 * @param validator the validator
+	 * @param name the name to validate
+	 * @return "true", "false", or the exception message
+	 */
+	private static String describe(CourseNameValidator validator, String name) {
+		try {
+			return String.valueOf(validator.isValid(name));
+		} catch (InvalidTransitionException e) {
+			return e.getMessage();
+		}
+	}
+
+	/**
+	 * Describes the outcome of the DFA in the reference validators' terms.
+	 * @param dfa the validator
+	 * @param name the name to validate
+	 * @return "true", "false", or the error message
+	 */
+	private static String describe(CourseNameValidatorDFA dfa, String name) {
+		int code = dfa.validate(name);
+		if (code == CourseNameValidatorDFA.VALID) {
+			return "true";
+		} else if (code == CourseNameValidatorDFA.ERROR_INCOMPLETE) {
+			return "false";
+		}
+		return CourseNameValidatorDFA.getErrorMessage(code);
+	}
+}
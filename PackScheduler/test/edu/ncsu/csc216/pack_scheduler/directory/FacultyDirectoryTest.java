@@ -143,6 +143,8 @@ class FacultyDirectoryTest {
 		f.addFaculty(FIRST_NAME2, FIRST_NAME2, ID2, EMAIL, PASSWORD2, PASSWORD2, MAX_COURSES2);
 		assertEquals(FIRST_NAME, f.getFacultyById(ID).getFirstName());
 		assertEquals(FIRST_NAME2, f.getFacultyById(ID2).getFirstName());
+		assertEquals(2, f.getFaculty().length);
+		assertSame(f.getFacultyById(ID), f.getFaculty()[0]);
 	}
 
 }
@@ -174,6 +174,17 @@ public class StudentDirectoryTest {
 		assertEquals("Zahir", studentDirectory[5][0]);
 		assertEquals("King", studentDirectory[5][1]);
 		assertEquals("zking", studentDirectory[5][2]);
+		assertNull(sd.getStudentById("efrost"));
+		assertFalse(sd.removeStudent("efrost"));
+		assertEquals("zking", sd.getStudentById("zking").getId());
+		
+		//Re-add a removed id, then clear the directory
+		assertTrue(sd.addStudent("Emerald", "Frost", "efrost", "efrost@ncsu.edu", "pw", "pw", 15));
+		assertFalse(sd.addStudent("Emerald", "Frost", "efrost", "efrost@ncsu.edu", "pw", "pw", 15));
+		assertEquals("Emerald", sd.getStudentById("efrost").getFirstName());
+		sd.newStudentDirectory();
+		assertNull(sd.getStudentById("zking"));
+		assertFalse(sd.removeStudent("zking"));
 	}
 
 	/**
@@ -13,7 +13,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Scanner;
 import edu.ncsu.csc216.pack_scheduler.course.Course;
-import edu.ncsu.csc217.collections.list.SortedList;
+import edu.ncsu.csc216.pack_scheduler.metrics.Counter;
+import edu.ncsu.csc216.pack_scheduler.metrics.MetricsRegistry;
+import edu.ncsu.csc216.pack_scheduler.util.BTreeSortedList;
 
 /**
  * Tests CouresRecordIO.
@@ -80,7 +82,7 @@ public class CourseRecordIOTest {
 	@Test
 	public void testReadValidCourseRecords() {
 		try {
-			SortedList<Course> courses = CourseRecordIO.readCourseRecords(validTestFile);
+			BTreeSortedList<Course> courses = CourseRecordIO.readCourseRecords(validTestFile);
 			assertEquals(13, courses.size());
 			
 			for (int i = 0; i < validCourses.length; i++) {
@@ -96,11 +98,14 @@ public class CourseRecordIOTest {
 	 */
 	@Test
 	public void testReadInvalidCourseRecords() {
-		SortedList<Course> courses;
+		BTreeSortedList<Course> courses;
+		Counter skipped = MetricsRegistry.getInstance().counter("records_skipped_total", "file", "course");
+		long skippedBefore = skipped.getCount();
 		try {
 			
 			courses = CourseRecordIO.readCourseRecords(invalidTestFile);
 			assertEquals(0, courses.size());
+			assertEquals(skippedBefore + 25, skipped.getCount());
 		} catch (FileNotFoundException e) {
 			fail("Unexpected FileNotFoundException");
 		}
@@ -111,7 +116,7 @@ public class CourseRecordIOTest {
 	 */
 	@Test
 	public void testWriteCourseRecords() {
-		SortedList<Course> courses = new SortedList<Course>();
+		BTreeSortedList<Course> courses = new BTreeSortedList<Course>();
 		courses.add(new Course("CSC116", "Intro to Programming - Java", "003", 3, "spbalik", 10, "MW", 1250, 1440));
 		courses.add(new Course("CSC216", "Software Development Fundamentals", "001", 3, "sesmith5", 10, "MW", 1330, 1445));
 		courses.add(new Course("CSC216", "Software Development Fundamentals", "601", 3, "jctetter", 10, "A"));
@@ -13,7 +13,7 @@ import java.util.Base64;
 import java.util.Scanner;
 import java.io.FileNotFoundException;
 import edu.ncsu.csc216.pack_scheduler.user.Student;
-import edu.ncsu.csc217.collections.list.SortedList;
+import edu.ncsu.csc216.pack_scheduler.util.BTreeSortedList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -114,7 +114,7 @@ class StudentRecordIOTest {
 	 * Test StudentRecordsIO.readStudentRecords with valid student records (student_records.txt).
 	 * 
 	 * Note: Order of the sorted student_records.txt student must match the expected alphanumeric ordering provided
-	 * by SortedList.
+	 * by BTreeSortedList.
 	 * 
 	 * Citation: The code for this method is based on the GP1 CourseRecordIOTest class which can be found on the 
 	 * CSC 216 website GP1 instructions -- Step 10 Eclipse Quick Fix Tool (Creating IO Test Structure section).
@@ -123,7 +123,7 @@ class StudentRecordIOTest {
 	public void testReadValidStudentRecords() {
 		// testing valid files
 		try {
-			SortedList<Student> students = StudentRecordIO.readStudentRecords(validTestFile);
+			BTreeSortedList<Student> students = StudentRecordIO.readStudentRecords(validTestFile);
 			assertEquals(10, students.size());
 
 			for (int i = 0; i < validStudents.length; i++) {
@@ -145,7 +145,7 @@ class StudentRecordIOTest {
 	public void testReadInvalidStudentRecords() {
 		// testing invalid files
 		try {
-			SortedList<Student> students = StudentRecordIO.readStudentRecords(invalidTestFile);
+			BTreeSortedList<Student> students = StudentRecordIO.readStudentRecords(invalidTestFile);
 			assertEquals(0, students.size());
 
 		} catch (FileNotFoundException e) {
@@ -175,7 +175,7 @@ class StudentRecordIOTest {
 	 */
 	@Test
 	public void testWriteStudentRecords() {
-		SortedList<Student> students = new SortedList<Student>();
+		BTreeSortedList<Student> students = new BTreeSortedList<Student>();
 		students.add(new Student("Zahir", "King", "zking", "orci.Donec@ametmassaQuisque.com", "MMlS+rEiw/l1nwKm2Vw3WLJGtP7iOZV7LU/uRuJhcMQ=", 15));
 		
 		try {
@@ -192,7 +192,7 @@ class StudentRecordIOTest {
 	 */
 	@Test
 	public void testWriteStudentRecordsNoPermissions() {
-		SortedList<Student> students = new SortedList<Student>();
+		BTreeSortedList<Student> students = new BTreeSortedList<Student>();
 		students.add(new Student("Zahir", "King", "zking", "orci.Donec@ametmassaQuisque.com", hashPW, 15));
 
 		Exception exception = assertThrows(IOException.class,
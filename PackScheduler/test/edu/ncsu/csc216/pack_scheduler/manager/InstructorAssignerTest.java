@@ -0,0 +1,124 @@
+package edu.ncsu.csc216.pack_scheduler.manager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.IdentityHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.user.Faculty;
+
+/**
+ * Tests the InstructorAssigner which assigns instructors to courses with balanced loads.
+ *
+ * @author Maxim Shelepov
+ */
+class InstructorAssignerTest {
+
+	/**
+	 * Creates a Faculty with a unique id.
+	 * @param i the number of the Faculty
+	 * @param maxCourses the Faculty's max courses
+	 * @return the Faculty
+	 */
+	private static Faculty faculty(int i, int maxCourses) {
+		return new Faculty("First", "Last", "fac" + i, "fac" + i + "@ncsu.edu", "pw", maxCourses);
+	}
+
+	/**
+	 * Tests that loads are balanced and max courses are respected.
+	 */
+	@Test
+	void testBalancedLoads() {
+		Course[] courses = new Course[5];
+		for (int i = 0; i < courses.length; i++) {
+			courses[i] = new Course("CSC" + (100 + i), "Title", "001", 3, null, 10, "A");
+		}
+		Faculty f1 = faculty(1, 3);
+		Faculty f2 = faculty(2, 3);
+		Faculty f3 = faculty(3, 1);
+
+		Faculty[] result = new InstructorAssigner(courses, new Faculty[] {f1, f2, f3}).solve();
+		int[] loads = new int[3];
+		for (Faculty f : result) {
+			assertNotNull(f);
+			loads[f == f1 ? 0 : f == f2 ? 1 : 2]++;
+		}
+		assertEquals(2, loads[0]);
+		assertEquals(2, loads[1]);
+		assertEquals(1, loads[2]);
+		// solve() does not change the schedules
+		assertEquals(0, f1.getSchedule().getNumScheduledCourses());
+		assertNull(courses[0].getInstructorId());
+
+		assertThrows(IllegalArgumentException.class, () -> new InstructorAssigner(null, new Faculty[0]));
+		assertThrows(IllegalArgumentException.class, () -> new InstructorAssigner(new Course[] {null}, new Faculty[0]));
+		assertThrows(IllegalArgumentException.class, () -> new InstructorAssigner(courses, new Faculty[] {null}));
+	}
+
+	/**
+	 * Tests that conflicts with scheduled and assigned courses are respected, and that an earlier assignment
+	 * moves to make room for a course only one Faculty can teach.
+	 */
+	@Test
+	void testConflicts() {
+		Course scheduled = new Course("CSC216", "Title", "001", 3, null, 10, "MW", 1000, 1100);
+		Course flexible = new Course("CSC226", "Title", "001", 3, null, 10, "TH", 1000, 1100);
+		Course clash = new Course("CSC230", "Title", "001", 3, null, 10, "M", 1030, 1130);
+		Course sameTime = new Course("CSC316", "Title", "001", 3, null, 10, "M", 1030, 1130);
+		Course assigned = new Course("CSC116", "Title", "001", 3, "other", 10, "A");
+		Faculty f1 = faculty(1, 1);
+		Faculty f2 = faculty(2, 2);
+		f2.getSchedule().addCourseToSchedule(scheduled);
+
+		// flexible goes to f1 first, then moves to f2 so clash can have f1
+		Course[] courses = {flexible, clash, sameTime, assigned};
+		InstructorAssigner assigner = new InstructorAssigner(courses, new Faculty[] {f1, f2});
+		Faculty[] result = assigner.solve();
+		assertSame(f2, result[0]);
+		assertSame(f1, result[1]);
+		assertNull(result[2]);
+		assertNull(result[3]);
+
+		assertEquals(2, assigner.assign());
+		assertEquals("fac2", flexible.getInstructorId());
+		assertEquals("fac1", clash.getInstructorId());
+		assertNull(sameTime.getInstructorId());
+		assertEquals(2, f2.getSchedule().getNumScheduledCourses());
+		assertFalse(f1.isOverloaded());
+		assertFalse(f2.isOverloaded());
+	}
+
+	/**
+	 * Tests a term-sized assignment where every course can be assigned.
+	 */
+	@Test
+	void testLargeTerm() {
+		String[] days = {"MW", "TH", "F", "MWF"};
+		Course[] courses = new Course[5000];
+		for (int i = 0; i < courses.length; i++) {
+			int start = 800 + (i / days.length % 10) * 100;
+			courses[i] = new Course("CSC" + (100 + i / 10), "Title", String.format("%03d", i % 10 + 1), 3, null, 10,
+					days[i % days.length], start, start + 50);
+		}
+		Faculty[] faculty = new Faculty[2000];
+		for (int i = 0; i < faculty.length; i++) {
+			faculty[i] = faculty(i, 3);
+		}
+
+		Faculty[] result = new InstructorAssigner(courses, faculty).solve();
+		int[] loads = new int[faculty.length];
+		IdentityHashMap<Faculty, Integer> index = new IdentityHashMap<Faculty, Integer>();
+		for (int i = 0; i < faculty.length; i++) {
+			index.put(faculty[i], i);
+		}
+		for (Faculty f : result) {
+			assertNotNull(f);
+			loads[index.get(f)]++;
+		}
+		for (int load : loads) {
+			assertTrue(load >= 2 && load <= 3);
+		}
+	}
+}
@@ -12,9 +12,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import edu.ncsu.csc216.pack_scheduler.catalog.CourseCatalog;
+import edu.ncsu.csc216.pack_scheduler.catalog.MigrationReport;
 import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.course.roll.EnrollResult;
 import edu.ncsu.csc216.pack_scheduler.directory.FacultyDirectory;
 import edu.ncsu.csc216.pack_scheduler.directory.StudentDirectory;
+import edu.ncsu.csc216.pack_scheduler.metrics.MetricsRegistry;
 import edu.ncsu.csc216.pack_scheduler.user.Faculty;
 import edu.ncsu.csc216.pack_scheduler.user.Student;
 import edu.ncsu.csc216.pack_scheduler.user.schedule.Schedule;
@@ -214,6 +217,35 @@ public class RegistrationManagerTest {
 		manager.resetFacultySchedule(f);
 	}
 
+	/**
+	 * Tests assignInstructors()
+	 */
+	@Test
+	public void testAssignInstructors() {
+		CourseCatalog catalog = manager.getCourseCatalog();
+		catalog.loadCoursesFromFile("test-files/course_records.txt");
+		FacultyDirectory fd = manager.getFacultyDirectory();
+		fd.loadFacultyFromFile("test-files/faculty_records.txt");
+		
+		manager.logout(); //In case not handled elsewhere
+		Exception e1 = assertThrows(IllegalArgumentException.class, () -> manager.assignInstructors());
+		assertEquals("Illegal Action", e1.getMessage());
+		
+		manager.login(registrarUsername, registrarPassword);
+		int numCourses = catalog.getCourseCatalog().length;
+		assertEquals(numCourses, manager.assignInstructors());
+		for (Faculty f : fd.getFaculty()) {
+			assertFalse(f.isOverloaded());
+		}
+		assertNotNull(catalog.getCourseFromCatalog("CSC216", "001").getInstructorId());
+		assertEquals(0, manager.assignInstructors());
+		
+		for (Faculty f : fd.getFaculty()) {
+			f.getSchedule().resetSchedule();
+		}
+		manager.logout();
+	}
+	
 	/**
 	 * Tests RegistrationManager.enrollStudentInCourse()
 	 */
@@ -297,6 +329,84 @@ public class RegistrationManagerTest {
 		manager.logout();
 	}
 	
+	/**
+	 * Tests enroll(), which returns the outcome of an enroll.
+	 */
+	@Test
+	public void testEnroll() {
+		manager.getStudentDirectory().loadStudentsFromFile("test-files/student_records.txt");
+		CourseCatalog catalog = manager.getCourseCatalog();
+		catalog.loadCoursesFromFile("test-files/course_records.txt");
+		manager.logout();
+		assertThrows(IllegalArgumentException.class, () -> manager.enroll(catalog.getCourseFromCatalog("CSC216", "001")));
+		
+		manager.login("ahicks", "pw");
+		assertEquals(EnrollResult.ENROLLED, manager.enroll(catalog.getCourseFromCatalog("CSC216", "001")));
+		assertEquals(EnrollResult.DUPLICATE, manager.enroll(catalog.getCourseFromCatalog("CSC216", "601")));
+		assertEquals(EnrollResult.INVALID, manager.enroll(null));
+		assertEquals(EnrollResult.ENROLLED, manager.enroll(catalog.getCourseFromCatalog("CSC226", "001")));
+		assertEquals(EnrollResult.CONFLICT, manager.enroll(catalog.getCourseFromCatalog("CSC116", "001")));
+		assertEquals(EnrollResult.ENROLLED, manager.enroll(catalog.getCourseFromCatalog("CSC116", "003")));
+		assertEquals(EnrollResult.OVER_CREDITS, manager.enroll(catalog.getCourseFromCatalog("CSC230", "001")));
+		manager.resetSchedule();
+		manager.logout();
+		
+		Course full = catalog.getCourseFromCatalog("CSC230", "001");
+		full.getCourseRoll().setWaitlistCapacity(0);
+		for (int i = 0; i < 10; i++) {
+			full.getCourseRoll().enroll(new Student("First", "Last", "id" + i, "id" + i + "@ncsu.edu", "pw", 18));
+		}
+		manager.login("efrost", "pw");
+		assertEquals(EnrollResult.FULL, manager.enroll(full));
+		assertEquals(0, manager.getStudentDirectory().getStudentById("efrost").getSchedule().getScheduleCredits());
+		manager.logout();
+	}
+
+	/**
+	 * Tests that logins, enrolls, and drops are counted by outcome in the MetricsRegistry.
+	 */
+	@Test
+	public void testMetrics() {
+		MetricsRegistry metrics = MetricsRegistry.getInstance();
+		metrics.reset();
+		manager.getStudentDirectory().loadStudentsFromFile("test-files/student_records.txt");
+		CourseCatalog catalog = manager.getCourseCatalog();
+		catalog.loadCoursesFromFile("test-files/course_records.txt");
+		manager.logout();
+
+		assertThrows(IllegalArgumentException.class, () -> manager.login("wrongid", "pw"));
+		assertFalse(manager.login("ahicks", "wrongpw"));
+		assertTrue(manager.login("ahicks", "pw"));
+		assertEquals(1, metrics.counter("login_total", "result", "success").getCount());
+		assertEquals(1, metrics.counter("login_total", "result", "failure").getCount());
+		assertEquals(1, metrics.counter("login_total", "result", "unknown").getCount());
+		assertEquals(3, metrics.timer("login_seconds").getCount());
+
+		assertTrue(manager.enrollStudentInCourse(catalog.getCourseFromCatalog("CSC216", "001")));
+		assertTrue(manager.enrollStudentInCourse(catalog.getCourseFromCatalog("CSC226", "001")));
+		assertFalse(manager.enrollStudentInCourse(catalog.getCourseFromCatalog("CSC226", "001")));
+		assertFalse(manager.enrollStudentInCourse(catalog.getCourseFromCatalog("CSC116", "001")));
+		assertTrue(manager.enrollStudentInCourse(catalog.getCourseFromCatalog("CSC116", "003")));
+		assertFalse(manager.enrollStudentInCourse(catalog.getCourseFromCatalog("CSC230", "001")));
+		assertEquals(3, metrics.counter("enroll_total", "outcome", "enrolled").getCount());
+		assertEquals(1, metrics.counter("enroll_total", "outcome", "duplicate").getCount());
+		assertEquals(1, metrics.counter("enroll_total", "outcome", "conflict").getCount());
+		assertEquals(1, metrics.counter("enroll_total", "outcome", "over_credits").getCount());
+		assertEquals(0, metrics.counter("enroll_total", "outcome", "waitlist_full").getCount());
+		assertEquals(6, metrics.timer("enroll_seconds").getCount());
+
+		assertTrue(manager.dropStudentFromCourse(catalog.getCourseFromCatalog("CSC216", "001")));
+		assertFalse(manager.dropStudentFromCourse(catalog.getCourseFromCatalog("CSC216", "001")));
+		assertEquals(1, metrics.counter("drop_total", "outcome", "dropped").getCount());
+		assertEquals(1, metrics.counter("drop_total", "outcome", "not_scheduled").getCount());
+		assertEquals(2, metrics.timer("drop_seconds").getCount());
+
+		assertTrue(metrics.counter("records_read_total", "file", "course").getCount() > 0);
+		assertTrue(metrics.toPrometheus().contains("pack_scheduler_enroll_total{outcome=\"enrolled\"} 3\n"));
+		manager.resetSchedule();
+		manager.logout();
+	}
+
 	/**
 	 * Tests RegistrationManager.dropStudentFromCourse()
 	 */
@@ -490,4 +600,45 @@ public class RegistrationManagerTest {
 		manager.logout();
 	}
 
+	/**
+	 * Tests RegistrationManager.migrateSection() and RegistrationManager.cancelSection()
+	 */
+	@Test
+	public void testCancelSection() {
+		StudentDirectory directory = manager.getStudentDirectory();
+		directory.loadStudentsFromFile("test-files/student_records.txt");
+		
+		CourseCatalog catalog = manager.getCourseCatalog();
+		catalog.loadCoursesFromFile("test-files/course_records.txt");
+		
+		manager.logout(); //In case not handled elsewhere
+		
+		Exception e1 = assertThrows(IllegalArgumentException.class,
+				() -> manager.cancelSection("CSC216", "001", "002"));
+		assertEquals("Illegal Action", e1.getMessage());
+		
+		manager.login("efrost", "pw");
+		assertTrue(manager.enrollStudentInCourse(catalog.getCourseFromCatalog("CSC216", "001")));
+		Exception e2 = assertThrows(IllegalArgumentException.class,
+				() -> manager.migrateSection("CSC216", "001", "002"));
+		assertEquals("Illegal Action", e2.getMessage());
+		manager.logout();
+		
+		manager.login(registrarUsername, registrarPassword);
+		Course target = catalog.getCourseFromCatalog("CSC216", "002");
+		MigrationReport report = manager.migrateSection("CSC216", "001", "002");
+		assertEquals(1, report.getNumberEnrolled());
+		report = manager.migrateSection("CSC216", "002", "001");
+		assertEquals(1, report.getNumberEnrolled());
+		
+		report = manager.cancelSection("CSC216", "001", "002");
+		assertEquals(1, report.getNumberEnrolled());
+		assertNull(catalog.getCourseFromCatalog("CSC216", "001"));
+		Schedule scheduleFrost = directory.getStudentById("efrost").getSchedule();
+		assertTrue(scheduleFrost.contains(target));
+		assertEquals(9, target.getCourseRoll().getOpenSeats());
+		
+		manager.logout();
+	}
+
 }
\ No newline at end of file
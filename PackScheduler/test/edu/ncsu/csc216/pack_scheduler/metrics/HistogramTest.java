@@ -0,0 +1,145 @@
+package edu.ncsu.csc216.pack_scheduler.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests Histogram and Timer. The class specifically tests recording, the exact statistics, percentiles within
+ * the bucket precision, merging, reset, and recording from several threads at once.
+ *
+ * @author Maxim Shelepov
+ */
+class HistogramTest {
+
+	/**
+	 * Test method for Histogram constructor.
+	 */
+	@Test
+	void testHistogram() {
+		Histogram h = new Histogram();
+		assertEquals(0, h.getCount());
+		assertEquals(0, h.getMean());
+		assertEquals(0, h.getMin());
+		assertEquals(0, h.getMax());
+		assertEquals(0, h.getValueAtPercentile(50));
+	}
+
+	/**
+	 * Test method for record() and the statistics.
+	 */
+	@Test
+	void testRecord() {
+		Histogram h = new Histogram();
+		for (int i = 1; i <= 100; i++) {
+			h.record(i);
+		}
+		assertEquals(100, h.getCount());
+		assertEquals(5050, h.getSum());
+		assertEquals(50.5, h.getMean());
+		assertEquals(1, h.getMin());
+		assertEquals(100, h.getMax());
+		// small values have a bucket each
+		assertEquals(50, h.getValueAtPercentile(50));
+		assertEquals(99, h.getValueAtPercentile(99));
+		assertEquals(100, h.getValueAtPercentile(100));
+		assertEquals(1, h.getValueAtPercentile(0));
+
+		assertThrows(IllegalArgumentException.class, () -> h.record(-1));
+		assertThrows(IllegalArgumentException.class, () -> h.getValueAtPercentile(101));
+		assertEquals(100, h.getCount());
+	}
+
+	/**
+	 * Tests that large values are reported within the bucket precision.
+	 */
+	@Test
+	void testPrecision() {
+		Histogram h = new Histogram();
+		Random random = new Random(216);
+		long[] values = new long[10000];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = (long) Math.exp(random.nextDouble() * 30);
+			h.record(values[i]);
+		}
+		java.util.Arrays.sort(values);
+		for (double p : new double[] {10, 50, 90, 99, 99.9}) {
+			long exact = values[(int) Math.ceil(p / 100 * values.length) - 1];
+			long reported = h.getValueAtPercentile(p);
+			assertTrue(reported >= exact, "p" + p);
+			assertTrue(reported <= exact + exact / 128 + 1, "p" + p);
+		}
+		assertEquals(values[values.length - 1], h.getMax());
+		assertEquals(values[values.length - 1], h.getValueAtPercentile(100));
+
+		h.record(Long.MAX_VALUE);
+		assertEquals(Long.MAX_VALUE, h.getValueAtPercentile(100));
+	}
+
+	/**
+	 * Test method for add() and reset().
+	 */
+	@Test
+	void testAddAndReset() {
+		Histogram a = new Histogram();
+		Histogram b = new Histogram();
+		a.record(10);
+		b.record(5);
+		b.record(1000);
+		a.add(b);
+		assertEquals(3, a.getCount());
+		assertEquals(1015, a.getSum());
+		assertEquals(5, a.getMin());
+		assertEquals(1000, a.getMax());
+		assertEquals(2, b.getCount());
+
+		a.add(new Histogram());
+		assertEquals(5, a.getMin());
+
+		a.reset();
+		assertEquals(0, a.getCount());
+		assertEquals(0, a.getMin());
+		assertEquals(0, a.getMax());
+		assertEquals(0, a.getValueAtPercentile(99));
+	}
+
+	/**
+	 * Tests that values recorded from several threads at once are all counted.
+	 * @throws InterruptedException if interrupted while waiting for the threads
+	 */
+	@Test
+	void testConcurrentRecord() throws InterruptedException {
+		Histogram h = new Histogram();
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < 10000; i++) {
+					h.record(i);
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread t : threads) {
+			t.join();
+		}
+		assertEquals(40000, h.getCount());
+		assertEquals(4L * 9999 * 10000 / 2, h.getSum());
+		assertEquals(9999, h.getMax());
+	}
+
+	/**
+	 * Test method for Timer start() and stop().
+	 */
+	@Test
+	void testTimer() {
+		Timer timer = MetricsRegistry.getInstance().timer("histogram_test_seconds");
+		timer.reset();
+		long start = timer.start();
+		long elapsed = timer.stop(start);
+		assertTrue(elapsed >= 0);
+		assertEquals(1, timer.getCount());
+		assertEquals(elapsed, timer.getMax());
+	}
+}
@@ -0,0 +1,152 @@
+package edu.ncsu.csc216.pack_scheduler.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests MetricsRegistry. The class specifically tests creating and looking up counters, timers, and histograms,
+ * name validation, reset, and the text and Prometheus snapshots.
+ *
+ * @author Maxim Shelepov
+ */
+class MetricsRegistryTest {
+	/** The registry under test */
+	private MetricsRegistry registry;
+
+	/**
+	 * Clears the recorded values before each test.
+	 */
+	@BeforeEach
+	void setUp() {
+		registry = MetricsRegistry.getInstance();
+		registry.reset();
+	}
+
+	/**
+	 * Test method for counter().
+	 */
+	@Test
+	void testCounter() {
+		Counter c = registry.counter("test_events_total");
+		assertSame(c, registry.counter("test_events_total"));
+		c.increment();
+		c.add(2);
+		assertEquals(3, c.getCount());
+		assertThrows(IllegalArgumentException.class, () -> c.add(-1));
+
+		Counter labeled = registry.counter("test_events_total", "kind", "other");
+		assertNotSame(c, labeled);
+		assertEquals(0, labeled.getCount());
+		assertEquals("test_events_total{kind=\"other\"}", labeled.getKey());
+		assertEquals("kind", labeled.getLabelName());
+		assertEquals("other", labeled.getLabelValue());
+
+		registry.reset();
+		assertEquals(0, c.getCount());
+		assertSame(c, registry.counter("test_events_total"));
+	}
+
+	/**
+	 * Tests that invalid names and names of another kind of metric are rejected.
+	 */
+	@Test
+	void testInvalidMetric() {
+		registry.counter("test_kind_total");
+		assertThrows(IllegalArgumentException.class, () -> registry.timer("test_kind_total"));
+		assertThrows(IllegalArgumentException.class, () -> registry.histogram("test_kind_total", "a", "b"));
+		assertThrows(IllegalArgumentException.class, () -> registry.counter("9lives"));
+		assertThrows(IllegalArgumentException.class, () -> registry.counter("has space"));
+		assertThrows(IllegalArgumentException.class, () -> registry.counter(null));
+		assertThrows(IllegalArgumentException.class, () -> registry.counter("test_kind_total", "bad-label", "x"));
+		assertThrows(IllegalArgumentException.class, () -> registry.counter("test_kind_total", "label", "say \"hi\""));
+		assertThrows(IllegalArgumentException.class, () -> registry.counter("test_kind_total", "label", null));
+	}
+
+	/**
+	 * Test method for getMetrics().
+	 */
+	@Test
+	void testGetMetrics() {
+		registry.counter("test_sorted_total", "k", "b");
+		registry.counter("test_sorted_total");
+		registry.counter("test_sorted_total", "k", "a");
+		List<Metric> metrics = registry.getMetrics();
+		int first = -1;
+		for (int i = 0; i < metrics.size(); i++) {
+			if (metrics.get(i).getName().equals("test_sorted_total")) {
+				first = i;
+				break;
+			}
+		}
+		assertEquals("test_sorted_total", metrics.get(first).getKey());
+		assertEquals("a", metrics.get(first + 1).getLabelValue());
+		assertEquals("b", metrics.get(first + 2).getLabelValue());
+	}
+
+	/**
+	 * Test method for toText().
+	 */
+	@Test
+	void testToText() {
+		registry.counter("test_text_total", "result", "ok").add(4);
+		Timer t = registry.timer("test_text_seconds");
+		t.record(2000);
+		t.record(4000);
+		String text = registry.toText();
+		assertTrue(text.contains("test_text_total{result=\"ok\"} 4\n"), text);
+		assertTrue(text.contains("test_text_seconds count=2 mean=3.0 "), text);
+		assertTrue(text.contains("max=4.0us\n"), text);
+	}
+
+	/**
+	 * Test method for toPrometheus().
+	 */
+	@Test
+	void testToPrometheus() {
+		registry.counter("test_prom_total", "result", "ok").add(4);
+		registry.counter("test_prom_total", "result", "failed").increment();
+		Timer t = registry.timer("test_prom_seconds", "file", "course");
+		t.record(1000000);
+		t.record(3000000);
+		Histogram h = registry.histogram("test_prom_size");
+		h.record(7);
+
+		String text = registry.toPrometheus();
+		assertEquals(text.indexOf("# TYPE pack_scheduler_test_prom_total counter\n"),
+				text.lastIndexOf("# TYPE pack_scheduler_test_prom_total"));
+		assertTrue(text.contains("# TYPE pack_scheduler_test_prom_total counter\n"
+				+ "pack_scheduler_test_prom_total{result=\"failed\"} 1\n"
+				+ "pack_scheduler_test_prom_total{result=\"ok\"} 4\n"), text);
+		assertTrue(text.contains("# TYPE pack_scheduler_test_prom_seconds summary\n"), text);
+		assertTrue(text.contains("pack_scheduler_test_prom_seconds{file=\"course\",quantile=\"0.5\"} 0.001"), text);
+		assertTrue(text.contains("pack_scheduler_test_prom_seconds_sum{file=\"course\"} 0.004\n"), text);
+		assertTrue(text.contains("pack_scheduler_test_prom_seconds_count{file=\"course\"} 2\n"), text);
+		assertTrue(text.contains("pack_scheduler_test_prom_size{quantile=\"0.99\"} 7\n"), text);
+		assertTrue(text.contains("pack_scheduler_test_prom_size_count 1\n"), text);
+	}
+
+	/**
+	 * Test method for savePrometheus() and saveText().
+	 * @throws Exception if the saved file cannot be read
+	 */
+	@Test
+	void testSave() throws Exception {
+		registry.counter("test_save_total").increment();
+		File file = new File("test-files/actual_metrics.prom");
+		registry.savePrometheus(file.getPath());
+		assertEquals(registry.toPrometheus(), new String(Files.readAllBytes(file.toPath()), "UTF-8"));
+		assertFalse(new File("test-files/actual_metrics.prom.tmp").exists());
+
+		registry.saveText(file.getPath());
+		assertEquals(registry.toText(), new String(Files.readAllBytes(file.toPath()), "UTF-8"));
+		file.delete();
+
+		assertThrows(IllegalArgumentException.class, () -> registry.savePrometheus("/home/sesmith5/actual_metrics.prom"));
+	}
+}
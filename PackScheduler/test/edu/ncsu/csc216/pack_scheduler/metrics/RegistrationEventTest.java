@@ -0,0 +1,138 @@
+package edu.ncsu.csc216.pack_scheduler.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.pack_scheduler.catalog.CourseCatalog;
+import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.course.roll.CourseRoll;
+import edu.ncsu.csc216.pack_scheduler.manager.RegistrationManager;
+import edu.ncsu.csc216.pack_scheduler.user.Student;
+import edu.ncsu.csc216.pack_scheduler.user.schedule.Schedule;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Tests the Flight Recorder events of PackScheduler by recording them while registering, then reading the
+ * recording back. The class specifically tests EnrollEvent, DropEvent, WaitlistPromotionEvent,
+ * ScheduleConflictEvent, and RecordLoadEvent.
+ *
+ * @author Maxim Shelepov
+ */
+class RegistrationEventTest {
+
+	/**
+	 * Tests that registering records each event with its fields.
+	 * @throws Exception if the recording cannot be written or read
+	 */
+	@Test
+	void testEvents() throws Exception {
+		RegistrationManager manager = RegistrationManager.getInstance();
+		manager.logout();
+		manager.clearData();
+		List<RecordedEvent> events;
+
+		try (Recording recording = new Recording()) {
+			recording.enable(EnrollEvent.class);
+			recording.enable(DropEvent.class);
+			recording.enable(WaitlistPromotionEvent.class);
+			recording.enable(ScheduleConflictEvent.class);
+			recording.enable(RecordLoadEvent.class);
+			recording.start();
+
+			manager.getStudentDirectory().loadStudentsFromFile("test-files/student_records.txt");
+			CourseCatalog catalog = manager.getCourseCatalog();
+			catalog.loadCoursesFromFile("test-files/course_records.txt");
+			manager.login("ahicks", "pw");
+			Course csc216 = catalog.getCourseFromCatalog("CSC216", "001");
+			assertTrue(manager.enrollStudentInCourse(csc216));
+			assertFalse(manager.enrollStudentInCourse(csc216));
+			assertTrue(manager.dropStudentFromCourse(csc216));
+			manager.logout();
+
+			Schedule schedule = new Schedule();
+			schedule.addCourseToSchedule(csc216);
+			assertThrows(IllegalArgumentException.class,
+					() -> schedule.addCourseToSchedule(catalog.getCourseFromCatalog("CSC216", "002")));
+
+			Course small = new Course("CSC316", "Data Structures and Algorithms", "001", 3, null, 10, "A");
+			CourseRoll roll = small.getCourseRoll();
+			Student[] students = new Student[11];
+			for (int i = 0; i < students.length; i++) {
+				students[i] = new Student("First", "Last", "student" + i, "student" + i + "@ncsu.edu", "pw", 18);
+				roll.enroll(students[i]);
+			}
+			roll.drop(students[0]);
+
+			recording.stop();
+			Path file = Files.createTempFile("pack_scheduler", ".jfr");
+			recording.dump(file);
+			events = RecordingFile.readAllEvents(file);
+			Files.delete(file);
+		}
+
+		List<RecordedEvent> enrolls = named(events, "edu.ncsu.csc216.pack_scheduler.Enroll");
+		assertEquals(2, enrolls.size());
+		assertEquals("ahicks", enrolls.get(0).getString("studentId"));
+		assertEquals("CSC216", enrolls.get(0).getString("courseName"));
+		assertEquals("001", enrolls.get(0).getString("section"));
+		assertEquals("enrolled", enrolls.get(0).getString("outcome"));
+		assertEquals("duplicate", enrolls.get(1).getString("outcome"));
+
+		List<RecordedEvent> drops = named(events, "edu.ncsu.csc216.pack_scheduler.Drop");
+		assertEquals(1, drops.size());
+		assertEquals("ahicks", drops.get(0).getString("studentId"));
+		assertTrue(drops.get(0).getBoolean("dropped"));
+
+		List<RecordedEvent> conflicts = named(events, "edu.ncsu.csc216.pack_scheduler.ScheduleConflict");
+		assertEquals(1, conflicts.size());
+		assertEquals("002", conflicts.get(0).getString("section"));
+		assertEquals("001", conflicts.get(0).getString("scheduledSection"));
+		assertEquals("duplicate", conflicts.get(0).getString("reason"));
+
+		List<RecordedEvent> promotions = named(events, "edu.ncsu.csc216.pack_scheduler.WaitlistPromotion");
+		assertEquals(1, promotions.size());
+		assertEquals("CSC316", promotions.get(0).getString("courseName"));
+		assertEquals(1, promotions.get(0).getInt("openSeats"));
+		assertEquals(1, promotions.get(0).getInt("promoted"));
+		assertEquals(0, promotions.get(0).getInt("waitlisted"));
+		assertEquals("student10", promotions.get(0).getString("promotedIds"));
+		assertFalse(promotions.get(0).getBoolean("failed"));
+
+		List<RecordedEvent> loads = named(events, "edu.ncsu.csc216.pack_scheduler.RecordLoad");
+		assertEquals(2, loads.size());
+		assertEquals("test-files/student_records.txt", loads.get(0).getString("fileName"));
+		assertEquals("student", loads.get(0).getString("recordType"));
+		assertEquals(10, loads.get(0).getInt("recordsRead"));
+		assertEquals("course", loads.get(1).getString("recordType"));
+		assertEquals(13, loads.get(1).getInt("recordsRead"));
+		// the file repeats CSC116-002
+		assertEquals(1, loads.get(1).getInt("recordsSkipped"));
+
+		manager.clearData();
+	}
+
+	/**
+	 * Returns the events with a name, in the order they were recorded.
+	 * @param events the recorded events
+	 * @param name the name of the event type
+	 * @return the events with the name
+	 */
+	private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+		List<RecordedEvent> matching = new ArrayList<RecordedEvent>();
+		for (RecordedEvent e : events) {
+			if (e.getEventType().getName().equals(name)) {
+				matching.add(e);
+			}
+		}
+		matching.sort((a, b) -> a.getStartTime().compareTo(b.getStartTime()));
+		return matching;
+	}
+}
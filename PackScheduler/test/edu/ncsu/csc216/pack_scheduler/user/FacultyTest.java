@@ -12,6 +12,13 @@ class FacultyTest {
 		Faculty f2 = new Faculty("Charles", "Browne", "awdaw", "akldnwla@kdn.awdawd", "IDK", 2);
 		assertEquals(f.hashCode(), f.hashCode());
 		assertNotEquals(f.hashCode(), f2.hashCode());
+		
+		// cached hash code follows setter changes
+		int original = f.hashCode();
+		f.setMaxCourses(3);
+		assertNotEquals(original, f.hashCode());
+		f.setMaxCourses(2);
+		assertEquals(original, f.hashCode());
 	}
 
 	@Test
@@ -277,6 +277,44 @@ class StudentTest {
 
 	}	
 
+	/**
+	 * Test that the cached hashCode() is invalidated by every setter, and test the id-only equality.
+	 */
+	@Test
+	public void testHashCodeCache() {
+		Student s1 = new Student(FIRST_NAME, LAST_NAME, UNITY_ID, EMAIL_ID, PASSWORD, MAX_CREDITS);
+		Student s2 = new Student(FIRST_NAME, LAST_NAME, UNITY_ID, EMAIL_ID, PASSWORD, MAX_CREDITS);
+		int original = s1.hashCode();
+		assertEquals(original, s1.hashCode());
+
+		s1.setFirstName("DIFFERENT");
+		assertNotEquals(original, s1.hashCode());
+		assertNotEquals(s1, s2);
+		s1.setFirstName(FIRST_NAME);
+		assertEquals(original, s1.hashCode());
+		assertEquals(s1, s2);
+
+		s1.setLastName("DIFFERENT");
+		assertNotEquals(original, s1.hashCode());
+		s1.setLastName(LAST_NAME);
+		s1.setEmail("different@ncsu.edu");
+		assertNotEquals(original, s1.hashCode());
+		s1.setEmail(EMAIL_ID);
+		s1.setPassword("different");
+		assertNotEquals(original, s1.hashCode());
+		s1.setPassword(PASSWORD);
+		s1.setMaxCredits(15);
+		assertNotEquals(original, s1.hashCode());
+		assertNotEquals(s1, s2);
+
+		// id-only equality ignores the other fields
+		assertTrue(s1.equalsById(s2));
+		assertEquals(s1.hashCodeById(), s2.hashCodeById());
+		assertFalse(s1.equalsById(new Student(FIRST_NAME, LAST_NAME, "DIFFERENT", EMAIL_ID, PASSWORD)));
+		assertFalse(s1.equalsById(new Faculty(FIRST_NAME, LAST_NAME, UNITY_ID, EMAIL_ID, PASSWORD, 2)));
+		assertFalse(s1.equalsById(null));
+	}
+
 	/**
 	 * Test Student toString() method.
 	 */
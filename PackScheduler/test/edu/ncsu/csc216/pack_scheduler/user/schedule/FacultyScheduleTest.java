@@ -208,4 +208,26 @@ public class FacultyScheduleTest {
 		schedule.addCourseToSchedule(catalog.getCourseFromCatalog("CSC230", "001"));
 		assertEquals("Schedule.resetSchedule() - Added CSC216-001, CSC226-001, and CSC116-002.  Reset schedule.  Added CSC230-001 to ensure schedule is not broken.  Length should be 1, but was not.", 1, schedule.getScheduledCourses().length);
 	}
+	/**
+	 * Test FacultySchedule.canAssign().
+	 */
+	@Test
+	public void testCanAssign() {
+		Faculty f = new Faculty("Sarah", "Heckman", "sesmith5", "sesmith5@ncsu.edu", "pw", 2);
+		FacultySchedule schedule = f.getSchedule();
+		Course csc216 = catalog.getCourseFromCatalog("CSC216", "001");
+		Course csc116 = catalog.getCourseFromCatalog("CSC116", "001");
+		Course csc226 = catalog.getCourseFromCatalog("CSC226", "001");
+		assertFalse(schedule.canAssign(null));
+		assertTrue(schedule.canAssign(csc216));
+		
+		schedule.addCourseToSchedule(csc216);
+		assertFalse("CSC216-001 already has an instructor.", schedule.canAssign(csc216));
+		assertTrue(schedule.canAssign(csc226));
+		
+		schedule.addCourseToSchedule(csc226);
+		assertFalse("CSC116-001 conflicts with CSC226-001.", schedule.canAssign(csc116));
+		assertEquals(2, schedule.getNumScheduledCourses());
+	}
+	
 }
\ No newline at end of file
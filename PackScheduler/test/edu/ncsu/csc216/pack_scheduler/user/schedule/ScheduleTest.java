@@ -5,9 +5,12 @@ package edu.ncsu.csc216.pack_scheduler.user.schedule;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Iterator;
+
 import org.junit.jupiter.api.Test;
 
 import edu.ncsu.csc216.pack_scheduler.course.Course;
+import edu.ncsu.csc216.pack_scheduler.course.roll.EnrollResult;
 
 /**
  * Test class for Schedule object. Tests the objects get, add, remove, and reset functionality for schedule. In addition to
@@ -93,6 +96,114 @@ class ScheduleTest {
 		
 	}
 	
+	/**
+	 * Tests that the running credit total follows adds, removes, and resets, and tests canAdd() with a credit limit.
+	 */
+	@Test
+	void testCanAddWithCredits() {
+		Schedule s = new Schedule();
+		Course c1 = new Course("CSC217", "Lab Java", "001", 1, "sbob", 10, "W", 1020, 1230);
+		Course c2 = new Course("CSC230", "CLanguage", "004", 3, "rhill", 10, "MF", 1030, 1130);
+		Course c3 = new Course("CSC333", "Automata", "003", 3, "ebob", 10, "MW", 845, 945);
+		Course c4 = new Course("CSC316", "Data Structures", "001", 3, "jdyoung2", 10, "TH", 1330, 1445);
+		Course conflict = new Course("CSC226", "Discrete", "001", 3, "tmbarnes", 10, "M", 900, 950);
+		s.addCourseToSchedule(c1);
+		s.addCourseToSchedule(c2);
+		assertEquals(4, s.getScheduleCredits());
+		
+		assertTrue(s.canAdd(c3, 7));
+		assertFalse(s.canAdd(c3, 6));
+		assertFalse(s.canAdd(null, 18));
+		assertFalse(s.canAdd(c1, 18));
+		
+		s.addCourseToSchedule(c3);
+		assertEquals(7, s.getScheduleCredits());
+		assertFalse(s.canAdd(conflict, 18));
+		assertTrue(s.canAdd(c4, 10));
+		
+		assertTrue(s.removeCourseFromSchedule(c2));
+		assertEquals(4, s.getScheduleCredits());
+		assertFalse(s.removeCourseFromSchedule(c2));
+		assertEquals(4, s.getScheduleCredits());
+		
+		s.resetSchedule();
+		assertEquals(0, s.getScheduleCredits());
+		assertTrue(s.canAdd(c4, 3));
+	}
+	
+	/**
+	 * Tests that the credit total, credit checks, and removes follow a change to a scheduled course's credits.
+	 */
+	@Test
+	void testSetCreditsWhileScheduled() {
+		Schedule s = new Schedule();
+		Course c1 = new Course("CSC217", "Lab Java", "001", 1, "sbob", 10, "W", 1020, 1230);
+		Course c2 = new Course("CSC230", "CLanguage", "004", 3, "rhill", 10, "MF", 1030, 1130);
+		Course c3 = new Course("CSC333", "Automata", "003", 3, "ebob", 10, "MW", 845, 945);
+		s.addCourseToSchedule(c1);
+		s.addCourseToSchedule(c2);
+		assertTrue(s.canAdd(c3, 7));
+		
+		c2.setCredits(4);
+		assertFalse(s.canAdd(c3, 7));
+		assertEquals(EnrollResult.OVER_CREDITS, s.checkAdd(c3, 7));
+		assertTrue(s.canAdd(c3, 8));
+		assertEquals(5, s.getScheduleCredits());
+		
+		// a change right before a remove doesn't leave the total off
+		c2.setCredits(2);
+		assertTrue(s.removeCourseFromSchedule(c2));
+		assertEquals(1, s.getScheduleCredits());
+		assertTrue(s.removeCourseFromSchedule(c1));
+		assertEquals(0, s.getScheduleCredits());
+	}
+	
+	/**
+	 * Tests checkAdd(), which returns why a course can't be added.
+	 */
+	@Test
+	void testCheckAdd() {
+		Schedule s = new Schedule();
+		Course c1 = new Course("CSC217", "Lab Java", "001", 1, "sbob", 10, "W", 1020, 1230);
+		Course c2 = new Course("CSC230", "CLanguage", "004", 3, "rhill", 10, "MF", 1030, 1130);
+		Course conflict = new Course("CSC226", "Discrete", "001", 3, "tmbarnes", 10, "M", 1100, 1150);
+		Course otherSection = new Course("CSC230", "CLanguage", "001", 3, "rhill", 10, "W", 1100, 1150);
+		s.addCourseToSchedule(c1);
+		s.addCourseToSchedule(c2);
+		
+		assertEquals(EnrollResult.INVALID, s.checkAdd(null, 18));
+		assertEquals(EnrollResult.OVER_CREDITS, s.checkAdd(conflict, 6));
+		assertEquals(EnrollResult.CONFLICT, s.checkAdd(conflict, 18));
+		// a scheduled section of the course is reported before its conflict with CSC217
+		assertEquals(EnrollResult.DUPLICATE, s.checkAdd(otherSection, 18));
+		assertEquals(EnrollResult.DUPLICATE, s.checkAdd(c1, 18));
+		assertEquals(EnrollResult.ENROLLED, s.checkAdd(new Course("CSC316", "Data Structures", "001", 3, "jdyoung2", 10, "TH", 1330, 1445), 7));
+	}
+	
+	/**
+	 * Tests canReplace() which checks a schedule with one course swapped for another.
+	 */
+	@Test
+	void testCanReplace() {
+		Schedule s = new Schedule();
+		Course c1 = new Course("CSC216", "Programming Concepts", "001", 3, "sesmith5", 10, "TH", 1330, 1445);
+		Course c2 = new Course("CSC216", "Programming Concepts", "002", 3, "ixdoming", 10, "MW", 1330, 1445);
+		Course c3 = new Course("CSC216", "Programming Concepts", "003", 4, "ixdoming", 10, "F", 1330, 1445);
+		Course c4 = new Course("CSC226", "Discrete", "001", 3, "tmbarnes", 10, "MW", 1400, 1500);
+		s.addCourseToSchedule(c1);
+		
+		assertTrue(s.canReplace(c1, c2, 3));
+		assertFalse(s.canReplace(c1, c3, 3));
+		assertTrue(s.canReplace(c1, c3, 4));
+		assertFalse(s.canReplace(c1, null, 18));
+		assertFalse(s.canReplace(null, c2, 18));
+		
+		s.addCourseToSchedule(c4);
+		assertFalse(s.canReplace(c1, c2, 18));
+		assertTrue(s.canReplace(c1, c3, 18));
+		assertFalse(s.canReplace(c4, c2, 18));
+	}
+	
 	/**
 	 * Removes a course from the schedule and determines if it was removed from the schedule.
 	 */
@@ -105,9 +216,12 @@ class ScheduleTest {
 		s.addCourseToSchedule(c1);
 		s.addCourseToSchedule(c2);
 		s.addCourseToSchedule(c3);
+		assertTrue(s.contains(c3));
 		s.removeCourseFromSchedule(c3);
 		String str[][] = s.getScheduledCourses();
 		assertEquals(2, str.length);
+		assertFalse(s.contains(c3));
+		assertTrue(s.contains(c1));
 	}
 	
 	/**
@@ -144,6 +258,32 @@ class ScheduleTest {
 		assertEquals("W 10:20AM-12:30PM", str[0][3]);
 	}
 	
+	/**
+	 * Tests iterating the scheduled courses.
+	 */
+	@Test
+	void testIterator() {
+		Schedule s = new Schedule();
+		Course c1 = new Course("CSC217", "Lab Java", "001", 1, "sbob", 10, "W", 1020, 1230);
+		Course c2 = new Course("CSC230", "CLanguage", "004", 3, "rhill", 10, "MF", 1030, 1130);
+		assertFalse(s.iterator().hasNext());
+		s.addCourseToSchedule(c1);
+		s.addCourseToSchedule(c2);
+		assertEquals(2, s.getNumScheduledCourses());
+		
+		Iterator<Course> it = s.iterator();
+		assertSame(c1, it.next());
+		assertSame(c2, it.next());
+		assertFalse(it.hasNext());
+		assertThrows(UnsupportedOperationException.class, () -> s.iterator().remove());
+		
+		int credits = 0;
+		for (Course c : s) {
+			credits += c.getCredits();
+		}
+		assertEquals(s.getScheduleCredits(), credits);
+	}
+	
 	/**
 	 * Sets titles and determines if the titles were added successfully.
 	 */
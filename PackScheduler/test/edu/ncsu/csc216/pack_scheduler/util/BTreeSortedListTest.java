@@ -0,0 +1,222 @@
+package edu.ncsu.csc216.pack_scheduler.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the BTreeSortedList. The class specifically tests that it behaves like SortedList for adding, getting,
+ * finding, and removing elements, iteration, and random adds and removes large enough to split and merge inner
+ * nodes against java.util.TreeSet.
+ *
+ * @author Maxim Shelepov
+ */
+class BTreeSortedListTest {
+
+	/**
+	 * Test method for BTreeSortedList constructor.
+	 */
+	@Test
+	void testBTreeSortedList() {
+		BTreeSortedList<String> list = new BTreeSortedList<String>();
+		assertEquals(0, list.size());
+		assertTrue(list.isEmpty());
+		assertFalse(list.contains("apple"));
+		assertFalse(list.iterator().hasNext());
+	}
+
+	/**
+	 * Test method for add() and get().
+	 */
+	@Test
+	void testAdd() {
+		BTreeSortedList<String> list = new BTreeSortedList<String>();
+		assertTrue(list.add("banana"));
+		assertTrue(list.add("apple"));
+		assertTrue(list.add("cherry"));
+		assertEquals(3, list.size());
+		assertEquals("apple", list.get(0));
+		assertEquals("banana", list.get(1));
+		assertEquals("cherry", list.get(2));
+
+		Exception e = assertThrows(IllegalArgumentException.class, () -> list.add("apple"));
+		assertEquals("Element already in list.", e.getMessage());
+		assertThrows(NullPointerException.class, () -> list.add(null));
+		assertEquals(3, list.size());
+
+		assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+		assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+
+		// enough elements to split leaves and inner nodes
+		BTreeSortedList<Integer> numbers = new BTreeSortedList<Integer>();
+		for (int i = 9999; i >= 0; i--) {
+			numbers.add(i * 2);
+		}
+		assertEquals(10000, numbers.size());
+		for (int i = 0; i < 10000; i++) {
+			assertEquals(i * 2, numbers.get(i).intValue());
+		}
+		assertThrows(IllegalArgumentException.class, () -> numbers.add(5000));
+		assertEquals(10000, numbers.size());
+	}
+
+	/**
+	 * Test method for indexOf(), contains(), and find().
+	 */
+	@Test
+	void testIndexOf() {
+		BTreeSortedList<Integer> list = new BTreeSortedList<Integer>();
+		assertEquals(-1, list.indexOf(1));
+		for (int i = 0; i < 5000; i++) {
+			list.add(i * 3);
+		}
+		for (int i = 0; i < 5000; i++) {
+			assertEquals(i, list.indexOf(i * 3));
+			assertEquals(-1, list.indexOf(i * 3 + 1));
+			assertTrue(list.contains(i * 3));
+			assertFalse(list.contains(i * 3 + 2));
+		}
+		assertThrows(NullPointerException.class, () -> list.indexOf(null));
+		assertFalse(list.contains(null));
+
+		Integer big = Integer.valueOf(3000);
+		assertSame(list.get(1000), list.find(big));
+		assertNull(list.find(3001));
+	}
+
+	/**
+	 * Test method for remove(int) and remove(E).
+	 */
+	@Test
+	void testRemove() {
+		BTreeSortedList<String> list = new BTreeSortedList<String>();
+		list.add("apple");
+		list.add("banana");
+		list.add("cherry");
+		assertEquals("banana", list.remove(1));
+		assertEquals(2, list.size());
+		assertEquals("cherry", list.get(1));
+		assertThrows(IndexOutOfBoundsException.class, () -> list.remove(2));
+		assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+		assertTrue(list.remove("apple"));
+		assertFalse(list.remove("apple"));
+		assertEquals("cherry", list.get(0));
+
+		// drain a multi level tree from the front and the back
+		BTreeSortedList<Integer> numbers = new BTreeSortedList<Integer>();
+		for (int i = 0; i < 10000; i++) {
+			numbers.add(i);
+		}
+		for (int i = 0; i < 5000; i++) {
+			assertEquals(i, numbers.remove(0).intValue());
+			assertEquals(9999 - i, numbers.remove(numbers.size() - 1).intValue());
+		}
+		assertTrue(numbers.isEmpty());
+		numbers.add(1);
+		assertEquals(1, numbers.get(0).intValue());
+	}
+
+	/**
+	 * Test method for clear().
+	 */
+	@Test
+	void testClear() {
+		BTreeSortedList<Integer> list = new BTreeSortedList<Integer>();
+		for (int i = 0; i < 1000; i++) {
+			list.add(i);
+		}
+		list.clear();
+		assertEquals(0, list.size());
+		assertFalse(list.contains(5));
+		list.add(5);
+		assertEquals(1, list.size());
+	}
+
+	/**
+	 * Test method for iterator().
+	 */
+	@Test
+	void testIterator() {
+		BTreeSortedList<Integer> list = new BTreeSortedList<Integer>();
+		for (int i = 2999; i >= 0; i--) {
+			list.add(i);
+		}
+		int expected = 0;
+		for (int value : list) {
+			assertEquals(expected++, value);
+		}
+		assertEquals(3000, expected);
+
+		Iterator<Integer> it = list.iterator();
+		assertThrows(IllegalStateException.class, () -> it.remove());
+		while (it.hasNext()) {
+			if (it.next() % 2 == 1) {
+				it.remove();
+			}
+		}
+		assertThrows(NoSuchElementException.class, () -> it.next());
+		assertEquals(1500, list.size());
+		for (int i = 0; i < 1500; i++) {
+			assertEquals(i * 2, list.get(i).intValue());
+		}
+
+		Iterator<Integer> stale = list.iterator();
+		stale.next();
+		list.add(1);
+		assertThrows(ConcurrentModificationException.class, () -> stale.next());
+	}
+
+	/**
+	 * Tests random adds and removes, by element and by index, over a range large enough to split and merge
+	 * inner nodes, against java.util.TreeSet.
+	 */
+	@Test
+	void testAgainstTreeSet() {
+		BTreeSortedList<Integer> list = new BTreeSortedList<Integer>();
+		TreeSet<Integer> expected = new TreeSet<Integer>();
+		Random random = new Random(216);
+		for (int round = 0; round < 4; round++) {
+			// grow for two rounds, then shrink for two
+			int addPercent = round < 2 ? 70 : 30;
+			for (int i = 0; i < 40000; i++) {
+				int value = random.nextInt(20000);
+				int op = random.nextInt(100);
+				if (op < addPercent) {
+					if (expected.add(value)) {
+						list.add(value);
+					} else {
+						assertThrows(IllegalArgumentException.class, () -> list.add(value));
+					}
+				} else if (op < addPercent + (100 - addPercent) / 2 || expected.isEmpty()) {
+					assertEquals(expected.remove(value), list.remove(Integer.valueOf(value)));
+				} else {
+					int idx = random.nextInt(expected.size());
+					Integer removed = list.remove(idx);
+					assertEquals(idx, expected.headSet(removed).size());
+					assertTrue(expected.remove(removed));
+				}
+				assertEquals(expected.size(), list.size());
+			}
+
+			List<Integer> actual = new ArrayList<Integer>();
+			for (int value : list) {
+				actual.add(value);
+			}
+			assertEquals(new ArrayList<Integer>(expected), actual);
+			int idx = 0;
+			for (int value : expected) {
+				assertEquals(value, list.get(idx).intValue());
+				assertEquals(idx, list.indexOf(value));
+				idx++;
+			}
+		}
+	}
+}
@@ -0,0 +1,212 @@
+package edu.ncsu.csc216.pack_scheduler.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the HeapQueue priority queue, including first in, first out order for equal priorities and removing
+ * elements from the middle of the heap.
+ *
+ * @author Maxim Shelepov
+ */
+class HeapQueueTest {
+
+	/**
+	 * Test method for enqueue() and dequeue() with the default priority.
+	 */
+	@Test
+	void testFifo() {
+		HeapQueue<String> q = new HeapQueue<String>(3);
+		assertTrue(q.isEmpty());
+		q.enqueue("A");
+		q.enqueue("B");
+		q.enqueue("C");
+		assertEquals(3, q.size());
+		assertThrows(IllegalArgumentException.class, () -> q.enqueue("D"));
+		assertThrows(NullPointerException.class, () -> q.enqueue(null, 0));
+
+		assertEquals("A", q.peek());
+		assertEquals("A", q.dequeue());
+		assertEquals("B", q.dequeue());
+		assertEquals("C", q.dequeue());
+		assertTrue(q.isEmpty());
+		assertThrows(NoSuchElementException.class, () -> q.dequeue());
+		assertThrows(NoSuchElementException.class, () -> q.peek());
+	}
+
+	/**
+	 * Test method for enqueue() with priorities, remove(), contains(), and toArray().
+	 */
+	@Test
+	void testPriority() {
+		HeapQueue<String> q = new HeapQueue<String>(100);
+		q.enqueue("late1", 2);
+		q.enqueue("first1", 0);
+		q.enqueue("mid1", 1);
+		q.enqueue("first2", 0);
+		q.enqueue("late2", 2);
+		q.enqueue("mid2", 1);
+
+		assertArrayEquals(new Object[] {"first1", "first2", "mid1", "mid2", "late1", "late2"}, q.toArray());
+		assertEquals(6, q.size());
+		assertTrue(q.contains("mid1"));
+		assertThrows(IllegalArgumentException.class, () -> q.enqueue("mid1", 0));
+		assertEquals(6, q.size());
+		assertTrue(q.remove("mid1"));
+		assertFalse(q.remove("mid1"));
+		assertFalse(q.contains("mid1"));
+
+		assertEquals("first1", q.dequeue());
+		assertEquals("first2", q.dequeue());
+		assertEquals("mid2", q.dequeue());
+		assertEquals("late1", q.dequeue());
+		assertEquals("late2", q.dequeue());
+	}
+
+	/**
+	 * Test method for setCapacity() and growth past the initial backing arrays.
+	 */
+	@Test
+	void testCapacity() {
+		HeapQueue<Integer> q = new HeapQueue<Integer>(0);
+		assertEquals(0, q.getCapacity());
+		assertThrows(IllegalArgumentException.class, () -> q.enqueue(1));
+		assertThrows(IllegalArgumentException.class, () -> q.setCapacity(-1));
+		q.setCapacity(5000);
+
+		// random priorities come out sorted, ties in enqueue order
+		Random random = new Random(216);
+		for (int i = 0; i < 5000; i++) {
+			q.enqueue(i, random.nextInt(20));
+		}
+		assertThrows(IllegalArgumentException.class, () -> q.setCapacity(4999));
+		boolean[] removed = new boolean[5000];
+		for (int i = 0; i < 1000; i++) {
+			int value = random.nextInt(5000);
+			assertEquals(!removed[value], q.remove(value));
+			removed[value] = true;
+		}
+		for (int i = 0; i < 5000; i++) {
+			assertEquals(!removed[i], q.contains(i));
+		}
+
+		Object[] expected = q.toArray();
+		int lastPriority = -1;
+		int lastValue = -1;
+		Random replay = new Random(216);
+		int[] priorities = new int[5000];
+		for (int i = 0; i < 5000; i++) {
+			priorities[i] = replay.nextInt(20);
+		}
+		for (Object o : expected) {
+			int value = q.dequeue();
+			assertEquals(o, value);
+			int priority = priorities[value];
+			assertTrue(priority > lastPriority || (priority == lastPriority && value > lastValue));
+			lastPriority = priority;
+			lastValue = value;
+		}
+		assertTrue(q.isEmpty());
+	}
+
+	/**
+	 * Test method for removeFirst(), which keeps rejected elements in place.
+	 */
+	@Test
+	void testRemoveFirst() {
+		HeapQueue<Integer> q = new HeapQueue<Integer>(100);
+		for (int i = 0; i < 30; i++) {
+			q.enqueue(i, i % 3 == 0 ? 0 : 1);
+		}
+
+		// odd numbers only, at most 5: 3, 9, 15, 21, 27 have priority 0
+		ArrayList<Integer> removed = q.removeFirst(5, n -> n % 2 == 1);
+		assertEquals(5, removed.size());
+		assertEquals(3, removed.get(0));
+		assertEquals(27, removed.get(4));
+		assertEquals(25, q.size());
+
+		// the rejected even numbers kept their places
+		assertEquals(0, q.dequeue());
+		assertEquals(6, q.dequeue());
+		removed = q.removeFirst(100, n -> false);
+		assertEquals(0, removed.size());
+		assertEquals(23, q.size());
+		assertEquals(12, q.dequeue());
+		assertEquals(0, q.removeFirst(0, n -> true).size());
+		assertEquals(22, q.removeFirst(100, n -> true).size());
+		assertTrue(q.isEmpty());
+	}
+
+	/**
+	 * Test method for reinsert(), which puts elements removed by removeFirst() back in their old places.
+	 */
+	@Test
+	void testReinsert() {
+		HeapQueue<Integer> q = new HeapQueue<Integer>(10);
+		for (int i = 0; i < 6; i++) {
+			q.enqueue(i, i == 5 ? 0 : 1);
+		}
+		int[] priorities = new int[2];
+		long[] order = new long[2];
+		ArrayList<Integer> removed = q.removeFirst(2, n -> n % 2 == 1, priorities, order);
+		assertEquals(5, removed.get(0));
+		assertEquals(1, removed.get(1));
+		assertEquals(0, priorities[0]);
+		assertEquals(1, priorities[1]);
+
+		q.enqueue(6, 1);
+		for (int i = 0; i < removed.size(); i++) {
+			q.reinsert(removed.get(i), priorities[i], order[i]);
+		}
+		int[] expected = {5, 0, 1, 2, 3, 4, 6};
+		for (int value : expected) {
+			assertEquals(value, q.dequeue());
+		}
+
+		assertThrows(NullPointerException.class, () -> q.reinsert(null, 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> q.reinsert(1, 0, 7));
+		assertThrows(IllegalArgumentException.class, () -> q.reinsert(1, 0, -1));
+		HeapQueue<Integer> full = new HeapQueue<Integer>(1);
+		full.enqueue(1);
+		assertThrows(IllegalArgumentException.class, () -> full.reinsert(2, 0, 0));
+	}
+
+	/**
+	 * Test method for a HeapQueue with a key function, whose elements are still found after they change while
+	 * queued, and whose elements sharing a key are told apart with equals().
+	 */
+	@Test
+	void testKeyedElements() {
+		HeapQueue<java.util.ArrayList<String>> q = new HeapQueue<java.util.ArrayList<String>>(10, l -> l.get(0));
+		java.util.ArrayList<String> a = new java.util.ArrayList<String>(Arrays.asList("a", "1"));
+		java.util.ArrayList<String> b = new java.util.ArrayList<String>(Arrays.asList("b", "1"));
+		java.util.ArrayList<String> otherA = new java.util.ArrayList<String>(Arrays.asList("a", "2"));
+		q.enqueue(a);
+		q.enqueue(b);
+		q.enqueue(otherA);
+		assertThrows(IllegalArgumentException.class, () -> q.enqueue(new java.util.ArrayList<String>(b)));
+
+		// changing an element changes its hashCode() but not its key
+		a.add("changed");
+		assertTrue(q.contains(a));
+		assertThrows(IllegalArgumentException.class, () -> q.enqueue(a));
+		assertFalse(q.contains(new java.util.ArrayList<String>(Arrays.asList("a", "1"))));
+		assertTrue(q.contains(new java.util.ArrayList<String>(otherA)));
+		assertArrayEquals(new Object[] {a, b, otherA}, q.toArray());
+
+		assertTrue(q.remove(a));
+		assertFalse(q.contains(a));
+		assertFalse(q.remove(a));
+		assertTrue(q.contains(otherA));
+		assertFalse(q.contains(null));
+		assertSame(b, q.dequeue());
+		assertTrue(q.remove(new java.util.ArrayList<String>(otherA)));
+		assertTrue(q.isEmpty());
+	}
+}
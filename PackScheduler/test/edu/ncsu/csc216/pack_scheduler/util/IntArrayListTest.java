@@ -0,0 +1,121 @@
+package edu.ncsu.csc216.pack_scheduler.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the IntArrayList primitive list. The class specifically tests the add, remove, get, set, and search
+ * functionality.
+ *
+ * @author Maxim Shelepov
+ */
+class IntArrayListTest {
+
+	/**
+	 * Test method for IntArrayList constructors.
+	 */
+	@Test
+	void testIntArrayList() {
+		IntArrayList empty = new IntArrayList();
+		assertEquals(0, empty.size());
+		assertTrue(empty.isEmpty());
+
+		IntArrayList zeroCapacity = new IntArrayList(0);
+		zeroCapacity.add(5);
+		assertEquals(5, zeroCapacity.get(0));
+
+		Exception e = assertThrows(IllegalArgumentException.class, () -> new IntArrayList(-1));
+		assertEquals("Invalid capacity.", e.getMessage());
+	}
+
+	/**
+	 * Test method for add().
+	 */
+	@Test
+	void testAdd() {
+		IntArrayList list = new IntArrayList();
+
+		// add end
+		list.add(10);
+		list.add(0, 30);
+		assertEquals(2, list.size());
+		assertEquals(30, list.get(0));
+		assertEquals(10, list.get(1));
+
+		// add middle, duplicates allowed
+		list.add(1, 10);
+		assertArrayEquals(new int[] {30, 10, 10}, list.toArray());
+
+		// index out of bounds
+		Exception e = assertThrows(IndexOutOfBoundsException.class, () -> list.add(-1, 1));
+		assertEquals("Index out of bounds.", e.getMessage());
+		assertThrows(IndexOutOfBoundsException.class, () -> list.add(4, 1));
+
+		// increase capacity
+		for (int i = 0; i < 100; i++) {
+			list.add(i);
+		}
+		assertEquals(103, list.size());
+		assertEquals(99, list.get(102));
+	}
+
+	/**
+	 * Test method for remove() and removeLast().
+	 */
+	@Test
+	void testRemove() {
+		IntArrayList list = new IntArrayList();
+		assertThrows(IndexOutOfBoundsException.class, () -> list.remove(0));
+		assertThrows(IndexOutOfBoundsException.class, () -> list.removeLast());
+
+		for (int i = 1; i <= 5; i++) {
+			list.add(i * 100);
+		}
+		assertEquals(300, list.remove(2));
+		assertEquals(100, list.remove(0));
+		assertArrayEquals(new int[] {200, 400, 500}, list.toArray());
+		assertEquals(500, list.removeLast());
+		assertEquals(400, list.removeLast());
+		assertEquals(1, list.size());
+		assertThrows(IndexOutOfBoundsException.class, () -> list.remove(1));
+	}
+
+	/**
+	 * Test method for get() and set().
+	 */
+	@Test
+	void testGetSet() {
+		IntArrayList list = new IntArrayList();
+		assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+		list.add(1330);
+		list.add(1445);
+		assertEquals(1445, list.set(1, 1500));
+		assertEquals(1500, list.get(1));
+		assertThrows(IndexOutOfBoundsException.class, () -> list.set(2, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+	}
+
+	/**
+	 * Test method for indexOf(), contains(), sort(), and clear().
+	 */
+	@Test
+	void testSearchAndSort() {
+		IntArrayList list = new IntArrayList();
+		list.add(1145);
+		list.add(910);
+		list.add(1330);
+		list.add(910);
+		assertEquals(1, list.indexOf(910));
+		assertTrue(list.contains(1330));
+		assertEquals(-1, list.indexOf(800));
+		assertFalse(list.contains(800));
+
+		list.sort();
+		assertArrayEquals(new int[] {910, 910, 1145, 1330}, list.toArray());
+
+		list.clear();
+		assertTrue(list.isEmpty());
+		assertArrayEquals(new int[0], list.toArray());
+	}
+}
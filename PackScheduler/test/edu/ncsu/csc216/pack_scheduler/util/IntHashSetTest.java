@@ -0,0 +1,120 @@
+package edu.ncsu.csc216.pack_scheduler.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the IntHashSet primitive set. The class specifically tests adding, finding, and removing values,
+ * including 0 and negative values, growing, and removals against java.util.HashSet.
+ *
+ * @author Maxim Shelepov
+ */
+class IntHashSetTest {
+
+	/**
+	 * Test method for IntHashSet constructor.
+	 */
+	@Test
+	void testIntHashSet() {
+		IntHashSet set = new IntHashSet();
+		assertEquals(0, set.size());
+		assertTrue(set.isEmpty());
+		assertFalse(set.contains(0));
+		assertFalse(set.contains(1));
+	}
+
+	/**
+	 * Test method for add() and contains().
+	 */
+	@Test
+	void testAdd() {
+		IntHashSet set = new IntHashSet();
+		assertTrue(set.add(216));
+		assertFalse(set.add(216));
+		assertTrue(set.add(0));
+		assertFalse(set.add(0));
+		assertTrue(set.add(-1));
+		assertTrue(set.add(Integer.MIN_VALUE));
+		assertEquals(4, set.size());
+		assertTrue(set.contains(216));
+		assertTrue(set.contains(0));
+		assertTrue(set.contains(-1));
+		assertTrue(set.contains(Integer.MIN_VALUE));
+		assertFalse(set.contains(316));
+
+		// grow
+		for (int i = 1; i <= 1000; i++) {
+			set.add(i * 16);
+		}
+		assertEquals(1004, set.size());
+		for (int i = 1; i <= 1000; i++) {
+			assertTrue(set.contains(i * 16));
+		}
+		assertTrue(set.contains(0));
+	}
+
+	/**
+	 * Test method for remove().
+	 */
+	@Test
+	void testRemove() {
+		IntHashSet set = new IntHashSet();
+		assertFalse(set.remove(0));
+		assertFalse(set.remove(5));
+		set.add(0);
+		set.add(5);
+		assertTrue(set.remove(0));
+		assertFalse(set.contains(0));
+		assertTrue(set.remove(5));
+		assertTrue(set.isEmpty());
+	}
+
+	/**
+	 * Test method for clear() and toArray().
+	 */
+	@Test
+	void testClearAndToArray() {
+		IntHashSet set = new IntHashSet();
+		set.add(3);
+		set.add(0);
+		set.add(-7);
+		int[] values = set.toArray();
+		Arrays.sort(values);
+		assertArrayEquals(new int[] {-7, 0, 3}, values);
+
+		set.clear();
+		assertEquals(0, set.size());
+		assertFalse(set.contains(3));
+		assertFalse(set.contains(0));
+		assertArrayEquals(new int[0], set.toArray());
+	}
+
+	/**
+	 * Tests random adds and removes over a small range, so probes collide and removals shift values, against
+	 * java.util.HashSet.
+	 */
+	@Test
+	void testAgainstHashSet() {
+		IntHashSet set = new IntHashSet();
+		Set<Integer> expected = new HashSet<Integer>();
+		Random random = new Random(216);
+		for (int i = 0; i < 20000; i++) {
+			int value = random.nextInt(200) - 20;
+			if (random.nextBoolean()) {
+				assertEquals(expected.add(value), set.add(value));
+			} else {
+				assertEquals(expected.remove(value), set.remove(value));
+			}
+			assertEquals(expected.size(), set.size());
+		}
+		for (int value = -20; value < 180; value++) {
+			assertEquals(expected.contains(value), set.contains(value));
+		}
+	}
+}
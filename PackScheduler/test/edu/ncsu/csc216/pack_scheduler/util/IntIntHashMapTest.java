@@ -0,0 +1,130 @@
+package edu.ncsu.csc216.pack_scheduler.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the IntIntHashMap primitive map. The class specifically tests putting, getting, incrementing, and
+ * removing keys, including the key 0, growing, and removals against java.util.HashMap.
+ *
+ * @author Maxim Shelepov
+ */
+class IntIntHashMapTest {
+
+	/**
+	 * Test method for IntIntHashMap constructor.
+	 */
+	@Test
+	void testIntIntHashMap() {
+		IntIntHashMap map = new IntIntHashMap();
+		assertEquals(0, map.size());
+		assertTrue(map.isEmpty());
+		assertEquals(-1, map.get(0, -1));
+		assertEquals(-1, map.get(7, -1));
+	}
+
+	/**
+	 * Test method for put(), get(), and containsKey().
+	 */
+	@Test
+	void testPut() {
+		IntIntHashMap map = new IntIntHashMap();
+		assertTrue(map.put(1330, 1445));
+		assertFalse(map.put(1330, 1500));
+		assertEquals(1500, map.get(1330, -1));
+		assertTrue(map.put(0, 10));
+		assertFalse(map.put(0, 20));
+		assertEquals(20, map.get(0, -1));
+		assertTrue(map.put(-5, 0));
+		assertEquals(0, map.get(-5, -1));
+		assertEquals(3, map.size());
+		assertTrue(map.containsKey(0));
+		assertTrue(map.containsKey(-5));
+		assertFalse(map.containsKey(5));
+
+		// grow
+		for (int i = 1; i <= 1000; i++) {
+			map.put(i * 64, i);
+		}
+		assertEquals(1003, map.size());
+		for (int i = 1; i <= 1000; i++) {
+			assertEquals(i, map.get(i * 64, -1));
+		}
+		assertEquals(1500, map.get(1330, -1));
+	}
+
+	/**
+	 * Test method for increment().
+	 */
+	@Test
+	void testIncrement() {
+		IntIntHashMap map = new IntIntHashMap();
+		assertEquals(1, map.increment(910, 1));
+		assertEquals(2, map.increment(910, 1));
+		assertEquals(-3, map.increment(0, -3));
+		assertEquals(0, map.increment(0, 3));
+		assertTrue(map.containsKey(0));
+		assertEquals(2, map.size());
+	}
+
+	/**
+	 * Test method for remove(), clear(), and keys().
+	 */
+	@Test
+	void testRemove() {
+		IntIntHashMap map = new IntIntHashMap();
+		assertFalse(map.remove(0));
+		assertFalse(map.remove(1));
+		map.put(0, 1);
+		map.put(1, 2);
+		map.put(2, 3);
+		assertTrue(map.remove(0));
+		assertTrue(map.remove(1));
+		assertEquals(-1, map.get(1, -1));
+		assertArrayEquals(new int[] {2}, map.keys());
+
+		map.put(0, 4);
+		int[] keys = map.keys();
+		Arrays.sort(keys);
+		assertArrayEquals(new int[] {0, 2}, keys);
+
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertFalse(map.containsKey(2));
+		assertFalse(map.containsKey(0));
+	}
+
+	/**
+	 * Tests random puts, increments, and removes over a small range, so probes collide and removals shift
+	 * entries, against java.util.HashMap.
+	 */
+	@Test
+	void testAgainstHashMap() {
+		IntIntHashMap map = new IntIntHashMap();
+		Map<Integer, Integer> expected = new HashMap<Integer, Integer>();
+		Random random = new Random(216);
+		for (int i = 0; i < 20000; i++) {
+			int key = random.nextInt(200) - 20;
+			switch (random.nextInt(3)) {
+			case 0:
+				assertEquals(expected.put(key, i) == null, map.put(key, i));
+				break;
+			case 1:
+				assertEquals((int) expected.merge(key, 1, Integer::sum), map.increment(key, 1));
+				break;
+			default:
+				assertEquals(expected.remove(key) != null, map.remove(key));
+			}
+			assertEquals(expected.size(), map.size());
+		}
+		for (int key = -20; key < 180; key++) {
+			assertEquals(expected.getOrDefault(key, -1).intValue(), map.get(key, -1));
+		}
+	}
+}
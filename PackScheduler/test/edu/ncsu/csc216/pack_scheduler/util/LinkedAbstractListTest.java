@@ -5,10 +5,17 @@ package edu.ncsu.csc216.pack_scheduler.util;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 /**
  * Tests the LinkedAbstractList generic type linear data structure linked list. The class specifically tests the
- * add, remove, get, and set functionality. In addition to the set functionality for capacity.
+ * add, remove, get, and set functionality. In addition to the set functionality for capacity and traversal by
+ * iterator, forEach, and spliterator.
  * 
  * @author Maxim Shelepov
  */
@@ -181,4 +188,71 @@ class LinkedAbstractListTest {
 		assertEquals("1st", list.get(0));
 	}
 
+	/**
+	 * Test method for {@link edu.ncsu.csc216.pack_scheduler.util.LinkedAbstractList#iterator()}.
+	 */
+	@Test
+	void testIterator() {
+		LinkedAbstractList<String> list = new LinkedAbstractList<String>(10);
+		assertFalse(list.iterator().hasNext());
+		list.add(0, "A");
+		list.add(1, "B");
+		list.add(2, "C");
+		list.add(3, "D");
+		
+		StringBuilder order = new StringBuilder();
+		for (String s : list) {
+			order.append(s);
+		}
+		assertEquals("ABCD", order.toString());
+		
+		// remove the front, a middle item, and the back
+		Iterator<String> it = list.iterator();
+		assertThrows(IllegalStateException.class, () -> it.remove());
+		assertEquals("A", it.next());
+		it.remove();
+		assertThrows(IllegalStateException.class, () -> it.remove());
+		assertEquals("B", it.next());
+		assertEquals("C", it.next());
+		it.remove();
+		assertEquals("D", it.next());
+		it.remove();
+		assertFalse(it.hasNext());
+		assertThrows(NoSuchElementException.class, () -> it.next());
+		assertEquals(1, list.size());
+		assertEquals("B", list.get(0));
+		list.add(1, "E");
+		assertEquals("E", list.get(1));
+		
+		Iterator<String> stale = list.iterator();
+		list.remove(0);
+		assertThrows(ConcurrentModificationException.class, () -> stale.next());
+	}
+	
+	/**
+	 * Test method for {@link edu.ncsu.csc216.pack_scheduler.util.LinkedAbstractList#forEach(java.util.function.Consumer)}
+	 * and {@link edu.ncsu.csc216.pack_scheduler.util.LinkedAbstractList#spliterator()}.
+	 */
+	@Test
+	void testForEachAndSpliterator() {
+		LinkedAbstractList<String> list = new LinkedAbstractList<String>(10);
+		list.add(0, "A");
+		list.add(1, "B");
+		list.add(2, "C");
+		
+		StringBuilder order = new StringBuilder();
+		list.forEach(order::append);
+		assertEquals("ABC", order.toString());
+		assertThrows(ConcurrentModificationException.class, () -> list.forEach(s -> list.add(list.size(), s + "2")));
+		
+		LinkedAbstractList<String> three = new LinkedAbstractList<String>(10);
+		three.add(0, "A");
+		three.add(1, "B");
+		three.add(2, "C");
+		Spliterator<String> spliterator = three.spliterator();
+		assertEquals(3, spliterator.getExactSizeIfKnown());
+		assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL));
+		assertEquals("A,B,C", three.stream().collect(Collectors.joining(",")));
+	}
+
 }
@@ -5,6 +5,12 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -196,7 +202,31 @@ public class LinkedListRecursiveTest {
 	        });
 	}
 	
-	
-	
+	@Test
+	void testIterator() {
+		LinkedListRecursive<String> list = new LinkedListRecursive<String>();
+		assertFalse(list.iterator().hasNext());
+		list.add("ItemOne");
+		list.add("ItemTwo");
+		list.add(0, "Item");
+		
+		StringBuilder order = new StringBuilder();
+		for (String s : list) {
+			order.append(s).append(" ");
+		}
+		assertEquals("Item ItemOne ItemTwo ", order.toString());
+		
+		Iterator<String> it = list.iterator();
+		it.next();
+		it.next();
+		it.next();
+		assertFalse(it.hasNext());
+		assertThrows(NoSuchElementException.class, () -> it.next());
+		assertThrows(UnsupportedOperationException.class, () -> it.remove());
+		
+		Spliterator<String> spliterator = list.spliterator();
+		assertEquals(3, spliterator.getExactSizeIfKnown());
+		assertEquals("Item,ItemOne,ItemTwo", StreamSupport.stream(list.spliterator(), false).collect(Collectors.joining(",")));
+	}
 
 }
@@ -0,0 +1,69 @@
+package edu.ncsu.csc216.pack_scheduler.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the SymbolTable which interns Strings into dense int ids. The class specifically tests
+ * intern, canonical, getId, and getSymbol, including growth past the initial capacity.
+ *
+ * @author Maxim Shelepov
+ */
+class SymbolTableTest {
+
+	/**
+	 * Test method for SymbolTable constructor.
+	 */
+	@Test
+	void testSymbolTable() {
+		SymbolTable table = new SymbolTable();
+		assertEquals(0, table.size());
+		assertEquals(SymbolTable.NOT_FOUND, table.getId("CSC216"));
+	}
+
+	/**
+	 * Test method for intern() and getId().
+	 */
+	@Test
+	void testIntern() {
+		SymbolTable table = new SymbolTable();
+		assertEquals(0, table.intern("CSC216"));
+		assertEquals(1, table.intern("CSC226"));
+		assertEquals(0, table.intern(new String("CSC216")));
+		assertEquals(2, table.size());
+		assertEquals(1, table.getId("CSC226"));
+		assertEquals(SymbolTable.NOT_FOUND, table.getId("CSC116"));
+		assertEquals(2, table.size());
+
+		assertThrows(NullPointerException.class, () -> table.intern(null));
+
+		// grow well past the initial capacity
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(i + 2, table.intern("S" + i));
+		}
+		assertEquals(1002, table.size());
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(i + 2, table.getId("S" + i));
+		}
+		assertEquals(0, table.getId("CSC216"));
+	}
+
+	/**
+	 * Test method for canonical() and getSymbol().
+	 */
+	@Test
+	void testCanonical() {
+		SymbolTable table = new SymbolTable();
+		String first = new String("sesmith5");
+		String second = new String("sesmith5");
+		assertNotSame(first, second);
+		assertSame(first, table.canonical(first));
+		assertSame(first, table.canonical(second));
+		assertSame(first, table.getSymbol(0));
+
+		Exception e = assertThrows(IndexOutOfBoundsException.class, () -> table.getSymbol(1));
+		assertEquals("Index out of bounds.", e.getMessage());
+		assertThrows(IndexOutOfBoundsException.class, () -> table.getSymbol(-1));
+	}
+}